@@ -0,0 +1,166 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.Function2;
+
+/**
+ * Dados e funções compartilhados pelos benchmarks. <br/>
+ * Os elementos são gerados a partir de um seed fixo, para que as execuções sejam comparáveis entre si.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class BenchmarkData
+{
+	/**
+	 * Seed utilizado para embaralhar os elementos
+	 */
+	public static final long SEED = 42L;
+
+	private BenchmarkData()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Função utilizada nos benchmarks de map
+	 */
+	public static final Function1<Integer, Integer> twice = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param * 2;
+		}
+	};
+
+	/**
+	 * Predicado utilizado nos benchmarks de filter (seleciona metade dos elementos)
+	 */
+	public static final Function1<Integer, Boolean> isEven = new Function1<Integer, Boolean>()
+	{
+		@Override
+		public Boolean apply(final Integer param)
+		{
+			return (param & 1) == 0;
+		}
+	};
+
+	/**
+	 * Função utilizada nos benchmarks de foldLeft
+	 */
+	public static final Function2<Long, Integer, Long> sum = new Function2<Long, Integer, Long>()
+	{
+		@Override
+		public Long apply(final Long param1, final Integer param2)
+		{
+			return param1 + param2;
+		}
+	};
+
+	/**
+	 * Função utilizada nos benchmarks de groupBy (16 grupos)
+	 */
+	public static final Function1<Integer, Integer> mod16 = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param & 15;
+		}
+	};
+
+	/**
+	 * Retorna os inteiros de 0 até size - 1, embaralhados, com 1/4 de repetições (para os benchmarks de distinct).
+	 *
+	 * @param size O número de elementos
+	 * @return Uma lista com os elementos a serem utilizados pelos benchmarks
+	 */
+	public static List<Integer> elements(final int size)
+	{
+		final List<Integer> retorno = new ArrayList<Integer>(size);
+
+		for (int i = 0; i < size; i++)
+		{
+			retorno.add(i % 4 == 3 ? i - 1 : i);
+		}
+		Collections.shuffle(retorno, new Random(SEED));
+		return retorno;
+	}
+
+	/**
+	 * Cria a coleção do tipo passado como parâmetro, com os elementos de {@link #elements(int)}.
+	 *
+	 * @param type O nome do tipo da coleção (o mesmo utilizado nos parâmetros dos benchmarks)
+	 * @param size O número de elementos
+	 * @return Uma coleção do tipo passado como parâmetro
+	 * @throws IllegalArgumentException Se o tipo não for conhecido
+	 */
+	public static SharpCollection<Integer> create(final String type, final int size)
+	{
+		final List<Integer> elements = elements(size);
+
+		if ("immutable.ListSharp".equals(type))
+		{
+			return com.github.detentor.codex.collections.immutable.ListSharp.from(elements);
+		}
+		if ("mutable.ListSharp".equals(type))
+		{
+			return com.github.detentor.codex.collections.mutable.ListSharp.from(elements);
+		}
+		if ("immutable.LLSharp".equals(type))
+		{
+			return com.github.detentor.codex.collections.immutable.LLSharp.from(elements);
+		}
+		if ("mutable.LLSharp".equals(type))
+		{
+			return com.github.detentor.codex.collections.mutable.LLSharp.from(elements);
+		}
+		if ("LazyList".equals(type))
+		{
+			final LazyList<Integer> retorno = LazyList.from(elements);
+			retorno.size(); //Força a avaliação, para que o custo de memoização não entre na medição
+			return retorno;
+		}
+		if ("SetSharp".equals(type))
+		{
+			return SetSharp.from(elements);
+		}
+		throw new IllegalArgumentException("tipo de coleção desconhecido: " + type);
+	}
+
+	/**
+	 * Cria a coleção do java.util do tipo passado como parâmetro, com os elementos de {@link #elements(int)}.
+	 *
+	 * @param type O nome do tipo da coleção (o mesmo utilizado nos parâmetros dos benchmarks)
+	 * @param size O número de elementos
+	 * @return Uma coleção do tipo passado como parâmetro
+	 * @throws IllegalArgumentException Se o tipo não for conhecido
+	 */
+	public static java.util.Collection<Integer> createJavaUtil(final String type, final int size)
+	{
+		final List<Integer> elements = elements(size);
+
+		if ("ArrayList".equals(type))
+		{
+			return new ArrayList<Integer>(elements);
+		}
+		if ("LinkedList".equals(type))
+		{
+			return new java.util.LinkedList<Integer>(elements);
+		}
+		if ("HashSet".equals(type))
+		{
+			return new java.util.HashSet<Integer>(elements);
+		}
+		throw new IllegalArgumentException("tipo de coleção desconhecido: " + type);
+	}
+}
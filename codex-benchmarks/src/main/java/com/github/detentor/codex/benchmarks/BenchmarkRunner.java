@@ -0,0 +1,39 @@
+package com.github.detentor.codex.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks com o profiler de alocação (equivalente a <tt>-prof gc</tt>), gravando o resultado em JSON para
+ * que execuções diferentes possam ser comparadas. <br/>
+ * O primeiro argumento (opcional) é uma expressão regular que seleciona os benchmarks; o segundo, o arquivo de saída.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class BenchmarkRunner
+{
+	private BenchmarkRunner()
+	{
+		//previne instanciação
+	}
+
+	public static void main(final String[] args) throws RunnerException
+	{
+		final String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+		final String output = args.length > 1 ? args[1] : "jmh-result.json";
+
+		final Options options = new OptionsBuilder()
+				.include(include)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(output)
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,84 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+
+/**
+ * Benchmarks da construção de coleções a partir de builders: as operações cujo tamanho do resultado é conhecido reservam o
+ * espaço uma única vez.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BuilderBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Integer> elements;
+	private List<Integer> linkedElements;
+	private ListSharp<Integer> list;
+	private SetSharp<Integer> set;
+
+	@Setup
+	public void setup()
+	{
+		elements = BenchmarkData.elements(size);
+		linkedElements = new LinkedList<Integer>(elements);
+		list = ListSharp.from(elements);
+		set = SetSharp.from(elements);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> fromCollection()
+	{
+		return ListSharp.from(linkedElements);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> fromIndexedSeq()
+	{
+		return ListSharp.from(list);
+	}
+
+	@Benchmark
+	public SetSharp<Integer> setTake()
+	{
+		return set.take(size / 2);
+	}
+
+	@Benchmark
+	public SharpCollection<Integer> setMap()
+	{
+		return set.map(BenchmarkData.twice);
+	}
+
+	@Benchmark
+	public List<Integer> toList()
+	{
+		return list.toList();
+	}
+}
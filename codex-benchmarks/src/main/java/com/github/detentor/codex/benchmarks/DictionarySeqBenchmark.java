@@ -0,0 +1,134 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.immutable.DictionarySeq;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Benchmarks de uma sequência de Strings com 300 valores distintos, guardada numa ListSharp e numa DictionarySeq: o filter,
+ * o count, o distinct, o groupBy e o contains (de um valor ausente).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DictionarySeqBenchmark
+{
+	private static final Function1<String, Boolean> ENDS_WITH_ZERO = new Function1<String, Boolean>()
+	{
+		@Override
+		public Boolean apply(final String param)
+		{
+			return param.endsWith("0");
+		}
+	};
+
+	private static final Function1<String, Integer> LENGTH = new Function1<String, Integer>()
+	{
+		@Override
+		public Integer apply(final String param)
+		{
+			return param.length();
+		}
+	};
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<String> list;
+	private DictionarySeq<String> dictionarySeq;
+
+	@Setup
+	public void setup()
+	{
+		final List<String> elements = new ArrayList<String>(size);
+
+		for (final Integer ele : BenchmarkData.elements(size))
+		{
+			elements.add("value-" + Math.abs(ele % 300));
+		}
+		list = ListSharp.from(elements);
+		dictionarySeq = DictionarySeq.from(elements);
+	}
+
+	@Benchmark
+	public int listFilter()
+	{
+		return list.filter(ENDS_WITH_ZERO).size();
+	}
+
+	@Benchmark
+	public int dictionaryFilter()
+	{
+		return dictionarySeq.filter(ENDS_WITH_ZERO).size();
+	}
+
+	@Benchmark
+	public int listCount()
+	{
+		return list.count(ENDS_WITH_ZERO);
+	}
+
+	@Benchmark
+	public int dictionaryCount()
+	{
+		return dictionarySeq.count(ENDS_WITH_ZERO);
+	}
+
+	@Benchmark
+	public int listDistinct()
+	{
+		return list.distinct().size();
+	}
+
+	@Benchmark
+	public int dictionaryDistinct()
+	{
+		return dictionarySeq.distinct().size();
+	}
+
+	@Benchmark
+	public int listGroupBy()
+	{
+		return list.groupBy(LENGTH).size();
+	}
+
+	@Benchmark
+	public int dictionaryGroupBy()
+	{
+		return dictionarySeq.groupBy(LENGTH).size();
+	}
+
+	@Benchmark
+	public boolean listContains()
+	{
+		return list.contains("value-x");
+	}
+
+	@Benchmark
+	public boolean dictionaryContains()
+	{
+		return dictionarySeq.contains("value-x");
+	}
+}
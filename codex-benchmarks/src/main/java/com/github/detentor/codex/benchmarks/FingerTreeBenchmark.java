@@ -0,0 +1,114 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.immutable.FingerTreeSeq;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+
+/**
+ * Benchmarks da FingerTreeSeq, comparada com a ListSharp imutável: uso como fila (adição no fim e remoção no início),
+ * concatenação e acesso a índices.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FingerTreeBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private FingerTreeSeq<Integer> fingerTree;
+	private ListSharp<Integer> list;
+
+	@Setup
+	public void setup()
+	{
+		fingerTree = FingerTreeSeq.from(BenchmarkData.elements(size));
+		list = ListSharp.from(BenchmarkData.elements(size));
+	}
+
+	@Benchmark
+	public int queueFingerTree()
+	{
+		FingerTreeSeq<Integer> queue = FingerTreeSeq.empty();
+		int retorno = 0;
+
+		for (int i = 0; i < size; i++)
+		{
+			queue = queue.append(i);
+
+			if ((i & 1) == 1)
+			{
+				retorno += queue.head();
+				queue = queue.tail();
+			}
+		}
+		return retorno + queue.size();
+	}
+
+	@Benchmark
+	public int concatFingerTree()
+	{
+		return fingerTree.concat(fingerTree).size();
+	}
+
+	@Benchmark
+	public int concatListSharp()
+	{
+		final Builder<Integer, SharpCollection<Integer>> builder = list.builder();
+		AbstractBuilder.addAll(builder, list);
+		AbstractBuilder.addAll(builder, list);
+		return builder.result().size();
+	}
+
+	@Benchmark
+	public int lastFingerTree()
+	{
+		return fingerTree.last();
+	}
+
+	@Benchmark
+	public int randomAccessFingerTree()
+	{
+		int retorno = 0;
+
+		for (int i = 0; i < size; i += 7)
+		{
+			retorno += fingerTree.apply(i);
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public int randomAccessListSharp()
+	{
+		int retorno = 0;
+
+		for (int i = 0; i < size; i += 7)
+		{
+			retorno += list.apply(i);
+		}
+		return retorno;
+	}
+}
@@ -0,0 +1,112 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.Aggregators;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+
+/**
+ * Benchmarks do groupBy e das agregações por chave das listas, comparados com o agrupamento feito com HashMap.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GroupByBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private com.github.detentor.codex.collections.immutable.ListSharp<Integer> immutableList;
+	private com.github.detentor.codex.collections.mutable.ListSharp<Integer> mutableList;
+	private List<Integer> arrayList;
+
+	@Setup
+	public void setup()
+	{
+		final List<Integer> elements = BenchmarkData.elements(size);
+
+		immutableList = com.github.detentor.codex.collections.immutable.ListSharp.from(elements);
+		mutableList = com.github.detentor.codex.collections.mutable.ListSharp.from(elements);
+		arrayList = new ArrayList<Integer>(elements);
+	}
+
+	@Benchmark
+	public MapSharp<Integer, com.github.detentor.codex.collections.immutable.ListSharp<Integer>> immutableListSharp()
+	{
+		return immutableList.groupBy(BenchmarkData.mod16);
+	}
+
+	@Benchmark
+	public MapSharp<Integer, com.github.detentor.codex.collections.mutable.ListSharp<Integer>> mutableListSharp()
+	{
+		return mutableList.groupBy(BenchmarkData.mod16);
+	}
+
+	@Benchmark
+	public MapSharp<Integer, Long> countByGroupBy()
+	{
+		final MapSharp<Integer, com.github.detentor.codex.collections.immutable.ListSharp<Integer>> groups = immutableList
+				.groupBy(BenchmarkData.mod16);
+		final MapSharp<Integer, Long> retorno = MapSharp.empty();
+
+		for (final Integer key : groups.keySet())
+		{
+			retorno.add(key, Long.valueOf(groups.get(key).size()));
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public MapSharp<Integer, Long> countByAggregateBy()
+	{
+		return immutableList.aggregateBy(BenchmarkData.mod16, Aggregators.<Integer> count());
+	}
+
+	@Benchmark
+	public MapSharp<Integer, Long> sumByParAggregateBy()
+	{
+		return immutableList.parAggregateBy(BenchmarkData.mod16, Aggregators.sumLong(BenchmarkData.twice));
+	}
+
+	@Benchmark
+	public Map<Integer, List<Integer>> javaUtilHashMap()
+	{
+		final Map<Integer, List<Integer>> retorno = new HashMap<Integer, List<Integer>>();
+
+		for (final Integer ele : arrayList)
+		{
+			final Integer key = BenchmarkData.mod16.apply(ele);
+			List<Integer> group = retorno.get(key);
+
+			if (group == null)
+			{
+				group = new ArrayList<Integer>();
+				retorno.put(key, group);
+			}
+			group.add(ele);
+		}
+		return retorno;
+	}
+}
@@ -0,0 +1,116 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.immutable.RichString;
+
+/**
+ * Benchmarks de acesso por índice (apply(i)) das sequências indexadas, comparadas com ArrayList e String. <br/>
+ * Os índices são acessados numa ordem pseudo-aleatória (fixa), para que o resultado não dependa somente da leitura
+ * sequencial da memória.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IndexedSeqBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private int[] indexes;
+	private IndexedSeq<Integer> immutableList;
+	private IndexedSeq<Integer> mutableList;
+	private List<Integer> arrayList;
+	private RichString richString;
+	private String string;
+
+	@Setup
+	public void setup()
+	{
+		final List<Integer> elements = BenchmarkData.elements(size);
+		final Random random = new Random(BenchmarkData.SEED);
+		final StringBuilder sBuilder = new StringBuilder(size);
+
+		indexes = new int[size];
+
+		for (int i = 0; i < size; i++)
+		{
+			indexes[i] = random.nextInt(size);
+			sBuilder.append((char) ('a' + random.nextInt(26)));
+		}
+
+		immutableList = com.github.detentor.codex.collections.immutable.ListSharp.from(elements);
+		mutableList = com.github.detentor.codex.collections.mutable.ListSharp.from(elements);
+		arrayList = new ArrayList<Integer>(elements);
+		string = sBuilder.toString();
+		richString = RichString.from(string);
+	}
+
+	@Benchmark
+	public void immutableListSharp(final Blackhole blackhole)
+	{
+		for (final int index : indexes)
+		{
+			blackhole.consume(immutableList.apply(index));
+		}
+	}
+
+	@Benchmark
+	public void mutableListSharp(final Blackhole blackhole)
+	{
+		for (final int index : indexes)
+		{
+			blackhole.consume(mutableList.apply(index));
+		}
+	}
+
+	@Benchmark
+	public void richString(final Blackhole blackhole)
+	{
+		for (final int index : indexes)
+		{
+			blackhole.consume(richString.apply(index));
+		}
+	}
+
+	@Benchmark
+	public void javaUtilArrayList(final Blackhole blackhole)
+	{
+		for (final int index : indexes)
+		{
+			blackhole.consume(arrayList.get(index));
+		}
+	}
+
+	@Benchmark
+	public void javaLangString(final Blackhole blackhole)
+	{
+		for (final int index : indexes)
+		{
+			blackhole.consume(string.charAt(index));
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.IntBitmap;
+import com.github.detentor.codex.collections.mutable.IntSetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+
+/**
+ * Benchmarks do conjunto de inteiros baseado em bitmap, comparado com o SetSharp e com o HashSet: construção, contains,
+ * percurso, e união e interseção com um segundo conjunto (metade dos elementos em comum).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IntSetBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Integer> elements;
+	private SetSharp<Integer> setSharp;
+	private SetSharp<Integer> otherSetSharp;
+	private Set<Integer> hashSet;
+	private IntSetSharp intSet;
+	private IntSetSharp otherIntSet;
+
+	@Setup
+	public void setup()
+	{
+		elements = BenchmarkData.elements(size);
+		setSharp = SetSharp.from(elements);
+		hashSet = new HashSet<Integer>(elements);
+		intSet = IntSetSharp.from(elements);
+		otherSetSharp = SetSharp.empty();
+		otherIntSet = IntSetSharp.empty();
+
+		for (final Integer ele : elements)
+		{
+			otherSetSharp.add(ele + size / 2);
+			otherIntSet.add(ele + size / 2);
+		}
+	}
+
+	@Benchmark
+	public SetSharp<Integer> buildSetSharp()
+	{
+		return SetSharp.from(elements);
+	}
+
+	@Benchmark
+	public IntSetSharp buildIntSet()
+	{
+		return IntSetSharp.from(elements);
+	}
+
+	@Benchmark
+	public int containsHashSet()
+	{
+		int retorno = 0;
+
+		for (int i = 0; i < size; i++)
+		{
+			retorno += hashSet.contains(i) ? 1 : 0;
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public int containsIntSet()
+	{
+		int retorno = 0;
+
+		for (int i = 0; i < size; i++)
+		{
+			retorno += intSet.contains(i) ? 1 : 0;
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public long traverseSetSharp()
+	{
+		return setSharp.foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public long traverseIntSet()
+	{
+		long retorno = 0;
+		final IntBitmap.IntIterator ite = intSet.intIterator();
+
+		while (ite.hasNext())
+		{
+			retorno += ite.nextInt();
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public SetSharp<Integer> unionSetSharp()
+	{
+		return setSharp.union(otherSetSharp);
+	}
+
+	@Benchmark
+	public IntSetSharp unionIntSet()
+	{
+		return intSet.union(otherIntSet);
+	}
+
+	@Benchmark
+	public SetSharp<Integer> intersectSetSharp()
+	{
+		return setSharp.intersect(otherSetSharp);
+	}
+
+	@Benchmark
+	public IntSetSharp intersectIntSet()
+	{
+		return intSet.intersect(otherIntSet);
+	}
+}
@@ -0,0 +1,119 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Linha de base para o {@link SharpCollectionBenchmark}: as mesmas operações, escritas com laços sobre as coleções do
+ * java.util, como seriam escritas sem a biblioteca.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JavaUtilBenchmark
+{
+	@Param({ "ArrayList", "LinkedList", "HashSet" })
+	private String type;
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private Collection<Integer> collection;
+	private Integer present;
+	private Integer absent;
+
+	@Setup
+	public void setup()
+	{
+		collection = BenchmarkData.createJavaUtil(type, size);
+		present = size / 2;
+		absent = -1;
+	}
+
+	@Benchmark
+	public void map(final Blackhole blackhole)
+	{
+		final List<Integer> retorno = new ArrayList<Integer>(collection.size());
+
+		for (final Integer ele : collection)
+		{
+			retorno.add(BenchmarkData.twice.apply(ele));
+		}
+		consume(retorno, blackhole);
+	}
+
+	@Benchmark
+	public void filter(final Blackhole blackhole)
+	{
+		final List<Integer> retorno = new ArrayList<Integer>();
+
+		for (final Integer ele : collection)
+		{
+			if (BenchmarkData.isEven.apply(ele))
+			{
+				retorno.add(ele);
+			}
+		}
+		consume(retorno, blackhole);
+	}
+
+	@Benchmark
+	public Long foldLeft()
+	{
+		Long retorno = 0L;
+
+		for (final Integer ele : collection)
+		{
+			retorno = BenchmarkData.sum.apply(retorno, ele);
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public void distinct(final Blackhole blackhole)
+	{
+		consume(new LinkedHashSet<Integer>(collection), blackhole);
+	}
+
+	@Benchmark
+	public boolean containsPresent()
+	{
+		return collection.contains(present);
+	}
+
+	@Benchmark
+	public boolean containsAbsent()
+	{
+		return collection.contains(absent);
+	}
+
+	private static void consume(final Collection<?> result, final Blackhole blackhole)
+	{
+		for (final Object ele : result)
+		{
+			blackhole.consume(ele);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Benchmarks das junções entre duas coleções (a segunda com um décimo do tamanho da primeira), pela chave módulo 1024: o
+ * groupBy feito à mão, o join por hash (em memória e gravando partições em disco) e o mergeJoin de coleções ordenadas. Os
+ * resultados lazy são percorridos até o fim.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JoinBenchmark
+{
+	private static final Function1<Integer, Integer> KEY = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param & 1023;
+		}
+	};
+
+	private static final Comparator<Integer> BY_KEY = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer ob1, final Integer ob2)
+		{
+			return KEY.apply(ob1).compareTo(KEY.apply(ob2));
+		}
+	};
+
+	private static final Comparator<Integer> NATURAL = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer ob1, final Integer ob2)
+		{
+			return ob1.compareTo(ob2);
+		}
+	};
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> left;
+	private ListSharp<Integer> right;
+	private ListSharp<Integer> sortedLeft;
+	private ListSharp<Integer> sortedRight;
+
+	@Setup
+	public void setup()
+	{
+		final List<Integer> leftElements = BenchmarkData.elements(size);
+		final List<Integer> rightElements = BenchmarkData.elements(size / 10 + 1);
+		left = ListSharp.from(leftElements);
+		right = ListSharp.from(rightElements);
+
+		final List<Integer> sortedLeftElements = new ArrayList<Integer>(leftElements);
+		final List<Integer> sortedRightElements = new ArrayList<Integer>(rightElements);
+		Collections.sort(sortedLeftElements, BY_KEY);
+		Collections.sort(sortedRightElements, BY_KEY);
+		sortedLeft = ListSharp.from(sortedLeftElements);
+		sortedRight = ListSharp.from(sortedRightElements);
+	}
+
+	@Benchmark
+	public int groupByLookup()
+	{
+		final MapSharp<Integer, ListSharp<Integer>> groups = right.groupBy(KEY);
+		final List<Tuple2<Integer, Integer>> retorno = new ArrayList<Tuple2<Integer, Integer>>();
+
+		for (final Integer ele : left)
+		{
+			for (final Integer match : groups.getOrElse(KEY.apply(ele), ListSharp.<Integer> empty()))
+			{
+				retorno.add(Tuple2.from(ele, match));
+			}
+		}
+		return retorno.size();
+	}
+
+	@Benchmark
+	public int hashJoin()
+	{
+		return count(left.join(right, KEY, KEY));
+	}
+
+	@Benchmark
+	public int spilledHashJoin()
+	{
+		return count(left.join(right, KEY, KEY, Math.max(1, right.size() / 16)));
+	}
+
+	@Benchmark
+	public int mergeJoin()
+	{
+		return count(sortedLeft.mergeJoin(sortedRight, KEY, KEY, NATURAL));
+	}
+
+	private static int count(final Iterable<?> elements)
+	{
+		int retorno = 0;
+
+		for (final Object ele : elements)
+		{
+			retorno += ele == null ? 0 : 1;
+		}
+		return retorno;
+	}
+}
@@ -0,0 +1,70 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Benchmarks das operações encadeadas da LazyList, cujo estado interno é guardado em campos primitivos, sem criar uma
+ * tupla por elemento. A lista é criada a cada execução, para que a memoização não esconda o custo das operações.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LazyListBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Integer> elements;
+
+	@Setup
+	public void setup()
+	{
+		elements = BenchmarkData.elements(size);
+	}
+
+	@Benchmark
+	public long mapFilter()
+	{
+		return LazyList.from(elements).map(BenchmarkData.twice).filter(BenchmarkData.isEven).foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public long dropTake()
+	{
+		return LazyList.from(elements).drop(size / 4).take(size / 2).foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public long zipWithIndex()
+	{
+		long retorno = 0;
+
+		for (final Tuple2<Integer, Integer> ele : LazyList.from(elements).zipWithIndex())
+		{
+			retorno += ele.getVal2();
+		}
+		return retorno;
+	}
+}
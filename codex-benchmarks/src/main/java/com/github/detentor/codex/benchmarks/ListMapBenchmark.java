@@ -0,0 +1,80 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.alg.Monoids;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+
+/**
+ * Benchmarks das variações do map da ListSharp imutável: a lista resultante é percorrida duas vezes, como acontece
+ * quando ela é reutilizada.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ListMapBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> list;
+
+	@Setup
+	public void setup()
+	{
+		list = ListSharp.from(BenchmarkData.elements(size));
+	}
+
+	@Benchmark
+	public int mapView()
+	{
+		return traverseTwice(list.map(BenchmarkData.twice));
+	}
+
+	@Benchmark
+	public int mapStrict()
+	{
+		return traverseTwice(list.mapStrict(BenchmarkData.twice));
+	}
+
+	@Benchmark
+	public int parMapStrict()
+	{
+		return traverseTwice(list.parMapStrict(BenchmarkData.twice));
+	}
+
+	@Benchmark
+	public int mapMemoized()
+	{
+		return traverseTwice(list.mapMemoized(BenchmarkData.twice));
+	}
+
+	@Benchmark
+	public int chainedMapView()
+	{
+		return traverseTwice(list.map(BenchmarkData.twice).map(BenchmarkData.twice).map(BenchmarkData.twice));
+	}
+
+	private static int traverseTwice(final ListSharp<Integer> mapped)
+	{
+		return mapped.fold(Monoids.intSum) + mapped.fold(Monoids.intSum);
+	}
+}
@@ -0,0 +1,133 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Benchmarks do MapSharp (consulta, inclusão e iteração), comparado com o HashMap que ele encapsula.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapSharpBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Integer> keys;
+	private MapSharp<Integer, Integer> mapSharp;
+	private Map<Integer, Integer> hashMap;
+
+	@Setup
+	public void setup()
+	{
+		keys = BenchmarkData.elements(size);
+		mapSharp = MapSharp.empty();
+		hashMap = new HashMap<Integer, Integer>();
+
+		for (final Integer ele : keys)
+		{
+			mapSharp.add(ele, ele);
+			hashMap.put(ele, ele);
+		}
+	}
+
+	@Benchmark
+	public void mapSharpGet(final Blackhole blackhole)
+	{
+		for (final Integer ele : keys)
+		{
+			blackhole.consume(mapSharp.get(ele));
+		}
+	}
+
+	@Benchmark
+	public void mapSharpContainsKey(final Blackhole blackhole)
+	{
+		for (final Integer ele : keys)
+		{
+			blackhole.consume(mapSharp.containsKey(ele));
+		}
+	}
+
+	@Benchmark
+	public MapSharp<Integer, Integer> mapSharpAdd()
+	{
+		for (final Integer ele : keys)
+		{
+			mapSharp.add(ele, ele);
+		}
+		return mapSharp;
+	}
+
+	@Benchmark
+	public void mapSharpIterate(final Blackhole blackhole)
+	{
+		for (final Tuple2<Integer, Integer> ele : mapSharp)
+		{
+			blackhole.consume(ele.getVal2());
+		}
+	}
+
+	@Benchmark
+	public void javaUtilGet(final Blackhole blackhole)
+	{
+		for (final Integer ele : keys)
+		{
+			blackhole.consume(hashMap.get(ele));
+		}
+	}
+
+	@Benchmark
+	public void javaUtilContainsKey(final Blackhole blackhole)
+	{
+		for (final Integer ele : keys)
+		{
+			blackhole.consume(hashMap.containsKey(ele));
+		}
+	}
+
+	@Benchmark
+	public Map<Integer, Integer> javaUtilPut()
+	{
+		for (final Integer ele : keys)
+		{
+			hashMap.put(ele, ele);
+		}
+		return hashMap;
+	}
+
+	@Benchmark
+	public void javaUtilIterate(final Blackhole blackhole)
+	{
+		for (final Entry<Integer, Integer> ele : hashMap.entrySet())
+		{
+			blackhole.consume(ele.getValue());
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.alg.Monoids;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.OffHeapSeq;
+import com.github.detentor.codex.io.FixedWidthCodecs;
+
+/**
+ * Benchmarks da leitura de uma {@link OffHeapSeq}, comparada com a ListSharp imutável.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OffHeapBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> list;
+	private OffHeapSeq<Integer> offHeap;
+
+	@Setup
+	public void setup()
+	{
+		list = ListSharp.from(BenchmarkData.elements(size));
+		offHeap = OffHeapSeq.from(list, FixedWidthCodecs.ints());
+	}
+
+	@Benchmark
+	public int sumListSharp()
+	{
+		return list.fold(Monoids.intSum);
+	}
+
+	@Benchmark
+	public int sumOffHeap()
+	{
+		return offHeap.fold(Monoids.intSum);
+	}
+
+	@Benchmark
+	public OffHeapSeq<Integer> buildOffHeap()
+	{
+		return OffHeapSeq.from(list, FixedWidthCodecs.ints());
+	}
+}
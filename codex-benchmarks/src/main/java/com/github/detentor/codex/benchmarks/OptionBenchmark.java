@@ -0,0 +1,64 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.cat.monads.Option;
+
+/**
+ * Benchmarks da Option (map, filter e getOrElse), comparada com a verificação de null equivalente.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OptionBenchmark
+{
+	@Param({ "true", "false" })
+	private boolean defined;
+
+	private Integer value;
+
+	@Setup
+	public void setup()
+	{
+		value = defined ? Integer.valueOf(42) : null;
+	}
+
+	@Benchmark
+	public Integer option()
+	{
+		return Option.from(value).map(BenchmarkData.twice).filter(BenchmarkData.isEven).getOrElse(0);
+	}
+
+	@Benchmark
+	public Integer nullCheck()
+	{
+		if (value != null)
+		{
+			final Integer mapped = BenchmarkData.twice.apply(value);
+
+			if (BenchmarkData.isEven.apply(mapped))
+			{
+				return mapped;
+			}
+		}
+		return 0;
+	}
+}
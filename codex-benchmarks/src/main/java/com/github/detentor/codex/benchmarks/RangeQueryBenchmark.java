@@ -0,0 +1,105 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Benchmarks das consultas por intervalo nos tipos TREE_SET e TREE_MAP: a soma das chaves de um intervalo com 1% dos
+ * elementos, pelo filter (percorre todos os elementos) e pelo range (visão do intervalo).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RangeQueryBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private SetSharp<Integer> set;
+	private MapSharp<Integer, Integer> map;
+	private int from;
+	private int to;
+	private Function1<Integer, Boolean> inRange;
+	private Function1<Tuple2<Integer, Integer>, Boolean> keyInRange;
+
+	@Setup
+	public void setup()
+	{
+		set = SetSharp.empty(SetSharpType.TREE_SET);
+		map = MapSharp.empty(MapSharpType.TREE_MAP);
+
+		for (final Integer ele : BenchmarkData.elements(size))
+		{
+			set.add(ele);
+			map.add(ele, ele);
+		}
+		from = size / 2;
+		to = from + Math.max(size / 100, 1);
+
+		inRange = new Function1<Integer, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Integer param)
+			{
+				return param >= from && param < to;
+			}
+		};
+
+		keyInRange = new Function1<Tuple2<Integer, Integer>, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Tuple2<Integer, Integer> param)
+			{
+				return inRange.apply(param.getVal1());
+			}
+		};
+	}
+
+	@Benchmark
+	public long setFilter()
+	{
+		return set.filter(inRange).foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public long setRange()
+	{
+		return set.range(from, to).foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public int mapFilter()
+	{
+		return map.filter(keyInRange).size();
+	}
+
+	@Benchmark
+	public int mapRange()
+	{
+		return map.range(from, to).size();
+	}
+}
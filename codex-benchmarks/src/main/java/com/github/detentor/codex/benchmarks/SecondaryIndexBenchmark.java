@@ -0,0 +1,89 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.SecondaryIndexes;
+import com.github.detentor.codex.collections.mutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Benchmarks dos índices secundários: pesquisa por igualdade de chave (1024 chaves distintas) com o filter sem índice, com
+ * o filter usando o índice e com o lookup, e o custo da manutenção do índice no add e no remove.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SecondaryIndexBenchmark
+{
+	private static final Function1<Integer, Integer> BUCKET = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param & 1023;
+		}
+	};
+
+	private static final Function1<Integer, Boolean> BUCKET_EQUALS = SecondaryIndexes.keyEquals(BUCKET, 42);
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> plain;
+	private ListSharp<Integer> indexed;
+
+	@Setup
+	public void setup()
+	{
+		plain = ListSharp.from(BenchmarkData.elements(size));
+		indexed = ListSharp.from(BenchmarkData.elements(size)).indexBy("bucket", BUCKET);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> filterScan()
+	{
+		return plain.filter(BUCKET_EQUALS);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> filterIndexed()
+	{
+		return indexed.filter(BUCKET_EQUALS);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> lookup()
+	{
+		return indexed.lookup("bucket", 42);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> addRemovePlain()
+	{
+		return plain.add(size).remove(size);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> addRemoveIndexed()
+	{
+		return indexed.add(size).remove(size);
+	}
+}
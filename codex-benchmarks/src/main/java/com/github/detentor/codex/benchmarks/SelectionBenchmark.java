@@ -0,0 +1,109 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Benchmarks dos algoritmos de seleção, comparados com a ordenação completa: os 10 maiores elementos (sorted + take, topK e
+ * parTopK), a mediana (sorted + apply e nthElement) e o mínimo e o máximo (min + max e minMax).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SelectionBenchmark
+{
+	private static final int K = 10;
+
+	private static final Comparator<Integer> DESCENDING = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer ob1, final Integer ob2)
+		{
+			return ob2.compareTo(ob1);
+		}
+	};
+
+	private static final Comparator<Integer> ASCENDING = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer ob1, final Integer ob2)
+		{
+			return ob1.compareTo(ob2);
+		}
+	};
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> list;
+
+	@Setup
+	public void setup()
+	{
+		list = ListSharp.from(BenchmarkData.elements(size));
+	}
+
+	@Benchmark
+	public IndexedSeq<Integer> sortedTake()
+	{
+		return list.sorted(DESCENDING).take(K);
+	}
+
+	@Benchmark
+	public IndexedSeq<Integer> topK()
+	{
+		return list.topK(K, ASCENDING);
+	}
+
+	@Benchmark
+	public IndexedSeq<Integer> parTopK()
+	{
+		return list.parTopK(K, ASCENDING);
+	}
+
+	@Benchmark
+	public Integer sortedMedian()
+	{
+		return list.sorted().apply((size - 1) / 2);
+	}
+
+	@Benchmark
+	public Integer nthElementMedian()
+	{
+		return list.median();
+	}
+
+	@Benchmark
+	public Tuple2<Integer, Integer> minAndMax()
+	{
+		return Tuple2.from(list.min(ASCENDING), list.max(ASCENDING));
+	}
+
+	@Benchmark
+	public Tuple2<Integer, Integer> minMax()
+	{
+		return list.minMax(ASCENDING);
+	}
+}
@@ -0,0 +1,123 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.io.Codec;
+
+/**
+ * Benchmarks da gravação e leitura das listas no formato do {@link Codec}, comparadas com a serialização padrão de um
+ * ArrayList.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> list;
+	private List<Integer> arrayList;
+
+	private byte[] encodedList;
+	private byte[] serializedList;
+	private byte[] serializedArrayList;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		final List<Integer> elements = BenchmarkData.elements(size);
+
+		list = ListSharp.from(elements);
+		arrayList = new ArrayList<Integer>(elements);
+
+		encodedList = Codec.encode(list);
+		serializedList = serialize(list);
+		serializedArrayList = serialize(arrayList);
+	}
+
+	@Benchmark
+	public byte[] encodeListSharp()
+	{
+		return Codec.encode(list);
+	}
+
+	@Benchmark
+	public Object decodeListSharp()
+	{
+		return Codec.decode(encodedList);
+	}
+
+	@Benchmark
+	public byte[] serializeListSharp() throws IOException
+	{
+		return serialize(list);
+	}
+
+	@Benchmark
+	public Object deserializeListSharp() throws IOException, ClassNotFoundException
+	{
+		return deserialize(serializedList);
+	}
+
+	@Benchmark
+	public byte[] serializeArrayList() throws IOException
+	{
+		return serialize(arrayList);
+	}
+
+	@Benchmark
+	public Object deserializeArrayList() throws IOException, ClassNotFoundException
+	{
+		return deserialize(serializedArrayList);
+	}
+
+	private static byte[] serialize(final Object value) throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(value);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException
+	{
+		final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+		try
+		{
+			return in.readObject();
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+}
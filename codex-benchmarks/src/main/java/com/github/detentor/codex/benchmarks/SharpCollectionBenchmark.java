@@ -0,0 +1,98 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.detentor.codex.collections.SharpCollection;
+
+/**
+ * Benchmarks das funções de ordem superior comuns a todas as coleções. <br/>
+ * Os resultados são sempre percorridos por completo, para que as coleções lazy (ex: LazyList) sejam comparáveis às estritas.
+ * <br/>
+ * As coleções equivalentes do java.util estão em {@link JavaUtilBenchmark}, com os mesmos nomes de métodos.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SharpCollectionBenchmark
+{
+	@Param({ "immutable.ListSharp", "mutable.ListSharp", "immutable.LLSharp", "mutable.LLSharp", "LazyList", "SetSharp" })
+	private String type;
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private SharpCollection<Integer> collection;
+	private Integer present;
+	private Integer absent;
+
+	@Setup
+	public void setup()
+	{
+		collection = BenchmarkData.create(type, size);
+		present = size / 2;
+		absent = -1;
+	}
+
+	@Benchmark
+	public void map(final Blackhole blackhole)
+	{
+		consume(collection.map(BenchmarkData.twice), blackhole);
+	}
+
+	@Benchmark
+	public void filter(final Blackhole blackhole)
+	{
+		consume(collection.filter(BenchmarkData.isEven), blackhole);
+	}
+
+	@Benchmark
+	public Long foldLeft()
+	{
+		return collection.foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public void distinct(final Blackhole blackhole)
+	{
+		consume(collection.distinct(), blackhole);
+	}
+
+	@Benchmark
+	public boolean containsPresent()
+	{
+		return collection.contains(present);
+	}
+
+	@Benchmark
+	public boolean containsAbsent()
+	{
+		return collection.contains(absent);
+	}
+
+	private static void consume(final SharpCollection<?> result, final Blackhole blackhole)
+	{
+		for (final Object ele : result)
+		{
+			blackhole.consume(ele);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.detentor.codex.collections.SharpCollection;
+
+/**
+ * Benchmarks de ordenação. <br/>
+ * Como as coleções mutáveis são ordenadas no próprio objeto, uma nova coleção (desordenada) é criada antes de cada
+ * chamada; o custo de criação não entra na medição.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SortedBenchmark
+{
+	@Param({ "immutable.ListSharp", "mutable.ListSharp", "immutable.LLSharp", "mutable.LLSharp", "LazyList", "SetSharp" })
+	private String type;
+
+	@Param({ "1000", "100000" })
+	private int size;
+
+	private SharpCollection<Integer> collection;
+	private List<Integer> javaUtilList;
+
+	@Setup(Level.Invocation)
+	public void setup()
+	{
+		collection = BenchmarkData.create(type, size);
+		javaUtilList = new ArrayList<Integer>(BenchmarkData.elements(size));
+	}
+
+	@Benchmark
+	public void sorted(final Blackhole blackhole)
+	{
+		for (final Integer ele : collection.sorted())
+		{
+			blackhole.consume(ele);
+		}
+	}
+
+	@Benchmark
+	public List<Integer> javaUtilSort()
+	{
+		Collections.sort(javaUtilList);
+		return javaUtilList;
+	}
+}
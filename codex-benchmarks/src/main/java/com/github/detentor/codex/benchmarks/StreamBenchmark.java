@@ -0,0 +1,98 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.SharpCollectors;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+
+/**
+ * Benchmarks dos streams das coleções, comparados com os streams de um ArrayList.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StreamBenchmark
+{
+	private static final ToIntFunction<Integer> asInt = new ToIntFunction<Integer>()
+	{
+		@Override
+		public int applyAsInt(final Integer value)
+		{
+			return value;
+		}
+	};
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private ListSharp<Integer> list;
+	private ListSharp<Integer> mapped;
+	private List<Integer> arrayList;
+
+	@Setup
+	public void setup()
+	{
+		final List<Integer> elements = BenchmarkData.elements(size);
+
+		list = ListSharp.from(elements);
+		mapped = list.map(BenchmarkData.twice);
+		arrayList = new ArrayList<Integer>(elements);
+	}
+
+	@Benchmark
+	public int sumListSharp()
+	{
+		return list.stream().mapToInt(asInt).sum();
+	}
+
+	@Benchmark
+	public int parallelSumListSharp()
+	{
+		return list.parallelStream().mapToInt(asInt).sum();
+	}
+
+	@Benchmark
+	public int parallelSumMappedView()
+	{
+		return mapped.parallelStream().mapToInt(asInt).sum();
+	}
+
+	@Benchmark
+	public int sumArrayList()
+	{
+		return arrayList.stream().mapToInt(asInt).sum();
+	}
+
+	@Benchmark
+	public int parallelSumArrayList()
+	{
+		return arrayList.parallelStream().mapToInt(asInt).sum();
+	}
+
+	@Benchmark
+	public ListSharp<Integer> parallelCollectListSharp()
+	{
+		return list.parallelStream().collect(SharpCollectors.<Integer> toListSharp());
+	}
+}
@@ -0,0 +1,104 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+
+/**
+ * Benchmarks dos transientes da ListSharp imutável, comparados com o builder (carga em lote) e com um ArrayList
+ * (alteração em lote de todos os elementos).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransientBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Integer> elements;
+	private ListSharp<Integer> list;
+
+	@Setup
+	public void setup()
+	{
+		elements = BenchmarkData.elements(size);
+		list = ListSharp.from(elements);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> loadBuilder()
+	{
+		final Builder<Integer, SharpCollection<Integer>> builder = list.builder();
+
+		for (final Integer ele : elements)
+		{
+			builder.add(ele);
+		}
+		return (ListSharp<Integer>) builder.result();
+	}
+
+	@Benchmark
+	public ListSharp<Integer> loadTransient()
+	{
+		final ListSharp.Transient<Integer> trans = ListSharp.<Integer> empty().toTransient();
+
+		for (final Integer ele : elements)
+		{
+			trans.add(ele);
+		}
+		return trans.persistent();
+	}
+
+	@Benchmark
+	public ListSharp<Integer> updateMapStrict()
+	{
+		return list.mapStrict(BenchmarkData.twice);
+	}
+
+	@Benchmark
+	public ListSharp<Integer> updateTransient()
+	{
+		final ListSharp.Transient<Integer> trans = list.toTransient();
+
+		for (int i = 0; i < size; i++)
+		{
+			trans.set(i, trans.apply(i) * 2);
+		}
+		return trans.persistent();
+	}
+
+	@Benchmark
+	public List<Integer> updateArrayList()
+	{
+		final List<Integer> mutable = new ArrayList<Integer>(elements);
+
+		for (int i = 0; i < size; i++)
+		{
+			mutable.set(i, mutable.get(i) * 2);
+		}
+		return mutable;
+	}
+}
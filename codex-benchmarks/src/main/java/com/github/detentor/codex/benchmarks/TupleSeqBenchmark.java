@@ -0,0 +1,119 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.TupleSeq;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple3;
+
+/**
+ * Benchmarks de uma coleção de tuplas guardada por linhas (ListSharp) e por colunas (TupleSeq): a soma de uma coluna, o
+ * filtro por uma coluna e a construção da coleção.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleSeqBenchmark
+{
+	private static final Function1<Integer, Boolean> IS_EVEN = new Function1<Integer, Boolean>()
+	{
+		@Override
+		public Boolean apply(final Integer param)
+		{
+			return (param & 1) == 0;
+		}
+	};
+
+	private static final Function1<Tuple3<Long, Integer, String>, Boolean> ROW_IS_EVEN = new Function1<Tuple3<Long, Integer, String>, Boolean>()
+	{
+		@Override
+		public Boolean apply(final Tuple3<Long, Integer, String> param)
+		{
+			return (param.getVal2() & 1) == 0;
+		}
+	};
+
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Tuple3<Long, Integer, String>> rows;
+	private ListSharp<Tuple3<Long, Integer, String>> rowSeq;
+	private TupleSeq<Tuple3<Long, Integer, String>> columnSeq;
+
+	@Setup
+	public void setup()
+	{
+		final List<Integer> elements = BenchmarkData.elements(size);
+		rows = new ArrayList<Tuple3<Long, Integer, String>>(size);
+
+		for (final Integer ele : elements)
+		{
+			rows.add(Tuple3.from(Long.valueOf(ele) * 31, ele, "s" + (ele & 15)));
+		}
+		rowSeq = ListSharp.from(rows);
+		columnSeq = TupleSeq.from(rows);
+	}
+
+	@Benchmark
+	public long rowSum()
+	{
+		long retorno = 0;
+
+		for (final Tuple3<Long, Integer, String> row : rowSeq)
+		{
+			retorno += row.getVal1();
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public long columnSum()
+	{
+		return columnSeq.sumLong(0);
+	}
+
+	@Benchmark
+	public int rowFilter()
+	{
+		return rowSeq.filter(ROW_IS_EVEN).size();
+	}
+
+	@Benchmark
+	public int columnFilter()
+	{
+		return columnSeq.filterColumn(1, IS_EVEN).size();
+	}
+
+	@Benchmark
+	public ListSharp<Tuple3<Long, Integer, String>> buildRows()
+	{
+		return ListSharp.from(rows);
+	}
+
+	@Benchmark
+	public TupleSeq<Tuple3<Long, Integer, String>> buildColumns()
+	{
+		return TupleSeq.from(rows);
+	}
+}
@@ -0,0 +1,95 @@
+package com.github.detentor.codex.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.LLSharp;
+import com.github.detentor.codex.collections.mutable.UnrolledListSharp;
+
+/**
+ * Benchmarks da lista desenrolada mutável, comparada com a lista encadeada mutável (um nó por elemento): construção,
+ * percurso e remoção de 16 valores distintos (1/16 dos elementos).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class UnrolledListBenchmark
+{
+	@Param({ "10", "1000", "100000" })
+	private int size;
+
+	private List<Integer> elements;
+	private List<Integer> toRemove;
+	private LLSharp<Integer> linked;
+	private UnrolledListSharp<Integer> unrolled;
+
+	@Setup
+	public void setup()
+	{
+		elements = BenchmarkData.elements(size);
+		toRemove = ListSharp.from(elements).map(BenchmarkData.mod16).distinct().toList();
+		linked = LLSharp.from(elements);
+		unrolled = UnrolledListSharp.from(elements);
+	}
+
+	@Benchmark
+	public LLSharp<Integer> buildLinked()
+	{
+		return LLSharp.from(elements);
+	}
+
+	@Benchmark
+	public UnrolledListSharp<Integer> buildUnrolled()
+	{
+		final UnrolledListSharp<Integer> retorno = UnrolledListSharp.empty();
+
+		for (final Integer ele : elements)
+		{
+			retorno.append(ele);
+		}
+		return retorno;
+	}
+
+	@Benchmark
+	public long traverseLinked()
+	{
+		return linked.foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public long traverseUnrolled()
+	{
+		return unrolled.foldLeft(0L, BenchmarkData.sum);
+	}
+
+	@Benchmark
+	public int removeAllLinked()
+	{
+		return LLSharp.from(elements).removeAll(toRemove).size();
+	}
+
+	@Benchmark
+	public int removeAllUnrolled()
+	{
+		return UnrolledListSharp.from(elements).removeAll(toRemove).size();
+	}
+}
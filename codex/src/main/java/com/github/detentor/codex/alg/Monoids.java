@@ -1,6 +1,87 @@
-package com.github.detentor.codex.alg;
-
-public class Monoids
-{
-
-}
+package com.github.detentor.codex.alg;
+
+/**
+ * Essa classe provê os monóides mais comuns.
+ * 
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Monoids
+{
+	private Monoids()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Monóide da soma de inteiros, com identidade 0
+	 */
+	public static final Monoid<Integer> intSum = new Monoid<Integer>()
+	{
+		@Override
+		public Integer append(final Integer first, final Integer second)
+		{
+			return first + second;
+		}
+
+		@Override
+		public Integer empty()
+		{
+			return 0;
+		}
+	};
+
+	/**
+	 * Monóide da soma de longs, com identidade 0
+	 */
+	public static final Monoid<Long> longSum = new Monoid<Long>()
+	{
+		@Override
+		public Long append(final Long first, final Long second)
+		{
+			return first + second;
+		}
+
+		@Override
+		public Long empty()
+		{
+			return 0L;
+		}
+	};
+
+	/**
+	 * Monóide da soma de doubles, com identidade 0
+	 */
+	public static final Monoid<Double> doubleSum = new Monoid<Double>()
+	{
+		@Override
+		public Double append(final Double first, final Double second)
+		{
+			return first + second;
+		}
+
+		@Override
+		public Double empty()
+		{
+			return 0.0;
+		}
+	};
+
+	/**
+	 * Monóide da concatenação de strings, com identidade "" (string vazia)
+	 */
+	public static final Monoid<String> stringConcat = new Monoid<String>()
+	{
+		@Override
+		public String append(final String first, final String second)
+		{
+			return first.concat(second);
+		}
+
+		@Override
+		public String empty()
+		{
+			return "";
+		}
+	};
+}
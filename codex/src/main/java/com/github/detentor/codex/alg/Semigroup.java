@@ -1,20 +1,21 @@
-package com.github.detentor.codex.alg;
-
-import com.github.detentor.codex.function.Function2;
-
-/**
- * Um semigrupo é apenas uma estrutura que possui uma operação binária associativa. <br/>
- * Ela é mais geral que a {@link Monoid}, no sentido de que não precisa ter o elemento identidade.
-
- * @param <A> O tipo dos elementos do semigrupo
- */
-public interface Semigroup<A>
-{
-    /**
-	 * Uma função binária associativa que transforma dois elementos em um. <br/>
-	 * 
-	 * @param func A função binária que transforma dois elementos em um
-	 * @return Um valor A, a partir da aplicação da função
-	 */
-	A append(final Function2<A, A, A> func);
-}
+package com.github.detentor.codex.alg;
+
+/**
+ * Um semigrupo é apenas uma estrutura que possui uma operação binária associativa. <br/>
+ * Ela é mais geral que a {@link Monoid}, no sentido de que não precisa ter o elemento identidade.
+
+ * @param <A> O tipo dos elementos do semigrupo
+ */
+public interface Semigroup<A>
+{
+    /**
+	 * Uma função binária associativa que transforma dois elementos em um. <br/>
+	 * A associatividade permite que as coleções combinem os elementos em qualquer agrupamento (por exemplo, em árvore ou
+	 * em paralelo), desde que a ordem dos elementos seja preservada.
+	 * 
+	 * @param first O primeiro elemento
+	 * @param second O segundo elemento
+	 * @return Um valor A, a partir da combinação dos dois elementos
+	 */
+	A append(final A first, final A second);
+}
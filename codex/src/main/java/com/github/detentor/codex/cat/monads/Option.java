@@ -6,14 +6,17 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import com.github.detentor.codex.cat.Applicative;
 import com.github.detentor.codex.cat.Monad;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractSharpCollection;
 import com.github.detentor.codex.collections.Builder;
 import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.arrow.Arrow1;
+import com.github.detentor.codex.io.CodecProxy;
 import com.github.detentor.codex.product.Tuple2;
 
 /**
@@ -105,12 +108,32 @@ public class Option<T> extends AbstractSharpCollection<T, SharpCollection<T>> im
 		return this.isEmpty() ? "None" : "Some(" + get().toString() + ")";
 	}
 
+	/**
+	 * Grava a Option no formato do {@link com.github.detentor.codex.io.Codec Codec}. A Option vazia é lida como o singleton retornado por {@link #empty()}.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
+
 	@Override
 	public int size()
 	{
 		return value.isEmpty() ? 0 : 1;
 	}
 
+	@Override
+	protected int knownSize()
+	{
+		return this.size();
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
 	@Override
 	public Iterator<T> iterator()
 	{
@@ -249,7 +272,7 @@ public class Option<T> extends AbstractSharpCollection<T, SharpCollection<T>> im
 	 * 
 	 * @param <E> O tipo de dados do Option retornado
 	 */
-	private class OptionBuilder<E> implements Builder<E, SharpCollection<E>>
+	private class OptionBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
 	{
 		private boolean added = false;
 		private E valor = null;
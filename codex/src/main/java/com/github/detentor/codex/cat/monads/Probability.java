@@ -1,6 +1,766 @@
-package com.github.detentor.codex.cat.monads;
-
-public class Probability
-{
-
-}
+package com.github.detentor.codex.cat.monads;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.github.detentor.codex.cat.Applicative;
+import com.github.detentor.codex.cat.Monad;
+import com.github.detentor.codex.collections.SetAlgebra;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Probability é uma mônade que representa uma distribuição de probabilidade discreta. <br/>
+ * <br/>
+ *
+ * Uma distribuição pode estar em um de dois modos: <br/>
+ * <br/>
+ *
+ * 1 - Exato: todos os resultados possíveis e as suas probabilidades são conhecidos. Resultados iguais (de acordo com o equals) são
+ * fundidos num mapa a cada {@link #map(Function1) map} ou {@link #bind(Function1) bind}, de modo que o encadeamento de operações não
+ * cresce combinatorialmente, mas sim no número de resultados distintos. <br/>
+ * <br/>
+ *
+ * 2 - Amostrado: a distribuição é representada apenas por uma função que, a partir de um gerador {@link SplittableRandom}, produz um
+ * resultado (Monte Carlo). É o modo utilizado quando o espaço de resultados é grande demais para ser enumerado. Se, durante um bind, a
+ * função retornar uma distribuição amostrada, o resultado também será amostrado. <br/>
+ * <br/>
+ *
+ * Distribuições amostradas podem ser transformadas em distribuições exatas (empíricas) por meio de {@link #estimate(int, long)
+ * estimate} ou {@link #estimateParallel(int, long) estimateParallel}, que produzem o mesmo resultado para o mesmo seed. <br/>
+ * <br/>
+ *
+ * Classe imutável.
+ *
+ * @param <A> O tipo dos resultados da distribuição
+ */
+public abstract class Probability<A> implements Monad<A>
+{
+	/**
+	 * Tolerância utilizada na comparação de probabilidades
+	 */
+	private static final double EPSILON = 1e-9;
+
+	/**
+	 * Número de amostras geradas por tarefa na estimativa de distribuições amostradas
+	 */
+	private static final int SAMPLES_PER_TASK = 1 << 14;
+
+	/**
+	 * Cria uma distribuição exata onde o valor passado como parâmetro tem probabilidade 1.
+	 *
+	 * @param <A> O tipo do valor
+	 * @param value O único resultado possível da distribuição
+	 * @return Uma distribuição que sempre resulta no valor passado como parâmetro
+	 */
+	public static <A> Probability<A> certainly(final A value)
+	{
+		final Map<A, Double> outcomes = new LinkedHashMap<A, Double>(2);
+		outcomes.put(value, 1.0);
+		return new Exact<A>(outcomes);
+	}
+
+	/**
+	 * Cria uma distribuição exata uniforme sobre os valores passados como parâmetro. <br/>
+	 * Valores repetidos acumulam probabilidade.
+	 *
+	 * @param <A> O tipo dos valores
+	 * @param values Os resultados possíveis da distribuição
+	 * @return Uma distribuição uniforme sobre os valores
+	 * @throws IllegalArgumentException Se nenhum valor for informado
+	 */
+	public static <A> Probability<A> uniform(final A... values)
+	{
+		return uniform(Arrays.asList(values));
+	}
+
+	/**
+	 * Cria uma distribuição exata uniforme sobre os elementos do iterable passado como parâmetro. <br/>
+	 * Elementos repetidos acumulam probabilidade.
+	 *
+	 * @param <A> O tipo dos elementos
+	 * @param values Os resultados possíveis da distribuição
+	 * @return Uma distribuição uniforme sobre os elementos
+	 * @throws IllegalArgumentException Se o iterable estiver vazio
+	 */
+	public static <A> Probability<A> uniform(final Iterable<A> values)
+	{
+		final Map<A, Double> weights = new LinkedHashMap<A, Double>();
+
+		for (final A ele : values)
+		{
+			merge(weights, ele, 1.0);
+		}
+		return normalized(weights);
+	}
+
+	/**
+	 * Cria uma distribuição exata sobre os valores booleanos, onde <tt>true</tt> tem a probabilidade passada como parâmetro.
+	 *
+	 * @param probTrue A probabilidade do resultado ser <tt>true</tt>
+	 * @return Uma distribuição de Bernoulli
+	 * @throws IllegalArgumentException Se a probabilidade não estiver entre 0 e 1
+	 */
+	public static Probability<Boolean> bernoulli(final double probTrue)
+	{
+		if (probTrue < 0 || probTrue > 1)
+		{
+			throw new IllegalArgumentException("a probabilidade deve estar entre 0 e 1");
+		}
+		final Map<Boolean, Double> outcomes = new LinkedHashMap<Boolean, Double>(4);
+		merge(outcomes, Boolean.TRUE, probTrue);
+		merge(outcomes, Boolean.FALSE, 1.0 - probTrue);
+		return new Exact<Boolean>(outcomes);
+	}
+
+	/**
+	 * Cria uma distribuição exata a partir do mapa de pesos passado como parâmetro. <br/>
+	 * Os pesos não precisam somar 1: eles serão normalizados.
+	 *
+	 * @param <A> O tipo dos resultados
+	 * @param weights Um mapa, onde a chave é o resultado e o valor o seu peso
+	 * @return Uma distribuição onde a probabilidade de cada resultado é proporcional ao seu peso
+	 * @throws IllegalArgumentException Se algum peso for negativo, ou se a soma dos pesos não for positiva
+	 */
+	public static <A> Probability<A> from(final Map<A, ? extends Number> weights)
+	{
+		final Map<A, Double> theWeights = new LinkedHashMap<A, Double>(SetAlgebra.hashCapacity(weights.size()));
+
+		for (final Entry<A, ? extends Number> ele : weights.entrySet())
+		{
+			merge(theWeights, ele.getKey(), ele.getValue().doubleValue());
+		}
+		return normalized(theWeights);
+	}
+
+	/**
+	 * Cria uma distribuição amostrada a partir da função geradora passada como parâmetro. <br/>
+	 * A função deve utilizar apenas o gerador recebido como fonte de aleatoriedade, para que as estimativas sejam reprodutíveis.
+	 *
+	 * @param <A> O tipo dos resultados
+	 * @param sampler A função que, a partir de um gerador, produz um resultado
+	 * @return Uma distribuição representada pela função geradora
+	 */
+	public static <A> Probability<A> fromSampler(final Function1<SplittableRandom, A> sampler)
+	{
+		return new Sampled<A>(sampler);
+	}
+
+	/**
+	 * Retorna se esta distribuição é exata, ou seja, se os resultados e as suas probabilidades são conhecidos.
+	 *
+	 * @return true se a distribuição for exata, ou false se ela for amostrada
+	 */
+	public abstract boolean isExact();
+
+	/**
+	 * Retorna os resultados desta distribuição, associados às suas probabilidades.
+	 *
+	 * @return Um mapa onde a chave é o resultado, e o valor a sua probabilidade
+	 * @throws UnsupportedOperationException Se a distribuição for amostrada
+	 */
+	public abstract MapSharp<A, Double> outcomes();
+
+	/**
+	 * Extrai um resultado desta distribuição, utilizando o gerador passado como parâmetro.
+	 *
+	 * @param random O gerador de números aleatórios
+	 * @return Um resultado desta distribuição
+	 */
+	public abstract A sample(final SplittableRandom random);
+
+	/**
+	 * Retorna a distribuição condicionada ao evento passado como parâmetro. <br/>
+	 * Para distribuições amostradas é utilizada amostragem por rejeição. <br/>
+	 * ATENÇÃO: Se o evento for impossível numa distribuição amostrada, a amostragem não irá retornar.
+	 *
+	 * @param event O evento que se sabe ter ocorrido
+	 * @return A distribuição dos resultados, dado que o evento ocorreu
+	 * @throws IllegalArgumentException Se o evento for impossível numa distribuição exata
+	 */
+	public abstract Probability<A> given(final Function1<? super A, Boolean> event);
+
+	/**
+	 * Retorna a probabilidade de ocorrência do evento passado como parâmetro.
+	 *
+	 * @param event O evento, representado por um predicado sobre os resultados
+	 * @return A soma das probabilidades dos resultados que satisfazem o predicado
+	 * @throws UnsupportedOperationException Se a distribuição for amostrada
+	 */
+	public double probabilityOf(final Function1<? super A, Boolean> event)
+	{
+		double retorno = 0;
+
+		for (final Entry<A, Double> ele : exactOutcomes().entrySet())
+		{
+			if (event.apply(ele.getKey()))
+			{
+				retorno += ele.getValue();
+			}
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna o valor esperado da função passada como parâmetro sobre esta distribuição.
+	 *
+	 * @param function A função que transforma cada resultado em um valor numérico
+	 * @return A média dos valores da função, ponderada pelas probabilidades dos resultados
+	 * @throws UnsupportedOperationException Se a distribuição for amostrada
+	 */
+	public double expectation(final Function1<? super A, ? extends Number> function)
+	{
+		double retorno = 0;
+
+		for (final Entry<A, Double> ele : exactOutcomes().entrySet())
+		{
+			retorno += function.apply(ele.getKey()).doubleValue() * ele.getValue();
+		}
+		return retorno;
+	}
+
+	/**
+	 * Estima esta distribuição por Monte Carlo, gerando o número de amostras passado como parâmetro. <br/>
+	 * O resultado depende apenas do seed e do número de amostras, e é idêntico ao de {@link #estimateParallel(int, long)}.
+	 *
+	 * @param numSamples O número de amostras a serem geradas
+	 * @param seed O seed do gerador de números aleatórios
+	 * @return Uma distribuição exata, onde a probabilidade de cada resultado é a sua frequência relativa nas amostras
+	 */
+	public Probability<A> estimate(final int numSamples, final long seed)
+	{
+		final Map<A, long[]> counts = new HashMap<A, long[]>();
+
+		for (final Callable<Map<A, long[]>> task : samplingTasks(numSamples, seed))
+		{
+			try
+			{
+				mergeCounts(counts, task.call());
+			}
+			catch (final Exception e)
+			{
+				throw rethrow(e);
+			}
+		}
+		return fromCounts(counts, numSamples);
+	}
+
+	/**
+	 * Estima esta distribuição por Monte Carlo, gerando as amostras em paralelo (no {@link ForkJoinPool#commonPool() pool comum}). <br/>
+	 * Cada tarefa utiliza um gerador obtido por {@link SplittableRandom#split() split} do gerador inicial, de modo que o resultado não
+	 * depende do número de processadores e é idêntico ao de {@link #estimate(int, long)}.
+	 *
+	 * @param numSamples O número de amostras a serem geradas
+	 * @param seed O seed do gerador de números aleatórios
+	 * @return Uma distribuição exata, onde a probabilidade de cada resultado é a sua frequência relativa nas amostras
+	 */
+	public Probability<A> estimateParallel(final int numSamples, final long seed)
+	{
+		final Map<A, long[]> counts = new HashMap<A, long[]>();
+
+		try
+		{
+			for (final Future<Map<A, long[]>> result : ForkJoinPool.commonPool().invokeAll(samplingTasks(numSamples, seed)))
+			{
+				mergeCounts(counts, result.get());
+			}
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("a estimativa foi interrompida", e);
+		}
+		catch (final ExecutionException e)
+		{
+			throw rethrow(e.getCause());
+		}
+		return fromCounts(counts, numSamples);
+	}
+
+	@Override
+	public <B> Probability<B> pure(final B value)
+	{
+		return certainly(value);
+	}
+
+	@Override
+	public abstract <B> Probability<B> map(final Function1<? super A, B> function);
+
+	@Override
+	public abstract <B> Probability<B> bind(final Function1<? super A, Monad<B>> function);
+
+	@Override
+	public <B> Probability<B> ap(final Applicative<Function1<A, B>> applicative)
+	{
+		final Probability<Function1<A, B>> apProb = (Probability<Function1<A, B>>) applicative;
+
+		return apProb.bind(new Function1<Function1<A, B>, Monad<B>>()
+		{
+			@Override
+			public Monad<B> apply(final Function1<A, B> param)
+			{
+				return Probability.this.map(param);
+			}
+		});
+	}
+
+	/**
+	 * Retorna o mapa interno de resultados, para as operações definidas apenas para distribuições exatas
+	 */
+	protected abstract Map<A, Double> exactOutcomes();
+
+	/**
+	 * Cria as tarefas de amostragem. Os geradores são criados sequencialmente a partir do seed, para que o resultado seja
+	 * determinístico independentemente de como as tarefas forem executadas.
+	 */
+	private List<Callable<Map<A, long[]>>> samplingTasks(final int numSamples, final long seed)
+	{
+		if (numSamples <= 0)
+		{
+			throw new IllegalArgumentException("numSamples deve ser maior do que zero");
+		}
+
+		final SplittableRandom root = new SplittableRandom(seed);
+		final List<Callable<Map<A, long[]>>> tasks = new ArrayList<Callable<Map<A, long[]>>>(numSamples / SAMPLES_PER_TASK + 1);
+
+		for (int start = 0; start < numSamples; start += SAMPLES_PER_TASK)
+		{
+			final SplittableRandom random = root.split();
+			final int count = Math.min(SAMPLES_PER_TASK, numSamples - start);
+
+			tasks.add(new Callable<Map<A, long[]>>()
+			{
+				@Override
+				public Map<A, long[]> call()
+				{
+					final Map<A, long[]> counts = new HashMap<A, long[]>();
+
+					for (int i = 0; i < count; i++)
+					{
+						final A value = sample(random);
+						final long[] counter = counts.get(value);
+
+						if (counter == null)
+						{
+							counts.put(value, new long[] { 1 });
+						}
+						else
+						{
+							counter[0]++;
+						}
+					}
+					return counts;
+				}
+			});
+		}
+		return tasks;
+	}
+
+	private static <A> void mergeCounts(final Map<A, long[]> target, final Map<A, long[]> partial)
+	{
+		for (final Entry<A, long[]> ele : partial.entrySet())
+		{
+			final long[] counter = target.get(ele.getKey());
+
+			if (counter == null)
+			{
+				target.put(ele.getKey(), ele.getValue());
+			}
+			else
+			{
+				counter[0] += ele.getValue()[0];
+			}
+		}
+	}
+
+	private static <A> Probability<A> fromCounts(final Map<A, long[]> counts, final int numSamples)
+	{
+		final Map<A, Double> outcomes = new LinkedHashMap<A, Double>(SetAlgebra.hashCapacity(counts.size()));
+
+		for (final Entry<A, long[]> ele : counts.entrySet())
+		{
+			outcomes.put(ele.getKey(), (double) ele.getValue()[0] / numSamples);
+		}
+		return new Exact<A>(outcomes);
+	}
+
+	private static RuntimeException rethrow(final Throwable e)
+	{
+		if (e instanceof RuntimeException)
+		{
+			return (RuntimeException) e;
+		}
+		if (e instanceof Error)
+		{
+			throw (Error) e;
+		}
+		return new IllegalStateException("erro ao amostrar a distribuição", e);
+	}
+
+	/**
+	 * Acumula a probabilidade no resultado, fazendo somente uma busca quando o resultado ainda não existe
+	 */
+	private static <A> void merge(final Map<A, Double> outcomes, final A value, final double prob)
+	{
+		if (prob < 0)
+		{
+			throw new IllegalArgumentException("probabilidades e pesos não podem ser negativos");
+		}
+		if (prob == 0)
+		{
+			return;
+		}
+
+		final Double prev = outcomes.put(value, prob);
+
+		if (prev != null)
+		{
+			outcomes.put(value, prev + prob);
+		}
+	}
+
+	private static <A> Probability<A> normalized(final Map<A, Double> weights)
+	{
+		double total = 0;
+
+		for (final Double ele : weights.values())
+		{
+			total += ele;
+		}
+
+		if (!(total > 0))
+		{
+			throw new IllegalArgumentException("a soma dos pesos deve ser maior do que zero");
+		}
+
+		for (final Entry<A, Double> ele : weights.entrySet())
+		{
+			ele.setValue(ele.getValue() / total);
+		}
+		return new Exact<A>(weights);
+	}
+
+	/**
+	 * Distribuição cujos resultados são conhecidos
+	 */
+	private static final class Exact<A> extends Probability<A>
+	{
+		private final Map<A, Double> outcomes;
+
+		//Tabela acumulada para a amostragem, criada somente quando necessário
+		private volatile SamplingTable samplingTable;
+
+		protected Exact(final Map<A, Double> theOutcomes)
+		{
+			super();
+			outcomes = theOutcomes;
+		}
+
+		@Override
+		public boolean isExact()
+		{
+			return true;
+		}
+
+		@Override
+		public MapSharp<A, Double> outcomes()
+		{
+			final MapSharp<A, Double> retorno = MapSharp.empty(MapSharpType.LINKED_HASH_MAP);
+
+			for (final Entry<A, Double> ele : outcomes.entrySet())
+			{
+				retorno.add(ele.getKey(), ele.getValue());
+			}
+			return retorno;
+		}
+
+		@Override
+		protected Map<A, Double> exactOutcomes()
+		{
+			return outcomes;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public A sample(final SplittableRandom random)
+		{
+			SamplingTable table = samplingTable;
+
+			if (table == null)
+			{
+				table = new SamplingTable(outcomes);
+				samplingTable = table;
+			}
+			return (A) table.sample(random);
+		}
+
+		@Override
+		public Probability<A> given(final Function1<? super A, Boolean> event)
+		{
+			final Map<A, Double> retorno = new LinkedHashMap<A, Double>(SetAlgebra.hashCapacity(outcomes.size()));
+
+			for (final Entry<A, Double> ele : outcomes.entrySet())
+			{
+				if (event.apply(ele.getKey()))
+				{
+					retorno.put(ele.getKey(), ele.getValue());
+				}
+			}
+
+			if (retorno.isEmpty())
+			{
+				throw new IllegalArgumentException("given foi chamado para um evento impossível");
+			}
+			return normalized(retorno);
+		}
+
+		@Override
+		public <B> Probability<B> map(final Function1<? super A, B> function)
+		{
+			final Map<B, Double> retorno = new LinkedHashMap<B, Double>(SetAlgebra.hashCapacity(outcomes.size()));
+
+			for (final Entry<A, Double> ele : outcomes.entrySet())
+			{
+				merge(retorno, function.apply(ele.getKey()), ele.getValue());
+			}
+			return new Exact<B>(retorno);
+		}
+
+		@Override
+		public <B> Probability<B> bind(final Function1<? super A, Monad<B>> function)
+		{
+			final Map<B, Double> retorno = new LinkedHashMap<B, Double>(SetAlgebra.hashCapacity(outcomes.size()));
+
+			for (final Entry<A, Double> ele : outcomes.entrySet())
+			{
+				final Probability<B> curProb = (Probability<B>) function.apply(ele.getKey());
+
+				if (!curProb.isExact())
+				{
+					//Não há como enumerar os resultados: o resultado passa a ser amostrado
+					return new Sampled<A>(samplerOf(this)).bind(function);
+				}
+
+				for (final Entry<B, Double> innerEle : curProb.exactOutcomes().entrySet())
+				{
+					merge(retorno, innerEle.getKey(), ele.getValue() * innerEle.getValue());
+				}
+			}
+			return new Exact<B>(retorno);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return outcomes.keySet().hashCode();
+		}
+
+		/**
+		 * Duas distribuições exatas são iguais se possuem os mesmos resultados, com probabilidades iguais (a menos de erros de
+		 * arredondamento).
+		 */
+		@SuppressWarnings("rawtypes")
+		@Override
+		public boolean equals(final Object obj)
+		{
+			if (this == obj)
+			{
+				return true;
+			}
+			if (obj == null)
+			{
+				return false;
+			}
+			if (getClass() != obj.getClass())
+			{
+				return false;
+			}
+			final Map otherOutcomes = ((Exact) obj).outcomes;
+
+			if (outcomes.size() != otherOutcomes.size())
+			{
+				return false;
+			}
+
+			for (final Entry<A, Double> ele : outcomes.entrySet())
+			{
+				final Object otherProb = otherOutcomes.get(ele.getKey());
+
+				if (otherProb == null || Math.abs(ele.getValue() - (Double) otherProb) > EPSILON)
+				{
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public String toString()
+		{
+			final StringBuilder sBuilder = new StringBuilder("Probability(");
+			final Iterator<Entry<A, Double>> ite = outcomes.entrySet().iterator();
+
+			while (ite.hasNext())
+			{
+				final Entry<A, Double> ele = ite.next();
+				sBuilder.append(ele.getKey()).append(" -> ").append(ele.getValue());
+
+				if (ite.hasNext())
+				{
+					sBuilder.append(", ");
+				}
+			}
+			return sBuilder.append(')').toString();
+		}
+	}
+
+	/**
+	 * Distribuição representada por uma função geradora
+	 */
+	private static final class Sampled<A> extends Probability<A>
+	{
+		private final Function1<SplittableRandom, A> sampler;
+
+		protected Sampled(final Function1<SplittableRandom, A> theSampler)
+		{
+			super();
+			sampler = theSampler;
+		}
+
+		@Override
+		public boolean isExact()
+		{
+			return false;
+		}
+
+		@Override
+		public MapSharp<A, Double> outcomes()
+		{
+			throw new UnsupportedOperationException("outcomes chamado para uma distribuição amostrada");
+		}
+
+		@Override
+		protected Map<A, Double> exactOutcomes()
+		{
+			throw new UnsupportedOperationException("operação não definida para distribuições amostradas");
+		}
+
+		@Override
+		public A sample(final SplittableRandom random)
+		{
+			return sampler.apply(random);
+		}
+
+		@Override
+		public Probability<A> given(final Function1<? super A, Boolean> event)
+		{
+			return new Sampled<A>(new Function1<SplittableRandom, A>()
+			{
+				@Override
+				public A apply(final SplittableRandom param)
+				{
+					A value = sampler.apply(param);
+
+					while (!event.apply(value))
+					{
+						value = sampler.apply(param);
+					}
+					return value;
+				}
+			});
+		}
+
+		@Override
+		public <B> Probability<B> map(final Function1<? super A, B> function)
+		{
+			return new Sampled<B>(new Function1<SplittableRandom, B>()
+			{
+				@Override
+				public B apply(final SplittableRandom param)
+				{
+					return function.apply(sampler.apply(param));
+				}
+			});
+		}
+
+		@Override
+		public <B> Probability<B> bind(final Function1<? super A, Monad<B>> function)
+		{
+			return new Sampled<B>(new Function1<SplittableRandom, B>()
+			{
+				@Override
+				public B apply(final SplittableRandom param)
+				{
+					return ((Probability<B>) function.apply(sampler.apply(param))).sample(param);
+				}
+			});
+		}
+
+		@Override
+		public String toString()
+		{
+			return "Probability(<amostrada>)";
+		}
+	}
+
+	/**
+	 * Retorna a função geradora de uma distribuição qualquer
+	 */
+	private static <A> Function1<SplittableRandom, A> samplerOf(final Probability<A> probability)
+	{
+		return new Function1<SplittableRandom, A>()
+		{
+			@Override
+			public A apply(final SplittableRandom param)
+			{
+				return probability.sample(param);
+			}
+		};
+	}
+
+	/**
+	 * Tabela de probabilidades acumuladas, para amostrar uma distribuição exata com busca binária
+	 */
+	private static final class SamplingTable
+	{
+		private final Object[] values;
+		private final double[] cumulative;
+
+		protected SamplingTable(final Map<?, Double> outcomes)
+		{
+			values = new Object[outcomes.size()];
+			cumulative = new double[outcomes.size()];
+
+			double acc = 0;
+			int index = 0;
+
+			for (final Entry<?, Double> ele : outcomes.entrySet())
+			{
+				acc += ele.getValue();
+				values[index] = ele.getKey();
+				cumulative[index++] = acc;
+			}
+		}
+
+		protected Object sample(final SplittableRandom random)
+		{
+			//Usa o último valor acumulado como total, para não depender do arredondamento da soma
+			final double target = random.nextDouble() * cumulative[cumulative.length - 1];
+			final int pos = Arrays.binarySearch(cumulative, target);
+			final int index = pos >= 0 ? pos + 1 : -(pos + 1);
+			return values[Math.min(index, values.length - 1)];
+		}
+	}
+}
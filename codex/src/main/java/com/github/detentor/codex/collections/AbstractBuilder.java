@@ -0,0 +1,86 @@
+package com.github.detentor.codex.collections;
+
+/**
+ * Implementação base de {@link Builder}. <br/>
+ * Além dos métodos do Builder, esta classe aceita uma dica do número de elementos ({@link #sizeHint(int) sizeHint}) e a
+ * adição em lote ({@link #addAll(Iterable) addAll}). Por padrão, o addAll adiciona os elementos um a um, e o sizeHint é
+ * ignorado, o que é adequado para builders que não reservam espaço (listas ligadas, por exemplo). Builders baseados em
+ * vetores devem sobrescrever os dois métodos. <br/>
+ * <br/>
+ *
+ * Para usar esses métodos a partir de um {@link Builder} qualquer, veja {@link #sizeHint(Builder, int)} e
+ * {@link #addAll(Builder, Iterable)}: os builders que não estendem esta classe simplesmente recebem os elementos um a um. <br/>
+ * <br/>
+ *
+ * Para implementar um builder, basta implementar os métodos {@link #add(Object) add} e {@link #result() result}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <From> O tipo de elementos que serão alimentados no builder
+ * @param <To> O tipo de coleção a ser retornada pelo builder
+ */
+public abstract class AbstractBuilder<From, To extends Iterable<From>> implements Builder<From, To>
+{
+	/**
+	 * Adiciona todos os elementos do iterable passado como parâmetro no Builder, na ordem do iterable.
+	 *
+	 * @param elements Os elementos a serem adicionados no builder
+	 */
+	public void addAll(final Iterable<? extends From> elements)
+	{
+		for (final From ele : elements)
+		{
+			add(ele);
+		}
+	}
+
+	/**
+	 * Informa ao Builder o número total de elementos que serão adicionados, para que ele possa reservar o espaço
+	 * necessário de uma única vez. <br/>
+	 * A informação é apenas uma dica: o builder pode ignorá-la, e continua aceitando mais (ou menos) elementos.
+	 * Valores negativos são ignorados.
+	 *
+	 * @param size O número de elementos esperado
+	 */
+	public void sizeHint(final int size)
+	{
+		//A dica é opcional: por padrão, não há espaço a reservar
+	}
+
+	/**
+	 * Informa a dica de tamanho ao builder passado como parâmetro, se ele for um AbstractBuilder (os outros builders não
+	 * recebem dicas).
+	 *
+	 * @param builder O builder que receberá a dica
+	 * @param size O número de elementos esperado
+	 */
+	public static void sizeHint(final Builder<?, ?> builder, final int size)
+	{
+		if (builder instanceof AbstractBuilder<?, ?>)
+		{
+			((AbstractBuilder<?, ?>) builder).sizeHint(size);
+		}
+	}
+
+	/**
+	 * Adiciona todos os elementos do iterable no builder passado como parâmetro: em lote, se ele for um AbstractBuilder, ou
+	 * um a um, caso contrário.
+	 *
+	 * @param <E> O tipo dos elementos do builder
+	 * @param builder O builder onde os elementos serão adicionados
+	 * @param elements Os elementos a serem adicionados no builder
+	 */
+	public static <E> void addAll(final Builder<E, ?> builder, final Iterable<? extends E> elements)
+	{
+		if (builder instanceof AbstractBuilder<?, ?>)
+		{
+			((AbstractBuilder<E, ?>) builder).addAll(elements);
+			return;
+		}
+
+		for (final E ele : elements)
+		{
+			builder.add(ele);
+		}
+	}
+}
@@ -1,9 +1,16 @@
 package com.github.detentor.codex.collections;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 
+import com.github.detentor.codex.alg.Semigroup;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.Functions;
+import com.github.detentor.codex.function.IndexedFunction;
 import com.github.detentor.codex.function.PartialFunction1;
 import com.github.detentor.codex.product.Tuple2;
 
@@ -35,6 +42,17 @@ import com.github.detentor.codex.product.Tuple2;
  */
 public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends AbstractSeq<T, IndexedSeq<T>> implements IndexedSeq<T>
 {
+	/**
+	 * Número mínimo de elementos para que as combinações por semigrupo (e as demais operações paralelas) sejam executadas em
+	 * paralelo
+	 */
+	protected static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	/**
+	 * Número de elementos a partir do qual uma tarefa paralela não é mais dividida entre threads
+	 */
+	protected static final int SEQUENTIAL_CHUNK = 1 << 11;
+
 	/**
 	 * Retorna a sub-sequência a partir do índice passado como parâmetro, até o fim dela. <br/>
 	 * Este método equivale a chamar o método subsequence com startIndex, this.size().
@@ -48,11 +66,20 @@ public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends Abs
 		return (U) this.subsequence(startIndex, this.size());
 	}
 
+	/**
+	 * O tamanho de uma sequência indexada é sempre conhecido
+	 */
+	@Override
+	protected int knownSize()
+	{
+		return this.size();
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public U reverse()
 	{
-		final Builder<T, SharpCollection<T>> retorno = builder();
+		final Builder<T, SharpCollection<T>> retorno = builder(this.size());
 
 		for (int i = this.size() - 1; i > -1; i--)
 		{
@@ -130,6 +157,26 @@ public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends Abs
 		return this.drop(1);
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public T nthElement(final int n)
+	{
+		return (T) nthElement(n, (Comparator<? super T>) new DefaultComparator());
+	}
+
+	@Override
+	public T nthElement(final int n, final Comparator<? super T> comparator)
+	{
+		return Selection.nthElement(this, n, comparator);
+	}
+
+	@Override
+	public T median()
+	{
+		ensureNotEmpty("median foi chamado para uma coleção vazia");
+		return nthElement((this.size() - 1) / 2);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public U take(final Integer num)
@@ -202,7 +249,7 @@ public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends Abs
 			throw new IllegalArgumentException("size deve ser maior do que zero");
 		}
 
-		final Builder<U, SharpCollection<U>> retorno = builder();
+		final Builder<U, SharpCollection<U>> retorno = builder((this.size() + size - 1) / size);
 		int curIndex = 0;
 		
 		while (curIndex < this.size())
@@ -211,6 +258,41 @@ public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends Abs
 		}
 		return (IndexedSeq<U>) retorno.result();
 	}
+
+	@Override
+	public IndexedSeq<U> sliding(final Integer size)
+	{
+		return sliding(size, 1);
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * As janelas são as sub-sequências desta sequência, portanto não há cópia dos elementos quando o
+	 * {@link #subsequence(int, int) subsequence} os compartilha.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public IndexedSeq<U> sliding(final Integer size, final Integer step)
+	{
+		Windows.checkArguments(size, step);
+
+		final Builder<U, SharpCollection<U>> retorno = builder();
+		final int count = this.size();
+		int start = 0;
+
+		while (start < count)
+		{
+			final int end = start + Math.min(size, count - start);
+			retorno.add((U) this.subsequence(start, end));
+
+			if (end == count || step > count - start)
+			{
+				break; //As próximas janelas só teriam elementos que já pertencem a esta
+			}
+			start += step;
+		}
+		return (IndexedSeq<U>) retorno.result();
+	}
 	
 	@SuppressWarnings("unchecked")
 	@Override
@@ -240,6 +322,79 @@ public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends Abs
 		return (U) super.distinct();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public U distinctBy(final Function1<? super T, ?> keyFunction)
+	{
+		return (U) super.distinctBy(keyFunction);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public U union(final Iterable<T> withCollection)
+	{
+		return (U) super.union(withCollection);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public U diff(final Iterable<T> withCollection)
+	{
+		return (U) super.diff(withCollection);
+	}
+
+	/**
+	 * Combina os elementos por divisão dos índices ao meio. Sequências com pelo menos {@link #PARALLEL_THRESHOLD} elementos
+	 * são combinadas em paralelo, no {@link ForkJoinPool#commonPool() pool comum}.
+	 */
+	@Override
+	protected <B> B reduceMap(final Function1<? super T, B> function, final Semigroup<B> semigroup)
+	{
+		final ReduceTask<T, B> task = new ReduceTask<T, B>(this, function, semigroup, 0, this.size());
+		return this.size() < PARALLEL_THRESHOLD ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Se a outra coleção também for uma sequência indexada, retorna uma visão das duas sequências: o tamanho, o acesso a uma
+	 * posição e o subsequence são executados em tempo constante, e somente as sequências mutáveis são copiadas.
+	 */
+	@Override
+	public <B> IndexedSeq<Tuple2<T, B>> zip(final Iterable<B> other)
+	{
+		if (other instanceof IndexedSeq<?>)
+		{
+			return Zips.view(this, (IndexedSeq<B>) other);
+		}
+		return (IndexedSeq<Tuple2<T, B>>) super.zip(other);
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Se a outra coleção também for uma sequência indexada, retorna uma visão das duas sequências (ver
+	 * {@link #zip(Iterable) zip}).
+	 */
+	@Override
+	public <B> IndexedSeq<Tuple2<T, B>> zipAll(final Iterable<B> other, final T thisElem, final B thatElem)
+	{
+		if (other instanceof IndexedSeq<?>)
+		{
+			return Zips.viewAll(this, (IndexedSeq<B>) other, thisElem, thatElem);
+		}
+		return (IndexedSeq<Tuple2<T, B>>) super.zipAll(other, thisElem, thatElem);
+	}
+
+	@Override
+	public void foreachWithIndex(final IndexedFunction<? super T, ?> function)
+	{
+		final int count = this.size();
+
+		for (int i = 0; i < count; i++)
+		{
+			function.apply(this.apply(i), i);
+		}
+	}
+
 	@Override
 	public Iterator<T> iterator()
 	{
@@ -267,4 +422,136 @@ public abstract class AbstractIndexedSeq<T, U extends IndexedSeq<T>> extends Abs
 			}
 		};
 	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * O spliterator percorre os índices desta sequência através do {@link #apply(Integer) apply}, e é dividido ao meio em
+	 * tempo constante, sem cópia dos elementos.
+	 */
+	@Override
+	public Spliterator<T> spliterator()
+	{
+		return new IndexedSpliterator<T>(this, 0, this.size(), characteristics());
+	}
+
+	/**
+	 * Tarefa que combina, em árvore balanceada, os elementos de um intervalo da sequência. <br/>
+	 * Intervalos grandes são divididos em duas tarefas; intervalos pequenos são combinados na própria thread.
+	 */
+	private static final class ReduceTask<T, B> extends RecursiveTask<B>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final IndexedSeq<T> seq;
+		private final Function1<? super T, B> function;
+		private final Semigroup<B> semigroup;
+		private final int from;
+		private final int until;
+
+		protected ReduceTask(final IndexedSeq<T> theSeq, final Function1<? super T, B> theFunction, final Semigroup<B> theSemigroup,
+				final int theFrom, final int theUntil)
+		{
+			super();
+			seq = theSeq;
+			function = theFunction;
+			semigroup = theSemigroup;
+			from = theFrom;
+			until = theUntil;
+		}
+
+		@Override
+		protected B compute()
+		{
+			if (until - from <= SEQUENTIAL_CHUNK)
+			{
+				return reduceRange(from, until);
+			}
+
+			final int middle = (from + until) >>> 1;
+			final ReduceTask<T, B> left = new ReduceTask<T, B>(seq, function, semigroup, from, middle);
+			left.fork();
+			final B right = new ReduceTask<T, B>(seq, function, semigroup, middle, until).compute();
+			return semigroup.append(left.join(), right);
+		}
+
+		private B reduceRange(final int start, final int end)
+		{
+			if (end - start == 1)
+			{
+				return function.apply(seq.apply(start));
+			}
+
+			final int middle = (start + end) >>> 1;
+			return semigroup.append(reduceRange(start, middle), reduceRange(middle, end));
+		}
+	}
+
+	/**
+	 * Spliterator sobre um intervalo de índices de uma sequência indexada
+	 */
+	private static final class IndexedSpliterator<T> implements Spliterator<T>
+	{
+		private final AbstractIndexedSeq<T, ?> seq;
+		private final int characteristics;
+		private int from;
+		private final int until;
+
+		IndexedSpliterator(final AbstractIndexedSeq<T, ?> theSeq, final int theFrom, final int theUntil,
+				final int theCharacteristics)
+		{
+			this.seq = theSeq;
+			this.from = theFrom;
+			this.until = theUntil;
+			this.characteristics = theCharacteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action)
+		{
+			if (from >= until)
+			{
+				return false;
+			}
+			action.accept(seq.apply(from++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(final Consumer<? super T> action)
+		{
+			final int end = until;
+
+			for (int i = from; i < end; i++)
+			{
+				action.accept(seq.apply(i));
+			}
+			from = end;
+		}
+
+		@Override
+		public Spliterator<T> trySplit()
+		{
+			final int middle = (from + until) >>> 1;
+
+			if (middle <= from)
+			{
+				return null;
+			}
+			final Spliterator<T> prefix = new IndexedSpliterator<T>(seq, from, middle, characteristics);
+			from = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			return until - from;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			return characteristics;
+		}
+	}
 }
@@ -54,6 +54,15 @@ public abstract class AbstractMutableGenericCollection<T, U extends SharpCollect
 		return (U) this;
 	}
 
+	/**
+	 * As coleções mutáveis (conjuntos e mapas) guardam o próprio tamanho
+	 */
+	@Override
+	protected int knownSize()
+	{
+		return this.size();
+	}
+
 	// Os métodos são reimplementados aqui porque o java não carrega o tipo genérico para cima:
 	// Como os métodos, se não estiverem aqui, estarão guardados na classe superior, então
 	// na hora de verificar qual o retorno, o compilador não sabe qual o tipo U definido, pegando
@@ -134,4 +143,22 @@ public abstract class AbstractMutableGenericCollection<T, U extends SharpCollect
 	{
 		return (U) super.distinct();
 	}
+
+	@Override
+	public U distinctBy(final Function1<? super T, ?> keyFunction)
+	{
+		return (U) super.distinctBy(keyFunction);
+	}
+
+	@Override
+	public U union(final Iterable<T> withCollection)
+	{
+		return (U) super.union(withCollection);
+	}
+
+	@Override
+	public U diff(final Iterable<T> withCollection)
+	{
+		return (U) super.diff(withCollection);
+	}
 }
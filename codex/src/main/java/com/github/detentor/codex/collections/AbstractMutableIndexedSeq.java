@@ -136,4 +136,22 @@ public abstract class AbstractMutableIndexedSeq<T, U extends IndexedSeq<T>> exte
 		return (U) super.distinct();
 	}
 
+	@Override
+	public U distinctBy(final Function1<? super T, ?> keyFunction)
+	{
+		return (U) super.distinctBy(keyFunction);
+	}
+
+	@Override
+	public U union(final Iterable<T> withCollection)
+	{
+		return (U) super.union(withCollection);
+	}
+
+	@Override
+	public U diff(final Iterable<T> withCollection)
+	{
+		return (U) super.diff(withCollection);
+	}
+
 }
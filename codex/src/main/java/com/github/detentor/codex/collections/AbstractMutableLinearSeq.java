@@ -140,4 +140,25 @@ public abstract class AbstractMutableLinearSeq<T, U extends LinearSeq<T>> extend
 		return (U) super.distinct();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public U distinctBy(final Function1<? super T, ?> keyFunction)
+	{
+		return (U) super.distinctBy(keyFunction);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public U union(final Iterable<T> withCollection)
+	{
+		return (U) super.union(withCollection);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public U diff(final Iterable<T> withCollection)
+	{
+		return (U) super.diff(withCollection);
+	}
+
 }
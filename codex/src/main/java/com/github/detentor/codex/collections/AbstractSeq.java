@@ -1,6 +1,8 @@
 package com.github.detentor.codex.collections;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import com.github.detentor.codex.product.Tuple2;
 
@@ -14,6 +16,9 @@ import com.github.detentor.codex.product.Tuple2;
  */
 public abstract class AbstractSeq<T, U extends Seq<T>> extends AbstractSharpCollection<T, Seq<T>>
 {
+	//Hashcode guardado pelas sequências imutáveis (0 indica que ele ainda não foi calculado)
+	private transient int cachedHash;
+
 	//ATENÇÃO: Esse método está aqui apenas para permitir ao tipo 'U' ser acessado pelas classes
 	//inferiores. Se esse método for removido, então a classe mais abaixo não vai conseguir saber
 	//o tipo 'U', pois o método tail() também está definido em LinearSeq
@@ -39,14 +44,116 @@ public abstract class AbstractSeq<T, U extends Seq<T>> extends AbstractSharpColl
 		return (Seq<U>) super.grouped(size);
 	}
 
+	@Override
+	public Seq<? extends U> sliding(final Integer size)
+	{
+		return sliding(size, 1);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Seq<? extends U> sliding(final Integer size, final Integer step)
+	{
+		return (Seq<U>) super.sliding(size, step);
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Como o contains de uma sequência é linear, esta sequência é percorrida uma única vez, consultando uma tabela hash com
+	 * os elementos da coleção passada como parâmetro.
+	 */
+	@Override
+	public boolean containsAll(final Iterable<T> col)
+	{
+		final Set<T> remaining = toHashSet(col);
+
+		if (remaining.isEmpty())
+		{
+			return true;
+		}
+
+		for (final T ele : this)
+		{
+			if (remaining.remove(ele) && remaining.isEmpty())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Como o contains de uma sequência é linear, esta sequência é percorrida uma única vez, consultando uma tabela hash com
+	 * os elementos da coleção passada como parâmetro.
+	 */
+	@Override
+	public boolean containsAny(final Iterable<T> col)
+	{
+		final Set<T> elements = toHashSet(col);
+
+		if (!elements.isEmpty())
+		{
+			for (final T ele : this)
+			{
+				if (elements.contains(ele))
+				{
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static <T> Set<T> toHashSet(final Iterable<T> col)
+	{
+		final Set<T> retorno = new HashSet<T>(SetAlgebra.hashCapacity(SetAlgebra.knownSize(col)));
+
+		for (final T ele : col)
+		{
+			retorno.add(ele);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Indica se o hashcode desta sequência pode ser guardado após o primeiro cálculo. <br/>
+	 * Sequências imutáveis devem sobrescrever este método para retornar true, pois assim o hashcode (e a comparação entre
+	 * sequências cujos hashcodes já foram calculados) deixa de percorrer todos os elementos. Assim como nas chaves de um
+	 * {@link java.util.HashMap HashMap}, assume-se que os elementos também não mudam.
+	 * 
+	 * @return true se o hashcode desta sequência nunca muda, ou false caso contrário
+	 */
+	protected boolean isHashCacheable()
+	{
+		return false;
+	}
+
+	/**
+	 * O hashcode de uma sequência depende apenas dos seus elementos, na ordem do iterator, e é calculado da mesma maneira que
+	 * o {@link java.util.List#hashCode() hashcode de uma List}. Dessa forma sequências indexadas e lineares com os mesmos
+	 * elementos possuem o mesmo hashcode. <br/>
+	 * Se a sequência for imutável, o hashcode é calculado somente na primeira chamada.
+	 */
 	@Override
 	public int hashCode()
 	{
-		int result = 1;
+		int result = cachedHash;
 
-		for (Object element : this)
+		//Single-check: se duas threads calcularem ao mesmo tempo, ambas chegam no mesmo valor
+		if (result == 0)
 		{
-			result = 31 * result + (element == null ? 0 : element.hashCode());
+			result = 1;
+
+			for (Object element : this)
+			{
+				result = 31 * result + (element == null ? 0 : element.hashCode());
+			}
+
+			if (isHashCacheable())
+			{
+				cachedHash = result;
+			}
 		}
 		return result;
 	}
@@ -62,6 +169,17 @@ public abstract class AbstractSeq<T, U extends Seq<T>> extends AbstractSharpColl
 		{
 			return false;
 		}
+
+		//Se os dois hashcodes já foram calculados, eles evitam a comparação dos elementos
+		if (obj instanceof AbstractSeq<?, ?>)
+		{
+			final int otherHash = ((AbstractSeq<?, ?>) obj).cachedHash;
+
+			if (cachedHash != 0 && otherHash != 0 && cachedHash != otherHash)
+			{
+				return false;
+			}
+		}
 		
 		if (this instanceof IndexedSeq<?> && obj instanceof IndexedSeq<?>)
 		{
@@ -96,15 +214,20 @@ public abstract class AbstractSeq<T, U extends Seq<T>> extends AbstractSharpColl
 	 */
 	private boolean compareIndexed(final IndexedSeq<?> iSeq1, final IndexedSeq<?> iSeq2)
 	{
-		if (iSeq1.size() != iSeq2.size())
+		final int size = iSeq1.size();
+
+		if (size != iSeq2.size())
 		{
 			return false;
 		}
 
-		// Verifica se os elementos são iguais
-		for (int i = 0; i < iSeq1.size(); i++)
+		// Verifica se os elementos são iguais, acessando cada posição uma única vez
+		for (int i = 0; i < size; i++)
 		{
-			if (! (iSeq1.apply(i) == null ? iSeq2.apply(i) == null : iSeq1.apply(i).equals(iSeq2.apply(i))))
+			final Object ele1 = iSeq1.apply(i);
+			final Object ele2 = iSeq2.apply(i);
+
+			if (! (ele1 == null ? ele2 == null : ele1.equals(ele2)))
 			{
 				return false;
 			}
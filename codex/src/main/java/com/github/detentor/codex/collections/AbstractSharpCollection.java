@@ -8,12 +8,23 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.github.detentor.codex.alg.Monoid;
+import com.github.detentor.codex.alg.Semigroup;
 import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.Function2;
+import com.github.detentor.codex.function.IndexedFunction;
 import com.github.detentor.codex.function.PartialFunction1;
 import com.github.detentor.codex.product.Tuple2;
+import com.github.detentor.operations.ObjectOps;
 
 /**
  * Classe que provê a implementação padrão de diversos métodos de coleções, para simplificar a criação de classes que os estenda. <br/>
@@ -123,7 +134,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	{
 		ensureNotEmpty("tail foi chamado para uma coleção vazia");
 
-		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder();
+		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder(knownSize() - 1);
 		final Iterator<T> ite = this.iterator();
 
 		ite.next(); // Pula o primeiro elemento
@@ -139,7 +150,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	@Override
 	public U take(final Integer num)
 	{
-		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder();
+		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder(knownSizeUntil(num));
 		final Iterator<T> ite = this.iterator();
 		int count = 0;
 
@@ -155,7 +166,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	public U takeRight(final Integer num)
 	{
 		final int eleToSkip = Math.max(this.size() - num, 0);
-		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder();
+		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder(this.size() - eleToSkip);
 		final Iterator<T> ite = this.iterator();
 		int curCount = 0;
 
@@ -176,7 +187,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	@Override
 	public U drop(final Integer num)
 	{
-		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder();
+		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder(knownSizeAfter(num));
 		final Iterator<T> ite = this.iterator();
 
 		int count = 0;
@@ -199,7 +210,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	public U dropRight(final Integer num)
 	{
 		final int toAdd = Math.max(0, this.size() - num);
-		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder();
+		final Builder<T, SharpCollection<T>> colecaoRetorno = this.builder(toAdd);
 		final Iterator<T> ite = this.iterator();
 
 		int count = 0;
@@ -216,7 +227,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	@Override
 	public Tuple2<? extends U, ? extends U> splitAt(final Integer num)
 	{
-		final Builder<T, SharpCollection<T>> colRetorno1 = this.builder();
+		final Builder<T, SharpCollection<T>> colRetorno1 = this.builder(knownSizeUntil(num));
 		final Iterator<T> ite = this.iterator();
 		int count = 0;
 
@@ -225,7 +236,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 			colRetorno1.add(ite.next());
 		}
 		
-		final Builder<T, SharpCollection<T>> colRetorno2 = this.builder();
+		final Builder<T, SharpCollection<T>> colRetorno2 = this.builder(knownSizeAfter(num));
 		
 		while (ite.hasNext())
 		{
@@ -248,7 +259,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 		
 		int count = 0;
 
-		Builder<T, SharpCollection<T>> curColecao = this.builder();
+		Builder<T, SharpCollection<T>> curColecao = this.builder(knownSizeUntil(size));
 		
 		while (ite.hasNext())
 		{
@@ -258,7 +269,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 			if (count == size)
 			{
 				colOfCols.add((U)curColecao.result());
-				curColecao = this.builder();
+				curColecao = this.builder(knownSizeUntil(size));
 				count = 0;
 			}
 		}
@@ -269,7 +280,45 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 		}
 		return colOfCols.result();
 	}
-	
+
+	@Override
+	public SharpCollection<? extends U> sliding(final Integer size)
+	{
+		return sliding(size, 1);
+	}
+
+	@Override
+	public SharpCollection<? extends U> sliding(final Integer size, final Integer step)
+	{
+		return slidingInto(size, step, this.<U> builder());
+	}
+
+	/**
+	 * Adiciona as janelas deslizantes desta coleção no builder passado como parâmetro. <br/>
+	 * Esta coleção é percorrida uma única vez, e cada janela é criada pelo {@link #builder()} a partir do buffer circular do
+	 * {@link Windows#sliding(Iterator, int, int) Windows.sliding}.
+	 *
+	 * @param size O tamanho de cada janela
+	 * @param step A distância entre o início de duas janelas consecutivas
+	 * @param windows O builder que receberá as janelas
+	 * @return O resultado do builder, após a adição de todas as janelas
+	 */
+	@SuppressWarnings(UNCHECKED)
+	protected <C extends Iterable<U>> C slidingInto(final int size, final int step, final Builder<U, C> windows)
+	{
+		final Iterator<List<T>> ite = Windows.sliding(this.iterator(), size, step);
+
+		while (ite.hasNext())
+		{
+			final List<T> window = ite.next();
+			final Builder<T, SharpCollection<T>> curWindow = this.builder(window.size());
+
+			AbstractBuilder.addAll(curWindow, window);
+			windows.add((U) curWindow.result());
+		}
+		return windows.result();
+	}
+
 	@Override
 	public String mkString()
 	{
@@ -535,10 +584,139 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 		return accumulator;
 	}
 
+	@Override
+	public T fold(final Monoid<T> monoid)
+	{
+		return this.isEmpty() ? monoid.empty() : reduceMap(ObjectOps.<T, T> identity(), monoid);
+	}
+
+	@Override
+	public <B> B foldMap(final Function1<? super T, B> function, final Monoid<B> monoid)
+	{
+		return this.isEmpty() ? monoid.empty() : reduceMap(function, monoid);
+	}
+
+	@Override
+	public T reduce(final Semigroup<T> semigroup)
+	{
+		ensureNotEmpty("reduce foi chamado para uma coleção vazia");
+		return reduceMap(ObjectOps.<T, T> identity(), semigroup);
+	}
+
+	/**
+	 * Transforma e combina os elementos desta coleção (que não pode estar vazia) em árvore balanceada. <br/>
+	 * A implementação padrão percorre o iterator uma única vez, mantendo uma pilha de resultados parciais onde cada posição
+	 * combina o dobro de elementos da seguinte (como num contador binário), de modo que a memória utilizada é logarítmica no
+	 * tamanho da coleção. Subclasses com acesso aleatório podem sobrescrever este método para executar a combinação em paralelo.
+	 * 
+	 * @param function A função que transforma cada elemento
+	 * @param semigroup O semigrupo que combina os resultados da função
+	 * @return O resultado da combinação
+	 */
+	@SuppressWarnings("unchecked")
+	protected <B> B reduceMap(final Function1<? super T, B> function, final Semigroup<B> semigroup)
+	{
+		//Um long conta no máximo 2^64 elementos, então 64 níveis são suficientes
+		final Object[] partials = new Object[Long.SIZE];
+		final int[] levels = new int[Long.SIZE];
+		int top = -1;
+
+		for (final T ele : this)
+		{
+			B current = function.apply(ele);
+			int level = 0;
+
+			while (top >= 0 && levels[top] == level)
+			{
+				current = semigroup.append((B) partials[top], current);
+				partials[top--] = null;
+				level++;
+			}
+			partials[++top] = current;
+			levels[top] = level;
+		}
+
+		B retorno = (B) partials[top];
+
+		for (int i = top - 1; i >= 0; i--)
+		{
+			retorno = semigroup.append((B) partials[i], retorno);
+		}
+		return retorno;
+	}
+
+	@Override
+	public <K> MapSharp<K, ? extends SharpCollection<T>> groupBy(final Function1<? super T, K> keyFunction)
+	{
+		return Aggregation.aggregate(this, keyFunction, this.<T> groupAggregator(), MapSharpType.HASH_MAP);
+	}
+
+	@Override
+	public <K, A, R> MapSharp<K, R> aggregateBy(final Function1<? super T, K> keyFunction, final Aggregator<? super T, A, R> aggregator)
+	{
+		return Aggregation.aggregate(this, keyFunction, aggregator, MapSharpType.HASH_MAP);
+	}
+
+	@Override
+	public <K, B> MapSharp<K, B> aggregateBy(final Function1<? super T, K> keyFunction, final Function1<? super T, B> function,
+			final Monoid<B> monoid)
+	{
+		return aggregateBy(keyFunction, Aggregators.fromMonoid(function, monoid));
+	}
+
+	@Override
+	public <K, A, R> MapSharp<K, R> parAggregateBy(final Function1<? super T, K> keyFunction,
+			final Aggregator<? super T, A, R> aggregator)
+	{
+		return Aggregation.aggregateParallel(this, keyFunction, aggregator, MapSharpType.HASH_MAP);
+	}
+
+	/**
+	 * Retorna um agregador que constrói, para cada grupo, uma coleção do mesmo tipo desta (a partir do {@link #builder()}).
+	 *
+	 * @param <E> O tipo dos elementos dos grupos
+	 * @return Um agregador cujo resultado é a coleção com os elementos do grupo
+	 */
+	protected <E> Aggregator<E, Builder<E, SharpCollection<E>>, SharpCollection<E>> groupAggregator()
+	{
+		return new Aggregator<E, Builder<E, SharpCollection<E>>, SharpCollection<E>>()
+		{
+			@Override
+			public Builder<E, SharpCollection<E>> create()
+			{
+				return builder();
+			}
+
+			@Override
+			public Builder<E, SharpCollection<E>> accumulate(final Builder<E, SharpCollection<E>> accumulator, final E element)
+			{
+				accumulator.add(element);
+				return accumulator;
+			}
+
+			@Override
+			public Builder<E, SharpCollection<E>> combine(final Builder<E, SharpCollection<E>> first,
+					final Builder<E, SharpCollection<E>> second)
+			{
+				for (final E ele : second.result())
+				{
+					first.add(ele);
+				}
+				return first;
+			}
+
+			@Override
+			public SharpCollection<E> result(final Builder<E, SharpCollection<E>> accumulator)
+			{
+				return accumulator.result();
+			}
+		};
+	}
+
 	@Override
 	public <B> SharpCollection<B> map(final Function1<? super T, B> function)
 	{
-		final Builder<B, SharpCollection<B>> colecaoRetorno = builder();
+		final Builder<B, SharpCollection<B>> colecaoRetorno = builder(knownSize());
 
 		for (final T ele : this)
 		{
@@ -641,68 +819,127 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 		return this.isEmpty() ? Option.<T>empty() : Option.from(max());
 	}
 	
+	/**
+	 * {@inheritDoc} <br/>
+	 * Equivale ao {@link #maxBy(Function1) maxBy}: a chave de cada elemento é calculada uma única vez.
+	 */
 	@Override
 	public <K extends Comparable<? super K>> T maxWith(final Function1<? super T, K> mapFunction)
 	{
-		return max(new Comparator<T>()
-		{
-			@Override
-			public int compare(final T ob1, final T ob2)
-			{
-				return mapFunction.apply(ob1).compareTo(mapFunction.apply(ob2));
-			}
-		});
+		return maxBy(mapFunction);
 	}
 	
+	/**
+	 * {@inheritDoc} <br/>
+	 * Equivale ao {@link #minBy(Function1) minBy}: a chave de cada elemento é calculada uma única vez.
+	 */
 	@Override
 	public <K extends Comparable<? super K>> T minWith(final Function1<? super T, K> mapFunction)
 	{
-		return min(new Comparator<T>()
-		{
-			@Override
-			public int compare(final T ob1, final T ob2)
-			{
-				return mapFunction.apply(ob1).compareTo(mapFunction.apply(ob2));
-			}
-		});
+		return minBy(mapFunction);
 	}
 
-	@SuppressWarnings(UNCHECKED)
 	@Override
-	public U intersect(final Iterable<T> withCollection)
+	public <K extends Comparable<? super K>> T maxBy(final Function1<? super T, K> keyFunction)
 	{
-		final Set<T> hashEle = new HashSet<T>();
-		
-		for (T ele : withCollection)
-		{
-			hashEle.add(ele);
-		}
+		ensureNotEmpty();
+		return Selection.maxBy(this, keyFunction);
+	}
 
-		final Builder<T, SharpCollection<T>> colecaoRetorno = builder();
+	@Override
+	public <K extends Comparable<? super K>> T minBy(final Function1<? super T, K> keyFunction)
+	{
+		ensureNotEmpty();
+		return Selection.minBy(this, keyFunction);
+	}
 
-		for (final T curEle : this)
-		{
-			if (hashEle.contains(curEle))
-			{
-				colecaoRetorno.add(curEle);
-			}
-		}
-		return (U) colecaoRetorno.result();
+	@SuppressWarnings({ UNCHECKED, "rawtypes" })
+	@Override
+	public Tuple2<T, T> minMax()
+	{
+		return minMax(new DefaultComparator());
+	}
+
+	@Override
+	public Tuple2<T, T> minMax(final Comparator<? super T> comparator)
+	{
+		ensureNotEmpty("minMax foi chamado para uma coleção vazia");
+		return Selection.minMax(this, comparator);
+	}
+
+	@SuppressWarnings({ UNCHECKED, "rawtypes" })
+	@Override
+	public IndexedSeq<T> topK(final int k)
+	{
+		return topK(k, new DefaultComparator());
+	}
+
+	@Override
+	public IndexedSeq<T> topK(final int k, final Comparator<? super T> comparator)
+	{
+		return Selection.topK(this, k, comparator);
+	}
+
+	@SuppressWarnings({ UNCHECKED, "rawtypes" })
+	@Override
+	public IndexedSeq<T> bottomK(final int k)
+	{
+		return bottomK(k, new DefaultComparator());
+	}
+
+	@Override
+	public IndexedSeq<T> bottomK(final int k, final Comparator<? super T> comparator)
+	{
+		return Selection.bottomK(this, k, comparator);
+	}
+
+	@Override
+	public IndexedSeq<T> parTopK(final int k, final Comparator<? super T> comparator)
+	{
+		return Selection.parTopK(this, k, comparator);
+	}
+
+	@Override
+	public U intersect(final Iterable<T> withCollection)
+	{
+		return buildFrom(SetAlgebra.intersect(this, withCollection));
 	}
 
-	@SuppressWarnings(UNCHECKED)
 	@Override
 	public U distinct()
+	{
+		return buildFrom(SetAlgebra.distinct(this));
+	}
+
+	@Override
+	public U distinctBy(final Function1<? super T, ?> keyFunction)
+	{
+		return buildFrom(SetAlgebra.distinctBy(this, keyFunction));
+	}
+
+	@Override
+	public U union(final Iterable<T> withCollection)
+	{
+		return buildFrom(SetAlgebra.union(this, withCollection));
+	}
+
+	@Override
+	public U diff(final Iterable<T> withCollection)
+	{
+		return buildFrom(SetAlgebra.diff(this, withCollection));
+	}
+
+	/**
+	 * Constrói uma coleção deste tipo com os elementos do iterator passado como parâmetro
+	 */
+	@SuppressWarnings(UNCHECKED)
+	private U buildFrom(final Iterator<T> elements)
 	{
 		final Builder<T, SharpCollection<T>> colecaoRetorno = builder();
-		int count = -1;
 
-		for (final T ele : this)
+		while (elements.hasNext())
 		{
-			if (!this.take(++count).contains(ele))
-			{
-				colecaoRetorno.add(ele);
-			}
+			colecaoRetorno.add(elements.next());
 		}
 		return (U) colecaoRetorno.result();
 	}
@@ -710,7 +947,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	@Override
 	public SharpCollection<Tuple2<T, Integer>> zipWithIndex()
 	{
-		final Builder<Tuple2<T, Integer>, SharpCollection<Tuple2<T, Integer>>> colecaoRetorno = builder();
+		final Builder<Tuple2<T, Integer>, SharpCollection<Tuple2<T, Integer>>> colecaoRetorno = builder(knownSize());
 		int curIndex = -1;
 
 		for (final T ele : this)
@@ -720,6 +957,152 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 		return colecaoRetorno.result();
 	}
 
+	@Override
+	public <B> SharpCollection<Tuple2<T, B>> zip(final Iterable<B> other)
+	{
+		return buildFromIterator(Zips.zip(this.iterator(), other.iterator()));
+	}
+
+	@Override
+	public <B> SharpCollection<Tuple2<T, B>> zipAll(final Iterable<B> other, final T thisElem, final B thatElem)
+	{
+		return buildFromIterator(Zips.zipAll(this.iterator(), other.iterator(), thisElem, thatElem));
+	}
+
+	@Override
+	public <A, B> Tuple2<? extends SharpCollection<A>, ? extends SharpCollection<B>> unzip(
+			final Function1<? super T, ? extends Tuple2<A, B>> asPair)
+	{
+		final Builder<A, SharpCollection<A>> firsts = builder(knownSize());
+		final Builder<B, SharpCollection<B>> seconds = builder(knownSize());
+
+		for (final T ele : this)
+		{
+			final Tuple2<A, B> pair = asPair.apply(ele);
+			firsts.add(pair.getVal1());
+			seconds.add(pair.getVal2());
+		}
+		return Tuple2.from(firsts.result(), seconds.result());
+	}
+
+	@Override
+	public <B, K> LazyList<Tuple2<T, B>> join(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey)
+	{
+		return Joins.join(this, other, thisKey, otherKey, Joins.UNLIMITED);
+	}
+
+	@Override
+	public <B, K> LazyList<Tuple2<T, B>> join(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory)
+	{
+		return Joins.join(this, other, thisKey, otherKey, maxInMemory);
+	}
+
+	@Override
+	public <B, K> LazyList<Tuple2<T, Option<B>>> leftJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey)
+	{
+		return Joins.leftJoin(this, other, thisKey, otherKey, Joins.UNLIMITED);
+	}
+
+	@Override
+	public <B, K> LazyList<Tuple2<T, Option<B>>> leftJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory)
+	{
+		return Joins.leftJoin(this, other, thisKey, otherKey, maxInMemory);
+	}
+
+	@Override
+	public <B, K> LazyList<T> semiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey)
+	{
+		return Joins.semiJoin(this, other, thisKey, otherKey, Joins.UNLIMITED);
+	}
+
+	@Override
+	public <B, K> LazyList<T> semiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory)
+	{
+		return Joins.semiJoin(this, other, thisKey, otherKey, maxInMemory);
+	}
+
+	@Override
+	public <B, K> LazyList<T> antiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey)
+	{
+		return Joins.antiJoin(this, other, thisKey, otherKey, Joins.UNLIMITED);
+	}
+
+	@Override
+	public <B, K> LazyList<T> antiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory)
+	{
+		return Joins.antiJoin(this, other, thisKey, otherKey, maxInMemory);
+	}
+
+	@Override
+	public <B, K> LazyList<Tuple2<T, B>> mergeJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final Comparator<? super K> comparator)
+	{
+		return Joins.mergeJoin(this, other, thisKey, otherKey, comparator);
+	}
+
+	@Override
+	public void foreachWithIndex(final IndexedFunction<? super T, ?> function)
+	{
+		int curIndex = 0;
+
+		for (final T ele : this)
+		{
+			function.apply(ele, curIndex++);
+		}
+	}
+
+	/**
+	 * Cria uma coleção, a partir do {@link #builder()}, com os elementos do iterator passado como parâmetro
+	 */
+	private <B> SharpCollection<B> buildFromIterator(final Iterator<B> ite)
+	{
+		final Builder<B, SharpCollection<B>> colecaoRetorno = builder();
+
+		while (ite.hasNext())
+		{
+			colecaoRetorno.add(ite.next());
+		}
+		return colecaoRetorno.result();
+	}
+
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * A implementação padrão é baseada no {@link #iterator()}: o tamanho é informado quando ele é conhecido (ver
+	 * {@link #knownSize()}), e a divisão é feita copiando lotes de elementos.
+	 */
+	@Override
+	public Spliterator<T> spliterator()
+	{
+		final int known = knownSize();
+
+		if (known < 0)
+		{
+			return Spliterators.spliteratorUnknownSize(this.iterator(), characteristics());
+		}
+		return Spliterators.spliterator(this.iterator(), known, characteristics());
+	}
+
+	@Override
+	public Stream<T> stream()
+	{
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	@Override
+	public Stream<T> parallelStream()
+	{
+		return StreamSupport.stream(spliterator(), true);
+	}
+
 	@Override
 	public List<T> toList()
 	{
@@ -729,10 +1112,11 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	@Override
 	public List<T> toList(final Builder<T, List<T>> builder)
 	{
-		for (final T ele : this)
+		if (knownSize() >= 0)
 		{
-			builder.add(ele);
+			AbstractBuilder.sizeHint(builder, knownSize());
 		}
+		AbstractBuilder.addAll(builder, this);
 		return builder.result();
 	}
 
@@ -745,14 +1129,74 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 	@Override
 	public Set<T> toSet(final Builder<T, Set<T>> builder)
 	{
-		for (final T ele : this)
+		if (knownSize() >= 0)
 		{
-			builder.add(ele);
+			AbstractBuilder.sizeHint(builder, knownSize());
 		}
-		
+		AbstractBuilder.addAll(builder, this);
 		return builder.result();
 	}
 
+	/**
+	 * Retorna o tamanho desta coleção, se ele puder ser obtido sem percorrê-la, ou -1 caso contrário. <br/>
+	 * O tamanho conhecido é usado como dica para os builders (ver {@link AbstractBuilder#sizeHint(int)}), e por padrão é
+	 * desconhecido. Coleções cujo {@link #size()} é constante devem sobrescrever este método.
+	 *
+	 * @return O tamanho desta coleção, ou -1 se ele não for conhecido
+	 */
+	protected int knownSize()
+	{
+		return -1;
+	}
+
+	/**
+	 * Retorna as características do {@link #spliterator()} desta coleção (ver as constantes de {@link Spliterator}). <br/>
+	 * Por padrão, a ordem do iterator é bem-definida (ORDERED). SIZED e SUBSIZED são acrescentadas pelo próprio spliterator,
+	 * de acordo com o {@link #knownSize()}.
+	 *
+	 * @return As características do spliterator desta coleção
+	 */
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED;
+	}
+
+	/**
+	 * Retorna um {@link #builder()} com espaço reservado para o número de elementos passado como parâmetro. <br/>
+	 * Valores negativos (tamanho desconhecido) são ignorados.
+	 *
+	 * @param expectedSize O número de elementos que serão adicionados no builder
+	 * @return Um builder para coleções deste tipo
+	 */
+	protected <B> Builder<B, SharpCollection<B>> builder(final int expectedSize)
+	{
+		final Builder<B, SharpCollection<B>> retorno = builder();
+
+		if (expectedSize >= 0)
+		{
+			AbstractBuilder.sizeHint(retorno, expectedSize);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna o número de elementos entre os num primeiros desta coleção, ou -1 se o tamanho não for conhecido
+	 */
+	private int knownSizeUntil(final int num)
+	{
+		final int known = knownSize();
+		return known < 0 ? -1 : Math.max(0, Math.min(num, known));
+	}
+
+	/**
+	 * Retorna o número de elementos depois dos num primeiros desta coleção, ou -1 se o tamanho não for conhecido
+	 */
+	private int knownSizeAfter(final int num)
+	{
+		final int known = knownSize();
+		return known < 0 ? -1 : known - Math.max(0, Math.min(num, known));
+	}
+
 	/**
 	 * Método protegido, para métodos que precisam assegurar que a lista contenha elementos
 	 */
@@ -791,7 +1235,7 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 		}
 	}
 	
-	private static class CollBuilder<E> implements Builder<E, Collection<E>>
+	private static class CollBuilder<E> extends AbstractBuilder<E, Collection<E>>
 	{
 		private final Collection<E> backingCollection;
 		
@@ -813,6 +1257,28 @@ public abstract class AbstractSharpCollection<T, U extends SharpCollection<T>> i
 			backingCollection.add(element);
 		}
 
+		@Override
+		public void addAll(final Iterable<? extends E> elements)
+		{
+			if (elements instanceof Collection<?>)
+			{
+				backingCollection.addAll((Collection<? extends E>) elements);
+			}
+			else
+			{
+				super.addAll(elements);
+			}
+		}
+
+		@Override
+		public void sizeHint(final int size)
+		{
+			if (backingCollection instanceof ArrayList<?>)
+			{
+				((ArrayList<E>) backingCollection).ensureCapacity(size);
+			}
+		}
+
 		@Override
 		public Collection<E> result()
 		{
@@ -0,0 +1,74 @@
+package com.github.detentor.codex.collections;
+
+/**
+ * Implementação base das versões transientes das coleções imutáveis (ex: {@link com.github.detentor.codex.collections.immutable.ListSharp#toTransient()
+ * ListSharp.toTransient()}). <br/>
+ * <br/>
+ *
+ * Um transiente é uma cópia mutável de uma coleção imutável, que altera a sua estrutura 'inplace' (sem criar uma nova
+ * coleção a cada alteração), e que é convertida de volta em uma coleção imutável pelo método {@link #persistent()
+ * persistent}, em O(1). Dessa forma, alterações em lote têm o mesmo custo das coleções mutáveis, e a coleção continua
+ * imutável para quem a recebe. <br/>
+ * <br/>
+ *
+ * Um transiente só pode ser alterado pela thread que o criou, e não pode mais ser utilizado depois de tornado persistente:
+ * nos dois casos, as operações lançam {@link IllegalStateException}. <br/>
+ * Como o transiente também é um {@link Builder}, o {@link #result() result} equivale ao {@link #persistent() persistent}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo de dados da coleção
+ * @param <P> O tipo da coleção imutável retornada pelo persistent
+ */
+public abstract class AbstractTransient<T, P extends SharpCollection<T>> extends AbstractBuilder<T, P>
+{
+	//A thread dona do transiente, ou null se ele já foi tornado persistente
+	private Thread owner = Thread.currentThread();
+
+	/**
+	 * Retorna a coleção imutável com os elementos deste transiente, que não poderá mais ser alterado. <br/>
+	 * Esta operação custa O(1), pois a estrutura do transiente passa a pertencer à coleção retornada.
+	 *
+	 * @return A coleção imutável com os elementos deste transiente
+	 * @throws IllegalStateException Se o transiente já foi tornado persistente, ou se a thread atual não é a dona dele
+	 */
+	public P persistent()
+	{
+		ensureEditable();
+		owner = null;
+		return freeze();
+	}
+
+	@Override
+	public P result()
+	{
+		return persistent();
+	}
+
+	/**
+	 * Retorna a coleção imutável com a estrutura atual deste transiente. <br/>
+	 * Este método só é chamado uma vez, pelo {@link #persistent() persistent}.
+	 *
+	 * @return A coleção imutável com os elementos deste transiente
+	 */
+	protected abstract P freeze();
+
+	/**
+	 * Verifica se este transiente ainda pode ser alterado pela thread atual. Deve ser chamado por todos os métodos que
+	 * acessam a estrutura do transiente.
+	 *
+	 * @throws IllegalStateException Se o transiente já foi tornado persistente, ou se a thread atual não é a dona dele
+	 */
+	protected void ensureEditable()
+	{
+		if (owner == null)
+		{
+			throw new IllegalStateException("O transiente não pode ser utilizado depois do persistent");
+		}
+
+		if (owner != Thread.currentThread())
+		{
+			throw new IllegalStateException("O transiente só pode ser utilizado pela thread que o criou");
+		}
+	}
+}
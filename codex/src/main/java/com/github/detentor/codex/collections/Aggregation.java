@@ -0,0 +1,240 @@
+package com.github.detentor.codex.collections;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Implementação comum das agregações por chave ({@link SharpCollection#groupBy(Function1) groupBy},
+ * {@link SharpCollection#aggregateBy(Function1, Aggregator) aggregateBy} e
+ * {@link SharpCollection#parAggregateBy(Function1, Aggregator) parAggregateBy}). <br/>
+ * <br/>
+ *
+ * Cada chave distinta recebe uma célula mutável com o acumulador do grupo. Para cada elemento é feita uma única consulta na
+ * tabela (a inserção só acontece na primeira ocorrência da chave), e o elemento é incorporado à célula pelo
+ * {@link Aggregator#accumulate(Object, Object) accumulate}, sem recriar a coleção do grupo nem reinserir o valor no mapa. <br/>
+ * <br/>
+ *
+ * Na versão paralela, cada tarefa agrega um intervalo contíguo dos elementos numa tabela própria, e as tabelas parciais são
+ * juntadas da esquerda para a direita com o {@link Aggregator#combine(Object, Object) combine}, de modo que o resultado é o
+ * mesmo da versão sequencial (inclusive a ordem das chaves num LINKED_HASH_MAP).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Aggregation
+{
+	/**
+	 * Número mínimo de elementos para que a agregação paralela seja, de fato, executada em paralelo
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	/**
+	 * Número de elementos a partir do qual um intervalo é dividido em duas tarefas
+	 */
+	private static final int SEQUENTIAL_CHUNK = 1 << 12;
+
+	private Aggregation()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Agrega os elementos do iterable por chave, com o agregador passado como parâmetro.
+	 *
+	 * @param source Os elementos a serem agregados
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param aggregator O agregador que reduz os elementos de cada chave
+	 * @param mapType O tipo de mapa a ser retornado
+	 * @return Um mapa onde a chave é o resultado da função, e o valor o resultado da agregação dos elementos daquela chave
+	 */
+	public static <T, K, A, R> MapSharp<K, R> aggregate(final Iterable<T> source, final Function1<? super T, K> keyFunction,
+			final Aggregator<? super T, A, R> aggregator, final MapSharpType mapType)
+	{
+		final Map<K, Cell<A>> cells = newTable(mapType, SetAlgebra.knownSize(source));
+
+		for (final T ele : source)
+		{
+			accumulate(cells, keyFunction.apply(ele), ele, aggregator);
+		}
+		return toMapSharp(cells, aggregator, mapType);
+	}
+
+	/**
+	 * Agrega os elementos da coleção por chave, em paralelo, com o agregador passado como parâmetro. <br/>
+	 * Sequências indexadas são divididas pelos índices; as demais coleções são copiadas para uma lista antes da divisão.
+	 * Coleções pequenas são agregadas na própria thread. <br/>
+	 * A função de chave e o agregador serão chamados por várias threads, portanto não devem ter efeitos colaterais.
+	 *
+	 * @param source Os elementos a serem agregados
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param aggregator O agregador que reduz os elementos de cada chave
+	 * @param mapType O tipo de mapa a ser retornado
+	 * @return Um mapa onde a chave é o resultado da função, e o valor o resultado da agregação dos elementos daquela chave
+	 */
+	public static <T, K, A, R> MapSharp<K, R> aggregateParallel(final SharpCollection<T> source,
+			final Function1<? super T, K> keyFunction, final Aggregator<? super T, A, R> aggregator, final MapSharpType mapType)
+	{
+		final int size = source.size();
+
+		if (size < PARALLEL_THRESHOLD)
+		{
+			return aggregate(source, keyFunction, aggregator, mapType);
+		}
+
+		IndexedSeq<T> seq = null;
+		List<T> list = null;
+
+		if (source instanceof IndexedSeq<?>)
+		{
+			seq = (IndexedSeq<T>) source;
+		}
+		else
+		{
+			list = new ArrayList<T>(size);
+
+			for (final T ele : source)
+			{
+				list.add(ele);
+			}
+		}
+
+		final Map<K, Cell<A>> cells = ForkJoinPool.commonPool().invoke(
+				new AggregateTask<T, K, A>(seq, list, keyFunction, aggregator, mapType, 0, size));
+		return toMapSharp(cells, aggregator, mapType);
+	}
+
+	/**
+	 * Incorpora o elemento na célula da chave, criando-a se a chave ainda não existir
+	 */
+	private static <T, K, A> void accumulate(final Map<K, Cell<A>> cells, final K key, final T element,
+			final Aggregator<? super T, A, ?> aggregator)
+	{
+		Cell<A> cell = cells.get(key);
+
+		if (cell == null)
+		{
+			cell = new Cell<A>(aggregator.create());
+			cells.put(key, cell);
+		}
+		cell.value = aggregator.accumulate(cell.value, element);
+	}
+
+	/**
+	 * Cria a tabela de células. A ordem só precisa ser mantida para o LINKED_HASH_MAP (o TREE_MAP é ordenado no final).
+	 */
+	private static <K, A> Map<K, Cell<A>> newTable(final MapSharpType mapType, final int expectedSize)
+	{
+		//O número de chaves não é conhecido, mas é limitado pelo número de elementos
+		final int capacity = expectedSize < 0 ? 16 : SetAlgebra.hashCapacity(Math.min(expectedSize, 1 << 10));
+
+		if (mapType == MapSharpType.LINKED_HASH_MAP)
+		{
+			return new LinkedHashMap<K, Cell<A>>(capacity);
+		}
+		return new HashMap<K, Cell<A>>(capacity);
+	}
+
+	private static <K, A, R> MapSharp<K, R> toMapSharp(final Map<K, Cell<A>> cells, final Aggregator<?, A, R> aggregator,
+			final MapSharpType mapType)
+	{
+		final MapSharp<K, R> retorno = MapSharp.empty(mapType);
+
+		for (final Entry<K, Cell<A>> ele : cells.entrySet())
+		{
+			retorno.add(ele.getKey(), aggregator.result(ele.getValue().value));
+		}
+		return retorno;
+	}
+
+	/**
+	 * Célula mutável que guarda o acumulador de uma chave
+	 */
+	private static final class Cell<A>
+	{
+		private A value;
+
+		protected Cell(final A theValue)
+		{
+			super();
+			value = theValue;
+		}
+	}
+
+	/**
+	 * Tarefa que agrega um intervalo de elementos numa tabela própria. <br/>
+	 * Intervalos grandes são divididos em duas tarefas, cujas tabelas são juntadas na tabela da esquerda.
+	 */
+	private static final class AggregateTask<T, K, A> extends RecursiveTask<Map<K, Cell<A>>>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final IndexedSeq<T> seq;
+		private final List<T> list;
+		private final Function1<? super T, K> keyFunction;
+		private final Aggregator<? super T, A, ?> aggregator;
+		private final MapSharpType mapType;
+		private final int from;
+		private final int until;
+
+		protected AggregateTask(final IndexedSeq<T> theSeq, final List<T> theList, final Function1<? super T, K> theKeyFunction,
+				final Aggregator<? super T, A, ?> theAggregator, final MapSharpType theMapType, final int theFrom, final int theUntil)
+		{
+			super();
+			seq = theSeq;
+			list = theList;
+			keyFunction = theKeyFunction;
+			aggregator = theAggregator;
+			mapType = theMapType;
+			from = theFrom;
+			until = theUntil;
+		}
+
+		@Override
+		protected Map<K, Cell<A>> compute()
+		{
+			if (until - from <= SEQUENTIAL_CHUNK)
+			{
+				final Map<K, Cell<A>> cells = newTable(mapType, until - from);
+
+				for (int i = from; i < until; i++)
+				{
+					final T ele = seq == null ? list.get(i) : seq.apply(i);
+					accumulate(cells, keyFunction.apply(ele), ele, aggregator);
+				}
+				return cells;
+			}
+
+			final int middle = (from + until) >>> 1;
+			final AggregateTask<T, K, A> left = new AggregateTask<T, K, A>(seq, list, keyFunction, aggregator, mapType, from, middle);
+			left.fork();
+			final Map<K, Cell<A>> right = new AggregateTask<T, K, A>(seq, list, keyFunction, aggregator, mapType, middle, until)
+					.compute();
+			final Map<K, Cell<A>> retorno = left.join();
+
+			for (final Entry<K, Cell<A>> ele : right.entrySet())
+			{
+				final Cell<A> cell = retorno.get(ele.getKey());
+
+				if (cell == null)
+				{
+					retorno.put(ele.getKey(), ele.getValue());
+				}
+				else
+				{
+					cell.value = aggregator.combine(cell.value, ele.getValue().value);
+				}
+			}
+			return retorno;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.github.detentor.codex.collections;
+
+/**
+ * Um Aggregator determina como os elementos de um grupo são reduzidos a um único valor, sem que o grupo precise ser
+ * materializado numa coleção. <br/>
+ * <br/>
+ *
+ * Cada grupo possui um acumulador, criado por {@link #create()} na primeira vez em que a chave é encontrada. Os elementos são
+ * incorporados ao acumulador, um a um, por {@link #accumulate(Object, Object)}, e o valor final do grupo é extraído por
+ * {@link #result(Object)}. O acumulador pode ser mutável (um <tt>long[]</tt>, por exemplo): nesse caso o accumulate o altera e
+ * retorna a própria instância, sem alocar nada por elemento. <br/>
+ * <br/>
+ *
+ * O {@link #combine(Object, Object)} é utilizado pelas agregações paralelas, para juntar os acumuladores parciais de uma
+ * mesma chave. O primeiro acumulador sempre contém elementos anteriores (na ordem da coleção) aos do segundo. <br/>
+ * <br/>
+ *
+ * Os agregadores mais comuns são providos por {@link Aggregators}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo dos elementos a serem agregados
+ * @param <A> O tipo do acumulador
+ * @param <R> O tipo do resultado da agregação
+ */
+public interface Aggregator<T, A, R>
+{
+	/**
+	 * Cria um novo acumulador, que ainda não contém nenhum elemento.
+	 *
+	 * @return Um acumulador vazio
+	 */
+	A create();
+
+	/**
+	 * Incorpora o elemento passado como parâmetro ao acumulador.
+	 *
+	 * @param accumulator O acumulador do grupo
+	 * @param element O elemento a ser incorporado
+	 * @return O acumulador com o elemento incorporado (que pode ser a própria instância recebida)
+	 */
+	A accumulate(final A accumulator, final T element);
+
+	/**
+	 * Junta dois acumuladores parciais de um mesmo grupo.
+	 *
+	 * @param first O acumulador com os elementos anteriores
+	 * @param second O acumulador com os elementos posteriores
+	 * @return O acumulador com os elementos dos dois acumuladores (que pode ser uma das instâncias recebidas)
+	 */
+	A combine(final A first, final A second);
+
+	/**
+	 * Extrai o resultado da agregação a partir do acumulador.
+	 *
+	 * @param accumulator O acumulador do grupo
+	 * @return O resultado da agregação do grupo
+	 */
+	R result(final A accumulator);
+}
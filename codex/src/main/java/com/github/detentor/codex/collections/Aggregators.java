@@ -0,0 +1,332 @@
+package com.github.detentor.codex.collections;
+
+import java.util.Comparator;
+
+import com.github.detentor.codex.alg.Monoid;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Essa classe provê os {@link Aggregator agregadores} mais comuns. <br/>
+ * <br/>
+ *
+ * Os agregadores numéricos (contagem e somas) acumulam em arrays de primitivos, portanto não alocam nada por elemento além
+ * do que a própria função de extração alocar. Os demais guardam o valor corrente num único objeto mutável por grupo.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Aggregators
+{
+	private Aggregators()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna um agregador que conta o número de elementos de cada grupo.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @return Um agregador que retorna o número de elementos do grupo
+	 */
+	public static <T> Aggregator<T, ?, Long> count()
+	{
+		return new LongAggregator<T>()
+		{
+			@Override
+			public long[] accumulate(final long[] accumulator, final T element)
+			{
+				accumulator[0]++;
+				return accumulator;
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que soma, como long, os valores extraídos de cada elemento do grupo.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @param function A função que extrai o valor de cada elemento
+	 * @return Um agregador que retorna a soma dos valores do grupo
+	 */
+	public static <T> Aggregator<T, ?, Long> sumLong(final Function1<? super T, ? extends Number> function)
+	{
+		return new LongAggregator<T>()
+		{
+			@Override
+			public long[] accumulate(final long[] accumulator, final T element)
+			{
+				accumulator[0] += function.apply(element).longValue();
+				return accumulator;
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que soma, como double, os valores extraídos de cada elemento do grupo.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @param function A função que extrai o valor de cada elemento
+	 * @return Um agregador que retorna a soma dos valores do grupo
+	 */
+	public static <T> Aggregator<T, ?, Double> sumDouble(final Function1<? super T, ? extends Number> function)
+	{
+		return new Aggregator<T, double[], Double>()
+		{
+			@Override
+			public double[] create()
+			{
+				return new double[1];
+			}
+
+			@Override
+			public double[] accumulate(final double[] accumulator, final T element)
+			{
+				accumulator[0] += function.apply(element).doubleValue();
+				return accumulator;
+			}
+
+			@Override
+			public double[] combine(final double[] first, final double[] second)
+			{
+				first[0] += second[0];
+				return first;
+			}
+
+			@Override
+			public Double result(final double[] accumulator)
+			{
+				return accumulator[0];
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que seleciona o menor elemento de cada grupo, de acordo com o comparador passado como parâmetro.
+	 * <br/>
+	 * Se houver empate, o primeiro elemento (na ordem da coleção) é retornado.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @param comparator O comparador a ser utilizado para comparar os elementos
+	 * @return Um agregador que retorna o menor elemento do grupo
+	 */
+	public static <T> Aggregator<T, ?, T> min(final Comparator<? super T> comparator)
+	{
+		return new SelectAggregator<T>()
+		{
+			@Override
+			protected boolean replaces(final T current, final T candidate)
+			{
+				return comparator.compare(candidate, current) < 0;
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que seleciona o maior elemento de cada grupo, de acordo com o comparador passado como parâmetro.
+	 * <br/>
+	 * Se houver empate, o primeiro elemento (na ordem da coleção) é retornado.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @param comparator O comparador a ser utilizado para comparar os elementos
+	 * @return Um agregador que retorna o maior elemento do grupo
+	 */
+	public static <T> Aggregator<T, ?, T> max(final Comparator<? super T> comparator)
+	{
+		return new SelectAggregator<T>()
+		{
+			@Override
+			protected boolean replaces(final T current, final T candidate)
+			{
+				return comparator.compare(candidate, current) > 0;
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que seleciona o menor elemento de cada grupo, de acordo com a ordem natural dos elementos.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @return Um agregador que retorna o menor elemento do grupo
+	 */
+	public static <T extends Comparable<? super T>> Aggregator<T, ?, T> min()
+	{
+		return min(Aggregators.<T> naturalOrder());
+	}
+
+	/**
+	 * Retorna um agregador que seleciona o maior elemento de cada grupo, de acordo com a ordem natural dos elementos.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @return Um agregador que retorna o maior elemento do grupo
+	 */
+	public static <T extends Comparable<? super T>> Aggregator<T, ?, T> max()
+	{
+		return max(Aggregators.<T> naturalOrder());
+	}
+
+	/**
+	 * Retorna um agregador que seleciona o primeiro elemento (na ordem da coleção) de cada grupo.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @return Um agregador que retorna o primeiro elemento do grupo
+	 */
+	public static <T> Aggregator<T, ?, T> first()
+	{
+		return new SelectAggregator<T>()
+		{
+			@Override
+			protected boolean replaces(final T current, final T candidate)
+			{
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que seleciona o último elemento (na ordem da coleção) de cada grupo.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @return Um agregador que retorna o último elemento do grupo
+	 */
+	public static <T> Aggregator<T, ?, T> last()
+	{
+		return new SelectAggregator<T>()
+		{
+			@Override
+			protected boolean replaces(final T current, final T candidate)
+			{
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Retorna um agregador que transforma cada elemento do grupo com a função passada como parâmetro, e combina os resultados
+	 * com o monóide. Grupos são sempre não-vazios, mas a identidade do monóide é o valor inicial de cada acumulador.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @param <B> O tipo de retorno da função, e dos elementos do monóide
+	 * @param function A função que transforma cada elemento
+	 * @param monoid O monóide que combina os resultados da função
+	 * @return Um agregador que retorna a combinação dos resultados da função para os elementos do grupo
+	 */
+	public static <T, B> Aggregator<T, ?, B> fromMonoid(final Function1<? super T, B> function, final Monoid<B> monoid)
+	{
+		return new Aggregator<T, Holder<B>, B>()
+		{
+			@Override
+			public Holder<B> create()
+			{
+				final Holder<B> retorno = new Holder<B>();
+				retorno.value = monoid.empty();
+				return retorno;
+			}
+
+			@Override
+			public Holder<B> accumulate(final Holder<B> accumulator, final T element)
+			{
+				accumulator.value = monoid.append(accumulator.value, function.apply(element));
+				return accumulator;
+			}
+
+			@Override
+			public Holder<B> combine(final Holder<B> first, final Holder<B> second)
+			{
+				first.value = monoid.append(first.value, second.value);
+				return first;
+			}
+
+			@Override
+			public B result(final Holder<B> accumulator)
+			{
+				return accumulator.value;
+			}
+		};
+	}
+
+	private static <T extends Comparable<? super T>> Comparator<T> naturalOrder()
+	{
+		return new Comparator<T>()
+		{
+			@Override
+			public int compare(final T first, final T second)
+			{
+				return first.compareTo(second);
+			}
+		};
+	}
+
+	/**
+	 * Acumulador mutável de um único valor
+	 */
+	private static final class Holder<V>
+	{
+		private V value;
+		private boolean defined;
+	}
+
+	/**
+	 * Agregador cujo acumulador é um único long
+	 */
+	private abstract static class LongAggregator<T> implements Aggregator<T, long[], Long>
+	{
+		@Override
+		public long[] create()
+		{
+			return new long[1];
+		}
+
+		@Override
+		public long[] combine(final long[] first, final long[] second)
+		{
+			first[0] += second[0];
+			return first;
+		}
+
+		@Override
+		public Long result(final long[] accumulator)
+		{
+			return accumulator[0];
+		}
+	}
+
+	/**
+	 * Agregador que seleciona um dos elementos do grupo
+	 */
+	private abstract static class SelectAggregator<T> implements Aggregator<T, Holder<T>, T>
+	{
+		/**
+		 * Retorna se o candidato (posterior na ordem da coleção) deve substituir o elemento corrente
+		 */
+		protected abstract boolean replaces(final T current, final T candidate);
+
+		@Override
+		public Holder<T> create()
+		{
+			return new Holder<T>();
+		}
+
+		@Override
+		public Holder<T> accumulate(final Holder<T> accumulator, final T element)
+		{
+			if (!accumulator.defined || replaces(accumulator.value, element))
+			{
+				accumulator.value = element;
+				accumulator.defined = true;
+			}
+			return accumulator;
+		}
+
+		@Override
+		public Holder<T> combine(final Holder<T> first, final Holder<T> second)
+		{
+			return second.defined ? accumulate(first, second.value) : first;
+		}
+
+		@Override
+		public T result(final Holder<T> accumulator)
+		{
+			return accumulator.value;
+		}
+	}
+}
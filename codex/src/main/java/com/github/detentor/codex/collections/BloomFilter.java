@@ -0,0 +1,220 @@
+package com.github.detentor.codex.collections;
+
+import java.io.Serializable;
+
+/**
+ * Filtro de Bloom: estrutura probabilística que responde se um elemento <b>pode</b> pertencer a um conjunto. <br/>
+ * <br/>
+ *
+ * Se {@link #mightContain(Object)} retornar false, o elemento certamente não foi adicionado ao filtro (não existem falsos
+ * negativos). Se retornar true, o elemento foi adicionado com probabilidade de erro próxima da taxa de falsos positivos
+ * informada na criação do filtro. <br/>
+ * <br/>
+ *
+ * Os índices são derivados do hashcode dos elementos (misturado, para não depender da qualidade do hashcode), portanto o
+ * filtro é consistente com o equals e o hashcode dos elementos. <br/>
+ * <br/>
+ *
+ * Essa classe não é thread-safe durante a construção; depois que todos os elementos forem adicionados, ela pode ser
+ * consultada por várias threads.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo dos elementos do filtro
+ */
+public final class BloomFilter<T> implements Serializable
+{
+	private static final long serialVersionUID = 1L;
+
+	private final long[] bits;
+	private final int numBits;
+	private final int numHashFunctions;
+	private final int expectedSize;
+	private final double falsePositiveRate;
+	private int numElements;
+
+	/**
+	 * Construtor privado. Instâncias devem ser criadas com o 'from' ou o 'empty'
+	 */
+	private BloomFilter(final int theExpectedSize, final double theFalsePositiveRate)
+	{
+		if (!(theFalsePositiveRate > 0 && theFalsePositiveRate < 1))
+		{
+			throw new IllegalArgumentException("falsePositiveRate deve estar entre 0 e 1 (exclusive)");
+		}
+
+		expectedSize = Math.max(1, theExpectedSize);
+		falsePositiveRate = theFalsePositiveRate;
+
+		//Número ótimo de bits e de funções de hash, para o número de elementos e a taxa de erro desejados
+		final double ln2 = Math.log(2);
+		final long optimalBits = (long) Math.ceil(-expectedSize * Math.log(falsePositiveRate) / (ln2 * ln2));
+		numBits = (int) Math.min(Math.max(optimalBits, Long.SIZE), Integer.MAX_VALUE - Long.SIZE);
+		numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedSize * ln2));
+		bits = new long[(numBits + Long.SIZE - 1) / Long.SIZE];
+	}
+
+	/**
+	 * Cria um filtro vazio, dimensionado para o número de elementos e a taxa de falsos positivos passados como parâmetro.
+	 *
+	 * @param <T> O tipo dos elementos do filtro
+	 * @param expectedSize O número de elementos que se espera adicionar
+	 * @param falsePositiveRate A taxa de falsos positivos desejada, quando o número de elementos esperado for atingido
+	 * @return Um filtro de Bloom vazio
+	 * @throws IllegalArgumentException Se a taxa de falsos positivos não estiver entre 0 e 1 (exclusive)
+	 */
+	public static <T> BloomFilter<T> empty(final int expectedSize, final double falsePositiveRate)
+	{
+		return new BloomFilter<T>(expectedSize, falsePositiveRate);
+	}
+
+	/**
+	 * Cria um filtro com todos os elementos da coleção passada como parâmetro.
+	 *
+	 * @param <T> O tipo dos elementos do filtro
+	 * @param collection A coleção cujos elementos serão adicionados no filtro
+	 * @param falsePositiveRate A taxa de falsos positivos desejada
+	 * @return Um filtro de Bloom com os elementos da coleção
+	 * @throws IllegalArgumentException Se a taxa de falsos positivos não estiver entre 0 e 1 (exclusive)
+	 */
+	public static <T> BloomFilter<T> from(final SharpCollection<? extends T> collection, final double falsePositiveRate)
+	{
+		final BloomFilter<T> retorno = new BloomFilter<T>(collection.size(), falsePositiveRate);
+
+		for (final T ele : collection)
+		{
+			retorno.add(ele);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Adiciona o elemento passado como parâmetro no filtro.
+	 *
+	 * @param element O elemento a ser adicionado
+	 * @return Este filtro
+	 */
+	public BloomFilter<T> add(final T element)
+	{
+		final long hash = mix(element);
+		final int hash1 = (int) hash;
+		final int hash2 = (int) (hash >>> 32) | 1;
+
+		for (int i = 0; i < numHashFunctions; i++)
+		{
+			final int index = ((hash1 + i * hash2) & Integer.MAX_VALUE) % numBits;
+			bits[index >>> 6] |= 1L << index;
+		}
+		numElements++;
+		return this;
+	}
+
+	/**
+	 * Retorna se o elemento passado como parâmetro pode ter sido adicionado a este filtro.
+	 *
+	 * @param element O elemento a ser verificado
+	 * @return false se o elemento certamente não foi adicionado ao filtro, ou true se ele provavelmente foi adicionado
+	 */
+	public boolean mightContain(final Object element)
+	{
+		final long hash = mix(element);
+		final int hash1 = (int) hash;
+		final int hash2 = (int) (hash >>> 32) | 1;
+
+		for (int i = 0; i < numHashFunctions; i++)
+		{
+			final int index = ((hash1 + i * hash2) & Integer.MAX_VALUE) % numBits;
+
+			if ((bits[index >>> 6] & (1L << index)) == 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retorna o número de elementos adicionados neste filtro.
+	 *
+	 * @return O número de elementos adicionados (incluindo repetições)
+	 */
+	public int size()
+	{
+		return numElements;
+	}
+
+	/**
+	 * Retorna o número de bits utilizados por este filtro.
+	 *
+	 * @return O número de bits do filtro
+	 */
+	public int bitSize()
+	{
+		return numBits;
+	}
+
+	/**
+	 * Retorna o número de funções de hash utilizadas por este filtro.
+	 *
+	 * @return O número de funções de hash
+	 */
+	public int numHashFunctions()
+	{
+		return numHashFunctions;
+	}
+
+	/**
+	 * Retorna a memória, em bytes, ocupada pela tabela de bits deste filtro.
+	 *
+	 * @return O tamanho da tabela de bits, em bytes
+	 */
+	public long memoryInBytes()
+	{
+		return (long) bits.length * (Long.SIZE / Byte.SIZE);
+	}
+
+	/**
+	 * Retorna a taxa de falsos positivos esperada para o número de elementos atualmente no filtro. <br/>
+	 * Se mais elementos do que o esperado forem adicionados, essa taxa será maior do que a informada na criação.
+	 *
+	 * @return A probabilidade estimada de {@link #mightContain(Object)} retornar true para um elemento não adicionado
+	 */
+	public double expectedFalsePositiveRate()
+	{
+		return Math.pow(1 - Math.exp(-(double) numHashFunctions * numElements / numBits), numHashFunctions);
+	}
+
+	/**
+	 * Retorna um relatório de memória deste filtro, para auxiliar no seu dimensionamento.
+	 *
+	 * @return Uma String com o número de elementos, de bits, de funções de hash, a memória utilizada e as taxas de falsos
+	 *         positivos configurada e esperada
+	 */
+	public String memoryReport()
+	{
+		return String.format("BloomFilter(elementos: %d/%d, bits: %d, hashes: %d, memória: %d bytes (%.2f bits/elemento), "
+				+ "falsos positivos: %.4f%% configurado, %.4f%% esperado)", numElements, expectedSize, numBits, numHashFunctions,
+				memoryInBytes(), (double) numBits / Math.max(1, numElements), falsePositiveRate * 100, expectedFalsePositiveRate() * 100);
+	}
+
+	@Override
+	public String toString()
+	{
+		return memoryReport();
+	}
+
+	/**
+	 * Mistura o hashcode do elemento em 64 bits (finalizador do MurmurHash3), de onde são extraídos os dois hashes base
+	 */
+	private static long mix(final Object element)
+	{
+		//A constante evita que o hashcode 0 (inclusive o do null) seja um ponto fixo da mistura
+		long hash = (element == null ? 0 : element.hashCode()) + 0x9e3779b97f4a7c15L;
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -10,7 +10,9 @@ package com.github.detentor.codex.collections;
  * a ordem de inclusão dos elementos. <br/><br/>
  * 
  * Se coleções forem vistas como mônades, builders são o 'unit' ou 'return': eles fornecem uma interface comum
- * para a criação destas mônades. 
+ * para a criação destas mônades. <br/><br/>
+ * 
+ * Para implementar um builder, veja {@link AbstractBuilder}.
  * 
  * @param <From> O tipo de elementos que serão alimentados no builder
  * @param <To> O tipo de coleção a ser retornada pelo builder
@@ -22,7 +24,7 @@ public interface Builder<From, To extends Iterable<From>>
 	 * @param element O elemento a ser adicionado no builder
 	 */
 	void add(final From element);
-	
+
 	/**
 	 * Retorna a coleção criada pelo Builder.
 	 * @return A coleção criada pelo Builder
@@ -4,6 +4,7 @@ import java.util.Comparator;
 
 import com.github.detentor.codex.cat.monads.Option;
 import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
 
 /**
  * As classes que assinam esta interface possuem diversas funções que utilizam comparação. <br/>
@@ -87,4 +88,93 @@ public interface ComparisonFunctions<T>
 	 */
 	<K extends Comparable<? super K>> T minWith(final Function1<? super T, K> mapFunction);
 
+	/**
+	 * Retorna o valor máximo, a partir da função de mapeamento que seja comparável. <br/>
+	 * Diferente de uma comparação com o {@link #max(Comparator) max}, a chave de cada elemento é calculada uma única vez,
+	 * o que é importante quando a função de mapeamento é cara. <br/>
+	 * Havendo mais de um elemento com a maior chave, o primeiro deles é retornado. 
+	 * @param keyFunction A função de mapeamento que retorna o tipo a ser utilizado para prover a comparação.
+	 * @return O elemento com a maior chave
+	 * @throws IllegalArgumentException Caso a coleção esteja vazia
+	 */
+	<K extends Comparable<? super K>> T maxBy(final Function1<? super T, K> keyFunction);
+
+	/**
+	 * Retorna o valor mínimo, a partir da função de mapeamento que seja comparável. <br/>
+	 * Diferente de uma comparação com o {@link #min(Comparator) min}, a chave de cada elemento é calculada uma única vez. <br/>
+	 * Havendo mais de um elemento com a menor chave, o primeiro deles é retornado. 
+	 * @param keyFunction A função de mapeamento que retorna o tipo a ser utilizado para prover a comparação.
+	 * @return O elemento com a menor chave
+	 * @throws IllegalArgumentException Caso a coleção esteja vazia
+	 */
+	<K extends Comparable<? super K>> T minBy(final Function1<? super T, K> keyFunction);
+
+	/**
+	 * Retorna o valor mínimo e o valor máximo desta coleção numa única passada, desde que os elementos assinem a interface
+	 * Comparable.
+	 * @return Uma tupla com o menor e o maior elemento
+	 * @throws IllegalArgumentException Caso a coleção esteja vazia
+	 * @throws ClassCastException Caso os elementos desta classe não sejam do tipo Comparable
+	 */
+	Tuple2<T, T> minMax();
+
+	/**
+	 * Retorna o valor mínimo e o valor máximo desta coleção, a partir da função de comparação, numa única passada.
+	 * @param comparator A função de comparação entre os elementos.
+	 * @return Uma tupla com o menor e o maior elemento
+	 * @throws IllegalArgumentException Caso a coleção esteja vazia
+	 */
+	Tuple2<T, T> minMax(final Comparator<? super T> comparator);
+
+	/**
+	 * Retorna os k maiores elementos desta coleção, do maior para o menor, desde que os elementos assinem a interface
+	 * Comparable. <br/>
+	 * Equivale a <tt>sorted().reverse().take(k)</tt>, mas sem ordenar a coleção: custa O(n log k), e ocupa memória O(k).
+	 * @param k O número de elementos a serem retornados
+	 * @return Uma sequência com os k maiores elementos (ou todos, se houver menos do que k)
+	 * @throws IllegalArgumentException Caso k seja negativo
+	 * @throws ClassCastException Caso os elementos desta classe não sejam do tipo Comparable
+	 */
+	IndexedSeq<T> topK(final int k);
+
+	/**
+	 * Retorna os k maiores elementos desta coleção, de acordo com a função de comparação, do maior para o menor. <br/>
+	 * Custa O(n log k), e ocupa memória O(k).
+	 * @param k O número de elementos a serem retornados
+	 * @param comparator A função de comparação entre os elementos.
+	 * @return Uma sequência com os k maiores elementos (ou todos, se houver menos do que k)
+	 * @throws IllegalArgumentException Caso k seja negativo
+	 */
+	IndexedSeq<T> topK(final int k, final Comparator<? super T> comparator);
+
+	/**
+	 * Retorna os k menores elementos desta coleção, do menor para o maior, desde que os elementos assinem a interface
+	 * Comparable. <br/>
+	 * Equivale a <tt>sorted().take(k)</tt>, mas sem ordenar a coleção: custa O(n log k), e ocupa memória O(k).
+	 * @param k O número de elementos a serem retornados
+	 * @return Uma sequência com os k menores elementos (ou todos, se houver menos do que k)
+	 * @throws IllegalArgumentException Caso k seja negativo
+	 * @throws ClassCastException Caso os elementos desta classe não sejam do tipo Comparable
+	 */
+	IndexedSeq<T> bottomK(final int k);
+
+	/**
+	 * Retorna os k menores elementos desta coleção, de acordo com a função de comparação, do menor para o maior. <br/>
+	 * Custa O(n log k), e ocupa memória O(k).
+	 * @param k O número de elementos a serem retornados
+	 * @param comparator A função de comparação entre os elementos.
+	 * @return Uma sequência com os k menores elementos (ou todos, se houver menos do que k)
+	 * @throws IllegalArgumentException Caso k seja negativo
+	 */
+	IndexedSeq<T> bottomK(final int k, final Comparator<? super T> comparator);
+
+	/**
+	 * Retorna os k maiores elementos desta coleção, como o {@link #topK(int, Comparator) topK}, dividindo a coleção entre
+	 * várias threads: cada parte calcula os seus k maiores elementos, e os resultados são combinados no final.
+	 * @param k O número de elementos a serem retornados
+	 * @param comparator A função de comparação entre os elementos.
+	 * @return Uma sequência com os k maiores elementos (ou todos, se houver menos do que k)
+	 * @throws IllegalArgumentException Caso k seja negativo
+	 */
+	IndexedSeq<T> parTopK(final int k, final Comparator<? super T> comparator);
 }
@@ -1,8 +1,12 @@
 package com.github.detentor.codex.collections;
 
+import com.github.detentor.codex.alg.Monoid;
+import com.github.detentor.codex.alg.Semigroup;
 import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.mutable.MapSharp;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.Function2;
+import com.github.detentor.codex.function.IndexedFunction;
 import com.github.detentor.codex.function.PartialFunction1;
 import com.github.detentor.codex.product.Tuple2;
 
@@ -107,7 +111,103 @@ public interface HighOrderFunctions<T>
 	 * @return Um valor B, a partir da aplicação da função passada como parâmetro em cada elemento.
 	 */
 	<B> B foldLeft(final B startValue, final Function2<B, ? super T, B> function);
+
+	/**
+	 * Executa a função passada como parâmetro para cada elemento desta coleção, na ordem do iterator, junto com o índice do
+	 * elemento. <br/>
+	 * Ao contrário de <tt>zipWithIndex()</tt>, não cria uma tupla nem um Integer por elemento, e não materializa coleção
+	 * alguma. O valor retornado pela função é descartado.
+	 * @param function A função a ser executada para cada elemento e o seu índice
+	 */
+	void foreachWithIndex(final IndexedFunction<? super T, ?> function);
+	
+	/**
+	 * Combina todos os elementos desta coleção, na ordem do iterator, utilizando o monóide passado como parâmetro. <br/>
+	 * Como a operação do monóide é associativa, a combinação é feita em árvore balanceada, e sequências indexadas grandes
+	 * a executam em paralelo. Por isso, a operação do monóide não deve ter efeitos colaterais. <br/>
+	 * Se a coleção estiver vazia, retorna a identidade do monóide.
+	 * @param monoid O monóide que será utilizado para combinar os elementos
+	 * @return O resultado da combinação de todos os elementos desta coleção
+	 */
+	T fold(final Monoid<T> monoid);
 	
+	/**
+	 * Transforma cada elemento desta coleção com a função passada como parâmetro, e combina os resultados, na ordem do iterator,
+	 * utilizando o monóide passado como parâmetro. <br/>
+	 * Equivale a <tt>map(function).fold(monoid)</tt>, mas sem construir a coleção intermediária. <br/>
+	 * Se a coleção estiver vazia, retorna a identidade do monóide.
+	 * @param <B> O tipo de retorno da função, e dos elementos do monóide
+	 * @param function A função que transforma cada elemento desta coleção
+	 * @param monoid O monóide que será utilizado para combinar os resultados da função
+	 * @return O resultado da combinação dos resultados da função
+	 */
+	<B> B foldMap(final Function1<? super T, B> function, final Monoid<B> monoid);
+	
+	/**
+	 * Combina todos os elementos desta coleção, na ordem do iterator, utilizando o semigrupo passado como parâmetro. <br/>
+	 * Assim como {@link #fold(Monoid) fold}, a combinação é feita em árvore balanceada.
+	 * @param semigroup O semigrupo que será utilizado para combinar os elementos
+	 * @return O resultado da combinação de todos os elementos desta coleção
+	 * @throws IllegalArgumentException Se a coleção estiver vazia
+	 */
+	T reduce(final Semigroup<T> semigroup);
+
+	/**
+	 * Transforma esta coleção em um mapa de coleções de acordo com uma função discriminadora. <br/>
+	 * Em outras palavras, aplica a função passada como parâmetro a cada elemento desta coleção, criando um mapa onde a chave é
+	 * o resultado da função aplicada, e o valor é uma coleção (do mesmo tipo desta) com os elementos que retornam aquele valor
+	 * à função, na ordem do iterator. <br/>
+	 * O mapa retornado será criado a partir de um HashMap.
+	 * @param <K> O tipo de retorno da função
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return Um mapa, onde a chave é o resultado da função, e os valores uma coleção de elementos cujo resultado da função
+	 * aplicada seja o mesmo.
+	 */
+	<K> MapSharp<K, ? extends SharpCollection<T>> groupBy(final Function1<? super T, K> keyFunction);
+
+	/**
+	 * Agrupa os elementos desta coleção de acordo com uma função discriminadora, reduzindo cada grupo com o agregador passado
+	 * como parâmetro, sem construir as coleções dos grupos. <br/>
+	 * Por exemplo, <tt>aggregateBy(função, Aggregators.count())</tt> retorna o número de elementos de cada chave. <br/>
+	 * O mapa retornado será criado a partir de um HashMap.
+	 * @param <K> O tipo de retorno da função
+	 * @param <A> O tipo do acumulador do agregador
+	 * @param <R> O tipo do resultado da agregação
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param aggregator O agregador que reduz os elementos de cada chave
+	 * @return Um mapa, onde a chave é o resultado da função, e o valor o resultado da agregação dos elementos daquela chave
+	 */
+	<K, A, R> MapSharp<K, R> aggregateBy(final Function1<? super T, K> keyFunction, final Aggregator<? super T, A, R> aggregator);
+
+	/**
+	 * Agrupa os elementos desta coleção de acordo com uma função discriminadora, transformando cada elemento com a função
+	 * passada como parâmetro e combinando os resultados de cada grupo com o monóide. <br/>
+	 * Equivale a <tt>groupBy(keyFunction)</tt> seguido de <tt>foldMap(function, monoid)</tt> em cada grupo, mas sem construir
+	 * as coleções dos grupos.
+	 * @param <K> O tipo de retorno da função discriminadora
+	 * @param <B> O tipo de retorno da função de transformação, e dos elementos do monóide
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param function A função que transforma cada elemento
+	 * @param monoid O monóide que combina os resultados de cada grupo
+	 * @return Um mapa, onde a chave é o resultado da função discriminadora, e o valor a combinação dos elementos daquela chave
+	 */
+	<K, B> MapSharp<K, B> aggregateBy(final Function1<? super T, K> keyFunction, final Function1<? super T, B> function,
+			final Monoid<B> monoid);
+
+	/**
+	 * Versão paralela do {@link #aggregateBy(Function1, Aggregator) aggregateBy}: os elementos são divididos em intervalos
+	 * contíguos agregados em paralelo, e os resultados parciais são juntados com o
+	 * {@link Aggregator#combine(Object, Object) combine} do agregador. O resultado é o mesmo da versão sequencial. <br/>
+	 * A função discriminadora e o agregador serão chamados por várias threads, portanto não devem ter efeitos colaterais.
+	 * @param <K> O tipo de retorno da função
+	 * @param <A> O tipo do acumulador do agregador
+	 * @param <R> O tipo do resultado da agregação
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param aggregator O agregador que reduz os elementos de cada chave
+	 * @return Um mapa, onde a chave é o resultado da função, e o valor o resultado da agregação dos elementos daquela chave
+	 */
+	<K, A, R> MapSharp<K, R> parAggregateBy(final Function1<? super T, K> keyFunction, final Aggregator<? super T, A, R> aggregator);
+
 	/**
 	 * Constrói uma nova coleção a partir da aplicação da função passada como parâmetro em cada elemento da coleção. <br/>
 	 * A ordem é preservada, se ela estiver bem-definida.
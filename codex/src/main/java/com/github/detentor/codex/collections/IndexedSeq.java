@@ -1,5 +1,7 @@
 package com.github.detentor.codex.collections;
 
+import java.util.Comparator;
+
 import com.github.detentor.codex.function.PartialFunction1;
 
 /**
@@ -41,4 +43,32 @@ public interface IndexedSeq<A> extends PartialFunction1<Integer, A>, SharpCollec
 	 * segundo é o penúltimo, e assim sucessivamente.
 	 */
     IndexedSeq<A> reverse();
+
+	/**
+	 * Retorna o elemento que ocuparia a posição n se esta sequência fosse ordenada (ordem natural). <br/>
+	 * Equivale a <tt>sorted().apply(n)</tt>, mas usa o quickselect, em O(n) (esperado), sem ordenar a sequência.
+	 * @param n A posição do elemento na ordem, a partir de zero
+	 * @return O n-ésimo elemento na ordem natural
+	 * @throws IndexOutOfBoundsException Se a posição não existir na sequência
+	 * @throws ClassCastException Caso os elementos desta sequência não sejam do tipo Comparable
+	 */
+	A nthElement(int n);
+
+	/**
+	 * Retorna o elemento que ocuparia a posição n se esta sequência fosse ordenada pelo comparator, em O(n) (esperado).
+	 * @param n A posição do elemento na ordem, a partir de zero
+	 * @param comparator A função de comparação entre os elementos
+	 * @return O n-ésimo elemento na ordem do comparator
+	 * @throws IndexOutOfBoundsException Se a posição não existir na sequência
+	 */
+	A nthElement(int n, Comparator<? super A> comparator);
+
+	/**
+	 * Retorna a mediana desta sequência (ordem natural), em O(n) (esperado). Se o número de elementos for par, retorna o
+	 * menor dos dois elementos centrais.
+	 * @return O elemento central na ordem natural
+	 * @throws IllegalArgumentException Se a sequência estiver vazia
+	 * @throws ClassCastException Caso os elementos desta sequência não sejam do tipo Comparable
+	 */
+	A median();
 }
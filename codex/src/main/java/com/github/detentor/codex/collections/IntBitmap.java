@@ -0,0 +1,1177 @@
+package com.github.detentor.codex.collections;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Conjunto de inteiros comprimido, no formato 'Roaring': os 16 bits mais altos de cada valor selecionam um container, que
+ * guarda os 16 bits mais baixos dos valores. <br/>
+ * <br/>
+ *
+ * Cada container usa a representação mais compacta para os seus valores: <br/>
+ * - vetor ordenado de chars, para até {@value #ARRAY_MAX} valores (2 bytes por valor); <br/>
+ * - bitmap de 65536 bits (8KB), para containers mais densos; <br/>
+ * - sequências (início, comprimento), após o {@link #runOptimize() runOptimize}, para valores consecutivos. <br/>
+ * <br/>
+ *
+ * Assim, um conjunto de ids ocupa de 2 bytes por elemento (ids esparsos) a menos de 1 bit por elemento (ids densos), em
+ * vez dos ~50 bytes por elemento de um HashSet&lt;Integer&gt;. A união, a interseção e a diferença entre bitmaps são
+ * calculadas container a container e, nos bitmaps, uma palavra (64 bits) por vez, em laços simples que a JIT consegue
+ * vetorizar. <br/>
+ * <br/>
+ *
+ * Os valores são percorridos em ordem crescente (com sinal). Esta classe não é thread-safe; para o uso como coleção, ver
+ * {@link com.github.detentor.codex.collections.mutable.IntSetSharp mutable.IntSetSharp} e
+ * {@link com.github.detentor.codex.collections.immutable.IntSetSharp immutable.IntSetSharp}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class IntBitmap implements Iterable<Integer>
+{
+	/**
+	 * Número máximo de valores de um container baseado em vetor: acima dele, o bitmap (8KB) ocupa menos memória
+	 */
+	public static final int ARRAY_MAX = 4096;
+
+	private static final int WORDS = 1024;
+
+	//As chaves são os 16 bits mais altos dos valores, com o bit de sinal invertido (para que a ordem seja a dos inteiros)
+	private char[] keys;
+	private Container[] containers;
+	private int numContainers;
+	private int cardinality;
+
+	/**
+	 * Cria um bitmap vazio
+	 */
+	public IntBitmap()
+	{
+		this(new char[4], new Container[4], 0, 0);
+	}
+
+	private IntBitmap(final char[] theKeys, final Container[] theContainers, final int theNumContainers, final int theCardinality)
+	{
+		keys = theKeys;
+		containers = theContainers;
+		numContainers = theNumContainers;
+		cardinality = theCardinality;
+	}
+
+	/**
+	 * Cria um bitmap com os valores passados como parâmetro.
+	 *
+	 * @param values Os valores do bitmap
+	 * @return Um bitmap com os valores passados como parâmetro
+	 */
+	public static IntBitmap from(final int... values)
+	{
+		final IntBitmap retorno = new IntBitmap();
+
+		for (final int value : values)
+		{
+			retorno.add(value);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Adiciona o valor passado como parâmetro.
+	 *
+	 * @param value O valor a ser adicionado
+	 * @return true se o valor foi adicionado, ou false se ele já existia
+	 */
+	public boolean add(final int value)
+	{
+		final char key = highKey(value);
+		final int index = indexOf(key);
+
+		if (index < 0)
+		{
+			insertContainer(-index - 1, key, new ArrayContainer().add(value & 0xFFFF));
+			cardinality++;
+			return true;
+		}
+
+		final Container container = containers[index];
+		final int before = container.cardinality();
+		containers[index] = container.add(value & 0xFFFF);
+
+		if (containers[index].cardinality() == before)
+		{
+			return false;
+		}
+		cardinality++;
+		return true;
+	}
+
+	/**
+	 * Remove o valor passado como parâmetro.
+	 *
+	 * @param value O valor a ser removido
+	 * @return true se o valor foi removido, ou false se ele não existia
+	 */
+	public boolean remove(final int value)
+	{
+		final int index = indexOf(highKey(value));
+
+		if (index < 0)
+		{
+			return false;
+		}
+
+		final Container container = containers[index];
+		final int before = container.cardinality();
+		final Container updated = container.remove(value & 0xFFFF);
+
+		if (updated.cardinality() == before)
+		{
+			return false;
+		}
+		cardinality--;
+
+		if (updated.cardinality() == 0)
+		{
+			removeContainer(index);
+		}
+		else
+		{
+			containers[index] = updated;
+		}
+		return true;
+	}
+
+	/**
+	 * Verifica se o bitmap contém o valor passado como parâmetro.
+	 *
+	 * @param value O valor a ser verificado
+	 * @return true se o bitmap contém o valor, ou false caso contrário
+	 */
+	public boolean contains(final int value)
+	{
+		final int index = indexOf(highKey(value));
+		return index >= 0 && containers[index].contains(value & 0xFFFF);
+	}
+
+	/**
+	 * Retorna o número de valores do bitmap, em tempo constante.
+	 *
+	 * @return O número de valores do bitmap
+	 */
+	public int cardinality()
+	{
+		return cardinality;
+	}
+
+	/**
+	 * Remove todos os valores do bitmap.
+	 */
+	public void clear()
+	{
+		keys = new char[4];
+		containers = new Container[4];
+		numContainers = 0;
+		cardinality = 0;
+	}
+
+	/**
+	 * Retorna uma cópia deste bitmap, que pode ser alterada sem afetar este.
+	 *
+	 * @return Uma cópia deste bitmap
+	 */
+	public IntBitmap copy()
+	{
+		final Container[] newContainers = new Container[Math.max(numContainers, 4)];
+
+		for (int i = 0; i < numContainers; i++)
+		{
+			newContainers[i] = containers[i].copy();
+		}
+		return new IntBitmap(Arrays.copyOf(keys, newContainers.length), newContainers, numContainers, cardinality);
+	}
+
+	/**
+	 * Retorna a união deste bitmap com o bitmap passado como parâmetro (os dois bitmaps não são alterados).
+	 *
+	 * @param other O outro bitmap
+	 * @return Um novo bitmap, com os valores contidos em algum dos dois bitmaps
+	 */
+	public IntBitmap or(final IntBitmap other)
+	{
+		final IntBitmap retorno = new IntBitmap(new char[numContainers + other.numContainers + 1],
+				new Container[numContainers + other.numContainers + 1], 0, 0);
+		int i = 0;
+		int j = 0;
+
+		while (i < numContainers && j < other.numContainers)
+		{
+			if (keys[i] < other.keys[j])
+			{
+				retorno.appendContainer(keys[i], containers[i++].copy());
+			}
+			else if (keys[i] > other.keys[j])
+			{
+				retorno.appendContainer(other.keys[j], other.containers[j++].copy());
+			}
+			else
+			{
+				retorno.appendContainer(keys[i], or(containers[i++], other.containers[j++]));
+			}
+		}
+
+		while (i < numContainers)
+		{
+			retorno.appendContainer(keys[i], containers[i++].copy());
+		}
+
+		while (j < other.numContainers)
+		{
+			retorno.appendContainer(other.keys[j], other.containers[j++].copy());
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna a interseção deste bitmap com o bitmap passado como parâmetro (os dois bitmaps não são alterados).
+	 *
+	 * @param other O outro bitmap
+	 * @return Um novo bitmap, com os valores contidos nos dois bitmaps
+	 */
+	public IntBitmap and(final IntBitmap other)
+	{
+		final int capacity = Math.min(numContainers, other.numContainers) + 1;
+		final IntBitmap retorno = new IntBitmap(new char[capacity], new Container[capacity], 0, 0);
+		int i = 0;
+		int j = 0;
+
+		while (i < numContainers && j < other.numContainers)
+		{
+			if (keys[i] < other.keys[j])
+			{
+				i++;
+			}
+			else if (keys[i] > other.keys[j])
+			{
+				j++;
+			}
+			else
+			{
+				retorno.appendContainer(keys[i], and(containers[i++], other.containers[j++]));
+			}
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna a diferença entre este bitmap e o bitmap passado como parâmetro (os dois bitmaps não são alterados).
+	 *
+	 * @param other O outro bitmap
+	 * @return Um novo bitmap, com os valores deste bitmap que não estão contidos no outro
+	 */
+	public IntBitmap andNot(final IntBitmap other)
+	{
+		final IntBitmap retorno = new IntBitmap(new char[numContainers + 1], new Container[numContainers + 1], 0, 0);
+		int j = 0;
+
+		for (int i = 0; i < numContainers; i++)
+		{
+			while (j < other.numContainers && other.keys[j] < keys[i])
+			{
+				j++;
+			}
+
+			if (j < other.numContainers && other.keys[j] == keys[i])
+			{
+				retorno.appendContainer(keys[i], andNot(containers[i], other.containers[j]));
+			}
+			else
+			{
+				retorno.appendContainer(keys[i], containers[i].copy());
+			}
+		}
+		return retorno;
+	}
+
+	/**
+	 * Converte para sequências (início, comprimento) os containers em que essa representação ocupa menos memória (valores
+	 * consecutivos). <br/>
+	 * Um container de sequências alterado depois volta a ser um vetor ou um bitmap, portanto este método deve ser chamado
+	 * depois que o bitmap estiver completo.
+	 */
+	public void runOptimize()
+	{
+		for (int i = 0; i < numContainers; i++)
+		{
+			final Container container = containers[i];
+
+			if (RunContainer.sizeInBytes(container.numberOfRuns()) < container.sizeInBytes())
+			{
+				containers[i] = RunContainer.from(container);
+			}
+		}
+	}
+
+	/**
+	 * Retorna uma estimativa do número de bytes ocupados pelos valores deste bitmap.
+	 *
+	 * @return O número aproximado de bytes ocupados pelos containers
+	 */
+	public long sizeInBytes()
+	{
+		long retorno = keys.length * 2L + containers.length * 4L;
+
+		for (int i = 0; i < numContainers; i++)
+		{
+			retorno += containers[i].sizeInBytes();
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna os valores deste bitmap, em ordem crescente.
+	 *
+	 * @return Um vetor com os valores deste bitmap
+	 */
+	public int[] toArray()
+	{
+		final int[] retorno = new int[cardinality];
+		final IntIterator ite = intIterator();
+		int index = 0;
+
+		while (ite.hasNext())
+		{
+			retorno[index++] = ite.nextInt();
+		}
+		return retorno;
+	}
+
+	@Override
+	public Iterator<Integer> iterator()
+	{
+		return intIterator();
+	}
+
+	/**
+	 * Retorna um iterator que percorre os valores em ordem crescente, e que também permite obtê-los sem boxing.
+	 *
+	 * @return Um iterator sobre os valores deste bitmap
+	 */
+	public IntIterator intIterator()
+	{
+		return new IntIterator(this);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		//Mesmo hashcode de um Set<Integer> com os mesmos valores
+		int retorno = 0;
+		final IntIterator ite = intIterator();
+
+		while (ite.hasNext())
+		{
+			retorno += ite.nextInt();
+		}
+		return retorno;
+	}
+
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+
+		if (!(obj instanceof IntBitmap))
+		{
+			return false;
+		}
+		final IntBitmap other = (IntBitmap) obj;
+
+		if (cardinality != other.cardinality || numContainers != other.numContainers)
+		{
+			return false;
+		}
+
+		for (int i = 0; i < numContainers; i++)
+		{
+			if (keys[i] != other.keys[i] || !sameValues(containers[i], other.containers[i]))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString()
+	{
+		final StringBuilder retorno = new StringBuilder("[");
+		final IntIterator ite = intIterator();
+
+		while (ite.hasNext())
+		{
+			retorno.append(ite.nextInt());
+
+			if (ite.hasNext())
+			{
+				retorno.append(", ");
+			}
+		}
+		return retorno.append(']').toString();
+	}
+
+	private static char highKey(final int value)
+	{
+		return (char) ((value >>> 16) ^ 0x8000);
+	}
+
+	private int indexOf(final char key)
+	{
+		//Acesso sequencial, o caso mais comum na construção, é verificado antes da busca binária
+		if (numContainers > 0 && keys[numContainers - 1] == key)
+		{
+			return numContainers - 1;
+		}
+		return Arrays.binarySearch(keys, 0, numContainers, key);
+	}
+
+	private void insertContainer(final int index, final char key, final Container container)
+	{
+		if (numContainers == keys.length)
+		{
+			keys = Arrays.copyOf(keys, numContainers * 2);
+			containers = Arrays.copyOf(containers, numContainers * 2);
+		}
+		System.arraycopy(keys, index, keys, index + 1, numContainers - index);
+		System.arraycopy(containers, index, containers, index + 1, numContainers - index);
+		keys[index] = key;
+		containers[index] = container;
+		numContainers++;
+	}
+
+	private void removeContainer(final int index)
+	{
+		System.arraycopy(keys, index + 1, keys, index, numContainers - index - 1);
+		System.arraycopy(containers, index + 1, containers, index, numContainers - index - 1);
+		containers[--numContainers] = null;
+	}
+
+	/**
+	 * Adiciona o container no final do bitmap (as chaves devem ser crescentes), se ele não estiver vazio
+	 */
+	private void appendContainer(final char key, final Container container)
+	{
+		if (container.cardinality() > 0)
+		{
+			keys[numContainers] = key;
+			containers[numContainers++] = container;
+			cardinality += container.cardinality();
+		}
+	}
+
+	// ----------------------------------------------------------------------------------------------------------------
+	// Operações entre containers
+	// ----------------------------------------------------------------------------------------------------------------
+
+	private static Container or(final Container first, final Container second)
+	{
+		if (first instanceof ArrayContainer && second instanceof ArrayContainer
+				&& first.cardinality() + second.cardinality() <= ARRAY_MAX)
+		{
+			return ArrayContainer.union((ArrayContainer) first, (ArrayContainer) second);
+		}
+		final long[] words = first.toWords();
+		final long[] otherWords = second.toWords();
+
+		for (int i = 0; i < WORDS; i++)
+		{
+			words[i] |= otherWords[i];
+		}
+		return fromWords(words);
+	}
+
+	private static Container and(final Container first, final Container second)
+	{
+		if (first instanceof ArrayContainer)
+		{
+			return ((ArrayContainer) first).filter(second, true);
+		}
+
+		if (second instanceof ArrayContainer)
+		{
+			return ((ArrayContainer) second).filter(first, true);
+		}
+		final long[] words = first.toWords();
+		final long[] otherWords = second.toWords();
+
+		for (int i = 0; i < WORDS; i++)
+		{
+			words[i] &= otherWords[i];
+		}
+		return fromWords(words);
+	}
+
+	private static Container andNot(final Container first, final Container second)
+	{
+		if (first instanceof ArrayContainer)
+		{
+			return ((ArrayContainer) first).filter(second, false);
+		}
+		final long[] words = first.toWords();
+		final long[] otherWords = second.toWords();
+
+		for (int i = 0; i < WORDS; i++)
+		{
+			words[i] &= ~otherWords[i];
+		}
+		return fromWords(words);
+	}
+
+	private static boolean sameValues(final Container first, final Container second)
+	{
+		if (first.cardinality() != second.cardinality())
+		{
+			return false;
+		}
+		final LowIterator ite1 = first.lowIterator();
+		final LowIterator ite2 = second.lowIterator();
+
+		while (ite1.hasNext())
+		{
+			if (ite1.next() != ite2.next())
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Cria o container mais compacto (vetor ou bitmap) para os bits passados como parâmetro
+	 */
+	private static Container fromWords(final long[] words)
+	{
+		int card = 0;
+
+		for (int i = 0; i < WORDS; i++)
+		{
+			card += Long.bitCount(words[i]);
+		}
+
+		if (card > ARRAY_MAX)
+		{
+			return new BitmapContainer(words, card);
+		}
+		final char[] content = new char[card];
+		int index = 0;
+
+		for (int i = 0; i < WORDS; i++)
+		{
+			long word = words[i];
+
+			while (word != 0)
+			{
+				content[index++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+		return new ArrayContainer(content, card);
+	}
+
+	/**
+	 * Iterator sobre os valores de um bitmap, em ordem crescente. O método {@link #nextInt()} retorna os valores sem boxing.
+	 */
+	public static final class IntIterator implements Iterator<Integer>
+	{
+		private final IntBitmap bitmap;
+		private int containerIndex;
+		private int high;
+		private LowIterator current;
+
+		private IntIterator(final IntBitmap theBitmap)
+		{
+			bitmap = theBitmap;
+			advance();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return current != null;
+		}
+
+		@Override
+		public Integer next()
+		{
+			return nextInt();
+		}
+
+		/**
+		 * Retorna o próximo valor, sem boxing.
+		 *
+		 * @return O próximo valor do bitmap
+		 */
+		public int nextInt()
+		{
+			if (current == null)
+			{
+				throw new NoSuchElementException();
+			}
+			final int retorno = high | current.next();
+
+			if (!current.hasNext())
+			{
+				advance();
+			}
+			return retorno;
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("Utilize o método remove do bitmap");
+		}
+
+		private void advance()
+		{
+			current = null;
+
+			while (current == null && containerIndex < bitmap.numContainers)
+			{
+				high = (bitmap.keys[containerIndex] ^ 0x8000) << 16;
+				final LowIterator ite = bitmap.containers[containerIndex++].lowIterator();
+
+				if (ite.hasNext())
+				{
+					current = ite;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Percorre os 16 bits mais baixos dos valores de um container, em ordem crescente
+	 */
+	private abstract static class LowIterator
+	{
+		abstract boolean hasNext();
+
+		abstract int next();
+	}
+
+	/**
+	 * Container dos 16 bits mais baixos dos valores que possuem os mesmos 16 bits mais altos. <br/>
+	 * As alterações podem retornar outro container (quando a representação atual deixa de ser a mais adequada).
+	 */
+	private abstract static class Container
+	{
+		abstract int cardinality();
+
+		abstract boolean contains(int low);
+
+		abstract Container add(int low);
+
+		abstract Container remove(int low);
+
+		abstract Container copy();
+
+		/**
+		 * Retorna um novo vetor de 1024 palavras com os bits dos valores deste container
+		 */
+		abstract long[] toWords();
+
+		abstract LowIterator lowIterator();
+
+		abstract int numberOfRuns();
+
+		abstract int sizeInBytes();
+	}
+
+	/**
+	 * Container com os valores num vetor ordenado
+	 */
+	private static final class ArrayContainer extends Container
+	{
+		private char[] content;
+		private int card;
+
+		private ArrayContainer()
+		{
+			this(new char[4], 0);
+		}
+
+		private ArrayContainer(final char[] theContent, final int theCard)
+		{
+			content = theContent;
+			card = theCard;
+		}
+
+		private static ArrayContainer union(final ArrayContainer first, final ArrayContainer second)
+		{
+			final char[] merged = new char[first.card + second.card];
+			int i = 0;
+			int j = 0;
+			int count = 0;
+
+			while (i < first.card && j < second.card)
+			{
+				final char v1 = first.content[i];
+				final char v2 = second.content[j];
+
+				if (v1 < v2)
+				{
+					merged[count++] = v1;
+					i++;
+				}
+				else if (v1 > v2)
+				{
+					merged[count++] = v2;
+					j++;
+				}
+				else
+				{
+					merged[count++] = v1;
+					i++;
+					j++;
+				}
+			}
+
+			while (i < first.card)
+			{
+				merged[count++] = first.content[i++];
+			}
+
+			while (j < second.card)
+			{
+				merged[count++] = second.content[j++];
+			}
+			return new ArrayContainer(merged, count);
+		}
+
+		/**
+		 * Retorna os valores deste container que estão (ou não estão) contidos no outro container
+		 */
+		private ArrayContainer filter(final Container other, final boolean keepContained)
+		{
+			final char[] filtered = new char[card];
+			int count = 0;
+
+			for (int i = 0; i < card; i++)
+			{
+				if (other.contains(content[i]) == keepContained)
+				{
+					filtered[count++] = content[i];
+				}
+			}
+			return new ArrayContainer(filtered, count);
+		}
+
+		@Override
+		int cardinality()
+		{
+			return card;
+		}
+
+		@Override
+		boolean contains(final int low)
+		{
+			return Arrays.binarySearch(content, 0, card, (char) low) >= 0;
+		}
+
+		@Override
+		Container add(final int low)
+		{
+			final int index = Arrays.binarySearch(content, 0, card, (char) low);
+
+			if (index >= 0)
+			{
+				return this;
+			}
+
+			if (card == ARRAY_MAX)
+			{
+				return new BitmapContainer(toWords(), card).add(low);
+			}
+
+			if (card == content.length)
+			{
+				content = Arrays.copyOf(content, Math.min(card * 2, ARRAY_MAX));
+			}
+			final int pos = -index - 1;
+			System.arraycopy(content, pos, content, pos + 1, card - pos);
+			content[pos] = (char) low;
+			card++;
+			return this;
+		}
+
+		@Override
+		Container remove(final int low)
+		{
+			final int index = Arrays.binarySearch(content, 0, card, (char) low);
+
+			if (index >= 0)
+			{
+				System.arraycopy(content, index + 1, content, index, card - index - 1);
+				card--;
+			}
+			return this;
+		}
+
+		@Override
+		Container copy()
+		{
+			return new ArrayContainer(Arrays.copyOf(content, Math.max(card, 1)), card);
+		}
+
+		@Override
+		long[] toWords()
+		{
+			final long[] words = new long[WORDS];
+
+			for (int i = 0; i < card; i++)
+			{
+				words[content[i] >>> 6] |= 1L << content[i];
+			}
+			return words;
+		}
+
+		@Override
+		LowIterator lowIterator()
+		{
+			return new LowIterator()
+			{
+				private int index;
+
+				@Override
+				boolean hasNext()
+				{
+					return index < card;
+				}
+
+				@Override
+				int next()
+				{
+					return content[index++];
+				}
+			};
+		}
+
+		@Override
+		int numberOfRuns()
+		{
+			int runs = card == 0 ? 0 : 1;
+
+			for (int i = 1; i < card; i++)
+			{
+				if (content[i] != content[i - 1] + 1)
+				{
+					runs++;
+				}
+			}
+			return runs;
+		}
+
+		@Override
+		int sizeInBytes()
+		{
+			return content.length * 2 + 8;
+		}
+	}
+
+	/**
+	 * Container com os valores num bitmap de 65536 bits
+	 */
+	private static final class BitmapContainer extends Container
+	{
+		private final long[] words;
+		private int card;
+
+		private BitmapContainer(final long[] theWords, final int theCard)
+		{
+			words = theWords;
+			card = theCard;
+		}
+
+		@Override
+		int cardinality()
+		{
+			return card;
+		}
+
+		@Override
+		boolean contains(final int low)
+		{
+			return (words[low >>> 6] & 1L << low) != 0;
+		}
+
+		@Override
+		Container add(final int low)
+		{
+			final long before = words[low >>> 6];
+			words[low >>> 6] = before | 1L << low;
+
+			if (before != words[low >>> 6])
+			{
+				card++;
+			}
+			return this;
+		}
+
+		@Override
+		Container remove(final int low)
+		{
+			final long before = words[low >>> 6];
+			words[low >>> 6] = before & ~(1L << low);
+
+			if (before != words[low >>> 6] && --card <= ARRAY_MAX)
+			{
+				return fromWords(words);
+			}
+			return this;
+		}
+
+		@Override
+		Container copy()
+		{
+			return new BitmapContainer(words.clone(), card);
+		}
+
+		@Override
+		long[] toWords()
+		{
+			return words.clone();
+		}
+
+		@Override
+		LowIterator lowIterator()
+		{
+			return new LowIterator()
+			{
+				private int wordIndex = -1;
+				private long word;
+
+				{
+					nextWord();
+				}
+
+				@Override
+				boolean hasNext()
+				{
+					return word != 0;
+				}
+
+				@Override
+				int next()
+				{
+					final int retorno = wordIndex * 64 + Long.numberOfTrailingZeros(word);
+					word &= word - 1;
+
+					if (word == 0)
+					{
+						nextWord();
+					}
+					return retorno;
+				}
+
+				private void nextWord()
+				{
+					while (word == 0 && ++wordIndex < WORDS)
+					{
+						word = words[wordIndex];
+					}
+				}
+			};
+		}
+
+		@Override
+		int numberOfRuns()
+		{
+			//Um run começa em cada bit ligado cujo bit anterior está desligado
+			int runs = 0;
+			long previousTop = 0;
+
+			for (int i = 0; i < WORDS; i++)
+			{
+				final long word = words[i];
+				runs += Long.bitCount(word & ~(word << 1 | previousTop));
+				previousTop = word >>> 63;
+			}
+			return runs;
+		}
+
+		@Override
+		int sizeInBytes()
+		{
+			return WORDS * 8 + 8;
+		}
+	}
+
+	/**
+	 * Container com os valores em sequências (início, comprimento - 1). É imutável: as alterações retornam um vetor ou um
+	 * bitmap.
+	 */
+	private static final class RunContainer extends Container
+	{
+		private final char[] runs;
+		private final int numRuns;
+		private final int card;
+
+		private RunContainer(final char[] theRuns, final int theNumRuns)
+		{
+			runs = theRuns;
+			numRuns = theNumRuns;
+			int total = 0;
+
+			for (int i = 0; i < numRuns; i++)
+			{
+				total += runs[2 * i + 1] + 1;
+			}
+			card = total;
+		}
+
+		private static int sizeInBytes(final int numRuns)
+		{
+			return numRuns * 4 + 8;
+		}
+
+		private static RunContainer from(final Container container)
+		{
+			final char[] runs = new char[container.numberOfRuns() * 2];
+			final LowIterator ite = container.lowIterator();
+			int numRuns = 0;
+			int previous = -2;
+
+			while (ite.hasNext())
+			{
+				final int value = ite.next();
+
+				if (value == previous + 1)
+				{
+					runs[2 * numRuns - 1]++;
+				}
+				else
+				{
+					runs[2 * numRuns] = (char) value;
+					runs[2 * numRuns + 1] = 0;
+					numRuns++;
+				}
+				previous = value;
+			}
+			return new RunContainer(runs, numRuns);
+		}
+
+		@Override
+		int cardinality()
+		{
+			return card;
+		}
+
+		@Override
+		boolean contains(final int low)
+		{
+			//Busca binária pelo último run que começa antes (ou em) low
+			int lowIndex = 0;
+			int highIndex = numRuns - 1;
+
+			while (lowIndex <= highIndex)
+			{
+				final int middle = (lowIndex + highIndex) >>> 1;
+				final int start = runs[2 * middle];
+
+				if (start > low)
+				{
+					highIndex = middle - 1;
+				}
+				else if (low - start <= runs[2 * middle + 1])
+				{
+					return true;
+				}
+				else
+				{
+					lowIndex = middle + 1;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		Container add(final int low)
+		{
+			return contains(low) ? this : fromWords(toWords()).add(low);
+		}
+
+		@Override
+		Container remove(final int low)
+		{
+			return contains(low) ? fromWords(toWords()).remove(low) : this;
+		}
+
+		@Override
+		Container copy()
+		{
+			return this;
+		}
+
+		@Override
+		long[] toWords()
+		{
+			final long[] words = new long[WORDS];
+
+			for (int i = 0; i < numRuns; i++)
+			{
+				final int start = runs[2 * i];
+				final int end = start + runs[2 * i + 1];
+
+				for (int value = start; value <= end; value++)
+				{
+					words[value >>> 6] |= 1L << value;
+				}
+			}
+			return words;
+		}
+
+		@Override
+		LowIterator lowIterator()
+		{
+			return new LowIterator()
+			{
+				private int runIndex;
+				private int offset;
+
+				@Override
+				boolean hasNext()
+				{
+					return runIndex < numRuns;
+				}
+
+				@Override
+				int next()
+				{
+					final int retorno = runs[2 * runIndex] + offset;
+
+					if (offset++ == runs[2 * runIndex + 1])
+					{
+						runIndex++;
+						offset = 0;
+					}
+					return retorno;
+				}
+			};
+		}
+
+		@Override
+		int numberOfRuns()
+		{
+			return numRuns;
+		}
+
+		@Override
+		int sizeInBytes()
+		{
+			return sizeInBytes(numRuns);
+		}
+	}
+}
@@ -0,0 +1,905 @@
+package com.github.detentor.codex.collections;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.io.Codec;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Implementação comum das junções entre coleções ({@link SharpCollection#join(Iterable, Function1, Function1) join},
+ * {@link SharpCollection#leftJoin(Iterable, Function1, Function1) leftJoin},
+ * {@link SharpCollection#semiJoin(Iterable, Function1, Function1) semiJoin},
+ * {@link SharpCollection#antiJoin(Iterable, Function1, Function1) antiJoin} e
+ * {@link SharpCollection#mergeJoin(Iterable, Function1, Function1, Comparator) mergeJoin}). <br/>
+ * <br/>
+ *
+ * As junções por hash criam uma tabela com as chaves de um dos lados (o lado de construção), e percorrem o outro lado (o
+ * lado de pesquisa) consultando a tabela, em O(n + m). No join, o lado de construção é o menor deles, quando os tamanhos
+ * forem conhecidos, portanto a ordem dos pares não é especificada; nas outras junções, é sempre a coleção passada como
+ * parâmetro, e a ordem desta coleção é preservada.
+ * <br/>
+ * Se o lado de construção tiver mais elementos do que o limite de memória, os dois lados são divididos em partições
+ * gravadas em arquivos temporários (com o {@link Codec}), e cada par de partições é juntado separadamente. Nesse caso os
+ * elementos devem poder ser gravados pelo Codec, cada par de partições deve caber na memória, e a ordem dos resultados
+ * passa a ser a das partições. <br/>
+ * <br/>
+ *
+ * O {@link #mergeJoin(Iterable, Iterable, Function1, Function1, Comparator) mergeJoin} percorre as duas coleções uma única
+ * vez, em paralelo, e só guarda na memória os elementos da coleção passada como parâmetro que possuem a mesma chave. As
+ * duas coleções devem estar ordenadas pela chave. <br/>
+ * <br/>
+ *
+ * Todas as junções retornam uma {@link LazyList}: as coleções só são percorridas à medida que os resultados são pedidos.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Joins
+{
+	/**
+	 * Limite padrão de memória: sem limite, portanto os elementos nunca são gravados em disco
+	 */
+	public static final int UNLIMITED = Integer.MAX_VALUE;
+
+	/**
+	 * Número de partições (e de arquivos temporários de cada lado) quando o limite de memória é ultrapassado
+	 */
+	private static final int SPILL_PARTITIONS = 64;
+
+	private static final int INNER = 0;
+	private static final int LEFT = 1;
+	private static final int SEMI = 2;
+	private static final int ANTI = 3;
+
+	private Joins()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna os pares formados pelos elementos das duas coleções que possuem a mesma chave. <br/>
+	 * A ordem dos pares não é especificada: a tabela é criada com o menor lado, de acordo com os tamanhos conhecidos (ver
+	 * {@link SetAlgebra#knownSize(Iterable)}), e os pares seguem a ordem do outro lado (ou a ordem das partições, se os
+	 * lados forem gravados em disco). Quem precisar de uma ordem deve ordenar o resultado.
+	 *
+	 * @param left Os elementos da esquerda (os primeiros elementos dos pares)
+	 * @param right Os elementos da direita (os segundos elementos dos pares)
+	 * @param leftKey A função que calcula a chave dos elementos da esquerda
+	 * @param rightKey A função que calcula a chave dos elementos da direita
+	 * @param maxInMemory O número máximo de elementos do lado de construção guardados na memória
+	 * @return Uma LazyList com os pares
+	 */
+	public static <A, B, K> LazyList<Tuple2<A, B>> join(final Iterable<A> left, final Iterable<B> right,
+			final Function1<? super A, K> leftKey, final Function1<? super B, K> rightKey, final int maxInMemory)
+	{
+		final int leftSize = SetAlgebra.knownSize(left);
+		final int rightSize = SetAlgebra.knownSize(right);
+
+		//Constrói a tabela com o lado esquerdo apenas se ele for certamente o menor
+		if (leftSize >= 0 && (rightSize < 0 || leftSize < rightSize))
+		{
+			return hashJoin(right, left, rightKey, leftKey, INNER, true, maxInMemory);
+		}
+		return hashJoin(left, right, leftKey, rightKey, INNER, false, maxInMemory);
+	}
+
+	/**
+	 * Retorna, para cada elemento da esquerda, os pares formados com os elementos da direita que possuem a mesma chave, ou
+	 * um par com {@link Option#empty()}, se não existir nenhum.
+	 *
+	 * @param left Os elementos da esquerda
+	 * @param right Os elementos da direita
+	 * @param leftKey A função que calcula a chave dos elementos da esquerda
+	 * @param rightKey A função que calcula a chave dos elementos da direita
+	 * @param maxInMemory O número máximo de elementos da direita guardados na memória
+	 * @return Uma LazyList com os pares, na ordem dos elementos da esquerda
+	 */
+	public static <A, B, K> LazyList<Tuple2<A, Option<B>>> leftJoin(final Iterable<A> left, final Iterable<B> right,
+			final Function1<? super A, K> leftKey, final Function1<? super B, K> rightKey, final int maxInMemory)
+	{
+		return hashJoin(left, right, leftKey, rightKey, LEFT, false, maxInMemory);
+	}
+
+	/**
+	 * Retorna os elementos da esquerda cuja chave existe na direita (cada um deles uma única vez).
+	 *
+	 * @param left Os elementos da esquerda
+	 * @param right Os elementos da direita
+	 * @param leftKey A função que calcula a chave dos elementos da esquerda
+	 * @param rightKey A função que calcula a chave dos elementos da direita
+	 * @param maxInMemory O número máximo de chaves da direita guardadas na memória
+	 * @return Uma LazyList com os elementos, na ordem da esquerda
+	 */
+	public static <A, B, K> LazyList<A> semiJoin(final Iterable<A> left, final Iterable<B> right,
+			final Function1<? super A, K> leftKey, final Function1<? super B, K> rightKey, final int maxInMemory)
+	{
+		return hashJoin(left, right, leftKey, rightKey, SEMI, false, maxInMemory);
+	}
+
+	/**
+	 * Retorna os elementos da esquerda cuja chave não existe na direita.
+	 *
+	 * @param left Os elementos da esquerda
+	 * @param right Os elementos da direita
+	 * @param leftKey A função que calcula a chave dos elementos da esquerda
+	 * @param rightKey A função que calcula a chave dos elementos da direita
+	 * @param maxInMemory O número máximo de chaves da direita guardadas na memória
+	 * @return Uma LazyList com os elementos, na ordem da esquerda
+	 */
+	public static <A, B, K> LazyList<A> antiJoin(final Iterable<A> left, final Iterable<B> right,
+			final Function1<? super A, K> leftKey, final Function1<? super B, K> rightKey, final int maxInMemory)
+	{
+		return hashJoin(left, right, leftKey, rightKey, ANTI, false, maxInMemory);
+	}
+
+	/**
+	 * Retorna os pares formados pelos elementos das duas coleções que possuem a mesma chave, percorrendo as duas coleções em
+	 * paralelo. As duas coleções devem estar ordenadas pela chave, de acordo com o comparator.
+	 *
+	 * @param left Os elementos da esquerda, ordenados pela chave
+	 * @param right Os elementos da direita, ordenados pela chave
+	 * @param leftKey A função que calcula a chave dos elementos da esquerda
+	 * @param rightKey A função que calcula a chave dos elementos da direita
+	 * @param comparator A função de comparação entre as chaves
+	 * @return Uma LazyList com os pares, na ordem da esquerda
+	 * @throws IllegalArgumentException Durante o percurso, se alguma das coleções não estiver ordenada pela chave
+	 */
+	public static <A, B, K> LazyList<Tuple2<A, B>> mergeJoin(final Iterable<A> left, final Iterable<B> right,
+			final Function1<? super A, K> leftKey, final Function1<? super B, K> rightKey, final Comparator<? super K> comparator)
+	{
+		return LazyList.from(new Iterable<Tuple2<A, B>>()
+		{
+			@Override
+			public Iterator<Tuple2<A, B>> iterator()
+			{
+				return new DeferredIterator<Tuple2<A, B>>()
+				{
+					@Override
+					protected Iterator<Tuple2<A, B>> create()
+					{
+						return new MergeJoinIterator<A, B, K>(left.iterator(), right.iterator(), leftKey, rightKey, comparator);
+					}
+				};
+			}
+		});
+	}
+
+	/**
+	 * Junção por hash: a tabela é criada com as chaves do lado de construção somente quando o primeiro resultado for pedido
+	 */
+	private static <P, Q, R> LazyList<R> hashJoin(final Iterable<P> probeSide, final Iterable<Q> buildSide,
+			final Function1<? super P, ?> probeKey, final Function1<? super Q, ?> buildKey, final int mode, final boolean swap,
+			final int maxInMemory)
+	{
+		if (maxInMemory <= 0)
+		{
+			throw new IllegalArgumentException("maxInMemory deve ser positivo");
+		}
+
+		return LazyList.from(new Iterable<R>()
+		{
+			@Override
+			public Iterator<R> iterator()
+			{
+				return new DeferredIterator<R>()
+				{
+					@SuppressWarnings("unchecked")
+					@Override
+					protected Iterator<R> create()
+					{
+						final boolean keysOnly = mode == SEMI || mode == ANTI;
+						final Map<Object, List<Q>> table = new HashMap<Object, List<Q>>();
+						final Iterator<Q> buildIte = buildSide.iterator();
+						int count = 0;
+
+						while (buildIte.hasNext())
+						{
+							addToTable(table, buildIte.next(), buildKey, keysOnly);
+
+							//No semiJoin e no antiJoin a tabela só guarda as chaves distintas: o limite é o tamanho da tabela
+							if ((keysOnly ? table.size() : ++count) > maxInMemory)
+							{
+								final Spill<P, Q> spill = new Spill<P, Q>(this, probeKey, buildKey, keysOnly);
+
+								try
+								{
+									spill.writeBuild(table, buildIte);
+									spill.writeProbe(probeSide.iterator());
+								}
+								catch (final RuntimeException e)
+								{
+									spill.delete();
+									throw e;
+								}
+								return (Iterator<R>) (Iterator<?>) spill.join(mode, swap);
+							}
+						}
+						return (Iterator<R>) (Iterator<?>) new ProbeIterator<P, Q>(probeSide.iterator(), table, probeKey, mode, swap);
+					}
+				};
+			}
+		});
+	}
+
+	private static <Q> void addToTable(final Map<Object, List<Q>> table, final Q element, final Function1<? super Q, ?> buildKey,
+			final boolean keysOnly)
+	{
+		final Object key = buildKey.apply(element);
+
+		//O semiJoin e o antiJoin só precisam das chaves
+		if (keysOnly)
+		{
+			table.put(key, Collections.<Q> emptyList());
+			return;
+		}
+		List<Q> entry = table.get(key);
+
+		if (entry == null)
+		{
+			entry = new ArrayList<Q>(1);
+			table.put(key, entry);
+		}
+		entry.add(element);
+	}
+
+	/**
+	 * Iterator criado somente quando o primeiro elemento for pedido: a LazyList pede o iterator na criação, mas só consulta
+	 * o hasNext quando precisa do primeiro elemento
+	 */
+	private abstract static class DeferredIterator<E> implements Iterator<E>
+	{
+		private Iterator<E> delegate;
+
+		protected abstract Iterator<E> create();
+
+		@Override
+		public boolean hasNext()
+		{
+			if (delegate == null)
+			{
+				delegate = create();
+			}
+			return delegate.hasNext();
+		}
+
+		@Override
+		public E next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			return delegate.next();
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("remove não suportado");
+		}
+	}
+
+	/**
+	 * Percorre o lado de pesquisa, consultando a tabela com as chaves do lado de construção. <br/>
+	 * Dependendo do tipo de junção, cada resultado é um par (trocado, se o lado de pesquisa for o da direita), um par com um
+	 * Option, ou o próprio elemento.
+	 */
+	private static final class ProbeIterator<P, Q> implements Iterator<Object>
+	{
+		private final Iterator<P> probeIte;
+		private final Map<Object, List<Q>> table;
+		private final Function1<? super P, ?> probeKey;
+		private final int mode;
+		private final boolean swap;
+
+		private P current;
+		private Iterator<Q> matches;
+		private Object nextValue;
+		private boolean ready;
+
+		protected ProbeIterator(final Iterator<P> theProbeIte, final Map<Object, List<Q>> theTable,
+				final Function1<? super P, ?> theProbeKey, final int theMode, final boolean theSwap)
+		{
+			super();
+			probeIte = theProbeIte;
+			table = theTable;
+			probeKey = theProbeKey;
+			mode = theMode;
+			swap = theSwap;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (!ready)
+			{
+				ready = advance();
+			}
+			return ready;
+		}
+
+		@Override
+		public Object next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			ready = false;
+			final Object retorno = nextValue;
+			nextValue = null;
+			return retorno;
+		}
+
+		private boolean advance()
+		{
+			while (true)
+			{
+				if (matches != null && matches.hasNext())
+				{
+					final Q match = matches.next();
+
+					if (mode == LEFT)
+					{
+						nextValue = Tuple2.from(current, Option.from(match));
+					}
+					else
+					{
+						nextValue = swap ? Tuple2.from(match, current) : Tuple2.from(current, match);
+					}
+					return true;
+				}
+
+				if (!probeIte.hasNext())
+				{
+					current = null;
+					matches = null;
+					return false;
+				}
+				current = probeIte.next();
+				final List<Q> entry = table.get(probeKey.apply(current));
+				matches = null;
+
+				switch (mode)
+				{
+					case LEFT:
+						if (entry == null)
+						{
+							nextValue = Tuple2.from(current, Option.<Q> empty());
+							return true;
+						}
+						matches = entry.iterator();
+						break;
+					case SEMI:
+						if (entry != null)
+						{
+							nextValue = current;
+							return true;
+						}
+						break;
+					case ANTI:
+						if (entry == null)
+						{
+							nextValue = current;
+							return true;
+						}
+						break;
+					default:
+						matches = entry == null ? null : entry.iterator();
+						break;
+				}
+			}
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("remove não suportado");
+		}
+	}
+
+	/**
+	 * Divisão dos dois lados da junção em partições gravadas em arquivos temporários, de acordo com o hash da chave. <br/>
+	 * Elementos com a mesma chave ficam sempre na mesma partição, portanto cada par de partições pode ser juntado
+	 * separadamente.
+	 */
+	private static final class Spill<P, Q>
+	{
+		private final Function1<? super P, ?> probeKey;
+		private final Function1<? super Q, ?> buildKey;
+		private final boolean keysOnly;
+
+		private final SpillFiles files;
+		private final int[] buildCounts = new int[SPILL_PARTITIONS];
+		private final int[] probeCounts = new int[SPILL_PARTITIONS];
+
+		/**
+		 * @param owner O objeto que percorre a junção: se ele deixar de ser usado antes do fim, os arquivos são apagados
+		 */
+		protected Spill(final Object owner, final Function1<? super P, ?> theProbeKey, final Function1<? super Q, ?> theBuildKey,
+				final boolean theKeysOnly)
+		{
+			super();
+			probeKey = theProbeKey;
+			buildKey = theBuildKey;
+			keysOnly = theKeysOnly;
+			files = SpillFiles.register(owner);
+		}
+
+		/**
+		 * Grava os elementos já colocados na tabela e os elementos restantes do lado de construção. No semiJoin e no antiJoin,
+		 * apenas as chaves são gravadas.
+		 */
+		void writeBuild(final Map<Object, List<Q>> table, final Iterator<Q> remaining)
+		{
+			final DataOutputStream[] outs = open(files.build);
+
+			try
+			{
+				for (final Map.Entry<Object, List<Q>> entry : table.entrySet())
+				{
+					final int partition = partition(entry.getKey());
+
+					if (keysOnly)
+					{
+						write(outs, buildCounts, partition, entry.getKey());
+					}
+					else
+					{
+						for (final Q ele : entry.getValue())
+						{
+							write(outs, buildCounts, partition, ele);
+						}
+					}
+				}
+				table.clear();
+
+				while (remaining.hasNext())
+				{
+					final Q ele = remaining.next();
+					final Object key = buildKey.apply(ele);
+					write(outs, buildCounts, partition(key), keysOnly ? key : ele);
+				}
+			}
+			finally
+			{
+				close(outs);
+			}
+		}
+
+		void writeProbe(final Iterator<P> probeIte)
+		{
+			final DataOutputStream[] outs = open(files.probe);
+
+			try
+			{
+				while (probeIte.hasNext())
+				{
+					final P ele = probeIte.next();
+					write(outs, probeCounts, partition(probeKey.apply(ele)), ele);
+				}
+			}
+			finally
+			{
+				close(outs);
+			}
+		}
+
+		/**
+		 * Apaga os arquivos que ainda existirem
+		 */
+		void delete()
+		{
+			files.delete();
+		}
+
+		/**
+		 * Junta os pares de partições um de cada vez. Os dois arquivos de uma partição são lidos inteiros e apagados antes do
+		 * seu primeiro resultado, portanto nenhum arquivo fica aberto entre duas chamadas do iterator.
+		 */
+		Iterator<Object> join(final int mode, final boolean swap)
+		{
+			return new Iterator<Object>()
+			{
+				private int partition = -1;
+				private Iterator<Object> current = Collections.emptyIterator();
+
+				@Override
+				public boolean hasNext()
+				{
+					while (!current.hasNext())
+					{
+						if (partition + 1 == SPILL_PARTITIONS)
+						{
+							delete();
+							return false;
+						}
+						current = readPartition(++partition, mode, swap);
+					}
+					return true;
+				}
+
+				@Override
+				public Object next()
+				{
+					if (!hasNext())
+					{
+						throw new NoSuchElementException();
+					}
+					return current.next();
+				}
+
+				@Override
+				public void remove()
+				{
+					throw new UnsupportedOperationException("remove não suportado");
+				}
+			};
+		}
+
+		@SuppressWarnings("unchecked")
+		private Iterator<Object> readPartition(final int partition, final int mode, final boolean swap)
+		{
+			final Map<Object, List<Q>> table = new HashMap<Object, List<Q>>();
+			final List<Object> probe;
+
+			try
+			{
+				for (final Object value : read(files.build, buildCounts, partition))
+				{
+					if (keysOnly)
+					{
+						table.put(value, Collections.<Q> emptyList());
+					}
+					else
+					{
+						addToTable(table, (Q) value, buildKey, false);
+					}
+				}
+				probe = read(files.probe, probeCounts, partition);
+			}
+			catch (final RuntimeException e)
+			{
+				delete();
+				throw e;
+			}
+			return new ProbeIterator<P, Q>((Iterator<P>) probe.iterator(), table, probeKey, mode, swap);
+		}
+
+		/**
+		 * Lê todos os elementos de uma partição, e apaga o arquivo
+		 */
+		private static List<Object> read(final File[] partitionFiles, final int[] counts, final int partition)
+		{
+			final File file = partitionFiles[partition];
+			final List<Object> retorno = new ArrayList<Object>(counts[partition]);
+			DataInputStream in = null;
+
+			try
+			{
+				in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+				for (int i = 0; i < counts[partition]; i++)
+				{
+					retorno.add(Codec.read(in));
+				}
+			}
+			catch (final IOException ioe)
+			{
+				throw new IllegalArgumentException(ioe);
+			}
+			finally
+			{
+				close(in);
+				file.delete();
+				partitionFiles[partition] = null;
+			}
+			return retorno;
+		}
+
+		private static int partition(final Object key)
+		{
+			//Mistura o hash, para que a partição não use os mesmos bits que o HashMap de cada partição
+			final int hash = (key == null ? 0 : key.hashCode()) * 0x9E3779B9;
+			return (hash >>> 16) % SPILL_PARTITIONS;
+		}
+
+		private static void write(final DataOutputStream[] outs, final int[] counts, final int partition, final Object value)
+		{
+			try
+			{
+				Codec.write(outs[partition], value);
+				counts[partition]++;
+			}
+			catch (final IOException ioe)
+			{
+				throw new IllegalArgumentException(ioe);
+			}
+		}
+
+		private static DataOutputStream[] open(final File[] partitionFiles)
+		{
+			final DataOutputStream[] outs = new DataOutputStream[partitionFiles.length];
+
+			try
+			{
+				for (int i = 0; i < partitionFiles.length; i++)
+				{
+					partitionFiles[i] = File.createTempFile("codex-join", ".bin");
+					outs[i] = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(partitionFiles[i])));
+				}
+			}
+			catch (final IOException ioe)
+			{
+				close(outs);
+				throw new IllegalArgumentException(ioe);
+			}
+			return outs;
+		}
+
+		private static void close(final DataOutputStream[] outs)
+		{
+			try
+			{
+				for (final DataOutputStream out : outs)
+				{
+					if (out != null)
+					{
+						out.close();
+					}
+				}
+			}
+			catch (final IOException ioe)
+			{
+				throw new IllegalArgumentException(ioe);
+			}
+		}
+
+		private static void close(final DataInputStream in)
+		{
+			if (in == null)
+			{
+				return;
+			}
+
+			try
+			{
+				in.close();
+			}
+			catch (final IOException ioe)
+			{
+				throw new IllegalArgumentException(ioe);
+			}
+		}
+	}
+
+	/**
+	 * Arquivos temporários de uma junção com partições em disco. <br/>
+	 * Se o percurso da junção for abandonado antes do fim (ex: com um take), o objeto que a percorre deixa de ser
+	 * referenciado e os arquivos que restaram são apagados na próxima junção que usar o disco. Os arquivos das junções ainda
+	 * em andamento são apagados no término da JVM, por um único shutdown hook (e não um deleteOnExit por arquivo, que
+	 * guardaria o nome de cada arquivo até o término da JVM).
+	 */
+	private static final class SpillFiles extends PhantomReference<Object>
+	{
+		private static final ReferenceQueue<Object> ABANDONED = new ReferenceQueue<Object>();
+		private static final Set<SpillFiles> PENDING = new HashSet<SpillFiles>();
+
+		static
+		{
+			Runtime.getRuntime().addShutdownHook(new Thread()
+			{
+				@Override
+				public void run()
+				{
+					synchronized (PENDING)
+					{
+						for (final SpillFiles files : new ArrayList<SpillFiles>(PENDING))
+						{
+							files.delete();
+						}
+					}
+				}
+			});
+		}
+
+		private final File[] build = new File[SPILL_PARTITIONS];
+		private final File[] probe = new File[SPILL_PARTITIONS];
+
+		private SpillFiles(final Object owner)
+		{
+			super(owner, ABANDONED);
+		}
+
+		/**
+		 * Apaga os arquivos das junções abandonadas, e registra os arquivos de uma nova junção
+		 */
+		static SpillFiles register(final Object owner)
+		{
+			Reference<?> abandoned;
+
+			while ((abandoned = ABANDONED.poll()) != null)
+			{
+				((SpillFiles) abandoned).delete();
+			}
+			final SpillFiles retorno = new SpillFiles(owner);
+
+			synchronized (PENDING)
+			{
+				PENDING.add(retorno);
+			}
+			return retorno;
+		}
+
+		void delete()
+		{
+			delete(build);
+			delete(probe);
+
+			synchronized (PENDING)
+			{
+				PENDING.remove(this);
+			}
+		}
+
+		private static void delete(final File[] partitionFiles)
+		{
+			for (int i = 0; i < partitionFiles.length; i++)
+			{
+				if (partitionFiles[i] != null)
+				{
+					partitionFiles[i].delete();
+					partitionFiles[i] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Percorre as duas coleções ordenadas em paralelo, guardando os elementos da direita que possuem a chave atual
+	 */
+	private static final class MergeJoinIterator<A, B, K> implements Iterator<Tuple2<A, B>>
+	{
+		private final Iterator<A> leftIte;
+		private final Iterator<B> rightIte;
+		private final Function1<? super A, K> leftKey;
+		private final Function1<? super B, K> rightKey;
+		private final Comparator<? super K> comparator;
+
+		//Os elementos da direita com a chave groupKey, e o próximo elemento da direita (com chave maior)
+		private final List<B> group = new ArrayList<B>();
+		private B pending;
+		private K pendingKey;
+		private boolean hasPending;
+
+		private A current;
+		private K currentKey;
+		private boolean hasCurrent;
+		private int groupIndex;
+
+		protected MergeJoinIterator(final Iterator<A> theLeftIte, final Iterator<B> theRightIte,
+				final Function1<? super A, K> theLeftKey, final Function1<? super B, K> theRightKey,
+				final Comparator<? super K> theComparator)
+		{
+			super();
+			leftIte = theLeftIte;
+			rightIte = theRightIte;
+			leftKey = theLeftKey;
+			rightKey = theRightKey;
+			comparator = theComparator;
+			advanceRight();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while (!hasCurrent || groupIndex >= group.size())
+			{
+				if (!leftIte.hasNext())
+				{
+					return false;
+				}
+				final A nextLeft = leftIte.next();
+				final K nextKey = leftKey.apply(nextLeft);
+
+				if (hasCurrent && comparator.compare(currentKey, nextKey) > 0)
+				{
+					throw new IllegalArgumentException("mergeJoin: a coleção da esquerda não está ordenada pela chave");
+				}
+				final boolean sameKey = hasCurrent && comparator.compare(currentKey, nextKey) == 0;
+				current = nextLeft;
+				currentKey = nextKey;
+				hasCurrent = true;
+				groupIndex = 0;
+
+				//Elementos da esquerda com a mesma chave reaproveitam o grupo da direita
+				if (!sameKey)
+				{
+					fillGroup();
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Tuple2<A, B> next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			return Tuple2.from(current, group.get(groupIndex++));
+		}
+
+		/**
+		 * Descarta os elementos da direita com chave menor do que a atual, e guarda os que possuem a chave atual
+		 */
+		private void fillGroup()
+		{
+			group.clear();
+
+			while (hasPending && comparator.compare(pendingKey, currentKey) < 0)
+			{
+				advanceRight();
+			}
+
+			while (hasPending && comparator.compare(pendingKey, currentKey) == 0)
+			{
+				group.add(pending);
+				advanceRight();
+			}
+		}
+
+		private void advanceRight()
+		{
+			final K previousKey = pendingKey;
+			final boolean hadPending = hasPending;
+			hasPending = rightIte.hasNext();
+
+			if (hasPending)
+			{
+				pending = rightIte.next();
+				pendingKey = rightKey.apply(pending);
+
+				if (hadPending && comparator.compare(previousKey, pendingKey) > 0)
+				{
+					throw new IllegalArgumentException("mergeJoin: a coleção da direita não está ordenada pela chave");
+				}
+			}
+			else
+			{
+				pending = null;
+				pendingKey = null;
+			}
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("remove não suportado");
+		}
+	}
+}
@@ -0,0 +1,309 @@
+package com.github.detentor.codex.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Índices secundários de uma coleção mutável: cada índice associa a chave calculada por uma função aos elementos da
+ * coleção que possuem aquela chave, de forma que a pesquisa por chave custe O(1) (índice HASH) ou O(log n) (índice
+ * SORTED), em vez de percorrer a coleção inteira. <br/>
+ * <br/>
+ *
+ * Os índices são mantidos incrementalmente pela coleção dona, que deve chamar {@link #added(Object) added},
+ * {@link #removed(Object) removed} e {@link #cleared() cleared} a cada alteração. Dentro de cada chave, os elementos ficam
+ * na ordem em que foram adicionados. <br/>
+ * <br/>
+ *
+ * O filter e o find das coleções indexadas usam os índices quando o predicado é criado pelo
+ * {@link #keyEquals(Function1, Object) keyEquals} com a mesma função (a mesma instância) de um índice existente. <br/>
+ * <br/>
+ *
+ * A função de chave deve ser consistente com o equals dos elementos (elementos iguais devem ter a mesma chave), e a chave
+ * de um elemento não pode mudar enquanto ele estiver na coleção. Essa classe não é thread-safe.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo dos elementos da coleção indexada
+ */
+public final class SecondaryIndexes<T>
+{
+	private final Map<String, Index<T>> indexes = new LinkedHashMap<String, Index<T>>();
+
+	/**
+	 * Cria um índice com o nome e a função de chave passados como parâmetro, e o preenche com os elementos passados como
+	 * parâmetro.
+	 *
+	 * @param name O nome do índice
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param indexType O tipo do índice
+	 * @param elements Os elementos atuais da coleção
+	 * @throws IllegalArgumentException Se já existir um índice com o nome passado como parâmetro
+	 */
+	public void create(final String name, final Function1<? super T, ?> keyFunction, final IndexType indexType,
+			final Iterable<T> elements)
+	{
+		if (indexes.containsKey(name))
+		{
+			throw new IllegalArgumentException("Já existe um índice com o nome " + name);
+		}
+		final Index<T> index = new Index<T>(keyFunction, indexType);
+
+		for (final T ele : elements)
+		{
+			index.add(ele);
+		}
+		indexes.put(name, index);
+	}
+
+	/**
+	 * Remove o índice com o nome passado como parâmetro, se ele existir.
+	 *
+	 * @param name O nome do índice
+	 */
+	public void drop(final String name)
+	{
+		indexes.remove(name);
+	}
+
+	/**
+	 * Retorna true se não houver nenhum índice.
+	 *
+	 * @return true se não houver nenhum índice, false caso contrário
+	 */
+	public boolean isEmpty()
+	{
+		return indexes.isEmpty();
+	}
+
+	/**
+	 * Atualiza os índices após a adição do elemento passado como parâmetro na coleção.
+	 *
+	 * @param element O elemento adicionado
+	 */
+	public void added(final T element)
+	{
+		for (final Index<T> index : indexes.values())
+		{
+			index.add(element);
+		}
+	}
+
+	/**
+	 * Atualiza os índices após a remoção do elemento passado como parâmetro da coleção.
+	 *
+	 * @param element O elemento removido
+	 */
+	public void removed(final T element)
+	{
+		for (final Index<T> index : indexes.values())
+		{
+			index.remove(element);
+		}
+	}
+
+	/**
+	 * Esvazia os índices, mantendo as suas definições.
+	 */
+	public void cleared()
+	{
+		for (final Index<T> index : indexes.values())
+		{
+			index.entries.clear();
+		}
+	}
+
+	/**
+	 * Recria os índices a partir dos elementos passados como parâmetro. Deve ser chamado quando a coleção for reordenada,
+	 * para que os elementos de cada chave voltem a seguir a ordem da coleção.
+	 *
+	 * @param elements Os elementos atuais da coleção
+	 */
+	public void rebuild(final Iterable<T> elements)
+	{
+		cleared();
+
+		for (final T ele : elements)
+		{
+			added(ele);
+		}
+	}
+
+	/**
+	 * Retorna os elementos cuja chave, no índice com o nome passado como parâmetro, é igual à chave passada como parâmetro.
+	 * <br/>
+	 * A lista retornada é uma visão somente leitura do índice.
+	 *
+	 * @param name O nome do índice
+	 * @param key A chave a ser pesquisada
+	 * @return Os elementos com a chave, na ordem em que foram adicionados
+	 * @throws IllegalArgumentException Se não existir um índice com o nome passado como parâmetro
+	 */
+	public List<T> lookup(final String name, final Object key)
+	{
+		return view(getIndex(name).entries.get(key));
+	}
+
+	/**
+	 * Retorna os elementos cuja chave, no índice com o nome passado como parâmetro, está entre from (inclusive) e to
+	 * (exclusive), em ordem crescente de chave.
+	 *
+	 * @param name O nome do índice
+	 * @param from A menor chave do intervalo (inclusive)
+	 * @param to A maior chave do intervalo (exclusive)
+	 * @return Os elementos com chave no intervalo
+	 * @throws IllegalArgumentException Se não existir um índice com o nome passado como parâmetro
+	 * @throws UnsupportedOperationException Se o índice não for do tipo SORTED
+	 */
+	public List<T> lookupRange(final String name, final Object from, final Object to)
+	{
+		final Index<T> index = getIndex(name);
+
+		if (!(index.entries instanceof NavigableMap<?, ?>))
+		{
+			throw new UnsupportedOperationException("Operação definida apenas para índices do tipo SORTED");
+		}
+		final List<T> retorno = new ArrayList<T>();
+
+		for (final List<T> entry : ((NavigableMap<Object, List<T>>) index.entries).subMap(from, true, to, false).values())
+		{
+			retorno.addAll(entry);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna os elementos que satisfazem o predicado passado como parâmetro, se ele puder ser respondido por algum dos
+	 * índices (ver {@link #keyEquals(Function1, Object) keyEquals}).
+	 *
+	 * @param pred O predicado a ser pesquisado
+	 * @return Os elementos que satisfazem o predicado, ou null se nenhum índice puder responder o predicado
+	 */
+	public List<T> matching(final Function1<? super T, Boolean> pred)
+	{
+		if (!(pred instanceof KeyPredicate<?, ?>))
+		{
+			return null;
+		}
+		final KeyPredicate<?, ?> keyPred = (KeyPredicate<?, ?>) pred;
+
+		for (final Index<T> index : indexes.values())
+		{
+			if (index.keyFunction == keyPred.keyFunction)
+			{
+				return view(index.entries.get(keyPred.key));
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Cria um predicado que verifica se a chave de um elemento, calculada pela função passada como parâmetro, é igual à
+	 * chave passada como parâmetro. <br/>
+	 * Se a coleção possuir um índice criado com a mesma função (a mesma instância), o filter e o find usam o índice. Do
+	 * contrário, o predicado é aplicado normalmente em cada elemento.
+	 *
+	 * @param <A> O tipo dos elementos
+	 * @param <K> O tipo da chave
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param key A chave a ser pesquisada
+	 * @return Um predicado de igualdade de chave
+	 */
+	public static <A, K> Function1<A, Boolean> keyEquals(final Function1<? super A, K> keyFunction, final K key)
+	{
+		return new KeyPredicate<A, K>(keyFunction, key);
+	}
+
+	private Index<T> getIndex(final String name)
+	{
+		final Index<T> index = indexes.get(name);
+
+		if (index == null)
+		{
+			throw new IllegalArgumentException("Não existe um índice com o nome " + name);
+		}
+		return index;
+	}
+
+	private static <T> List<T> view(final List<T> entry)
+	{
+		return entry == null ? Collections.<T> emptyList() : Collections.unmodifiableList(entry);
+	}
+
+	/**
+	 * Um índice: a função de chave e o mapa da chave para os elementos
+	 */
+	private static final class Index<T>
+	{
+		private final Function1<? super T, ?> keyFunction;
+		private final Map<Object, List<T>> entries;
+
+		Index(final Function1<? super T, ?> theKeyFunction, final IndexType indexType)
+		{
+			keyFunction = theKeyFunction;
+			entries = indexType == IndexType.SORTED ? new TreeMap<Object, List<T>>() : new HashMap<Object, List<T>>();
+		}
+
+		void add(final T element)
+		{
+			final Object key = keyFunction.apply(element);
+			List<T> entry = entries.get(key);
+
+			if (entry == null)
+			{
+				entry = new ArrayList<T>(2);
+				entries.put(key, entry);
+			}
+			entry.add(element);
+		}
+
+		void remove(final T element)
+		{
+			final Object key = keyFunction.apply(element);
+			final List<T> entry = entries.get(key);
+
+			if (entry != null && entry.remove(element) && entry.isEmpty())
+			{
+				entries.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Predicado de igualdade de chave, reconhecido pelas coleções indexadas
+	 */
+	private static final class KeyPredicate<A, K> implements Function1<A, Boolean>
+	{
+		private final Function1<? super A, K> keyFunction;
+		private final K key;
+
+		KeyPredicate(final Function1<? super A, K> theKeyFunction, final K theKey)
+		{
+			keyFunction = theKeyFunction;
+			key = theKey;
+		}
+
+		@Override
+		public Boolean apply(final A param)
+		{
+			final K curKey = keyFunction.apply(param);
+			return key == null ? curKey == null : key.equals(curKey);
+		}
+	}
+
+	/**
+	 * O tipo de um índice: HASH (pesquisa em O(1)) ou SORTED (pesquisa em O(log n), e por intervalo de chaves). <br/>
+	 * As chaves de um índice SORTED devem ser Comparable, e não podem ser nulas.
+	 */
+	public enum IndexType
+	{
+		HASH, SORTED;
+	}
+}
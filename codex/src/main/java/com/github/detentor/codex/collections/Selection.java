@@ -0,0 +1,490 @@
+package com.github.detentor.codex.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Algoritmos de seleção: os k maiores (ou menores) elementos, o n-ésimo elemento na ordem, e o mínimo e o máximo. <br/>
+ * <br/>
+ *
+ * Nenhum deles ordena a coleção inteira: <br/>
+ * - o {@link #topK(Iterable, int, Comparator) topK} mantém um heap com os k melhores elementos, em O(n log k) e memória O(k);
+ * <br/>
+ * - o {@link #nthElement(Iterable, int, Comparator) nthElement} usa o quickselect, em O(n) (esperado); <br/>
+ * - o {@link #minMax(Iterable, Comparator) minMax} encontra os dois extremos numa única passada pela coleção; <br/>
+ * - o {@link #maxBy(Iterable, Function1) maxBy} calcula a chave de cada elemento uma única vez. <br/>
+ * <br/>
+ *
+ * Em caso de empate, os elementos que aparecem primeiro na coleção têm preferência: o topK só substitui um elemento por
+ * outro estritamente maior, e o minMax, o maxBy e o minBy retornam o primeiro dos elementos empatados.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Selection
+{
+	/**
+	 * Número mínimo de elementos para que o topK paralelo seja, de fato, executado em paralelo
+	 */
+	private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	/**
+	 * Número de elementos a partir do qual um intervalo é dividido em duas tarefas
+	 */
+	private static final int SEQUENTIAL_CHUNK = 1 << 12;
+
+	private Selection()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna os k maiores elementos, de acordo com o comparator, do maior para o menor. <br/>
+	 * Se houver menos do que k elementos, todos são retornados.
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param k O número de elementos a serem retornados
+	 * @param comparator A função de comparação entre os elementos
+	 * @return Uma lista com os k maiores elementos, do maior para o menor
+	 * @throws IllegalArgumentException Se k for negativo
+	 */
+	public static <T> ListSharp<T> topK(final Iterable<T> source, final int k, final Comparator<? super T> comparator)
+	{
+		final BoundedHeap<T> heap = new BoundedHeap<T>(k, comparator);
+
+		for (final T ele : source)
+		{
+			heap.offer(ele);
+		}
+		return heap.toList();
+	}
+
+	/**
+	 * Retorna os k menores elementos, de acordo com o comparator, do menor para o maior (ver
+	 * {@link #topK(Iterable, int, Comparator) topK}).
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param k O número de elementos a serem retornados
+	 * @param comparator A função de comparação entre os elementos
+	 * @return Uma lista com os k menores elementos, do menor para o maior
+	 * @throws IllegalArgumentException Se k for negativo
+	 */
+	public static <T> ListSharp<T> bottomK(final Iterable<T> source, final int k, final Comparator<? super T> comparator)
+	{
+		return topK(source, k, Collections.reverseOrder(comparator));
+	}
+
+	/**
+	 * Retorna os k maiores elementos, como o {@link #topK(Iterable, int, Comparator) topK}, dividindo a coleção entre as threads
+	 * do {@link ForkJoinPool#commonPool() pool comum}: cada parte mantém o seu heap, e os heaps são combinados no final. <br/>
+	 * Coleções que não são sequências indexadas são copiadas antes da divisão.
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param k O número de elementos a serem retornados
+	 * @param comparator A função de comparação entre os elementos
+	 * @return Uma lista com os k maiores elementos, do maior para o menor
+	 * @throws IllegalArgumentException Se k for negativo
+	 */
+	public static <T> ListSharp<T> parTopK(final Iterable<T> source, final int k, final Comparator<? super T> comparator)
+	{
+		final IndexedSeq<T> seq = source instanceof IndexedSeq<?> ? (IndexedSeq<T>) source : ListSharp.from(source);
+
+		if (seq.size() < PARALLEL_THRESHOLD)
+		{
+			return topK(seq, k, comparator);
+		}
+		return ForkJoinPool.commonPool().invoke(new TopKTask<T>(seq, k, comparator, 0, seq.size())).toList();
+	}
+
+	/**
+	 * Retorna o elemento que ocuparia a posição n se os elementos fossem ordenados pelo comparator, em O(n) (esperado). <br/>
+	 * Os elementos são copiados para um vetor, que é parcialmente ordenado pelo quickselect: a coleção não é alterada.
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param n A posição do elemento na ordem, a partir de zero
+	 * @param comparator A função de comparação entre os elementos
+	 * @return O n-ésimo elemento na ordem do comparator
+	 * @throws IndexOutOfBoundsException Se a posição não existir na coleção
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T nthElement(final Iterable<T> source, final int n, final Comparator<? super T> comparator)
+	{
+		final Object[] data = toArray(source);
+
+		if (n < 0 || n >= data.length)
+		{
+			throw new IndexOutOfBoundsException("Índice: " + n + ", tamanho: " + data.length);
+		}
+		return (T) quickselect(data, n, (Comparator<Object>) comparator);
+	}
+
+	/**
+	 * Retorna o menor e o maior elemento, de acordo com o comparator, numa única passada.
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param comparator A função de comparação entre os elementos
+	 * @return Uma tupla com o menor e o maior elemento
+	 * @throws IllegalArgumentException Se não houver elementos
+	 */
+	public static <T> Tuple2<T, T> minMax(final Iterable<T> source, final Comparator<? super T> comparator)
+	{
+		final Iterator<T> ite = source.iterator();
+
+		if (!ite.hasNext())
+		{
+			throw new IllegalArgumentException("minMax foi chamado para uma coleção vazia");
+		}
+		T min = ite.next();
+		T max = min;
+
+		//Um elemento maior que o máximo não pode ser o novo mínimo, então a segunda comparação só é feita quando necessário.
+		//Comparar aos pares (3 comparações a cada 2 elementos) se mostrou mais lento: os desvios ficam imprevisíveis
+		while (ite.hasNext())
+		{
+			final T curEle = ite.next();
+
+			if (comparator.compare(curEle, max) > 0)
+			{
+				max = curEle;
+			}
+			else if (comparator.compare(curEle, min) < 0)
+			{
+				min = curEle;
+			}
+		}
+		return Tuple2.from(min, max);
+	}
+
+	/**
+	 * Retorna o elemento cuja chave, calculada pela função passada como parâmetro, é a maior. A chave de cada elemento é
+	 * calculada uma única vez.
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return O primeiro elemento com a maior chave
+	 * @throws IllegalArgumentException Se não houver elementos
+	 */
+	public static <T, K extends Comparable<? super K>> T maxBy(final Iterable<T> source, final Function1<? super T, K> keyFunction)
+	{
+		return extremeBy(source, keyFunction, 1);
+	}
+
+	/**
+	 * Retorna o elemento cuja chave, calculada pela função passada como parâmetro, é a menor. A chave de cada elemento é
+	 * calculada uma única vez.
+	 *
+	 * @param source Os elementos a serem pesquisados
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return O primeiro elemento com a menor chave
+	 * @throws IllegalArgumentException Se não houver elementos
+	 */
+	public static <T, K extends Comparable<? super K>> T minBy(final Iterable<T> source, final Function1<? super T, K> keyFunction)
+	{
+		return extremeBy(source, keyFunction, -1);
+	}
+
+	/**
+	 * Retorna o elemento com a maior chave (se o sinal for positivo) ou com a menor chave (se for negativo)
+	 */
+	private static <T, K extends Comparable<? super K>> T extremeBy(final Iterable<T> source,
+			final Function1<? super T, K> keyFunction, final int signal)
+	{
+		final Iterator<T> ite = source.iterator();
+
+		if (!ite.hasNext())
+		{
+			throw new IllegalArgumentException("Método não definido para coleções vazias");
+		}
+		T best = ite.next();
+		K bestKey = keyFunction.apply(best);
+
+		while (ite.hasNext())
+		{
+			final T curEle = ite.next();
+			final K curKey = keyFunction.apply(curEle);
+
+			final int cmp = curKey.compareTo(bestKey);
+
+			if (signal > 0 ? cmp > 0 : cmp < 0)
+			{
+				best = curEle;
+				bestKey = curKey;
+			}
+		}
+		return best;
+	}
+
+	private static Object[] toArray(final Iterable<?> source)
+	{
+		if (source instanceof IndexedSeq<?>)
+		{
+			//Copia pelo iterator, pois nem toda sequência indexada tem acesso em tempo constante (ex: FingerTreeSeq)
+			final IndexedSeq<?> seq = (IndexedSeq<?>) source;
+			final Object[] retorno = new Object[seq.size()];
+			int index = 0;
+
+			for (final Object ele : seq)
+			{
+				retorno[index++] = ele;
+			}
+			return retorno;
+		}
+
+		if (source instanceof Collection<?>)
+		{
+			return ((Collection<?>) source).toArray();
+		}
+		final List<Object> retorno = new ArrayList<Object>();
+
+		for (final Object ele : source)
+		{
+			retorno.add(ele);
+		}
+		return retorno.toArray();
+	}
+
+	/**
+	 * Reordena o vetor até que a posição n contenha o elemento que ela teria com o vetor ordenado. <br/>
+	 * O pivô é a mediana de três elementos, e a partição em três faixas (menores, iguais e maiores) evita o pior caso com
+	 * elementos repetidos. Se a partição degenerar, o intervalo restante é ordenado (introselect).
+	 */
+	private static Object quickselect(final Object[] data, final int n, final Comparator<Object> comparator)
+	{
+		int low = 0;
+		int high = data.length - 1;
+		int remainingSteps = 2 * (32 - Integer.numberOfLeadingZeros(data.length));
+
+		while (low < high)
+		{
+			if (remainingSteps-- == 0)
+			{
+				Arrays.sort(data, low, high + 1, comparator);
+				break;
+			}
+			final Object pivot = medianOfThree(data[low], data[(low + high) >>> 1], data[high], comparator);
+
+			//data[low, lt) < pivot, data[lt, i) == pivot, data(gt, high] > pivot
+			int lt = low;
+			int gt = high;
+			int i = low;
+
+			while (i <= gt)
+			{
+				final int cmp = comparator.compare(data[i], pivot);
+
+				if (cmp < 0)
+				{
+					swap(data, lt++, i++);
+				}
+				else if (cmp > 0)
+				{
+					swap(data, i, gt--);
+				}
+				else
+				{
+					i++;
+				}
+			}
+
+			if (n < lt)
+			{
+				high = lt - 1;
+			}
+			else if (n > gt)
+			{
+				low = gt + 1;
+			}
+			else
+			{
+				return data[n];
+			}
+		}
+		return data[n];
+	}
+
+	private static Object medianOfThree(final Object first, final Object second, final Object third,
+			final Comparator<Object> comparator)
+	{
+		if (comparator.compare(first, second) > 0)
+		{
+			return medianOfThree(second, first, third, comparator);
+		}
+
+		if (comparator.compare(second, third) <= 0)
+		{
+			return second;
+		}
+		return comparator.compare(first, third) > 0 ? first : third;
+	}
+
+	private static void swap(final Object[] data, final int first, final int second)
+	{
+		final Object temp = data[first];
+		data[first] = data[second];
+		data[second] = temp;
+	}
+
+	/**
+	 * Heap mínimo (na ordem do comparator) que guarda somente os k maiores elementos oferecidos: a raiz é o menor deles, e é
+	 * substituída quando chega um elemento maior.
+	 */
+	private static final class BoundedHeap<T>
+	{
+		private final int limit;
+		private final Comparator<? super T> comparator;
+		private Object[] heap;
+		private int size;
+
+		protected BoundedHeap(final int k, final Comparator<? super T> theComparator)
+		{
+			if (k < 0)
+			{
+				throw new IllegalArgumentException("k não pode ser negativo");
+			}
+			//O heap cresce até k, para que um k maior do que a coleção não reserve memória desnecessária
+			limit = k;
+			heap = new Object[Math.min(k, 16)];
+			comparator = theComparator;
+		}
+
+		@SuppressWarnings("unchecked")
+		public void offer(final T element)
+		{
+			if (size < limit)
+			{
+				if (size == heap.length)
+				{
+					heap = Arrays.copyOf(heap, (int) Math.min(2L * size, limit));
+				}
+				heap[size] = element;
+				siftUp(size++);
+			}
+			else if (size > 0 && comparator.compare(element, (T) heap[0]) > 0)
+			{
+				heap[0] = element;
+				siftDown(0);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		public void offerAll(final BoundedHeap<T> other)
+		{
+			for (int i = 0; i < other.size; i++)
+			{
+				offer((T) other.heap[i]);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		public ListSharp<T> toList()
+		{
+			final T[] retorno = (T[]) Arrays.copyOf(heap, size);
+			Arrays.sort(retorno, Collections.reverseOrder(comparator));
+			return ListSharp.from(retorno);
+		}
+
+		@SuppressWarnings("unchecked")
+		private void siftUp(final int index)
+		{
+			int child = index;
+			final T element = (T) heap[child];
+
+			while (child > 0)
+			{
+				final int parent = (child - 1) >>> 1;
+
+				if (comparator.compare(element, (T) heap[parent]) >= 0)
+				{
+					break;
+				}
+				heap[child] = heap[parent];
+				child = parent;
+			}
+			heap[child] = element;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void siftDown(final int index)
+		{
+			int parent = index;
+			final T element = (T) heap[parent];
+
+			while (2 * parent + 1 < size)
+			{
+				int child = 2 * parent + 1;
+
+				if (child + 1 < size && comparator.compare((T) heap[child + 1], (T) heap[child]) < 0)
+				{
+					child++;
+				}
+
+				if (comparator.compare(element, (T) heap[child]) <= 0)
+				{
+					break;
+				}
+				heap[parent] = heap[child];
+				parent = child;
+			}
+			heap[parent] = element;
+		}
+	}
+
+	/**
+	 * Tarefa que calcula o heap dos k maiores elementos de um intervalo da sequência
+	 */
+	private static final class TopKTask<T> extends RecursiveTask<BoundedHeap<T>>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final IndexedSeq<T> seq;
+		private final int k;
+		private final Comparator<? super T> comparator;
+		private final int from;
+		private final int until;
+
+		protected TopKTask(final IndexedSeq<T> theSeq, final int theK, final Comparator<? super T> theComparator,
+				final int theFrom, final int theUntil)
+		{
+			super();
+			seq = theSeq;
+			k = theK;
+			comparator = theComparator;
+			from = theFrom;
+			until = theUntil;
+		}
+
+		@Override
+		protected BoundedHeap<T> compute()
+		{
+			if (until - from <= SEQUENTIAL_CHUNK)
+			{
+				final BoundedHeap<T> heap = new BoundedHeap<T>(k, comparator);
+
+				for (int i = from; i < until; i++)
+				{
+					heap.offer(seq.apply(i));
+				}
+				return heap;
+			}
+
+			final int middle = (from + until) >>> 1;
+			final TopKTask<T> left = new TopKTask<T>(seq, k, comparator, from, middle);
+			left.fork();
+			final BoundedHeap<T> right = new TopKTask<T>(seq, k, comparator, middle, until).compute();
+			final BoundedHeap<T> retorno = left.join();
+			retorno.offerAll(right);
+			return retorno;
+		}
+	}
+}
@@ -0,0 +1,435 @@
+package com.github.detentor.codex.collections;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.operations.ObjectOps;
+
+/**
+ * Implementação comum das operações de conjunto ({@link SharpCollection#union(Iterable) union},
+ * {@link SharpCollection#diff(Iterable) diff}, {@link SharpCollection#intersect(Iterable) intersect},
+ * {@link SharpCollection#distinct() distinct} e {@link SharpCollection#distinctBy(Function1) distinctBy}). <br/>
+ * <br/>
+ *
+ * Todas as operações retornam iterators lazy: nenhuma tabela é construída antes da primeira chamada ao hasNext, e os elementos
+ * são processados na medida em que são pedidos. As coleções estritas simplesmente consomem o iterator num builder, enquanto a
+ * {@link com.github.detentor.codex.collections.immutable.LazyList LazyList} o encapsula. <br/>
+ * <br/>
+ *
+ * Regras utilizadas para escolher a estratégia: <br/>
+ * 1 - Se a coleção consultada já é um conjunto ({@link Set} ou {@link SetSharp}), o seu próprio contains é utilizado, sem
+ * construir uma nova tabela (um TreeSet, por exemplo, é consultado na sua ordem). <br/>
+ * 2 - Se o tamanho das duas coleções é conhecido sem percorrê-las, a tabela é construída para a menor delas. <br/>
+ * 3 - As tabelas são criadas já com a capacidade necessária, quando o tamanho é conhecido. <br/>
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class SetAlgebra
+{
+	private SetAlgebra()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna o tamanho do iterable passado como parâmetro, se ele puder ser obtido sem percorrer os elementos. <br/>
+	 * As coleções do codex informam o tamanho pelo {@link AbstractSharpCollection#knownSize() knownSize}.
+	 *
+	 * @param iterable O iterable cujo tamanho será retornado
+	 * @return O tamanho do iterable, ou -1 se o tamanho não for conhecido
+	 */
+	public static int knownSize(final Iterable<?> iterable)
+	{
+		if (iterable instanceof Collection<?>)
+		{
+			return ((Collection<?>) iterable).size();
+		}
+		if (iterable instanceof AbstractSharpCollection<?, ?>)
+		{
+			return ((AbstractSharpCollection<?, ?>) iterable).knownSize();
+		}
+		if (iterable instanceof SharpCollection<?> && !(iterable instanceof LinearSeq<?>))
+		{
+			return ((SharpCollection<?>) iterable).size();
+		}
+		return -1;
+	}
+
+	/**
+	 * Retorna a capacidade inicial de uma tabela hash que irá conter o número de elementos passado como parâmetro,
+	 * de modo que ela não precise ser redimensionada.
+	 *
+	 * @param expectedSize O número de elementos esperado, ou -1 se ele não for conhecido
+	 * @return A capacidade inicial da tabela
+	 */
+	public static int hashCapacity(final int expectedSize)
+	{
+		return expectedSize < 0 ? 16 : Math.max(4, (int) (expectedSize / 0.75f) + 1);
+	}
+
+	/**
+	 * Retorna os elementos do source que estão contidos em other, na ordem e multiplicidade do source.
+	 *
+	 * @param source A coleção cujos elementos serão retornados
+	 * @param other A coleção a ser utilizada para consulta
+	 * @return Um iterator lazy com o resultado da interseção
+	 */
+	public static <T> Iterator<T> intersect(final Iterable<T> source, final Iterable<T> other)
+	{
+		return filterByMembership(source, other, true);
+	}
+
+	/**
+	 * Retorna os elementos do source que não estão contidos em other, na ordem e multiplicidade do source.
+	 *
+	 * @param source A coleção cujos elementos serão retornados
+	 * @param other A coleção cujos elementos serão removidos
+	 * @return Um iterator lazy com o resultado da diferença
+	 */
+	public static <T> Iterator<T> diff(final Iterable<T> source, final Iterable<T> other)
+	{
+		return filterByMembership(source, other, false);
+	}
+
+	/**
+	 * Retorna todos os elementos do source, seguidos dos elementos de other que não estão contidos no source.
+	 *
+	 * @param source A primeira coleção
+	 * @param other A segunda coleção
+	 * @return Um iterator lazy com o resultado da união
+	 */
+	public static <T> Iterator<T> union(final Iterable<T> source, final Iterable<T> other)
+	{
+		final int sourceSize = knownSize(source);
+		final int otherSize = knownSize(other);
+
+		if (isSetLike(source) || otherSize < 0 || sourceSize <= otherSize)
+		{
+			//Guarda os elementos do source enquanto eles são retornados, e depois filtra o other
+			final LazyMembership<T> sourceMembership = new LazyMembership<T>(source, sourceSize, true);
+
+			return new ConcatIterator<T>(new FilterIterator<T>(source)
+			{
+				@Override
+				protected boolean accept(final T element)
+				{
+					sourceMembership.record(element);
+					return true;
+				}
+			}, new FilterIterator<T>(other)
+			{
+				@Override
+				protected boolean accept(final T element)
+				{
+					return !sourceMembership.contains(element);
+				}
+			});
+		}
+
+		//O other é menor: a tabela é construída com os elementos dele, e os encontrados no source são removidos
+		final Set<T> pending = new HashSet<T>(hashCapacity(otherSize));
+
+		return new ConcatIterator<T>(new FilterIterator<T>(source)
+		{
+			@Override
+			protected void init()
+			{
+				for (final T ele : other)
+				{
+					pending.add(ele);
+				}
+			}
+
+			@Override
+			protected boolean accept(final T element)
+			{
+				pending.remove(element);
+				return true;
+			}
+		}, new FilterIterator<T>(other)
+		{
+			@Override
+			protected boolean accept(final T element)
+			{
+				return pending.contains(element);
+			}
+		});
+	}
+
+	/**
+	 * Retorna os elementos do source que são distintos entre si (de acordo com o equals), na ordem do source.
+	 *
+	 * @param source A coleção cujos elementos serão retornados
+	 * @return Um iterator lazy somente com a primeira ocorrência de cada elemento
+	 */
+	public static <T> Iterator<T> distinct(final Iterable<T> source)
+	{
+		return distinctBy(source, ObjectOps.<T, T> identity());
+	}
+
+	/**
+	 * Retorna os elementos do source cujas chaves (calculadas pela função passada como parâmetro) são distintas entre si.
+	 *
+	 * @param source A coleção cujos elementos serão retornados
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return Um iterator lazy somente com o primeiro elemento de cada chave
+	 */
+	public static <T> Iterator<T> distinctBy(final Iterable<T> source, final Function1<? super T, ?> keyFunction)
+	{
+		final int sourceSize = knownSize(source);
+
+		return new FilterIterator<T>(source)
+		{
+			private Set<Object> seen;
+
+			@Override
+			protected void init()
+			{
+				seen = new HashSet<Object>(hashCapacity(sourceSize));
+			}
+
+			@Override
+			protected boolean accept(final T element)
+			{
+				return seen.add(keyFunction.apply(element));
+			}
+		};
+	}
+
+	/**
+	 * Filtra o source pela pertinência dos elementos em other, construindo a tabela do lado menor
+	 */
+	private static <T> Iterator<T> filterByMembership(final Iterable<T> source, final Iterable<T> other, final boolean keepMembers)
+	{
+		final int sourceSize = knownSize(source);
+		final int otherSize = knownSize(other);
+
+		if (isSetLike(other) || sourceSize < 0 || otherSize <= sourceSize)
+		{
+			final LazyMembership<T> otherMembership = new LazyMembership<T>(other, otherSize, false);
+
+			return new FilterIterator<T>(source)
+			{
+				@Override
+				protected boolean accept(final T element)
+				{
+					return otherMembership.contains(element) == keepMembers;
+				}
+			};
+		}
+
+		//O source é menor: a tabela é construída com os elementos dele, e o other é percorrido para saber quais foram encontrados
+		return new FilterIterator<T>(source)
+		{
+			private Set<T> found;
+
+			@Override
+			protected void init()
+			{
+				final Set<T> sourceSet = new HashSet<T>(hashCapacity(sourceSize));
+
+				for (final T ele : source)
+				{
+					sourceSet.add(ele);
+				}
+
+				found = new HashSet<T>(hashCapacity(sourceSet.size()));
+
+				for (final T ele : other)
+				{
+					if (sourceSet.contains(ele) && found.add(ele) && found.size() == sourceSet.size())
+					{
+						break; //Todos os elementos do source já foram encontrados
+					}
+				}
+			}
+
+			@Override
+			protected boolean accept(final T element)
+			{
+				return found.contains(element) == keepMembers;
+			}
+		};
+	}
+
+	private static boolean isSetLike(final Iterable<?> iterable)
+	{
+		return iterable instanceof Set<?> || iterable instanceof SetSharp<?>;
+	}
+
+	/**
+	 * Consulta de pertinência que reutiliza o conjunto original, quando possível, ou constrói uma tabela hash
+	 */
+	private static final class LazyMembership<T>
+	{
+		private final Iterable<T> iterable;
+		private final int expectedSize;
+		private final boolean recording;
+		private Set<T> table;
+
+		/**
+		 * @param theIterable A coleção a ser consultada
+		 * @param theExpectedSize O tamanho da coleção, ou -1 se ele não for conhecido
+		 * @param isRecording Se true, a tabela será alimentada pelo {@link #record(Object)}, na medida em que a coleção é
+		 *            percorrida. Do contrário, a coleção será percorrida na primeira consulta.
+		 */
+		protected LazyMembership(final Iterable<T> theIterable, final int theExpectedSize, final boolean isRecording)
+		{
+			super();
+			iterable = theIterable;
+			expectedSize = theExpectedSize;
+			recording = isRecording && !isSetLike(theIterable);
+		}
+
+		protected void record(final T element)
+		{
+			if (recording)
+			{
+				getTable().add(element);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		protected boolean contains(final Object element)
+		{
+			if (iterable instanceof Set<?>)
+			{
+				return ((Set<Object>) iterable).contains(element);
+			}
+			if (iterable instanceof SetSharp<?>)
+			{
+				return ((SetSharp<Object>) iterable).contains(element);
+			}
+			return getTable().contains(element);
+		}
+
+		private Set<T> getTable()
+		{
+			if (table == null)
+			{
+				table = new HashSet<T>(hashCapacity(expectedSize));
+
+				if (!recording)
+				{
+					for (final T ele : iterable)
+					{
+						table.add(ele);
+					}
+				}
+			}
+			return table;
+		}
+	}
+
+	/**
+	 * Iterator que retorna somente os elementos aceitos, e que só começa a percorrer o iterable na primeira chamada ao hasNext
+	 */
+	private abstract static class FilterIterator<T> implements Iterator<T>
+	{
+		private final Iterable<T> iterable;
+		private Iterator<T> ite;
+		private T nextElement;
+		private boolean hasElement;
+
+		protected FilterIterator(final Iterable<T> theIterable)
+		{
+			super();
+			iterable = theIterable;
+		}
+
+		/**
+		 * Chamado uma única vez, antes do primeiro elemento ser verificado
+		 */
+		protected void init()
+		{
+			//Por padrão não faz nada
+		}
+
+		/**
+		 * Chamado uma única vez para cada elemento, na ordem do iterable
+		 */
+		protected abstract boolean accept(final T element);
+
+		@Override
+		public boolean hasNext()
+		{
+			if (ite == null)
+			{
+				init();
+				ite = iterable.iterator();
+			}
+
+			while (!hasElement && ite.hasNext())
+			{
+				final T curEle = ite.next();
+
+				if (accept(curEle))
+				{
+					nextElement = curEle;
+					hasElement = true;
+				}
+			}
+			return hasElement;
+		}
+
+		@Override
+		public T next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException("não há mais elementos");
+			}
+			final T toReturn = nextElement;
+			nextElement = null;
+			hasElement = false;
+			return toReturn;
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("Operação de remoção não suportada");
+		}
+	}
+
+	/**
+	 * Iterator que retorna os elementos do primeiro iterator, e depois os do segundo. O segundo só é consultado quando o
+	 * primeiro termina.
+	 */
+	private static final class ConcatIterator<T> implements Iterator<T>
+	{
+		private final Iterator<T> first;
+		private final Iterator<T> second;
+
+		protected ConcatIterator(final Iterator<T> theFirst, final Iterator<T> theSecond)
+		{
+			super();
+			first = theFirst;
+			second = theSecond;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return first.hasNext() || second.hasNext();
+		}
+
+		@Override
+		public T next()
+		{
+			return first.hasNext() ? first.next() : second.next();
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("Operação de remoção não suportada");
+		}
+	}
+}
@@ -3,8 +3,14 @@ package com.github.detentor.codex.collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.product.Tuple2;
 
 /**
@@ -70,6 +76,40 @@ public interface SharpCollection<T> extends Iterable<T>, HighOrderFunctions<T>,
      */
     @Override
 	public Iterator<T> iterator();
+
+    /**
+     * Retorna um {@link Spliterator} sobre os elementos desta coleção. <br/>
+     * A implementação padrão é baseada no {@link #iterator()}, sem tamanho conhecido. As coleções do codex sobrescrevem
+     * este método: as características (SIZED, SUBSIZED, ORDERED, DISTINCT, IMMUTABLE) refletem o tipo da coleção, e as
+     * sequências indexadas são divididas pelos índices.
+     * 
+     * @return um <tt>Spliterator</tt> sobre os elementos desta coleção
+     */
+    @Override
+	default Spliterator<T> spliterator()
+	{
+		return Spliterators.spliteratorUnknownSize(iterator(), 0);
+	}
+
+    /**
+     * Retorna um {@link Stream} sequencial com os elementos desta coleção, a partir do {@link #spliterator()}.
+     * 
+     * @return um <tt>Stream</tt> sequencial sobre os elementos desta coleção
+     */
+    default Stream<T> stream()
+	{
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+    /**
+     * Retorna um {@link Stream} possivelmente paralelo com os elementos desta coleção, a partir do {@link #spliterator()}.
+     * 
+     * @return um <tt>Stream</tt> paralelo sobre os elementos desta coleção
+     */
+    default Stream<T> parallelStream()
+	{
+		return StreamSupport.stream(spliterator(), true);
+	}
     
     //Métodos diversos:
     
@@ -167,6 +207,29 @@ public interface SharpCollection<T> extends Iterable<T>, HighOrderFunctions<T>,
 	 */
 	SharpCollection<? extends SharpCollection<T>> grouped(final Integer size);
 
+	/**
+	 * Retorna as janelas deslizantes desta coleção, com size elementos, avançando um elemento por vez. <br/>
+	 * Equivale a {@link #sliding(Integer, Integer) sliding(size, 1)}.
+	 * @param size O tamanho de cada janela
+	 * @return Uma coleção de coleções, onde cada uma delas terá size itens. Se esta coleção tiver menos do que size
+	 * elementos, é retornada uma única janela com todos eles.
+	 */
+	SharpCollection<? extends SharpCollection<T>> sliding(final Integer size);
+
+	/**
+	 * Retorna as janelas deslizantes desta coleção, com size elementos, onde cada janela começa step elementos após o início
+	 * da anterior. <br/>
+	 * A última janela pode estar truncada, se sobrarem elementos que não pertencem a nenhuma janela anterior. Portanto,
+	 * <tt>sliding(size, size)</tt> equivale a {@link #grouped(Integer) grouped(size)}. <br/>
+	 * Sequências indexadas retornam sub-sequências como janelas, sem copiar os elementos quando a sub-sequência os
+	 * compartilha; as demais coleções são percorridas uma única vez.
+	 * @param size O tamanho de cada janela
+	 * @param step A distância entre o início de duas janelas consecutivas
+	 * @return Uma coleção de coleções, onde cada uma delas terá size itens. A última pode estar possivelmente truncada.
+	 * @throws IllegalArgumentException Se size ou step não forem maiores do que zero
+	 */
+	SharpCollection<? extends SharpCollection<T>> sliding(final Integer size, final Integer step);
+
 	/**
 	 * Chama o método toString em cada elemento desta coleção, concatenando os resultados.
 	 * @return Uma string que representa a chamada ao método toString em cada elemento da coleção.
@@ -206,6 +269,175 @@ public interface SharpCollection<T> extends Iterable<T>, HighOrderFunctions<T>,
 	 * @return Uma coleção de tuplas, onde o primeiro elemento é o elemento original, e o segundo o seu índice
 	 */
 	SharpCollection<Tuple2<T, Integer>> zipWithIndex();
+
+	/**
+	 * Retorna uma coleção de pares formados pelos elementos desta coleção e os elementos (nas mesmas posições) da coleção
+	 * passada como parâmetro. <br/>
+	 * Se as coleções tiverem tamanhos diferentes, os elementos excedentes da maior são descartados. <br/>
+	 * Se as duas coleções forem sequências indexadas, o resultado é uma visão das duas (sem cópia dos elementos).
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares
+	 * @return Uma coleção de tuplas, onde o primeiro elemento é desta coleção, e o segundo da outra
+	 */
+	<B> SharpCollection<Tuple2<T, B>> zip(final Iterable<B> other);
+
+	/**
+	 * Retorna uma coleção de pares formados pelos elementos desta coleção e os elementos (nas mesmas posições) da coleção
+	 * passada como parâmetro. <br/>
+	 * Se as coleções tiverem tamanhos diferentes, a menor delas é completada com o elemento padrão correspondente.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares
+	 * @param thisElem O elemento que completa esta coleção, se ela for a menor
+	 * @param thatElem O elemento que completa a outra coleção, se ela for a menor
+	 * @return Uma coleção de tuplas, com o tamanho da maior das duas coleções
+	 */
+	<B> SharpCollection<Tuple2<T, B>> zipAll(final Iterable<B> other, final T thisElem, final B thatElem);
+
+	/**
+	 * Separa esta coleção em duas, a partir da função que transforma cada elemento num par. É a operação inversa do
+	 * {@link #zip(Iterable) zip}: para uma coleção de tuplas, basta passar a identidade como função.
+	 * @param <A> O tipo de dados do primeiro elemento dos pares
+	 * @param <B> O tipo de dados do segundo elemento dos pares
+	 * @param asPair A função que transforma cada elemento desta coleção num par
+	 * @return Uma tupla, onde o primeiro elemento é a coleção com os primeiros elementos dos pares, e o segundo a coleção
+	 * com os segundos elementos
+	 */
+	<A, B> Tuple2<? extends SharpCollection<A>, ? extends SharpCollection<B>> unzip(
+			final Function1<? super T, ? extends Tuple2<A, B>> asPair);
+
+	/**
+	 * Retorna os pares formados pelos elementos desta coleção e os elementos da coleção passada como parâmetro que possuem a
+	 * mesma chave (junção por hash). <br/>
+	 * A tabela de chaves é criada com a menor das coleções, quando os tamanhos forem conhecidos, portanto a ordem dos pares
+	 * não é especificada (ela pode seguir qualquer uma das coleções). O resultado é lazy: as coleções só são percorridas
+	 * quando os pares forem pedidos.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @return Uma LazyList com os pares de elementos com a mesma chave
+	 */
+	<B, K> LazyList<Tuple2<T, B>> join(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey);
+
+	/**
+	 * Retorna os pares formados pelos elementos desta coleção e os elementos da coleção passada como parâmetro que possuem a
+	 * mesma chave, como o {@link #join(Iterable, Function1, Function1) join}. <br/>
+	 * Se a tabela de chaves precisar de mais do que maxInMemory elementos, as duas coleções são divididas em partições
+	 * gravadas em arquivos temporários (ver {@link Joins}). A ordem dos pares também não é especificada.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @param maxInMemory O número máximo de elementos guardados na tabela de chaves
+	 * @return Uma LazyList com os pares de elementos com a mesma chave
+	 */
+	<B, K> LazyList<Tuple2<T, B>> join(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory);
+
+	/**
+	 * Retorna, para cada elemento desta coleção, os pares formados com os elementos da coleção passada como parâmetro que
+	 * possuem a mesma chave, ou um par com {@link Option#empty()} se não existir nenhum. <br/>
+	 * A ordem desta coleção é preservada, e o resultado é lazy.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @return Uma LazyList com os pares
+	 */
+	<B, K> LazyList<Tuple2<T, Option<B>>> leftJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey);
+
+	/**
+	 * Retorna os pares do {@link #leftJoin(Iterable, Function1, Function1) leftJoin}. <br/>
+	 * Se a tabela de chaves precisar de mais do que maxInMemory elementos da outra coleção, as duas coleções são divididas
+	 * em partições gravadas em arquivos temporários (ver {@link Joins}), e a ordem dos pares passa a ser a das partições.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @param maxInMemory O número máximo de elementos da outra coleção guardados na tabela de chaves
+	 * @return Uma LazyList com os pares
+	 */
+	<B, K> LazyList<Tuple2<T, Option<B>>> leftJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory);
+
+	/**
+	 * Retorna os elementos desta coleção cuja chave existe na coleção passada como parâmetro. Cada elemento é retornado uma
+	 * única vez, na ordem desta coleção, e o resultado é lazy.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujas chaves serão pesquisadas
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @return Uma LazyList com os elementos desta coleção que possuem chave na outra coleção
+	 */
+	<B, K> LazyList<T> semiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey);
+
+	/**
+	 * Retorna os elementos do {@link #semiJoin(Iterable, Function1, Function1) semiJoin}. <br/>
+	 * Se a tabela precisar de mais do que maxInMemory chaves distintas da outra coleção, as duas coleções são divididas em
+	 * partições gravadas em arquivos temporários (ver {@link Joins}), e a ordem dos elementos passa a ser a das partições.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujas chaves serão pesquisadas
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @param maxInMemory O número máximo de chaves da outra coleção guardadas na memória
+	 * @return Uma LazyList com os elementos desta coleção que possuem chave na outra coleção
+	 */
+	<B, K> LazyList<T> semiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory);
+
+	/**
+	 * Retorna os elementos desta coleção cuja chave não existe na coleção passada como parâmetro, na ordem desta coleção. O
+	 * resultado é lazy.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujas chaves serão pesquisadas
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @return Uma LazyList com os elementos desta coleção que não possuem chave na outra coleção
+	 */
+	<B, K> LazyList<T> antiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey);
+
+	/**
+	 * Retorna os elementos do {@link #antiJoin(Iterable, Function1, Function1) antiJoin}. <br/>
+	 * Se a tabela precisar de mais do que maxInMemory chaves distintas da outra coleção, as duas coleções são divididas em
+	 * partições gravadas em arquivos temporários (ver {@link Joins}), e a ordem dos elementos passa a ser a das partições.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujas chaves serão pesquisadas
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @param maxInMemory O número máximo de chaves da outra coleção guardadas na memória
+	 * @return Uma LazyList com os elementos desta coleção que não possuem chave na outra coleção
+	 */
+	<B, K> LazyList<T> antiJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final int maxInMemory);
+
+	/**
+	 * Retorna os pares formados pelos elementos desta coleção e os elementos da coleção passada como parâmetro que possuem a
+	 * mesma chave, percorrendo as duas coleções em paralelo (junção por ordenação). <br/>
+	 * As duas coleções devem estar ordenadas pela chave: nenhuma tabela é criada, e apenas os elementos da outra coleção com
+	 * a chave atual são guardados na memória. A ordem desta coleção é preservada, e o resultado é lazy.
+	 * @param <B> O tipo de dados dos elementos da outra coleção
+	 * @param <K> O tipo de dados da chave
+	 * @param other A coleção cujos elementos serão os segundos elementos dos pares, ordenada pela chave
+	 * @param thisKey A função que calcula a chave dos elementos desta coleção
+	 * @param otherKey A função que calcula a chave dos elementos da outra coleção
+	 * @param comparator A função de comparação entre as chaves
+	 * @return Uma LazyList com os pares de elementos com a mesma chave
+	 * @throws IllegalArgumentException Durante o percurso, se alguma das coleções não estiver ordenada pela chave
+	 */
+	<B, K> LazyList<Tuple2<T, B>> mergeJoin(final Iterable<B> other, final Function1<? super T, K> thisKey,
+			final Function1<? super B, K> otherKey, final Comparator<? super K> comparator);
 	
 	/**
 	 * Calcula a interseção desta coleção com o iterator passado como parâmetro. <br/>
@@ -223,6 +455,34 @@ public interface SharpCollection<T> extends Iterable<T>, HighOrderFunctions<T>,
 	 * @return Uma coleção onde os elementos são todos distintos entre si.
 	 */
 	SharpCollection<T> distinct();
+
+	/**
+	 * Retorna uma coleção que possui somente os elementos cujas chaves, calculadas pela função passada como parâmetro, são
+	 * distintas entre si (de acordo com o equals). Para cada chave, é mantido o primeiro elemento. <br/>
+	 * A ordem é preservada, se ela estiver bem-definida.
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return Uma coleção onde as chaves dos elementos são todas distintas entre si.
+	 */
+	SharpCollection<T> distinctBy(final Function1<? super T, ?> keyFunction);
+
+	/**
+	 * Calcula a união desta coleção com o iterator passado como parâmetro. <br/>
+	 * Serão coletados todos os elementos desta coleção, seguidos dos elementos do iterator que não estejam contidos
+	 * nesta coleção. <br/>
+	 * @see java.util.Collection#addAll
+	 * @param withCollection O iterator a ser unido a esta coleção
+	 * @return Uma nova coleção com os elementos desta coleção e os elementos do iterator que não estão nela
+	 */
+	SharpCollection<T> union(final Iterable<T> withCollection);
+
+	/**
+	 * Calcula a diferença entre esta coleção e o iterator passado como parâmetro. <br/>
+	 * Serão coletados todos os elementos desta coleção que não estejam contidos no iterator. <br/>
+	 * @see java.util.Collection#removeAll
+	 * @param withCollection O iterator cujos elementos serão desconsiderados
+	 * @return Uma nova coleção com todos os elementos desta coleção que não estejam contidos no iterator
+	 */
+	SharpCollection<T> diff(final Iterable<T> withCollection);
 	
 	/**
 	 * Ordena esta coleção, de acordo com a ordenação natural de seus elementos. <br/>
@@ -0,0 +1,303 @@
+package com.github.detentor.codex.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Implementações de {@link Collector} que constroem as coleções do codex a partir de um {@link java.util.stream.Stream
+ * Stream}. <br/>
+ * <br/>
+ *
+ * Os coletores de listas acumulam os elementos em um ArrayList, que é copiado uma única vez para a lista final; nos
+ * streams paralelos, as partes são concatenadas com {@link List#addAll(java.util.Collection) addAll}. Os demais coletores
+ * acumulam os elementos diretamente no {@link SharpCollection#builder() builder} da coleção. <br/>
+ * Para obter um stream a partir de uma coleção, ver {@link SharpCollection#stream()}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class SharpCollectors
+{
+	private SharpCollectors()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna um coletor que constrói uma {@link ListSharp} (imutável), na ordem do stream.
+	 *
+	 * @param <T> O tipo de dados dos elementos
+	 * @return Um coletor de ListSharp
+	 */
+	public static <T> Collector<T, ?, ListSharp<T>> toListSharp()
+	{
+		return fromList(new Function<List<T>, ListSharp<T>>()
+		{
+			@Override
+			public ListSharp<T> apply(final List<T> list)
+			{
+				return ListSharp.from(list);
+			}
+		});
+	}
+
+	/**
+	 * Retorna um coletor que constrói uma {@link com.github.detentor.codex.collections.mutable.ListSharp ListSharp}
+	 * mutável, na ordem do stream.
+	 *
+	 * @param <T> O tipo de dados dos elementos
+	 * @return Um coletor de ListSharp mutável
+	 */
+	public static <T> Collector<T, ?, com.github.detentor.codex.collections.mutable.ListSharp<T>> toMutableListSharp()
+	{
+		return fromList(new Function<List<T>, com.github.detentor.codex.collections.mutable.ListSharp<T>>()
+		{
+			@Override
+			public com.github.detentor.codex.collections.mutable.ListSharp<T> apply(final List<T> list)
+			{
+				return com.github.detentor.codex.collections.mutable.ListSharp.from(list);
+			}
+		});
+	}
+
+	/**
+	 * Retorna um coletor que constrói uma {@link LLSharp} (imutável), na ordem do stream.
+	 *
+	 * @param <T> O tipo de dados dos elementos
+	 * @return Um coletor de LLSharp
+	 */
+	public static <T> Collector<T, ?, LLSharp<T>> toLLSharp()
+	{
+		return fromList(new Function<List<T>, LLSharp<T>>()
+		{
+			@Override
+			public LLSharp<T> apply(final List<T> list)
+			{
+				return LLSharp.from(list);
+			}
+		});
+	}
+
+	/**
+	 * Retorna um coletor que constrói um {@link SetSharp} do tipo HASH_SET.
+	 *
+	 * @param <T> O tipo de dados dos elementos
+	 * @return Um coletor de SetSharp
+	 */
+	public static <T> Collector<T, ?, SetSharp<T>> toSetSharp()
+	{
+		return toSetSharp(SetSharpType.HASH_SET);
+	}
+
+	/**
+	 * Retorna um coletor que constrói um {@link SetSharp} do tipo passado como parâmetro.
+	 *
+	 * @param <T> O tipo de dados dos elementos
+	 * @param setType O tipo do conjunto a ser construído
+	 * @return Um coletor de SetSharp
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Collector<T, ?, SetSharp<T>> toSetSharp(final SetSharpType setType)
+	{
+		final Characteristics[] characteristics = setType == SetSharpType.HASH_SET ? new Characteristics[] {
+				Characteristics.UNORDERED } : new Characteristics[0];
+		return (Collector<T, ?, SetSharp<T>>) (Collector<T, ?, ?>) SharpCollectors.<T> fromBuilder(SetSharp.<T> empty(setType),
+				characteristics);
+	}
+
+	/**
+	 * Retorna um coletor que constrói um {@link MapSharp} do tipo HASH_MAP, a partir de um stream de pares (chave, valor).
+	 * Se houver chaves repetidas, prevalece o último valor.
+	 *
+	 * @param <K> O tipo de dados das chaves
+	 * @param <V> O tipo de dados dos valores
+	 * @return Um coletor de MapSharp
+	 */
+	public static <K, V> Collector<Tuple2<K, V>, ?, MapSharp<K, V>> toMapSharp()
+	{
+		return toMapSharp(MapSharpType.HASH_MAP);
+	}
+
+	/**
+	 * Retorna um coletor que constrói um {@link MapSharp} do tipo passado como parâmetro, a partir de um stream de pares
+	 * (chave, valor). Se houver chaves repetidas, prevalece o último valor.
+	 *
+	 * @param <K> O tipo de dados das chaves
+	 * @param <V> O tipo de dados dos valores
+	 * @param mapType O tipo do mapa a ser construído
+	 * @return Um coletor de MapSharp
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> Collector<Tuple2<K, V>, ?, MapSharp<K, V>> toMapSharp(final MapSharpType mapType)
+	{
+		return (Collector<Tuple2<K, V>, ?, MapSharp<K, V>>) (Collector<Tuple2<K, V>, ?, ?>) SharpCollectors
+				.<Tuple2<K, V>> fromBuilder(MapSharp.<K, V> empty(mapType), new Characteristics[0]);
+	}
+
+	/**
+	 * Retorna um coletor que constrói uma coleção do mesmo tipo da coleção passada como parâmetro, através do
+	 * {@link SharpCollection#builder() builder} dela. <br/>
+	 * Nos streams paralelos, o resultado de cada parte é adicionado no builder da parte anterior.
+	 *
+	 * @param <T> O tipo de dados dos elementos
+	 * @param prototype A coleção cujo builder será usado (os elementos dela não são incluídos no resultado)
+	 * @return Um coletor que constrói coleções do tipo do protótipo
+	 */
+	public static <T> Collector<T, ?, SharpCollection<T>> toSharpCollection(final SharpCollection<?> prototype)
+	{
+		return SharpCollectors.<T> fromBuilder(prototype, new Characteristics[0]);
+	}
+
+	private static <T> Collector<T, ?, SharpCollection<T>> fromBuilder(final SharpCollection<?> prototype,
+			final Characteristics[] characteristics)
+	{
+		return new SimpleCollector<T, Builder<T, SharpCollection<T>>, SharpCollection<T>>(
+				new Supplier<Builder<T, SharpCollection<T>>>()
+		{
+			@Override
+			public Builder<T, SharpCollection<T>> get()
+			{
+				return prototype.<T> builder();
+			}
+		}, new BiConsumer<Builder<T, SharpCollection<T>>, T>()
+		{
+			@Override
+			public void accept(final Builder<T, SharpCollection<T>> builder, final T element)
+			{
+				builder.add(element);
+			}
+		}, new BinaryOperator<Builder<T, SharpCollection<T>>>()
+		{
+			@Override
+			public Builder<T, SharpCollection<T>> apply(final Builder<T, SharpCollection<T>> first,
+					final Builder<T, SharpCollection<T>> second)
+			{
+				AbstractBuilder.addAll(first, second.result());
+				return first;
+			}
+		}, new Function<Builder<T, SharpCollection<T>>, SharpCollection<T>>()
+		{
+			@Override
+			public SharpCollection<T> apply(final Builder<T, SharpCollection<T>> builder)
+			{
+				return builder.result();
+			}
+		}, characteristics);
+	}
+
+	/**
+	 * Cria um coletor que acumula os elementos num ArrayList, e constrói o resultado a partir dele com o finisher
+	 */
+	private static <T, R> Collector<T, ?, R> fromList(final Function<List<T>, R> finisher)
+	{
+		return new SimpleCollector<T, List<T>, R>(SharpCollectors.<T> newList(), SharpCollectors.<T> addToList(),
+				SharpCollectors.<T> concatLists(), finisher, new Characteristics[0]);
+	}
+
+	private static <T> Supplier<List<T>> newList()
+	{
+		return new Supplier<List<T>>()
+		{
+			@Override
+			public List<T> get()
+			{
+				return new ArrayList<T>();
+			}
+		};
+	}
+
+	private static <T> BiConsumer<List<T>, T> addToList()
+	{
+		return new BiConsumer<List<T>, T>()
+		{
+			@Override
+			public void accept(final List<T> list, final T element)
+			{
+				list.add(element);
+			}
+		};
+	}
+
+	private static <T> BinaryOperator<List<T>> concatLists()
+	{
+		return new BinaryOperator<List<T>>()
+		{
+			@Override
+			public List<T> apply(final List<T> first, final List<T> second)
+			{
+				first.addAll(second);
+				return first;
+			}
+		};
+	}
+
+	/**
+	 * Coletor formado pelas funções passadas no construtor
+	 */
+	private static final class SimpleCollector<T, A, R> implements Collector<T, A, R>
+	{
+		private final Supplier<A> supplier;
+		private final BiConsumer<A, T> accumulator;
+		private final BinaryOperator<A> combiner;
+		private final Function<A, R> finisher;
+		private final Set<Characteristics> characteristics;
+
+		SimpleCollector(final Supplier<A> theSupplier, final BiConsumer<A, T> theAccumulator, final BinaryOperator<A> theCombiner,
+				final Function<A, R> theFinisher, final Characteristics[] theCharacteristics)
+		{
+			this.supplier = theSupplier;
+			this.accumulator = theAccumulator;
+			this.combiner = theCombiner;
+			this.finisher = theFinisher;
+			this.characteristics = Collections.unmodifiableSet(new HashSet<Characteristics>(Arrays.asList(theCharacteristics)));
+		}
+
+		@Override
+		public Supplier<A> supplier()
+		{
+			return supplier;
+		}
+
+		@Override
+		public BiConsumer<A, T> accumulator()
+		{
+			return accumulator;
+		}
+
+		@Override
+		public BinaryOperator<A> combiner()
+		{
+			return combiner;
+		}
+
+		@Override
+		public Function<A, R> finisher()
+		{
+			return finisher;
+		}
+
+		@Override
+		public Set<Characteristics> characteristics()
+		{
+			return characteristics;
+		}
+	}
+}
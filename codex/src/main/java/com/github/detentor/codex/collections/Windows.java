@@ -0,0 +1,355 @@
+package com.github.detentor.codex.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.github.detentor.codex.alg.Semigroup;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Operações sobre janelas deslizantes. <br/>
+ * <br/>
+ *
+ * O {@link #sliding(Iterator, int, int) sliding} percorre o iterator uma única vez, guardando os últimos elementos num buffer
+ * circular, e é a base do {@link SharpCollection#sliding(Integer, Integer) sliding} das coleções não indexadas (as indexadas
+ * retornam sub-sequências, sem copiar os elementos). <br/>
+ * <br/>
+ *
+ * As agregações móveis ({@link #movingSum(Iterable, int, Function1) movingSum}, {@link #movingMin(Iterable, int, Comparator)
+ * movingMin}, {@link #movingReduce(Iterable, int, Semigroup) movingReduce}, etc) retornam o resultado de cada janela completa
+ * de tamanho <tt>size</tt>, avançando um elemento por vez. Todas são atualizadas incrementalmente, a um custo (amortizado)
+ * constante por elemento, portanto a média móvel de n pontos custa O(n), e não O(n * size). <br/>
+ * Se a coleção tiver menos do que <tt>size</tt> elementos, não há janela completa e o resultado é vazio.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Windows
+{
+	private Windows()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna as janelas de <tt>size</tt> elementos do iterator, onde cada janela começa <tt>step</tt> elementos após o início da
+	 * anterior. <br/>
+	 * A última janela pode ter menos elementos, se sobrarem elementos que não pertencem a nenhuma janela anterior. Em
+	 * particular, <tt>sliding(ite, size, size)</tt> equivale ao grouped.
+	 *
+	 * @param iterator O iterator cujos elementos serão divididos em janelas
+	 * @param size O número de elementos de cada janela
+	 * @param step A distância entre o início de duas janelas consecutivas
+	 * @return Um iterator lazy, onde cada elemento é uma lista (nova) com os elementos da janela
+	 * @throws IllegalArgumentException Se size ou step não forem maiores do que zero
+	 */
+	public static <T> Iterator<List<T>> sliding(final Iterator<T> iterator, final int size, final int step)
+	{
+		checkArguments(size, step);
+		return new SlidingIterator<T>(iterator, size, step);
+	}
+
+	/**
+	 * Verifica se os parâmetros do sliding são válidos
+	 *
+	 * @param size O número de elementos de cada janela
+	 * @param step A distância entre o início de duas janelas consecutivas
+	 * @throws IllegalArgumentException Se size ou step não forem maiores do que zero
+	 */
+	public static void checkArguments(final int size, final int step)
+	{
+		if (size <= 0)
+		{
+			throw new IllegalArgumentException("size deve ser maior do que zero");
+		}
+		if (step <= 0)
+		{
+			throw new IllegalArgumentException("step deve ser maior do que zero");
+		}
+	}
+
+	/**
+	 * Retorna a soma móvel dos valores extraídos dos elementos, para cada janela completa de <tt>size</tt> elementos. <br/>
+	 * A soma é mantida com compensação de Kahan, para que a entrada e a saída de elementos não acumulem erro de arredondamento.
+	 *
+	 * @param source Os elementos da série
+	 * @param size O número de elementos de cada janela
+	 * @param function A função que extrai o valor de cada elemento
+	 * @return Uma lista com a soma de cada janela, na ordem da série
+	 */
+	public static <T> ListSharp<Double> movingSum(final Iterable<T> source, final int size,
+			final Function1<? super T, ? extends Number> function)
+	{
+		return movingSum(source, size, function, 1);
+	}
+
+	/**
+	 * Retorna a média móvel dos valores extraídos dos elementos, para cada janela completa de <tt>size</tt> elementos.
+	 *
+	 * @param source Os elementos da série
+	 * @param size O número de elementos de cada janela
+	 * @param function A função que extrai o valor de cada elemento
+	 * @return Uma lista com a média de cada janela, na ordem da série
+	 */
+	public static <T> ListSharp<Double> movingAverage(final Iterable<T> source, final int size,
+			final Function1<? super T, ? extends Number> function)
+	{
+		return movingSum(source, size, function, 1.0 / size);
+	}
+
+	/**
+	 * Retorna o menor elemento de cada janela completa de <tt>size</tt> elementos. <br/>
+	 * Utiliza uma fila monotônica, onde cada elemento entra e sai no máximo uma vez. Se houver empate, o elemento mais antigo
+	 * é retornado.
+	 *
+	 * @param source Os elementos da série
+	 * @param size O número de elementos de cada janela
+	 * @param comparator O comparador a ser utilizado para comparar os elementos
+	 * @return Uma lista com o menor elemento de cada janela, na ordem da série
+	 */
+	public static <T> ListSharp<T> movingMin(final Iterable<T> source, final int size, final Comparator<? super T> comparator)
+	{
+		return movingExtreme(source, size, comparator, 1);
+	}
+
+	/**
+	 * Retorna o maior elemento de cada janela completa de <tt>size</tt> elementos. <br/>
+	 * Utiliza uma fila monotônica, onde cada elemento entra e sai no máximo uma vez. Se houver empate, o elemento mais antigo
+	 * é retornado.
+	 *
+	 * @param source Os elementos da série
+	 * @param size O número de elementos de cada janela
+	 * @param comparator O comparador a ser utilizado para comparar os elementos
+	 * @return Uma lista com o maior elemento de cada janela, na ordem da série
+	 */
+	public static <T> ListSharp<T> movingMax(final Iterable<T> source, final int size, final Comparator<? super T> comparator)
+	{
+		return movingExtreme(source, size, comparator, -1);
+	}
+
+	/**
+	 * Retorna a combinação, pelo semigrupo, dos elementos de cada janela completa de <tt>size</tt> elementos. <br/>
+	 * Como o semigrupo não precisa ter inverso, a janela é mantida em duas pilhas (a de saída guarda as combinações
+	 * acumuladas a partir do fim), de modo que cada elemento é combinado um número constante de vezes.
+	 *
+	 * @param source Os elementos da série
+	 * @param size O número de elementos de cada janela
+	 * @param semigroup O semigrupo que combina os elementos, na ordem da série
+	 * @return Uma lista com a combinação dos elementos de cada janela, na ordem da série
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ListSharp<T> movingReduce(final Iterable<T> source, final int size, final Semigroup<T> semigroup)
+	{
+		checkArguments(size, 1);
+
+		final List<T> retorno = new ArrayList<T>();
+
+		//Pilha de saída: combinações dos elementos mais antigos, do topo (índice front - 1) até o fim da pilha
+		final Object[] frontAggregates = new Object[size];
+		//Pilha de entrada: os elementos mais recentes, e a combinação deles
+		final Object[] backElements = new Object[size];
+		int front = 0;
+		int back = 0;
+		T backAggregate = null;
+
+		for (final T ele : source)
+		{
+			if (front + back == size)
+			{
+				if (front == 0)
+				{
+					//Transfere a pilha de entrada para a de saída, acumulando a partir do elemento mais recente
+					T aggregate = null;
+
+					for (int i = back - 1; i >= 0; i--)
+					{
+						aggregate = i == back - 1 ? (T) backElements[i] : semigroup.append((T) backElements[i], aggregate);
+						frontAggregates[front++] = aggregate;
+						backElements[i] = null;
+					}
+					back = 0;
+					backAggregate = null;
+				}
+				frontAggregates[--front] = null; //Remove o elemento mais antigo
+			}
+
+			backElements[back++] = ele;
+			backAggregate = back == 1 ? ele : semigroup.append(backAggregate, ele);
+
+			if (front + back == size)
+			{
+				retorno.add(front == 0 ? backAggregate : semigroup.append((T) frontAggregates[front - 1], backAggregate));
+			}
+		}
+		return ListSharp.from(retorno);
+	}
+
+	private static <T> ListSharp<Double> movingSum(final Iterable<T> source, final int size,
+			final Function1<? super T, ? extends Number> function, final double factor)
+	{
+		checkArguments(size, 1);
+
+		final List<Double> retorno = new ArrayList<Double>();
+		final double[] window = new double[size];
+		double sum = 0;
+		double compensation = 0;
+		long count = 0;
+
+		for (final T ele : source)
+		{
+			final int index = (int) (count++ % size);
+			final double value = function.apply(ele).doubleValue();
+
+			//Soma de Kahan do valor que entra menos o valor que sai da janela
+			final double delta = value - window[index] - compensation;
+			final double newSum = sum + delta;
+			compensation = (newSum - sum) - delta;
+			sum = newSum;
+			window[index] = value;
+
+			if (count >= size)
+			{
+				retorno.add(sum * factor);
+			}
+		}
+		return ListSharp.from(retorno);
+	}
+
+	/**
+	 * Fila monotônica: o início da fila é sempre o extremo da janela
+	 *
+	 * @param sign 1 para o mínimo, -1 para o máximo
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> ListSharp<T> movingExtreme(final Iterable<T> source, final int size, final Comparator<? super T> comparator,
+			final int sign)
+	{
+		checkArguments(size, 1);
+
+		final List<T> retorno = new ArrayList<T>();
+		//Buffers circulares com os elementos da fila e a posição de cada um na série
+		final Object[] elements = new Object[size];
+		final long[] positions = new long[size];
+		int head = 0;
+		int length = 0;
+		long count = 0;
+
+		for (final T ele : source)
+		{
+			//Remove do início o elemento que sai da janela
+			if (length > 0 && positions[head] <= count - size)
+			{
+				elements[head] = null;
+				head = (head + 1) % size;
+				length--;
+			}
+
+			//Remove do fim os elementos que nunca mais serão o extremo
+			while (length > 0 && sign * comparator.compare((T) elements[(head + length - 1) % size], ele) > 0)
+			{
+				elements[(head + --length) % size] = null;
+			}
+
+			elements[(head + length) % size] = ele;
+			positions[(head + length) % size] = count;
+			length++;
+
+			if (++count >= size)
+			{
+				retorno.add((T) elements[head]);
+			}
+		}
+		return ListSharp.from(retorno);
+	}
+
+	/**
+	 * Iterator que retorna as janelas de um iterator, guardando os últimos elementos lidos num buffer circular
+	 */
+	private static final class SlidingIterator<T> implements Iterator<List<T>>
+	{
+		private final Iterator<T> iterator;
+		private final int size;
+		private final int step;
+		private final Object[] ring;
+		private long consumed;
+		private long nextStart;
+		private long lastEnd = -1;
+		private List<T> nextWindow;
+
+		protected SlidingIterator(final Iterator<T> theIterator, final int theSize, final int theStep)
+		{
+			super();
+			iterator = theIterator;
+			size = theSize;
+			step = theStep;
+			ring = new Object[theSize];
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean hasNext()
+		{
+			if (nextWindow != null || lastEnd == Long.MAX_VALUE)
+			{
+				return nextWindow != null;
+			}
+
+			//Descarta os elementos que não pertencem a nenhuma janela (quando step > size)
+			while (consumed < nextStart && iterator.hasNext())
+			{
+				iterator.next();
+				consumed++;
+			}
+
+			while (consumed < nextStart + size && iterator.hasNext())
+			{
+				ring[(int) (consumed++ % size)] = iterator.next();
+			}
+
+			final long available = consumed - nextStart;
+
+			//A janela incompleta só é retornada se contiver algum elemento que não pertence à janela anterior
+			if (available == size || (available > 0 && consumed - 1 > lastEnd))
+			{
+				final Object[] window = new Object[(int) available];
+
+				for (int i = 0; i < window.length; i++)
+				{
+					window[i] = ring[(int) ((nextStart + i) % size)];
+				}
+				nextWindow = (List<T>) Arrays.asList(window);
+				lastEnd = consumed - 1;
+				nextStart += step;
+			}
+			else
+			{
+				lastEnd = Long.MAX_VALUE; //Não há mais janelas
+				Arrays.fill(ring, null);
+			}
+			return nextWindow != null;
+		}
+
+		@Override
+		public List<T> next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException("não há mais elementos");
+			}
+			final List<T> toReturn = nextWindow;
+			nextWindow = null;
+			return toReturn;
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("Operação de remoção não suportada");
+		}
+	}
+}
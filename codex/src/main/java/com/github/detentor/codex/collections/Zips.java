@@ -0,0 +1,228 @@
+package com.github.detentor.codex.collections;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Implementação comum das operações de pareamento ({@link SharpCollection#zip(Iterable) zip} e
+ * {@link SharpCollection#zipAll(Iterable, Object, Object) zipAll}). <br/>
+ * <br/>
+ *
+ * Os iterators retornados são lazy: cada par é criado somente quando pedido, e as coleções de origem são percorridas uma
+ * única vez, em paralelo. <br/>
+ * Quando as duas coleções são sequências indexadas, o {@link #view(IndexedSeq, IndexedSeq) view} retorna uma sequência
+ * indexada que consulta as duas sequências de origem, sem copiar os elementos: o tamanho, o acesso a uma posição e o
+ * subsequence são executados em tempo constante. As sequências mutáveis são copiadas na criação da visão, pois o tamanho
+ * da visão é fixo. <br/>
+ * <br/>
+ *
+ * Para percorrer uma coleção com o índice, sem criar tuplas, veja
+ * {@link SharpCollection#foreachWithIndex(com.github.detentor.codex.function.IndexedFunction) foreachWithIndex}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Zips
+{
+	private Zips()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna os pares formados pelos elementos das mesmas posições dos dois iterators. <br/>
+	 * O pareamento termina quando qualquer um dos iterators terminar.
+	 *
+	 * @param first O iterator dos primeiros elementos dos pares
+	 * @param second O iterator dos segundos elementos dos pares
+	 * @return Um iterator lazy com os pares
+	 */
+	public static <A, B> Iterator<Tuple2<A, B>> zip(final Iterator<A> first, final Iterator<B> second)
+	{
+		return new ZipIterator<A, B>(first, second, false, null, null);
+	}
+
+	/**
+	 * Retorna os pares formados pelos elementos das mesmas posições dos dois iterators. <br/>
+	 * O pareamento termina quando os dois iterators terminarem: o iterator mais curto é completado com o elemento padrão.
+	 *
+	 * @param first O iterator dos primeiros elementos dos pares
+	 * @param second O iterator dos segundos elementos dos pares
+	 * @param firstElem O elemento que completa o primeiro iterator, se ele for o mais curto
+	 * @param secondElem O elemento que completa o segundo iterator, se ele for o mais curto
+	 * @return Um iterator lazy com os pares
+	 */
+	public static <A, B> Iterator<Tuple2<A, B>> zipAll(final Iterator<A> first, final Iterator<B> second, final A firstElem,
+			final B secondElem)
+	{
+		return new ZipIterator<A, B>(first, second, true, firstElem, secondElem);
+	}
+
+	/**
+	 * Retorna uma visão das duas sequências como uma sequência de pares, com o tamanho da menor delas. <br/>
+	 * Os elementos das sequências imutáveis não são copiados: cada acesso consulta as sequências de origem. As sequências
+	 * mutáveis são copiadas, para que alterações posteriores não mudem a visão.
+	 *
+	 * @param first A sequência dos primeiros elementos dos pares
+	 * @param second A sequência dos segundos elementos dos pares
+	 * @return Uma sequência indexada com os pares
+	 */
+	public static <A, B> IndexedSeq<Tuple2<A, B>> view(final IndexedSeq<A> first, final IndexedSeq<B> second)
+	{
+		final IndexedSeq<A> theFirst = snapshot(first);
+		final IndexedSeq<B> theSecond = snapshot(second);
+		return new ZippedSeq<A, B>(theFirst, theSecond, null, null, 0, Math.min(theFirst.size(), theSecond.size()));
+	}
+
+	/**
+	 * Retorna uma visão das duas sequências como uma sequência de pares, com o tamanho da maior delas. A sequência mais curta
+	 * é completada com o elemento padrão. <br/>
+	 * Assim como no {@link #view(IndexedSeq, IndexedSeq) view}, somente as sequências mutáveis são copiadas.
+	 *
+	 * @param first A sequência dos primeiros elementos dos pares
+	 * @param second A sequência dos segundos elementos dos pares
+	 * @param firstElem O elemento que completa a primeira sequência, se ela for a mais curta
+	 * @param secondElem O elemento que completa a segunda sequência, se ela for a mais curta
+	 * @return Uma sequência indexada com os pares
+	 */
+	public static <A, B> IndexedSeq<Tuple2<A, B>> viewAll(final IndexedSeq<A> first, final IndexedSeq<B> second, final A firstElem,
+			final B secondElem)
+	{
+		final IndexedSeq<A> theFirst = snapshot(first);
+		final IndexedSeq<B> theSecond = snapshot(second);
+		return new ZippedSeq<A, B>(theFirst, theSecond, firstElem, secondElem, 0, Math.max(theFirst.size(), theSecond.size()));
+	}
+
+	/**
+	 * Retorna uma cópia imutável da sequência, se ela for mutável, ou a própria sequência, caso contrário
+	 */
+	private static <T> IndexedSeq<T> snapshot(final IndexedSeq<T> seq)
+	{
+		return seq instanceof MutableSharpCollection<?> ? ListSharp.from(seq) : seq;
+	}
+
+	/**
+	 * Iterator que percorre dois iterators em paralelo
+	 */
+	private static final class ZipIterator<A, B> implements Iterator<Tuple2<A, B>>
+	{
+		private final Iterator<A> first;
+		private final Iterator<B> second;
+		private final boolean padded;
+		private final A firstElem;
+		private final B secondElem;
+
+		protected ZipIterator(final Iterator<A> theFirst, final Iterator<B> theSecond, final boolean isPadded, final A theFirstElem,
+				final B theSecondElem)
+		{
+			super();
+			first = theFirst;
+			second = theSecond;
+			padded = isPadded;
+			firstElem = theFirstElem;
+			secondElem = theSecondElem;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return padded ? first.hasNext() || second.hasNext() : first.hasNext() && second.hasNext();
+		}
+
+		@Override
+		public Tuple2<A, B> next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException("não há mais elementos");
+			}
+			final A val1 = first.hasNext() ? first.next() : firstElem;
+			final B val2 = second.hasNext() ? second.next() : secondElem;
+			return Tuple2.from(val1, val2);
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("Operação de remoção não suportada");
+		}
+	}
+
+	/**
+	 * Visão de duas sequências indexadas como uma sequência de pares. <br/>
+	 * As posições da visão começam em offset nas sequências de origem; posições além do fim de uma delas retornam o elemento
+	 * padrão (o que só acontece no zipAll).
+	 */
+	private static final class ZippedSeq<A, B> extends AbstractIndexedSeq<Tuple2<A, B>, IndexedSeq<Tuple2<A, B>>>
+	{
+		private final IndexedSeq<A> first;
+		private final IndexedSeq<B> second;
+		private final A firstElem;
+		private final B secondElem;
+		private final int offset;
+		private final int theSize;
+
+		protected ZippedSeq(final IndexedSeq<A> theFirst, final IndexedSeq<B> theSecond, final A theFirstElem, final B theSecondElem,
+				final int theOffset, final int size)
+		{
+			super();
+			first = theFirst;
+			second = theSecond;
+			firstElem = theFirstElem;
+			secondElem = theSecondElem;
+			offset = theOffset;
+			theSize = size;
+		}
+
+		@Override
+		public int size()
+		{
+			return theSize;
+		}
+
+		@Override
+		public Tuple2<A, B> apply(final Integer param)
+		{
+			if (param < 0 || param >= theSize)
+			{
+				throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + theSize);
+			}
+			final int index = offset + param;
+			return Tuple2.from(index < first.size() ? first.apply(index) : firstElem,
+					index < second.size() ? second.apply(index) : secondElem);
+		}
+
+		@Override
+		public IndexedSeq<Tuple2<A, B>> subsequence(final int startIndex, final int endIndex)
+		{
+			final int start = Math.min(Math.max(startIndex, 0), theSize);
+			final int end = Math.max(Math.min(endIndex, theSize), start);
+			return new ZippedSeq<A, B>(first, second, firstElem, secondElem, offset + start, end - start);
+		}
+
+		@Override
+		public IndexedSeq<Tuple2<A, B>> sorted()
+		{
+			return ListSharp.from(this).sorted();
+		}
+
+		@Override
+		public IndexedSeq<Tuple2<A, B>> sorted(final Comparator<? super Tuple2<A, B>> comparator)
+		{
+			return ListSharp.from(this).sorted(comparator);
+		}
+
+		/**
+		 * As operações que constroem novas coleções a partir da visão retornam uma ListSharp imutável
+		 */
+		@Override
+		public <X> Builder<X, SharpCollection<X>> builder()
+		{
+			return ListSharp.<Object> empty().<X> builder();
+		}
+	}
+}
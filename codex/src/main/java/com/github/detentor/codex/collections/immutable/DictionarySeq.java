@@ -0,0 +1,704 @@
+package com.github.detentor.codex.collections.immutable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.AbstractIndexedSeq;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Sequência imutável com codificação por dicionário: cada valor distinto é guardado uma única vez num dicionário, e cada
+ * elemento da sequência é guardado apenas como o código (a posição no dicionário) do seu valor. <br/>
+ * <br/>
+ *
+ * Os códigos são guardados num vetor de byte, short ou int, conforme o tamanho do dicionário. Uma sequência de um milhão
+ * de Strings com algumas centenas de valores distintos ocupa, assim, dois bytes por elemento, e as operações abaixo
+ * trabalham diretamente sobre os códigos: <br/>
+ * - {@link #contains(Object) contains} e {@link #equals(Object) equals} comparam inteiros; <br/>
+ * - {@link #filter(Function1) filter}, {@link #count(Function1) count}, {@link #map(Function1) map} e
+ * {@link #groupBy(Function1) groupBy} aplicam a função uma única vez por valor distinto; <br/>
+ * - {@link #distinct() distinct}, {@link #countByValue() countByValue} e {@link #sorted() sorted} usam vetores indexados
+ * pelos códigos no lugar de tabelas hash. <br/>
+ * <br/>
+ *
+ * Como as funções são aplicadas por valor, e não por elemento, elas devem ser puras (sem efeitos colaterais). Os valores
+ * devem implementar equals e hashCode (Strings, enums, RichString, etc). As sequências derivadas (subsequence, filter,
+ * distinct, etc) compartilham o dicionário desta sequência. Esta codificação só compensa para sequências com poucos
+ * valores distintos: com valores quase todos diferentes, o dicionário ocupa mais que uma ListSharp. Por isso, as operações
+ * que usam o {@link #builder() builder} retornam uma ListSharp quando o resultado tem muitos valores distintos.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo dos elementos da sequência
+ */
+public class DictionarySeq<T> extends AbstractIndexedSeq<T, IndexedSeq<T>>
+{
+	/**
+	 * O builder só mantém a codificação se houver no máximo um valor distinto a cada MAX_DISTINCT_RATIO elementos: acima
+	 * disso, o dicionário ocupa mais memória do que os códigos economizam
+	 */
+	private static final int MAX_DISTINCT_RATIO = 8;
+
+	private final Dictionary dictionary;
+	private final Codes codes;
+	private final int startIndex;
+	private final int theSize;
+
+	protected DictionarySeq(final Dictionary theDictionary, final Codes theCodes, final int theStart, final int size)
+	{
+		super();
+		this.dictionary = theDictionary;
+		this.codes = theCodes;
+		this.startIndex = theStart;
+		this.theSize = size;
+	}
+
+	/**
+	 * Retorna uma DictionarySeq vazia.
+	 *
+	 * @param <T> O tipo dos elementos da sequência
+	 * @return Uma DictionarySeq vazia
+	 */
+	public static <T> DictionarySeq<T> empty()
+	{
+		return new DictionarySeq<T>(new Dictionary(), Codes.of(new int[0], 0, 0), 0, 0);
+	}
+
+	/**
+	 * Cria uma DictionarySeq com os elementos do iterable passado como parâmetro, na mesma ordem.
+	 *
+	 * @param <T> O tipo dos elementos da sequência
+	 * @param theIterable O iterable que contém os elementos
+	 * @return Uma DictionarySeq com os elementos do iterable
+	 */
+	public static <T> DictionarySeq<T> from(final Iterable<T> theIterable)
+	{
+		final DictionaryBuilder<T> builder = new DictionaryBuilder<T>();
+
+		for (final T ele : theIterable)
+		{
+			builder.add(ele);
+		}
+		return builder.encoded();
+	}
+
+	/**
+	 * Cria uma DictionarySeq a partir dos valores passados como parâmetro.
+	 *
+	 * @param <T> O tipo dos elementos da sequência
+	 * @param valores Os elementos da sequência
+	 * @return Uma DictionarySeq com os valores passados como parâmetro
+	 */
+	public static <T> DictionarySeq<T> from(final T... valores)
+	{
+		return from(Arrays.asList(valores));
+	}
+
+	@Override
+	public int size()
+	{
+		return theSize;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T apply(final Integer param)
+	{
+		if (param < 0 || param >= theSize)
+		{
+			throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + theSize);
+		}
+		return (T) dictionary.values.get(codes.get(startIndex + param));
+	}
+
+	@Override
+	public DictionarySeq<T> subsequence(final int startIndex, final int endIndex)
+	{
+		final int start = Math.min(Math.max(startIndex, 0), theSize);
+		final int end = Math.max(Math.min(endIndex, theSize), start);
+		return new DictionarySeq<T>(dictionary, codes, this.startIndex + start, end - start);
+	}
+
+	/**
+	 * Retorna os valores do dicionário desta sequência, na ordem dos códigos. <br/>
+	 * Como o dicionário é compartilhado com as sequências derivadas, ele pode conter valores que não estão nesta sequência.
+	 *
+	 * @return Uma ListSharp com os valores do dicionário
+	 */
+	@SuppressWarnings("unchecked")
+	public ListSharp<T> dictionary()
+	{
+		return (ListSharp<T>) ListSharp.from(dictionary.values);
+	}
+
+	/**
+	 * Retorna uma estimativa do número de bytes ocupados pelos códigos e pelo vetor do dicionário (sem contar os valores do
+	 * dicionário).
+	 *
+	 * @return O número de bytes ocupados pela codificação
+	 */
+	public long sizeInBytes()
+	{
+		return (long) codes.bytesPerCode() * theSize + 4L * dictionary.values.size();
+	}
+
+	@Override
+	public boolean contains(final T element)
+	{
+		final Integer code = dictionary.codes.get(element);
+
+		if (code == null)
+		{
+			return false;
+		}
+		final int theCode = code;
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			if (codes.get(i) == theCode)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public DictionarySeq<T> filter(final Function1<? super T, Boolean> pred)
+	{
+		final byte[] accepted = new byte[dictionary.values.size()];
+		final int[] retorno = new int[theSize];
+		int count = 0;
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			final int code = codes.get(i);
+
+			if (accepts(pred, accepted, code))
+			{
+				retorno[count++] = code;
+			}
+		}
+		return count == theSize ? this : withCodes(retorno, count);
+	}
+
+	@Override
+	public Integer count(final Function1<? super T, Boolean> pred)
+	{
+		final byte[] accepted = new byte[dictionary.values.size()];
+		int retorno = 0;
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			if (accepts(pred, accepted, codes.get(i)))
+			{
+				retorno++;
+			}
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna o número de ocorrências de cada valor desta sequência, contadas pelos códigos.
+	 *
+	 * @return Um mapa cujas chaves são os valores desta sequência, e os valores o número de ocorrências de cada um
+	 */
+	@SuppressWarnings("unchecked")
+	public MapSharp<T, Integer> countByValue()
+	{
+		final int[] counts = new int[dictionary.values.size()];
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			counts[codes.get(i)]++;
+		}
+		final MapSharp<T, Integer> retorno = MapSharp.empty();
+
+		for (int code = 0; code < counts.length; code++)
+		{
+			if (counts[code] > 0)
+			{
+				retorno.add((T) dictionary.values.get(code), counts[code]);
+			}
+		}
+		return retorno;
+	}
+
+	@Override
+	public DictionarySeq<T> distinct()
+	{
+		final boolean[] seen = new boolean[dictionary.values.size()];
+		final int[] retorno = new int[Math.min(theSize, seen.length)];
+		int count = 0;
+
+		for (int i = startIndex; i < startIndex + theSize && count < seen.length; i++)
+		{
+			final int code = codes.get(i);
+
+			if (!seen[code])
+			{
+				seen[code] = true;
+				retorno[count++] = code;
+			}
+		}
+		return withCodes(retorno, count);
+	}
+
+	/**
+	 * A função é aplicada uma única vez por valor distinto, e os resultados são codificados num novo dicionário
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <B> DictionarySeq<B> map(final Function1<? super T, B> function)
+	{
+		final Dictionary mapped = new Dictionary();
+		final int[] translation = new int[dictionary.values.size()];
+		Arrays.fill(translation, -1);
+		final int[] retorno = new int[theSize];
+
+		for (int i = 0; i < theSize; i++)
+		{
+			final int code = codes.get(startIndex + i);
+
+			if (translation[code] < 0)
+			{
+				translation[code] = mapped.encode(function.apply((T) dictionary.values.get(code)));
+			}
+			retorno[i] = translation[code];
+		}
+		return new DictionarySeq<B>(mapped, Codes.of(retorno, theSize, mapped.values.size()), 0, theSize);
+	}
+
+	/**
+	 * A chave é calculada uma única vez por valor distinto, e os grupos compartilham o dicionário desta sequência
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <K> MapSharp<K, DictionarySeq<T>> groupBy(final Function1<? super T, K> keyFunction)
+	{
+		final int[] groupOf = new int[dictionary.values.size()];
+		Arrays.fill(groupOf, -1);
+		final List<K> keys = new ArrayList<K>();
+		final Map<K, Integer> groups = new HashMap<K, Integer>();
+		final List<int[]> groupCodes = new ArrayList<int[]>();
+		int[] groupSizes = new int[8];
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			final int code = codes.get(i);
+
+			if (groupOf[code] < 0)
+			{
+				final K key = keyFunction.apply((T) dictionary.values.get(code));
+				Integer group = groups.get(key);
+
+				if (group == null)
+				{
+					group = keys.size();
+					groups.put(key, group);
+					keys.add(key);
+					groupCodes.add(new int[8]);
+
+					if (group == groupSizes.length)
+					{
+						groupSizes = Arrays.copyOf(groupSizes, group * 2);
+					}
+				}
+				groupOf[code] = group;
+			}
+			final int group = groupOf[code];
+			final int size = groupSizes[group];
+			int[] members = groupCodes.get(group);
+
+			if (size == members.length)
+			{
+				members = Arrays.copyOf(members, size * 2);
+				groupCodes.set(group, members);
+			}
+			members[size] = code;
+			groupSizes[group] = size + 1;
+		}
+		final MapSharp<K, DictionarySeq<T>> retorno = MapSharp.empty();
+
+		for (int group = 0; group < keys.size(); group++)
+		{
+			retorno.add(keys.get(group), withCodes(groupCodes.get(group), groupSizes[group]));
+		}
+		return retorno;
+	}
+
+	/**
+	 * Somente os valores do dicionário são ordenados; os elementos são então distribuídos pelos códigos (counting sort),
+	 * mantendo a ordem original dos elementos iguais
+	 */
+	@Override
+	public DictionarySeq<T> sorted()
+	{
+		return sorted(new Comparator<T>()
+		{
+			@SuppressWarnings("unchecked")
+			@Override
+			public int compare(final T ob1, final T ob2)
+			{
+				return ((Comparable<? super T>) ob1).compareTo(ob2);
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public DictionarySeq<T> sorted(final Comparator<? super T> comparator)
+	{
+		final int[] counts = new int[dictionary.values.size()];
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			counts[codes.get(i)]++;
+		}
+		final List<Integer> present = new ArrayList<Integer>();
+
+		for (int code = 0; code < counts.length; code++)
+		{
+			if (counts[code] > 0)
+			{
+				present.add(code);
+			}
+		}
+		Collections.sort(present, new Comparator<Integer>()
+		{
+			@Override
+			public int compare(final Integer code1, final Integer code2)
+			{
+				return comparator.compare((T) dictionary.values.get(code1), (T) dictionary.values.get(code2));
+			}
+		});
+
+		//Valores iguais para o comparator dividem a mesma posição, para que a ordem original entre eles se mantenha
+		final int[] positionOf = new int[counts.length];
+		final int[] positions = new int[present.size()];
+		int position = -1;
+		int offset = 0;
+
+		for (int i = 0; i < present.size(); i++)
+		{
+			final int code = present.get(i);
+
+			if (i == 0 || comparator.compare((T) dictionary.values.get(present.get(i - 1)), (T) dictionary.values.get(code)) != 0)
+			{
+				positions[++position] = offset;
+			}
+			positionOf[code] = position;
+			offset += counts[code];
+		}
+		final int[] retorno = new int[theSize];
+
+		for (int i = startIndex; i < startIndex + theSize; i++)
+		{
+			final int code = codes.get(i);
+			retorno[positions[positionOf[code]]++] = code;
+		}
+		return withCodes(retorno, theSize);
+	}
+
+	/**
+	 * Compara os códigos das duas sequências: se o dicionário for o mesmo, diretamente; caso contrário, traduzindo cada
+	 * código da outra sequência uma única vez
+	 */
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (!(obj instanceof DictionarySeq<?>))
+		{
+			return super.equals(obj);
+		}
+		final DictionarySeq<?> other = (DictionarySeq<?>) obj;
+
+		if (this == other)
+		{
+			return true;
+		}
+
+		if (theSize != other.theSize)
+		{
+			return false;
+		}
+		int[] translation = null;
+
+		if (dictionary != other.dictionary)
+		{
+			translation = new int[other.dictionary.values.size()];
+			Arrays.fill(translation, -2);
+		}
+
+		for (int i = 0; i < theSize; i++)
+		{
+			int otherCode = other.codes.get(other.startIndex + i);
+
+			if (translation != null)
+			{
+				if (translation[otherCode] == -2)
+				{
+					final Integer code = dictionary.codes.get(other.dictionary.values.get(otherCode));
+					translation[otherCode] = code == null ? -1 : code;
+				}
+				otherCode = translation[otherCode];
+			}
+
+			if (codes.get(startIndex + i) != otherCode)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return super.hashCode();
+	}
+
+	/**
+	 * As operações que constroem novas coleções a partir desta sequência retornam uma DictionarySeq, se o resultado tiver
+	 * poucos valores distintos, ou uma {@link ListSharp}, caso contrário.
+	 */
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return new DictionaryBuilder<B>();
+	}
+
+	@Override
+	protected boolean isHashCacheable()
+	{
+		return true;
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
+	/**
+	 * Retorna o resultado do predicado para o valor do código, aplicando-o somente na primeira vez que o código aparece (o
+	 * vetor guarda 0 para os códigos ainda não avaliados, 1 para os aceitos e 2 para os rejeitados)
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean accepts(final Function1<? super T, Boolean> pred, final byte[] accepted, final int code)
+	{
+		if (accepted[code] == 0)
+		{
+			accepted[code] = pred.apply((T) dictionary.values.get(code)) ? (byte) 1 : (byte) 2;
+		}
+		return accepted[code] == 1;
+	}
+
+	private DictionarySeq<T> withCodes(final int[] newCodes, final int size)
+	{
+		return new DictionarySeq<T>(dictionary, Codes.of(newCodes, size, dictionary.values.size()), 0, size);
+	}
+
+	/**
+	 * O dicionário: os valores, na ordem dos códigos, e o código de cada valor. Só é alterado durante a construção da
+	 * sequência
+	 */
+	private static final class Dictionary
+	{
+		private final List<Object> values = new ArrayList<Object>();
+		private final Map<Object, Integer> codes = new HashMap<Object, Integer>();
+
+		/**
+		 * Retorna o código do valor, adicionando-o ao dicionário se ele ainda não existir
+		 */
+		int encode(final Object value)
+		{
+			final Integer code = codes.get(value);
+
+			if (code != null)
+			{
+				return code;
+			}
+			final int retorno = values.size();
+			values.add(value);
+			codes.put(value, retorno);
+			return retorno;
+		}
+	}
+
+	/**
+	 * Os códigos dos elementos, guardados no menor tipo primitivo capaz de representar todos os códigos do dicionário
+	 */
+	private abstract static class Codes
+	{
+		abstract int get(int index);
+
+		abstract int bytesPerCode();
+
+		static Codes of(final int[] values, final int size, final int dictionarySize)
+		{
+			if (dictionarySize <= 1 << 8)
+			{
+				final byte[] retorno = new byte[size];
+
+				for (int i = 0; i < size; i++)
+				{
+					retorno[i] = (byte) values[i];
+				}
+				return new ByteCodes(retorno);
+			}
+
+			if (dictionarySize <= 1 << 16)
+			{
+				final short[] retorno = new short[size];
+
+				for (int i = 0; i < size; i++)
+				{
+					retorno[i] = (short) values[i];
+				}
+				return new ShortCodes(retorno);
+			}
+			return new IntCodes(values.length == size ? values : Arrays.copyOf(values, size));
+		}
+	}
+
+	private static final class ByteCodes extends Codes
+	{
+		private final byte[] values;
+
+		protected ByteCodes(final byte[] theValues)
+		{
+			super();
+			values = theValues;
+		}
+
+		@Override
+		int get(final int index)
+		{
+			return values[index] & 0xFF;
+		}
+
+		@Override
+		int bytesPerCode()
+		{
+			return 1;
+		}
+	}
+
+	private static final class ShortCodes extends Codes
+	{
+		private final short[] values;
+
+		protected ShortCodes(final short[] theValues)
+		{
+			super();
+			values = theValues;
+		}
+
+		@Override
+		int get(final int index)
+		{
+			return values[index] & 0xFFFF;
+		}
+
+		@Override
+		int bytesPerCode()
+		{
+			return 2;
+		}
+	}
+
+	private static final class IntCodes extends Codes
+	{
+		private final int[] values;
+
+		protected IntCodes(final int[] theValues)
+		{
+			super();
+			values = theValues;
+		}
+
+		@Override
+		int get(final int index)
+		{
+			return values[index];
+		}
+
+		@Override
+		int bytesPerCode()
+		{
+			return 4;
+		}
+	}
+
+	/**
+	 * Builder que codifica os elementos à medida que eles são adicionados. O {@link #result()} volta para uma ListSharp se o
+	 * dicionário ficar grande demais (ver MAX_DISTINCT_RATIO), como o builder da TupleSeq faz quando as tuplas não
+	 * couberem em colunas. MUTÁVEL
+	 *
+	 * @param <E> O tipo dos elementos
+	 */
+	private static final class DictionaryBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private final Dictionary dictionary = new Dictionary();
+		private int[] codes = new int[16];
+		private int size = 0;
+
+		@Override
+		public void add(final E element)
+		{
+			if (size == codes.length)
+			{
+				codes = Arrays.copyOf(codes, size * 2);
+			}
+			codes[size++] = dictionary.encode(element);
+		}
+
+		@Override
+		public void sizeHint(final int theSize)
+		{
+			if (theSize > codes.length)
+			{
+				codes = Arrays.copyOf(codes, theSize);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public SharpCollection<E> result()
+		{
+			final List<Object> values = dictionary.values;
+
+			if ((long) values.size() * MAX_DISTINCT_RATIO <= size)
+			{
+				return encoded();
+			}
+			final List<Object> elements = new ArrayList<Object>(size);
+
+			for (int i = 0; i < size; i++)
+			{
+				elements.add(values.get(codes[i]));
+			}
+			return (SharpCollection<E>) ListSharp.from(elements);
+		}
+
+		/**
+		 * Retorna a sequência codificada, qualquer que seja o tamanho do dicionário
+		 */
+		DictionarySeq<E> encoded()
+		{
+			return new DictionarySeq<E>(dictionary, Codes.of(codes, size, dictionary.values.size()), 0, size);
+		}
+	}
+}
@@ -0,0 +1,1096 @@
+package com.github.detentor.codex.collections.immutable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import com.github.detentor.codex.alg.Semigroup;
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.AbstractIndexedSeq;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Sequência imutável baseada numa 2-3 finger tree, com o tamanho como medida. <br/>
+ * <br/>
+ *
+ * As operações nas pontas da sequência ({@link #prepend(Object) prepend}, {@link #append(Object) append},
+ * {@link #head() head}, {@link #last() last} e {@link #tail() tail}) custam O(1) amortizado, e o acesso a um índice
+ * ({@link #apply(Integer) apply}), a divisão ({@link #splitAt(Integer) splitAt}, {@link #subsequence(int, int)
+ * subsequence}, take, drop) e a concatenação ({@link #concat(FingerTreeSeq) concat}) custam O(log n). <br/>
+ * Note que, ao contrário das demais sequências indexadas, o acesso a um índice não é feito em tempo constante. <br/>
+ * <br/>
+ *
+ * Como a sequência é persistente (as versões anteriores continuam válidas após cada operação, e compartilham a maior parte
+ * da estrutura) e todos os seus campos são final, ela pode ser usada como uma fila de trabalho compartilhada entre threads,
+ * sem sincronização na leitura.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo de dados da sequência
+ */
+public class FingerTreeSeq<T> extends AbstractIndexedSeq<T, FingerTreeSeq<T>>
+{
+	private static final FingerTreeSeq<Object> EMPTY_SEQ = new FingerTreeSeq<Object>(Empty.INSTANCE);
+
+	private final Tree tree;
+
+	protected FingerTreeSeq(final Tree theTree)
+	{
+		super();
+		this.tree = theTree;
+	}
+
+	/**
+	 * Constrói uma instância de FingerTreeSeq vazia.
+	 *
+	 * @param <T> O tipo de dados da instância
+	 * @return Uma instância de FingerTreeSeq vazia.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> FingerTreeSeq<T> empty()
+	{
+		return (FingerTreeSeq<T>) EMPTY_SEQ;
+	}
+
+	/**
+	 * Cria uma nova FingerTreeSeq, a partir dos valores passados como parâmetro. <br/>
+	 * Esse método é uma forma mais compacta de se criar FingerTreeSeq.
+	 *
+	 * @param <T> O tipo de dados da sequência
+	 * @param valores Os valores da sequência, na ordem em que serão adicionados
+	 * @return Uma nova FingerTreeSeq, cujos elementos são os elementos passados como parâmetro
+	 */
+	public static <T> FingerTreeSeq<T> from(final T... valores)
+	{
+		Tree retorno = Empty.INSTANCE;
+
+		for (final T ele : valores)
+		{
+			retorno = pushBack(retorno, ele, 0);
+		}
+		return wrap(retorno);
+	}
+
+	/**
+	 * Cria uma instância de FingerTreeSeq a partir dos elementos existentes no iterable passado como parâmetro. A ordem da
+	 * adição dos elementos será a mesma ordem do iterable.
+	 *
+	 * @param <T> O tipo de dados da sequência
+	 * @param theIterable O iterable que contém os elementos
+	 * @return Uma sequência criada a partir da adição de todos os elementos do iterable
+	 */
+	public static <T> FingerTreeSeq<T> from(final Iterable<T> theIterable)
+	{
+		if (theIterable instanceof FingerTreeSeq<?>)
+		{
+			return (FingerTreeSeq<T>) theIterable;
+		}
+		Tree retorno = Empty.INSTANCE;
+
+		for (final T ele : theIterable)
+		{
+			retorno = pushBack(retorno, ele, 0);
+		}
+		return wrap(retorno);
+	}
+
+	/**
+	 * Retorna uma nova sequência, com o elemento passado como parâmetro no início desta. <br/>
+	 * Esta operação custa O(1) amortizado.
+	 *
+	 * @param element O elemento a ser adicionado
+	 * @return Uma nova sequência, cujo primeiro elemento é o elemento passado como parâmetro
+	 */
+	public FingerTreeSeq<T> prepend(final T element)
+	{
+		return new FingerTreeSeq<T>(pushFront(tree, element, 0));
+	}
+
+	/**
+	 * Retorna uma nova sequência, com o elemento passado como parâmetro no final desta. <br/>
+	 * Esta operação custa O(1) amortizado.
+	 *
+	 * @param element O elemento a ser adicionado
+	 * @return Uma nova sequência, cujo último elemento é o elemento passado como parâmetro
+	 */
+	public FingerTreeSeq<T> append(final T element)
+	{
+		return new FingerTreeSeq<T>(pushBack(tree, element, 0));
+	}
+
+	/**
+	 * Retorna a concatenação desta sequência com a sequência passada como parâmetro. <br/>
+	 * Esta operação custa O(log(min(n, m))), e as duas sequências continuam válidas.
+	 *
+	 * @param other A sequência cujos elementos serão adicionados após os elementos desta
+	 * @return Uma nova sequência, com os elementos desta seguidos dos elementos da outra sequência
+	 */
+	public FingerTreeSeq<T> concat(final FingerTreeSeq<T> other)
+	{
+		if (other.isEmpty())
+		{
+			return this;
+		}
+		if (this.isEmpty())
+		{
+			return other;
+		}
+		return new FingerTreeSeq<T>(concat(tree, NO_ITEMS, other.tree, 0));
+	}
+
+	@Override
+	public int size()
+	{
+		return tree.size;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T apply(final Integer param)
+	{
+		if (param < 0 || param >= tree.size)
+		{
+			throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + tree.size);
+		}
+		return (T) lookup(tree, param, 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T head()
+	{
+		ensureNotEmpty("head foi chamado para uma coleção vazia");
+		return (T) first(tree);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T last()
+	{
+		ensureNotEmpty("last foi chamado para uma coleção vazia");
+		return (T) last(tree);
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * Esta operação custa O(1) amortizado.
+	 */
+	@Override
+	public FingerTreeSeq<T> tail()
+	{
+		ensureNotEmpty("tail foi chamado para uma coleção vazia");
+		return wrap(removeFirst(tree, 0));
+	}
+
+	/**
+	 * Retorna esta sequência, sem o último elemento. <br/>
+	 * Esta operação custa O(1) amortizado.
+	 *
+	 * @return Uma nova sequência, com todos os elementos desta, exceto o último
+	 */
+	public FingerTreeSeq<T> init()
+	{
+		ensureNotEmpty("init foi chamado para uma coleção vazia");
+		return wrap(removeLast(tree, 0));
+	}
+
+	@Override
+	public FingerTreeSeq<T> subsequence(final int startIndex, final int endIndex)
+	{
+		final int start = Math.min(Math.max(startIndex, 0), tree.size);
+		final int end = Math.max(Math.min(endIndex, tree.size), start);
+
+		if (start == 0 && end == tree.size)
+		{
+			return this;
+		}
+		final Tree prefix = splitAt(tree, end)[0];
+		return wrap(splitAt(prefix, start)[1]);
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * A sequência é dividida uma única vez, em O(log n).
+	 */
+	@Override
+	public Tuple2<FingerTreeSeq<T>, FingerTreeSeq<T>> splitAt(final Integer num)
+	{
+		final Tree[] parts = splitAt(tree, num);
+		return Tuple2.from(FingerTreeSeq.<T> wrap(parts[0]), FingerTreeSeq.<T> wrap(parts[1]));
+	}
+
+	@Override
+	public FingerTreeSeq<T> reverse()
+	{
+		Tree retorno = Empty.INSTANCE;
+
+		for (final T ele : this)
+		{
+			retorno = pushFront(retorno, ele, 0);
+		}
+		return wrap(retorno);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public FingerTreeSeq<T> sorted()
+	{
+		return sorted(new DefaultComparator());
+	}
+
+	@Override
+	public FingerTreeSeq<T> sorted(final Comparator<? super T> comparator)
+	{
+		return from(ListSharp.from(this).sorted(comparator));
+	}
+
+	@Override
+	public Iterator<T> iterator()
+	{
+		return new TreeIterator<T>(tree);
+	}
+
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return new FingerTreeBuilder<B>();
+	}
+
+	@Override
+	protected boolean isHashCacheable()
+	{
+		return true;
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * O spliterator percorre a árvore com o iterator (e não pelos índices, cujo acesso custa O(log n)), e é dividido ao meio
+	 * pelo {@link #splitAt(Integer) splitAt} da árvore.
+	 */
+	@Override
+	public Spliterator<T> spliterator()
+	{
+		return new TreeSpliterator<T>(tree, characteristics());
+	}
+
+	/**
+	 * Combina os elementos dividindo a árvore ao meio pelo {@link #splitAt(Integer) splitAt}. Os pedaços pequenos são
+	 * percorridos com o iterator, e sequências com pelo menos {@link #PARALLEL_THRESHOLD} elementos são combinadas em
+	 * paralelo, no {@link ForkJoinPool#commonPool() pool comum}.
+	 */
+	@Override
+	protected <B> B reduceMap(final Function1<? super T, B> function, final Semigroup<B> semigroup)
+	{
+		final TreeReduceTask<T, B> task = new TreeReduceTask<T, B>(tree, function, semigroup);
+		return tree.size < PARALLEL_THRESHOLD ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Se a outra sequência for indexada, os tamanhos são comparados e os elementos são percorridos pelos iterators, pois o
+	 * acesso a um índice desta sequência custa O(log n).
+	 */
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj || !(obj instanceof IndexedSeq<?>))
+		{
+			return super.equals(obj);
+		}
+		final IndexedSeq<?> other = (IndexedSeq<?>) obj;
+
+		if (other.size() != tree.size)
+		{
+			return false;
+		}
+		final Iterator<T> thisIte = this.iterator();
+		final Iterator<?> otherIte = other.iterator();
+
+		while (thisIte.hasNext())
+		{
+			final T thisEle = thisIte.next();
+			final Object otherEle = otherIte.next();
+
+			if (!(thisEle == null ? otherEle == null : thisEle.equals(otherEle)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return super.hashCode();
+	}
+
+	@Override
+	public String toString()
+	{
+		return mkString("[", ", ", "]");
+	}
+
+	//Overrides obrigatórios
+
+	@Override
+	public <B> FingerTreeSeq<B> map(final Function1<? super T, B> function)
+	{
+		return (FingerTreeSeq<B>) super.map(function);
+	}
+
+	@Override
+	public <B> FingerTreeSeq<B> collect(final PartialFunction1<? super T, B> pFunction)
+	{
+		return (FingerTreeSeq<B>) super.collect(pFunction);
+	}
+
+	@Override
+	public <B> FingerTreeSeq<B> flatMap(final Function1<? super T, ? extends Iterable<B>> function)
+	{
+		return (FingerTreeSeq<B>) super.flatMap(function);
+	}
+
+	@Override
+	public FingerTreeSeq<Tuple2<T, Integer>> zipWithIndex()
+	{
+		return (FingerTreeSeq<Tuple2<T, Integer>>) super.zipWithIndex();
+	}
+
+	private static <T> FingerTreeSeq<T> wrap(final Tree theTree)
+	{
+		return theTree.size == 0 ? FingerTreeSeq.<T> empty() : new FingerTreeSeq<T>(theTree);
+	}
+
+	// ---------------------------------------------------------------------------------------------------------------
+	// Implementação da finger tree. Os itens de uma árvore de profundidade 0 são os elementos da sequência, e os itens de
+	// uma árvore de profundidade d > 0 são nós (Node) cujos itens têm profundidade d - 1. Como os elementos não carregam a
+	// profundidade, ela é passada como parâmetro para todos os métodos que precisam do tamanho de um item.
+	// ---------------------------------------------------------------------------------------------------------------
+
+	private static final Object[] NO_ITEMS = new Object[0];
+
+	/**
+	 * Retorna o número de elementos contidos no item passado como parâmetro
+	 */
+	private static int sizeOf(final Object item, final int depth)
+	{
+		return depth == 0 ? 1 : ((Node) item).size;
+	}
+
+	private static int sizeOf(final Object[] items, final int depth)
+	{
+		if (depth == 0)
+		{
+			return items.length;
+		}
+		int retorno = 0;
+
+		for (final Object item : items)
+		{
+			retorno += ((Node) item).size;
+		}
+		return retorno;
+	}
+
+	private static Tree pushFront(final Tree tree, final Object item, final int depth)
+	{
+		if (tree instanceof Empty)
+		{
+			return new Single(item, sizeOf(item, depth));
+		}
+		final int size = tree.size + sizeOf(item, depth);
+
+		if (tree instanceof Single)
+		{
+			return new Deep(new Object[] { item }, Empty.INSTANCE, new Object[] { ((Single) tree).item }, size);
+		}
+		final Deep deep = (Deep) tree;
+		final Object[] prefix = deep.prefix;
+
+		if (prefix.length == 4)
+		{
+			final Node node = Node.of(prefix[1], prefix[2], prefix[3], depth);
+			return new Deep(new Object[] { item, prefix[0] }, pushFront(deep.middle, node, depth + 1), deep.suffix, size);
+		}
+		final Object[] newPrefix = new Object[prefix.length + 1];
+		newPrefix[0] = item;
+		System.arraycopy(prefix, 0, newPrefix, 1, prefix.length);
+		return new Deep(newPrefix, deep.middle, deep.suffix, size);
+	}
+
+	private static Tree pushBack(final Tree tree, final Object item, final int depth)
+	{
+		if (tree instanceof Empty)
+		{
+			return new Single(item, sizeOf(item, depth));
+		}
+		final int size = tree.size + sizeOf(item, depth);
+
+		if (tree instanceof Single)
+		{
+			return new Deep(new Object[] { ((Single) tree).item }, Empty.INSTANCE, new Object[] { item }, size);
+		}
+		final Deep deep = (Deep) tree;
+		final Object[] suffix = deep.suffix;
+
+		if (suffix.length == 4)
+		{
+			final Node node = Node.of(suffix[0], suffix[1], suffix[2], depth);
+			return new Deep(deep.prefix, pushBack(deep.middle, node, depth + 1), new Object[] { suffix[3], item }, size);
+		}
+		final Object[] newSuffix = new Object[suffix.length + 1];
+		System.arraycopy(suffix, 0, newSuffix, 0, suffix.length);
+		newSuffix[suffix.length] = item;
+		return new Deep(deep.prefix, deep.middle, newSuffix, size);
+	}
+
+	private static Object first(final Tree tree)
+	{
+		return tree instanceof Single ? ((Single) tree).item : ((Deep) tree).prefix[0];
+	}
+
+	private static Object last(final Tree tree)
+	{
+		if (tree instanceof Single)
+		{
+			return ((Single) tree).item;
+		}
+		final Object[] suffix = ((Deep) tree).suffix;
+		return suffix[suffix.length - 1];
+	}
+
+	private static Tree removeFirst(final Tree tree, final int depth)
+	{
+		if (tree instanceof Single)
+		{
+			return Empty.INSTANCE;
+		}
+		final Deep deep = (Deep) tree;
+		return deep(copyOf(deep.prefix, 1, deep.prefix.length), deep.middle, deep.suffix, depth);
+	}
+
+	private static Tree removeLast(final Tree tree, final int depth)
+	{
+		if (tree instanceof Single)
+		{
+			return Empty.INSTANCE;
+		}
+		final Deep deep = (Deep) tree;
+		return deep(deep.prefix, deep.middle, copyOf(deep.suffix, 0, deep.suffix.length - 1), depth);
+	}
+
+	/**
+	 * Cria uma árvore a partir do prefixo, do meio e do sufixo passados como parâmetro, onde o prefixo ou o sufixo podem
+	 * estar vazios (nesse caso, o primeiro ou o último nó do meio é usado no lugar deles)
+	 */
+	private static Tree deep(final Object[] prefix, final Tree middle, final Object[] suffix, final int depth)
+	{
+		if (prefix.length == 0)
+		{
+			if (middle instanceof Empty)
+			{
+				return fromItems(suffix, depth);
+			}
+			return new Deep(((Node) first(middle)).items, removeFirst(middle, depth + 1), suffix, middle.size
+					+ sizeOf(suffix, depth));
+		}
+
+		if (suffix.length == 0)
+		{
+			if (middle instanceof Empty)
+			{
+				return fromItems(prefix, depth);
+			}
+			return new Deep(prefix, removeLast(middle, depth + 1), ((Node) last(middle)).items, sizeOf(prefix, depth)
+					+ middle.size);
+		}
+		return new Deep(prefix, middle, suffix, sizeOf(prefix, depth) + middle.size + sizeOf(suffix, depth));
+	}
+
+	private static Tree fromItems(final Object[] items, final int depth)
+	{
+		Tree retorno = Empty.INSTANCE;
+
+		for (final Object item : items)
+		{
+			retorno = pushBack(retorno, item, depth);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Concatena as duas árvores, com os itens passados como parâmetro entre elas
+	 */
+	private static Tree concat(final Tree left, final Object[] items, final Tree right, final int depth)
+	{
+		if (left instanceof Empty)
+		{
+			Tree retorno = right;
+
+			for (int i = items.length - 1; i >= 0; i--)
+			{
+				retorno = pushFront(retorno, items[i], depth);
+			}
+			return retorno;
+		}
+
+		if (right instanceof Empty)
+		{
+			Tree retorno = left;
+
+			for (final Object item : items)
+			{
+				retorno = pushBack(retorno, item, depth);
+			}
+			return retorno;
+		}
+
+		if (left instanceof Single)
+		{
+			return pushFront(concat(Empty.INSTANCE, items, right, depth), ((Single) left).item, depth);
+		}
+
+		if (right instanceof Single)
+		{
+			return pushBack(concat(left, items, Empty.INSTANCE, depth), ((Single) right).item, depth);
+		}
+
+		final Deep deepLeft = (Deep) left;
+		final Deep deepRight = (Deep) right;
+
+		//Os itens entre os meios das duas árvores (de 2 a 12) são agrupados em nós de 2 ou 3 itens
+		final Object[] between = new Object[deepLeft.suffix.length + items.length + deepRight.prefix.length];
+		System.arraycopy(deepLeft.suffix, 0, between, 0, deepLeft.suffix.length);
+		System.arraycopy(items, 0, between, deepLeft.suffix.length, items.length);
+		System.arraycopy(deepRight.prefix, 0, between, deepLeft.suffix.length + items.length, deepRight.prefix.length);
+
+		final Tree middle = concat(deepLeft.middle, toNodes(between, depth), deepRight.middle, depth + 1);
+		return new Deep(deepLeft.prefix, middle, deepRight.suffix, left.size + sizeOf(items, depth) + right.size);
+	}
+
+	private static Object[] toNodes(final Object[] items, final int depth)
+	{
+		final Object[] retorno = new Object[(items.length + 2) / 3];
+		int index = 0;
+		int count = 0;
+
+		while (index < items.length)
+		{
+			final int remaining = items.length - index;
+
+			if (remaining == 2 || remaining == 4)
+			{
+				retorno[count++] = Node.of(items[index], items[index + 1], depth);
+				index += 2;
+			}
+			else
+			{
+				retorno[count++] = Node.of(items[index], items[index + 1], items[index + 2], depth);
+				index += 3;
+			}
+		}
+		return count == retorno.length ? retorno : copyOf(retorno, 0, count);
+	}
+
+	/**
+	 * Retorna o elemento (de profundidade 0) na posição passada como parâmetro da árvore
+	 */
+	private static Object lookup(final Tree tree, final int index, final int depth)
+	{
+		if (tree instanceof Single)
+		{
+			return lookup(((Single) tree).item, index, depth);
+		}
+		final Deep deep = (Deep) tree;
+		final int prefixSize = sizeOf(deep.prefix, depth);
+
+		if (index < prefixSize)
+		{
+			return lookup(deep.prefix, index, depth);
+		}
+
+		if (index < prefixSize + deep.middle.size)
+		{
+			return lookup(deep.middle, index - prefixSize, depth + 1);
+		}
+		return lookup(deep.suffix, index - prefixSize - deep.middle.size, depth);
+	}
+
+	private static Object lookup(final Object[] items, final int index, final int depth)
+	{
+		int offset = index;
+
+		for (final Object item : items)
+		{
+			final int size = sizeOf(item, depth);
+
+			if (offset < size)
+			{
+				return lookup(item, offset, depth);
+			}
+			offset -= size;
+		}
+		throw new IllegalStateException("Índice fora dos itens: " + index);
+	}
+
+	private static Object lookup(final Object item, final int index, final int depth)
+	{
+		return depth == 0 ? item : lookup(((Node) item).items, index, depth - 1);
+	}
+
+	/**
+	 * Divide a árvore em duas, onde a primeira contém os elementos até o índice passado como parâmetro (exclusive)
+	 */
+	private static Tree[] splitAt(final Tree tree, final int index)
+	{
+		if (index <= 0)
+		{
+			return new Tree[] { Empty.INSTANCE, tree };
+		}
+
+		if (index >= tree.size)
+		{
+			return new Tree[] { tree, Empty.INSTANCE };
+		}
+		final Split split = split(tree, index, 0);
+		return new Tree[] { split.left, pushFront(split.right, split.item, 0) };
+	}
+
+	/**
+	 * Divide a árvore no item que contém o índice passado como parâmetro (que deve estar entre 0 e o tamanho da árvore)
+	 */
+	private static Split split(final Tree tree, final int index, final int depth)
+	{
+		if (tree instanceof Single)
+		{
+			return new Split(Empty.INSTANCE, ((Single) tree).item, Empty.INSTANCE, index);
+		}
+		final Deep deep = (Deep) tree;
+		final int prefixSize = sizeOf(deep.prefix, depth);
+
+		if (index < prefixSize)
+		{
+			final int pos = itemIndex(deep.prefix, index, depth);
+			return new Split(fromItems(copyOf(deep.prefix, 0, pos), depth), deep.prefix[pos], deep(copyOf(deep.prefix, pos + 1,
+					deep.prefix.length), deep.middle, deep.suffix, depth), index - sizeOf(copyOf(deep.prefix, 0, pos), depth));
+		}
+
+		final int middleSize = deep.middle.size;
+
+		if (index < prefixSize + middleSize)
+		{
+			//O meio é dividido no nó que contém o índice, e depois o próprio nó é dividido
+			final Split middleSplit = split(deep.middle, index - prefixSize, depth + 1);
+			final Object[] nodeItems = ((Node) middleSplit.item).items;
+			final int offset = middleSplit.offset;
+			final int pos = itemIndex(nodeItems, offset, depth);
+			final Object[] before = copyOf(nodeItems, 0, pos);
+
+			return new Split(deep(deep.prefix, middleSplit.left, before, depth), nodeItems[pos], deep(copyOf(nodeItems, pos + 1,
+					nodeItems.length), middleSplit.right, deep.suffix, depth), offset - sizeOf(before, depth));
+		}
+
+		final int suffixIndex = index - prefixSize - middleSize;
+		final int pos = itemIndex(deep.suffix, suffixIndex, depth);
+		final Object[] before = copyOf(deep.suffix, 0, pos);
+
+		return new Split(deep(deep.prefix, deep.middle, before, depth), deep.suffix[pos], fromItems(copyOf(deep.suffix, pos + 1,
+				deep.suffix.length), depth), suffixIndex - sizeOf(before, depth));
+	}
+
+	/**
+	 * Retorna a posição do item que contém o índice passado como parâmetro
+	 */
+	private static int itemIndex(final Object[] items, final int index, final int depth)
+	{
+		int offset = index;
+
+		for (int i = 0; i < items.length; i++)
+		{
+			offset -= sizeOf(items[i], depth);
+
+			if (offset < 0)
+			{
+				return i;
+			}
+		}
+		throw new IllegalStateException("Índice fora dos itens: " + index);
+	}
+
+	private static Object[] copyOf(final Object[] items, final int from, final int to)
+	{
+		if (from >= to)
+		{
+			return NO_ITEMS;
+		}
+		final Object[] retorno = new Object[to - from];
+		System.arraycopy(items, from, retorno, 0, retorno.length);
+		return retorno;
+	}
+
+	/**
+	 * Uma finger tree: vazia, com um único item, ou com prefixo, meio e sufixo
+	 */
+	private abstract static class Tree
+	{
+		protected final int size;
+
+		protected Tree(final int theSize)
+		{
+			this.size = theSize;
+		}
+	}
+
+	private static final class Empty extends Tree
+	{
+		private static final Empty INSTANCE = new Empty();
+
+		private Empty()
+		{
+			super(0);
+		}
+	}
+
+	private static final class Single extends Tree
+	{
+		private final Object item;
+
+		private Single(final Object theItem, final int size)
+		{
+			super(size);
+			this.item = theItem;
+		}
+	}
+
+	/**
+	 * O prefixo e o sufixo têm de 1 a 4 itens, e o meio é uma árvore de nós
+	 */
+	private static final class Deep extends Tree
+	{
+		private final Object[] prefix;
+		private final Tree middle;
+		private final Object[] suffix;
+
+		private Deep(final Object[] thePrefix, final Tree theMiddle, final Object[] theSuffix, final int size)
+		{
+			super(size);
+			this.prefix = thePrefix;
+			this.middle = theMiddle;
+			this.suffix = theSuffix;
+		}
+	}
+
+	/**
+	 * Nó de 2 ou 3 itens, que guarda o número de elementos contidos nele
+	 */
+	private static final class Node
+	{
+		private final Object[] items;
+		private final int size;
+
+		private Node(final Object[] theItems, final int theSize)
+		{
+			this.items = theItems;
+			this.size = theSize;
+		}
+
+		private static Node of(final Object item1, final Object item2, final int depth)
+		{
+			return new Node(new Object[] { item1, item2 }, sizeOf(item1, depth) + sizeOf(item2, depth));
+		}
+
+		private static Node of(final Object item1, final Object item2, final Object item3, final int depth)
+		{
+			return new Node(new Object[] { item1, item2, item3 }, sizeOf(item1, depth) + sizeOf(item2, depth)
+					+ sizeOf(item3, depth));
+		}
+	}
+
+	/**
+	 * Resultado da divisão de uma árvore: as árvores à esquerda e à direita do item que contém o índice, e a posição do
+	 * índice dentro do item
+	 */
+	private static final class Split
+	{
+		private final Tree left;
+		private final Object item;
+		private final Tree right;
+		private final int offset;
+
+		private Split(final Tree theLeft, final Object theItem, final Tree theRight, final int theOffset)
+		{
+			this.left = theLeft;
+			this.item = theItem;
+			this.right = theRight;
+			this.offset = theOffset;
+		}
+	}
+
+	/**
+	 * Percorre a árvore em ordem, com uma pilha de vetores de itens (prefixos, sufixos e nós) e de árvores do meio, sem
+	 * criar objetos por elemento
+	 */
+	private static final class TreeIterator<T> implements Iterator<T>
+	{
+		private Object[] stackValues = new Object[16];
+		private int[] stackPos = new int[16];
+		private int[] stackDepth = new int[16];
+		private int top = -1;
+
+		private TreeIterator(final Tree tree)
+		{
+			pushTree(tree, 0);
+			advance();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return top >= 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			final Object[] items = (Object[]) stackValues[top];
+			final T retorno = (T) items[stackPos[top]++];
+			advance();
+			return retorno;
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("FingerTreeSeq é imutável");
+		}
+
+		/**
+		 * Desce na pilha até que o topo seja um vetor de elementos (profundidade 0) com um elemento disponível
+		 */
+		private void advance()
+		{
+			while (top >= 0)
+			{
+				final Object value = stackValues[top];
+
+				if (value instanceof Tree)
+				{
+					top--;
+					final Tree tree = (Tree) value;
+					final int depth = stackDepth[top + 1];
+
+					if (tree instanceof Single)
+					{
+						push(new Object[] { ((Single) tree).item }, depth);
+					}
+					else if (tree instanceof Deep)
+					{
+						final Deep deep = (Deep) tree;
+						push(deep.suffix, depth);
+						pushTree(deep.middle, depth + 1);
+						push(deep.prefix, depth);
+					}
+					continue;
+				}
+
+				final Object[] items = (Object[]) value;
+
+				if (stackPos[top] == items.length)
+				{
+					top--;
+				}
+				else if (stackDepth[top] > 0)
+				{
+					final Node node = (Node) items[stackPos[top]++];
+					push(node.items, stackDepth[top] - 1);
+				}
+				else
+				{
+					return;
+				}
+			}
+		}
+
+		private void pushTree(final Tree tree, final int depth)
+		{
+			if (!(tree instanceof Empty))
+			{
+				push(tree, depth);
+			}
+		}
+
+		private void push(final Object value, final int depth)
+		{
+			if (++top == stackValues.length)
+			{
+				stackValues = Arrays.copyOf(stackValues, top * 2);
+				stackPos = Arrays.copyOf(stackPos, top * 2);
+				stackDepth = Arrays.copyOf(stackDepth, top * 2);
+			}
+			stackValues[top] = value;
+			stackPos[top] = 0;
+			stackDepth[top] = depth;
+		}
+	}
+
+	/**
+	 * Spliterator sobre uma árvore: antes de começar a percorrer os elementos, ele é dividido ao meio pelo splitAt da árvore
+	 * (em O(log n)); depois disso, os elementos são percorridos com o TreeIterator.
+	 */
+	private static final class TreeSpliterator<T> implements Spliterator<T>
+	{
+		private final int characteristics;
+		private Tree tree;
+		private TreeIterator<T> iterator;
+		private int remaining;
+
+		private TreeSpliterator(final Tree theTree, final int theCharacteristics)
+		{
+			this.tree = theTree;
+			this.remaining = theTree.size;
+			this.characteristics = theCharacteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action)
+		{
+			if (remaining == 0)
+			{
+				return false;
+			}
+
+			if (iterator == null)
+			{
+				iterator = new TreeIterator<T>(tree);
+			}
+			remaining--;
+			action.accept(iterator.next());
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(final Consumer<? super T> action)
+		{
+			final Iterator<T> ite = iterator == null ? new TreeIterator<T>(tree) : iterator;
+
+			while (ite.hasNext())
+			{
+				action.accept(ite.next());
+			}
+			remaining = 0;
+		}
+
+		@Override
+		public Spliterator<T> trySplit()
+		{
+			//Depois que o percurso começou, a árvore não é mais dividida
+			if (iterator != null || remaining < 2)
+			{
+				return null;
+			}
+			final Tree[] parts = splitAt(tree, remaining >>> 1);
+			tree = parts[1];
+			remaining = tree.size;
+			return new TreeSpliterator<T>(parts[0], characteristics);
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			return remaining;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			return characteristics;
+		}
+	}
+
+	/**
+	 * Tarefa que combina os elementos de uma árvore, dividindo-a ao meio pelo splitAt. Árvores pequenas são combinadas na
+	 * própria thread, com o TreeIterator.
+	 */
+	private static final class TreeReduceTask<T, B> extends RecursiveTask<B>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final Tree tree;
+		private final Function1<? super T, B> function;
+		private final Semigroup<B> semigroup;
+
+		private TreeReduceTask(final Tree theTree, final Function1<? super T, B> theFunction, final Semigroup<B> theSemigroup)
+		{
+			super();
+			tree = theTree;
+			function = theFunction;
+			semigroup = theSemigroup;
+		}
+
+		@Override
+		protected B compute()
+		{
+			if (tree.size <= SEQUENTIAL_CHUNK)
+			{
+				final Iterator<T> ite = new TreeIterator<T>(tree);
+				B retorno = function.apply(ite.next());
+
+				while (ite.hasNext())
+				{
+					retorno = semigroup.append(retorno, function.apply(ite.next()));
+				}
+				return retorno;
+			}
+
+			final Tree[] parts = splitAt(tree, tree.size >>> 1);
+			final TreeReduceTask<T, B> left = new TreeReduceTask<T, B>(parts[0], function, semigroup);
+			left.fork();
+			final B right = new TreeReduceTask<T, B>(parts[1], function, semigroup).compute();
+			return semigroup.append(left.join(), right);
+		}
+	}
+
+	/**
+	 * Builder de FingerTreeSeq, que adiciona os elementos no final da árvore. MUTÁVEL
+	 *
+	 * @param <E> O tipo de dados da sequência retornada
+	 */
+	private static final class FingerTreeBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private Tree tree = Empty.INSTANCE;
+
+		@Override
+		public void add(final E element)
+		{
+			tree = pushBack(tree, element, 0);
+		}
+
+		@Override
+		public FingerTreeSeq<E> result()
+		{
+			return wrap(tree);
+		}
+	}
+}
@@ -0,0 +1,409 @@
+package com.github.detentor.codex.collections.immutable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.Spliterator;
+
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.AbstractSharpCollection;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IntBitmap;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.function.PartialFunction1;
+
+/**
+ * Conjunto (Set) imutável de inteiros, cujos elementos são armazenados num bitmap comprimido ({@link IntBitmap}). <br/>
+ * <br/>
+ *
+ * É indicado para conjuntos de ids: ocupa de 2 bytes por elemento (ids esparsos) a menos de 1 bit por elemento (ids
+ * densos), o contains não cria objetos, e a união, a interseção e a diferença com outro IntSetSharp são calculadas
+ * diretamente sobre os bitmaps, sem percorrer os elementos. Os elementos são percorridos em ordem crescente. <br/>
+ * <br/>
+ *
+ * O bitmap nunca é alterado depois de criado: o {@link #add(int) add} e o {@link #remove(int) remove} retornam um novo
+ * conjunto, com uma cópia do bitmap. Para alterações em lote, deve-se usar o
+ * {@link com.github.detentor.codex.collections.mutable.IntSetSharp IntSetSharp mutável} e convertê-lo no final. <br/>
+ * <br/>
+ *
+ * Como esta classe não é genérica, o map, o flatMap e o collect retornam um IntSetSharp somente se todos os elementos gerados
+ * forem inteiros; caso contrário, retornam uma {@link ListSharp} com os elementos distintos, na ordem em que foram gerados.
+ *
+ * @author Vinícius Seufitele Pinto
+ */
+public class IntSetSharp extends AbstractSharpCollection<Integer, IntSetSharp> implements PartialFunction1<Integer, Boolean>
+{
+	private static final IntSetSharp EMPTY_SET = new IntSetSharp(new IntBitmap());
+
+	private final IntBitmap bitmap;
+
+	/**
+	 * Construtor privado. Instâncias devem ser criadas com o 'from'
+	 */
+	protected IntSetSharp(final IntBitmap theBitmap)
+	{
+		super();
+		bitmap = theBitmap;
+	}
+
+	/**
+	 * Retorna uma instância de IntSetSharp vazia.
+	 *
+	 * @return Uma instância de IntSetSharp vazia
+	 */
+	public static IntSetSharp empty()
+	{
+		return EMPTY_SET;
+	}
+
+	/**
+	 * Cria um novo IntSetSharp, a partir dos valores passados como parâmetro.
+	 *
+	 * @param valores Os valores que irão compor o IntSetSharp
+	 * @return Um novo IntSetSharp, cujos elementos são os valores passados como parâmetro
+	 */
+	public static IntSetSharp from(final int... valores)
+	{
+		return new IntSetSharp(IntBitmap.from(valores));
+	}
+
+	/**
+	 * Cria uma instância de IntSetSharp a partir dos elementos existentes no iterable passado como parâmetro.
+	 *
+	 * @param theIterable O iterable que contém os elementos
+	 * @return Um IntSetSharp criado a partir da adição de todos os elementos do iterable
+	 * @throws IllegalArgumentException Se o iterable contiver o elemento null
+	 */
+	public static IntSetSharp from(final Iterable<Integer> theIterable)
+	{
+		if (theIterable instanceof IntSetSharp)
+		{
+			return (IntSetSharp) theIterable;
+		}
+		return new IntSetSharp(bitmapOf(theIterable));
+	}
+
+	/**
+	 * Cria uma instância de IntSetSharp com uma cópia do bitmap passado como parâmetro.
+	 *
+	 * @param theBitmap O bitmap que contém os elementos
+	 * @return Um IntSetSharp com os valores do bitmap
+	 */
+	public static IntSetSharp from(final IntBitmap theBitmap)
+	{
+		return new IntSetSharp(theBitmap.copy());
+	}
+
+	@Override
+	public int size()
+	{
+		return bitmap.cardinality();
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return bitmap.cardinality() == 0;
+	}
+
+	@Override
+	public boolean contains(final Integer element)
+	{
+		return element != null && bitmap.contains(element);
+	}
+
+	/**
+	 * Verifica se este conjunto possui o valor passado como parâmetro, sem boxing.
+	 *
+	 * @param value O valor a ser verificado
+	 * @return true se este conjunto contém o valor, ou false caso contrário
+	 */
+	public boolean contains(final int value)
+	{
+		return bitmap.contains(value);
+	}
+
+	@Override
+	public Iterator<Integer> iterator()
+	{
+		return bitmap.iterator();
+	}
+
+	/**
+	 * Retorna um iterator que também permite percorrer os valores sem boxing (ver {@link IntBitmap.IntIterator#nextInt()}).
+	 *
+	 * @return Um iterator sobre os valores deste conjunto, em ordem crescente
+	 */
+	public IntBitmap.IntIterator intIterator()
+	{
+		return bitmap.intIterator();
+	}
+
+	/**
+	 * Retorna um novo conjunto, com os elementos deste conjunto e o valor passado como parâmetro.
+	 *
+	 * @param value O valor a ser adicionado
+	 * @return Um novo conjunto com o valor, ou este conjunto se ele já possuir o valor
+	 */
+	public IntSetSharp add(final int value)
+	{
+		if (bitmap.contains(value))
+		{
+			return this;
+		}
+		final IntBitmap newBitmap = bitmap.copy();
+		newBitmap.add(value);
+		return new IntSetSharp(newBitmap);
+	}
+
+	/**
+	 * Retorna um novo conjunto, com os elementos deste conjunto exceto o valor passado como parâmetro.
+	 *
+	 * @param value O valor a ser removido
+	 * @return Um novo conjunto sem o valor, ou este conjunto se ele não possuir o valor
+	 */
+	public IntSetSharp remove(final int value)
+	{
+		if (!bitmap.contains(value))
+		{
+			return this;
+		}
+		final IntBitmap newBitmap = bitmap.copy();
+		newBitmap.remove(value);
+		return new IntSetSharp(newBitmap);
+	}
+
+	@Override
+	public IntSetSharp union(final Iterable<Integer> withCollection)
+	{
+		return new IntSetSharp(bitmap.or(bitmapOf(withCollection)));
+	}
+
+	@Override
+	public IntSetSharp intersect(final Iterable<Integer> withCollection)
+	{
+		return new IntSetSharp(bitmap.and(bitmapOf(withCollection)));
+	}
+
+	@Override
+	public IntSetSharp diff(final Iterable<Integer> withCollection)
+	{
+		return new IntSetSharp(bitmap.andNot(bitmapOf(withCollection)));
+	}
+
+	/**
+	 * Os elementos de um conjunto já são distintos
+	 */
+	@Override
+	public IntSetSharp distinct()
+	{
+		return this;
+	}
+
+	/**
+	 * Os elementos deste conjunto já estão na ordem natural, portanto este método retorna o próprio conjunto
+	 */
+	@Override
+	public IntSetSharp sorted()
+	{
+		return this;
+	}
+
+	/**
+	 * Um bitmap só guarda os valores em ordem crescente, portanto os elementos são retornados numa {@link ListSharp},
+	 * ordenada pelo comparator. <br/>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ListSharp<Integer> sorted(final Comparator<? super Integer> comparator)
+	{
+		return ListSharp.from(this).sorted(comparator);
+	}
+
+	/**
+	 * Retorna um novo conjunto, em que os containers de valores consecutivos são guardados como sequências, quando isso
+	 * economiza memória (ver {@link IntBitmap#runOptimize()}).
+	 *
+	 * @return Um conjunto com os mesmos elementos, possivelmente mais compacto
+	 */
+	public IntSetSharp runOptimize()
+	{
+		final IntBitmap newBitmap = bitmap.copy();
+		newBitmap.runOptimize();
+		return new IntSetSharp(newBitmap);
+	}
+
+	/**
+	 * Retorna uma estimativa do número de bytes ocupados pelos elementos deste conjunto.
+	 *
+	 * @return O número aproximado de bytes ocupados pelo bitmap
+	 */
+	public long sizeInBytes()
+	{
+		return bitmap.sizeInBytes();
+	}
+
+	/**
+	 * Retorna uma cópia do bitmap com os elementos deste conjunto.
+	 *
+	 * @return Um bitmap com os elementos deste conjunto
+	 */
+	public IntBitmap toBitmap()
+	{
+		return bitmap.copy();
+	}
+
+	/**
+	 * Retorna os elementos deste conjunto, em ordem crescente.
+	 *
+	 * @return Um vetor com os elementos deste conjunto
+	 */
+	public int[] toIntArray()
+	{
+		return bitmap.toArray();
+	}
+
+	/**
+	 * Retorna um IntSetSharp mutável com os elementos deste conjunto.
+	 *
+	 * @return Um IntSetSharp mutável com os elementos deste conjunto
+	 */
+	public com.github.detentor.codex.collections.mutable.IntSetSharp toMutable()
+	{
+		return com.github.detentor.codex.collections.mutable.IntSetSharp.from(bitmap);
+	}
+
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return new IntSetBuilder<B>();
+	}
+
+	@Override
+	protected int knownSize()
+	{
+		return bitmap.cardinality();
+	}
+
+	/**
+	 * Os elementos são distintos, não nulos, e percorridos em ordem crescente
+	 */
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+	}
+
+	/**
+	 * Verifica se este conjunto possui o elemento passado como parâmetro
+	 * @param param O elemento a ser verificado se existe no conjunto
+	 * @return True se este conjunto contém o elemento, ou false se não contém
+	 */
+	@Override
+	public Boolean apply(final Integer param)
+	{
+		return contains(param);
+	}
+
+	@Override
+	public boolean isDefinedAt(final Integer forValue)
+	{
+		return contains(forValue);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return bitmap.hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass())
+		{
+			return false;
+		}
+		return bitmap.equals(((IntSetSharp) obj).bitmap);
+	}
+
+	@Override
+	public String toString()
+	{
+		return bitmap.toString();
+	}
+
+	/**
+	 * Retorna o bitmap com os elementos do iterable: o próprio bitmap, se ele for um IntSetSharp imutável
+	 */
+	private static IntBitmap bitmapOf(final Iterable<Integer> theIterable)
+	{
+		if (theIterable instanceof IntSetSharp)
+		{
+			return ((IntSetSharp) theIterable).bitmap;
+		}
+
+		if (theIterable instanceof com.github.detentor.codex.collections.mutable.IntSetSharp)
+		{
+			return ((com.github.detentor.codex.collections.mutable.IntSetSharp) theIterable).toBitmap();
+		}
+		final IntBitmap retorno = new IntBitmap();
+
+		for (final Integer ele : theIterable)
+		{
+			if (ele == null)
+			{
+				throw new IllegalArgumentException("O IntSetSharp não aceita o elemento null");
+			}
+			retorno.add(ele);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Builder que acumula os inteiros num bitmap. Ao receber um elemento que não é um inteiro (ex: no map), os elementos
+	 * distintos passam a ser acumulados num LinkedHashSet, e o resultado é uma ListSharp.
+	 */
+	private static final class IntSetBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private final IntBitmap theBitmap = new IntBitmap();
+		private Set<E> fallback;
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void add(final E element)
+		{
+			if (fallback == null)
+			{
+				if (element instanceof Integer)
+				{
+					theBitmap.add((Integer) element);
+					return;
+				}
+				fallback = new LinkedHashSet<E>();
+
+				for (final Integer ele : theBitmap)
+				{
+					fallback.add((E) ele);
+				}
+			}
+			fallback.add(element);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public SharpCollection<E> result()
+		{
+			if (fallback != null)
+			{
+				return ListSharp.from(fallback);
+			}
+			return (SharpCollection<E>) new IntSetSharp(theBitmap);
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package com.github.detentor.codex.collections.immutable;
 
 import java.util.Comparator;
+import java.util.Spliterator;
 
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractLinearSeq;
+import com.github.detentor.codex.collections.AbstractTransient;
 import com.github.detentor.codex.collections.Builder;
 import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.function.Function1;
@@ -163,6 +166,31 @@ public class LLSharp<T> extends AbstractLinearSeq<T, LLSharp<T>>
 		return this;
 	}
 
+	/**
+	 * Retorna uma versão transiente desta lista, que permite adicionar elementos no início e no fim 'inplace', e que é
+	 * convertida de volta numa LLSharp pelo {@link Transient#persistent() persistent}, em O(1). <br/>
+	 * Os nós desta lista são compartilhados pelo transiente; eles só são copiados (uma única vez) na primeira adição de um
+	 * elemento no fim da lista. Esta lista não é afetada pelas alterações do transiente.
+	 * 
+	 * @return Um transiente com os elementos desta lista
+	 */
+	public Transient<T> toTransient()
+	{
+		return new Transient<T>(this);
+	}
+
+	@Override
+	protected boolean isHashCacheable()
+	{
+		return true;
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
 	@Override
 	public String toString()
 	{
@@ -200,7 +228,7 @@ public class LLSharp<T> extends AbstractLinearSeq<T, LLSharp<T>>
 	 * Esse builder assegura que a ordem de inserção será preservada. 
 	 * @param <E> O tipo de dados do ListSharp retornado
 	 */
-	private static final class LinkedListBuilder<E> implements Builder<E, SharpCollection<E>>
+	private static final class LinkedListBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
 	{
 		private LLSharp<E> list = LLSharp.empty();
 		private LLSharp<E> last;
@@ -241,4 +269,84 @@ public class LLSharp<T> extends AbstractLinearSeq<T, LLSharp<T>>
 		//TODO: Reescrever  
 		return from(ListSharp.from(this).sorted(comparator));
 	}
+
+	/**
+	 * Versão transiente (mutável) da LLSharp, criada pelo {@link LLSharp#toTransient() toTransient}. <br/>
+	 * A adição no início ({@link #prepend(Object) prepend}) e no fim ({@link #add(Object) add}) custam O(1): os nós
+	 * adicionados no fim são ligados diretamente ao último nó, como no builder da lista.
+	 * 
+	 * @param <E> O tipo de dados da lista
+	 */
+	public static final class Transient<E> extends AbstractTransient<E, LLSharp<E>>
+	{
+		private LLSharp<E> first;
+
+		//O último nó da lista, se todos os nós pertencerem a este transiente (do contrário, null)
+		private LLSharp<E> last;
+
+		private Transient(final LLSharp<E> source)
+		{
+			super();
+			first = source;
+		}
+
+		/**
+		 * Adiciona o elemento passado como parâmetro no início da lista.
+		 * 
+		 * @param element O elemento a ser adicionado
+		 * @return A referência a este transiente
+		 */
+		public Transient<E> prepend(final E element)
+		{
+			ensureEditable();
+			first = new LLSharp<E>(element, first);
+
+			if (last == null && first.tail.isEmpty())
+			{
+				last = first;
+			}
+			return this;
+		}
+
+		/**
+		 * Adiciona o elemento passado como parâmetro no final da lista.
+		 */
+		@Override
+		public void add(final E element)
+		{
+			ensureEditable();
+			final LLSharp<E> novoEle = LLSharp.from(element);
+
+			if (first.isEmpty())
+			{
+				first = novoEle;
+			}
+			else
+			{
+				ownNodes().tail = novoEle;
+			}
+			last = novoEle;
+		}
+
+		@Override
+		protected LLSharp<E> freeze()
+		{
+			return first;
+		}
+
+		/**
+		 * Copia os nós que ainda são compartilhados com a lista original, e retorna o último nó
+		 */
+		private LLSharp<E> ownNodes()
+		{
+			if (last == null)
+			{
+				final LinkedListBuilder<E> builder = new LinkedListBuilder<E>();
+				builder.addAll(first);
+				first = builder.list;
+				last = builder.last;
+			}
+			return last;
+		}
+	}
 }
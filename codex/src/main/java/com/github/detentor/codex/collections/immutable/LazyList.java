@@ -1,15 +1,20 @@
 package com.github.detentor.codex.collections.immutable;
 
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
 
 import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractLinearSeq;
 import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.SetAlgebra;
 import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.Windows;
+import com.github.detentor.codex.collections.Zips;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.Function2;
 import com.github.detentor.codex.function.Functions;
@@ -142,6 +147,19 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 		return new LazyListI<T>(theIterable.iterator());
 	}
 
+	/**
+	 * Cria uma instância de LazyList a partir dos elementos do stream passado como parâmetro. <br/>
+	 * O stream só será consumido quando os elementos forem necessários, portanto ele pode ser infinito.
+	 * 
+	 * @param <T> O tipo de dados da lista
+	 * @param theStream O stream que contém os elementos
+	 * @return Uma Lazy List cujos elementos são os elementos do stream
+	 */
+	public static <T> LazyList<T> from(final Stream<T> theStream)
+	{
+		return new LazyListI<T>(theStream.iterator());
+	}
+
 	/**
 	 * Cria uma instância da LazyList a partir a função parcial geradora. 
 	 * Cada elemento da lista (potencialmente infinita) será definido pela chamada sucessiva à genFunction. <br/>
@@ -181,6 +199,18 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 		return new LinkedListBuilder<B>();
 	}
 
+	@Override
+	protected boolean isHashCacheable()
+	{
+		return true;
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
 	@Override
 	public String toString()
 	{
@@ -247,33 +277,28 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	@Override
 	public LazyList<T> drop(final Integer num)
 	{
-		return unfold(new StatePartialArrow0<Tuple2<Iterator<T>, Integer>, T>(Tuple2.from(this.iterator(), num))
+		//O estado é o próprio iterator: o número de elementos a pular fica num campo, sem boxing
+		return unfold(new StatePartialArrow0<Iterator<T>, T>(this.iterator())
 		{
+			private int toSkip = num;
+
 			@Override
 			public T apply()
 			{
-				return state.getVal1().next();
-			}
-
-			//Anda as casas necessárias do iterator
-			private Tuple2<Iterator<T>, Integer> consumeIterator()
-			{
-				int curCount = state.getVal2();
-
-				while (curCount-- > 0 && state.getVal1().hasNext())
-				{
-					//Pula o elemento
-					state.getVal1().next();
-				}
-				//Seta de volta o valor 0
-				state.setVal2(curCount);
-				return state;
+				return state.next();
 			}
 
 			@Override
 			public boolean isDefined()
 			{
-				return consumeIterator().getVal1().hasNext();
+				//Anda as casas necessárias do iterator
+				while (toSkip > 0 && state.hasNext())
+				{
+					state.next();
+					toSkip--;
+				}
+				toSkip = 0;
+				return state.hasNext();
 			}
 		});
 	}
@@ -281,19 +306,21 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	@Override
 	public LazyList<T> take(final Integer num)
 	{
-		return unfold(new StatePartialArrow0<Tuple2<Iterator<T>, Integer>, T>(Tuple2.from(this.iterator(), num))
+		return unfold(new StatePartialArrow0<Iterator<T>, T>(this.iterator())
 		{
+			private int remaining = num;
+
 			@Override
 			public T apply()
 			{
-				state.setVal2(state.getVal2() - 1);
-				return state.getVal1().next();
+				remaining--;
+				return state.next();
 			}
 
 			@Override
 			public boolean isDefined()
 			{
-				return state.getVal2() > 0 && state.getVal1().hasNext();
+				return remaining > 0 && state.hasNext();
 			}
 		});
 	}
@@ -301,30 +328,26 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	@Override
 	public LazyList<T> dropWhile(final Function1<? super T, Boolean> pred)
 	{
-		return unfold(new StatePartialArrow0<Tuple2<RichIterator<T>, Boolean>, T>(
-				Tuple2.from(RichIterator.from(this.iterator()), true))
+		return unfold(new StatePartialArrow0<RichIterator<T>, T>(RichIterator.from(this.iterator()))
 		{
+			private boolean dropping = true;
+
 			@Override
 			public T apply()
 			{
-				return state.getVal1().next();
-			}
-
-			//Irá andar até que acabe o 'drop'
-			private Iterator<T> consumeIterator()
-			{
-				while (state.getVal2() && state.getVal1().hasNext() && pred.apply(state.getVal1().peekNext().get()))
-				{
-					state.getVal1().next();
-				}
-				state.setVal2(false); //Já aplicou a função
-				return state.getVal1();
+				return state.next();
 			}
 
 			@Override
 			public boolean isDefined()
 			{
-				return consumeIterator().hasNext();
+				//Irá andar até que acabe o 'drop'
+				while (dropping && state.hasNext() && pred.apply(state.peekNext().get()))
+				{
+					state.next();
+				}
+				dropping = false; //Já aplicou a função
+				return state.hasNext();
 			}
 		});
 	}
@@ -332,23 +355,24 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	@Override
 	public LazyList<T> takeWhile(final Function1<? super T, Boolean> pred)
 	{
-		return unfold(new StatePartialArrow0<Tuple2<RichIterator<T>, Boolean>, T>(
-				Tuple2.from(RichIterator.from(this.iterator()), true))
+		return unfold(new StatePartialArrow0<RichIterator<T>, T>(RichIterator.from(this.iterator()))
 		{
+			private boolean taking = true;
+
 			@Override
 			public T apply()
 			{
-				return state.getVal1().next();
+				return state.next();
 			}
 
 			@Override
 			public boolean isDefined()
 			{
-				if (state.getVal2())
+				if (taking)
 				{
-					state.setVal2(state.getVal1().peekNext().notEmpty() && pred.apply(state.getVal1().peekNext().get()));
+					taking = state.peekNext().notEmpty() && pred.apply(state.peekNext().get());
 				}
-				return state.getVal2();
+				return taking;
 			}
 		});
 	}
@@ -368,129 +392,40 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	@Override
 	public LazyList<T> intersect(final Iterable<T> withCollection)
 	{
-		//CÓDIGO usa um HashSet, o que acaba impactando a complexidade de memória
-		return unfold(new StatePartialArrow0<Iterator<T>, T>(this.iterator())
-		{
-			private final Object UNINITIALIZED = new Uninitialized(null);
-			private Object nextElement = UNINITIALIZED;
-			private Set<T> eleSet = null;
-
-			@SuppressWarnings("unchecked")
-			@Override
-			public T apply()
-			{
-				final T toReturn = (T) nextElement;
-				nextElement = UNINITIALIZED;
-				return toReturn;
-			}
-
-			private Object consumeIterator()
-			{
-				if (nextElement instanceof Uninitialized) //Tenta pegar o próximo elemento
-				{
-					T curEle = null;
-
-					while (state.hasNext())
-					{ 
-						if (getEleSet().contains(curEle = state.next()))
-						{
-							nextElement = curEle;
-							break;
-						}
-					}
-				}
-				return nextElement; //Devolve o valor original do nextElement
-			}
+		return new LazyListI<T>(SetAlgebra.intersect(this, withCollection));
+	}
 
-			@Override
-			public boolean isDefined()
-			{
-				return ! (consumeIterator() instanceof Uninitialized);
-			}
-			
-			private Set<T> getEleSet()
-			{
-				if (eleSet == null)
-				{
-					eleSet = new HashSet<T>();
+	/**
+	 * {@inheritDoc} 
+	 * ATENÇÃO: Se a coleção passada como parâmetro for infinita, este método pode não retornar.
+	 */
+	@Override
+	public LazyList<T> diff(final Iterable<T> withCollection)
+	{
+		return new LazyListI<T>(SetAlgebra.diff(this, withCollection));
+	}
 
-					for (T ele : withCollection)
-					{
-						eleSet.add(ele);
-					}
-				}
-				return eleSet;
-			}
-		});
+	/**
+	 * {@inheritDoc} 
+	 * Os elementos da coleção passada como parâmetro só serão consultados depois que todos os elementos desta lista forem
+	 * percorridos.
+	 */
+	@Override
+	public LazyList<T> union(final Iterable<T> withCollection)
+	{
+		return new LazyListI<T>(SetAlgebra.union(this, withCollection));
 	}
 	
 	@Override
 	public LazyList<T> distinct()
 	{
-		//Cria a lista
-		final UnfoldedList<T> uList = new UnfoldedList<T>(null);
-
-		//Cria a função, e passa a lista como parâmetro
-		final StatePartialArrow0<Tuple2<Iterator<T>, LazyList<T>>, T> function = 
-				new StatePartialArrow0<Tuple2<Iterator<T>, LazyList<T>>, T>(Tuple2.from(this.iterator(), (LazyList<T>) uList))
-		{
-			private final Object UNINITIALIZED = new Uninitialized(null);
-			private Object nextElement = UNINITIALIZED;
-
-			@SuppressWarnings("unchecked")
-			@Override
-			public T apply()
-			{
-				final T toReturn = (T) nextElement;
-				nextElement = UNINITIALIZED;
-				
-				return toReturn;
-			}
-
-			private Object consumeIterator()
-			{
-				if (nextElement instanceof Uninitialized) //Tenta pegar o próximo elemento
-				{
-					T curEle = null;
-
-					while (state.getVal1().hasNext())
-					{ 
-						if (! contains(state.getVal2(), curEle = state.getVal1().next()))
-						{
-							nextElement = curEle;
-							break;
-						}
-					}
-				}
-				return nextElement; //Devolve o valor original do nextElement
-			}
-			
-			//Contains privado que evita chamadas recursivas 
-			private boolean contains(final LazyList<T> theList, final T element)
-			{
-				LazyList<T> curList = theList;
-				
-				while (! (curList.head instanceof Uninitialized))
-				{
-					if (curList.head.equals(element))
-					{
-						return true;
-					}
-					curList = curList.tail;
-				}
-				return false;
-			}
-
-			@Override
-			public boolean isDefined()
-			{
-				return ! (consumeIterator() instanceof Uninitialized);
-			}
-		};
+		return new LazyListI<T>(SetAlgebra.distinct(this));
+	}
 
-		//Seta a função no head
-		uList.head = new Uninitialized(function);
-		return uList;
+	@Override
+	public LazyList<T> distinctBy(final Function1<? super T, ?> keyFunction)
+	{
+		return new LazyListI<T>(SetAlgebra.distinctBy(this, keyFunction));
 	}
 
 	@Override
@@ -579,6 +514,30 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 		});
 	}
 
+	@Override
+	public LazyList<LazyList<T>> sliding(final Integer size)
+	{
+		return sliding(size, 1);
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * As janelas são produzidas sob demanda, a partir de um buffer circular com os últimos elementos desta lista.
+	 */
+	@Override
+	public LazyList<LazyList<T>> sliding(final Integer size, final Integer step)
+	{
+		return (LazyList<LazyList<T>>) new MapMonadic<List<T>, LazyList<T>>(Windows.sliding(this.iterator(), size, step),
+				new Function1<List<T>, LazyList<T>>()
+				{
+					@Override
+					public LazyList<T> apply(final List<T> param)
+					{
+						return LazyList.from(param);
+					}
+				});
+	}
+
 	/**
 	 * Produz uma coleção contendo resultados cumulativos ao aplicar a função passada como parâmetro
 	 * da esquerda para a direita. A coleção retornada será calculada de maneira lazy. <br/>
@@ -590,41 +549,87 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	 */
 	public <B> LazyList<B> scanLeft(final B startValue, final Function2<B, T, B> func)
 	{
-		return unfold(new StatePartialArrow0<Tuple2<Iterator<T>, B>, B>(Tuple2.from(this.iterator(), startValue))
+		return unfold(new StatePartialArrow0<Iterator<T>, B>(this.iterator())
 		{
+			private B accumulated = startValue;
+
 			@Override
 			public B apply()
 			{
-				final B retorno = func.apply(state.getVal2(), state.getVal1().next());
-				state.setVal2(retorno);
-				return retorno;
+				accumulated = func.apply(accumulated, state.next());
+				return accumulated;
 			}
 
 			@Override
 			public boolean isDefined()
 			{
-				return state.getVal1().hasNext();
+				return state.hasNext();
 			}
 		});
 	}
 	
+	/**
+	 * {@inheritDoc} <br/>
+	 * Os pares são criados sob demanda, e a outra coleção só é percorrida na medida em que esta lista é avaliada.
+	 */
+	@Override
+	public <B> LazyList<Tuple2<T, B>> zip(final Iterable<B> other)
+	{
+		return new LazyListI<Tuple2<T, B>>(Zips.zip(this.iterator(), other.iterator()));
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Os pares são criados sob demanda, e a outra coleção só é percorrida na medida em que esta lista é avaliada.
+	 */
+	@Override
+	public <B> LazyList<Tuple2<T, B>> zipAll(final Iterable<B> other, final T thisElem, final B thatElem)
+	{
+		return new LazyListI<Tuple2<T, B>>(Zips.zipAll(this.iterator(), other.iterator(), thisElem, thatElem));
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * As duas listas retornadas são lazy. Como cada uma delas é avaliada de forma independente, a função pode ser chamada
+	 * duas vezes para cada elemento.
+	 */
+	@Override
+	public <A, B> Tuple2<LazyList<A>, LazyList<B>> unzip(final Function1<? super T, ? extends Tuple2<A, B>> asPair)
+	{
+		return Tuple2.from(this.map(new Function1<T, A>()
+		{
+			@Override
+			public A apply(final T param)
+			{
+				return asPair.apply(param).getVal1();
+			}
+		}), this.map(new Function1<T, B>()
+		{
+			@Override
+			public B apply(final T param)
+			{
+				return asPair.apply(param).getVal2();
+			}
+		}));
+	}
+
 	@Override
 	public LazyList<Tuple2<T, Integer>> zipWithIndex()
 	{
-		return unfold(new StatePartialArrow0<Tuple2<Iterator<T>, Integer>, Tuple2<T, Integer>>(Tuple2.from(this.iterator(), 0))
+		return unfold(new StatePartialArrow0<Iterator<T>, Tuple2<T, Integer>>(this.iterator())
 		{
+			private int curIndex;
+
 			@Override
 			public Tuple2<T, Integer> apply()
 			{
-				final Integer curIndex = state.getVal2();
-				state.setVal2(curIndex + 1); 
-				return Tuple2.from(state.getVal1().next(), curIndex);
+				return Tuple2.from(state.next(), curIndex++);
 			}
 
 			@Override
 			public boolean isDefined()
 			{
-				return state.getVal1().hasNext();
+				return state.hasNext();
 			}
 		});
 	}
@@ -871,7 +876,7 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	 * Essa classe é um builder para SharpCollection baseado em um LinkedListSharp. IMUTÁVEL. 
 	 * @param <E> O tipo de dados do ListSharp retornado
 	 */
-	private static final class LinkedListBuilder<E> implements Builder<E, SharpCollection<E>>
+	private static final class LinkedListBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
 	{
 		private LazyList<E> list = LazyList.empty();
 		private LazyList<E> last;
@@ -1006,22 +1011,25 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	 */
 	private static final class MapMonadic<T, B> extends LazyMonadic<B>
 	{
+		//A função é compartilhada por todos os nós, portanto não é necessário alocar uma tupla com o iterator a cada nó
+		private final Function1<? super T, B> mappingFunction;
+
 		protected MapMonadic(final Iterator<T> theIterator, final Function1<? super T, B> theMappingFunction)
 		{
-			super(Tuple2.from(theIterator, theMappingFunction));
+			super(theIterator);
+			this.mappingFunction = theMappingFunction;
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
 		protected void extractValues()
 		{
-			final Tuple2<Iterator<T>, Function1<? super T, B>> tuple = 
-					(Tuple2<Iterator<T>, Function1<? super T, B>>) ((Uninitialized) head).keptObject;
+			final Iterator<T> iterator = (Iterator<T>) ((Uninitialized) head).keptObject;
 			
-			if (tuple.getVal1().hasNext())
+			if (iterator.hasNext())
 			{
-				head = tuple.getVal2().apply(tuple.getVal1().next());
-				tail = new MapMonadic<T, B>(tuple.getVal1(), tuple.getVal2());
+				head = mappingFunction.apply(iterator.next());
+				tail = new MapMonadic<T, B>(iterator, mappingFunction);
 			}
 			else
 			{
@@ -1036,26 +1044,28 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	 */
 	private static final class FilterMonadic<T> extends LazyMonadic<T>
 	{
+		private final Function1<? super T, Boolean> filterFunction;
+
 		protected FilterMonadic(final Iterator<T> theIterator, final Function1<? super T, Boolean> theFilterFunction)
 		{
-			super(Tuple2.from(theIterator, theFilterFunction));
+			super(theIterator);
+			this.filterFunction = theFilterFunction;
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
 		protected void extractValues()
 		{
-			final Tuple2<Iterator<T>, Function1<? super T, Boolean>> tuple = 
-					(Tuple2<Iterator<T>, Function1<? super T, Boolean>>) ((Uninitialized) head).keptObject;
+			final Iterator<T> iterator = (Iterator<T>) ((Uninitialized) head).keptObject;
 			
-			while (tuple.getVal1().hasNext())
+			while (iterator.hasNext())
 			{
-				final T curEle = tuple.getVal1().next();
+				final T curEle = iterator.next();
 				
-				if (tuple.getVal2().apply(curEle))
+				if (filterFunction.apply(curEle))
 				{
 					head = curEle;
-					tail = new FilterMonadic<T>(tuple.getVal1(), tuple.getVal2());
+					tail = new FilterMonadic<T>(iterator, filterFunction);
 					return;
 				}
 			}
@@ -1070,26 +1080,28 @@ public class LazyList<T> extends AbstractLinearSeq<T, LazyList<T>>
 	 */
 	private static final class FMapMonadic<T, A> extends LazyMonadic<A>
 	{
+		private final PartialFunction1<? super T, A> partialFunction;
+
 		protected FMapMonadic(final Iterator<T> theIterator, final PartialFunction1<? super T, A> thePartialFunction)
 		{
-			super(Tuple2.from(theIterator, thePartialFunction));
+			super(theIterator);
+			this.partialFunction = thePartialFunction;
 		}
 
 		@SuppressWarnings("unchecked")
 		@Override
 		protected void extractValues()
 		{
-			final Tuple2<Iterator<T>, PartialFunction1<? super T, A>> tuple = 
-					(Tuple2<Iterator<T>, PartialFunction1<? super T, A>>) ((Uninitialized) head).keptObject;
+			final Iterator<T> iterator = (Iterator<T>) ((Uninitialized) head).keptObject;
 			
-			while (tuple.getVal1().hasNext())
+			while (iterator.hasNext())
 			{
-				final T curEle = tuple.getVal1().next();
+				final T curEle = iterator.next();
 				
-				if (tuple.getVal2().isDefinedAt(curEle))
+				if (partialFunction.isDefinedAt(curEle))
 				{
-					head = tuple.getVal2().apply(curEle);
-					tail = new FMapMonadic<T, A>(tuple.getVal1(), tuple.getVal2());
+					head = partialFunction.apply(curEle);
+					tail = new FMapMonadic<T, A>(iterator, partialFunction);
 					return;
 				}
 			}
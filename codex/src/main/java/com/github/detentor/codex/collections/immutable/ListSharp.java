@@ -3,16 +3,30 @@ package com.github.detentor.codex.collections.immutable;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractIndexedSeq;
+import com.github.detentor.codex.collections.AbstractTransient;
+import com.github.detentor.codex.collections.Aggregation;
+import com.github.detentor.codex.collections.BloomFilter;
 import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IndexedSeq;
 import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.collections.mutable.MapSharp;
 import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.io.CodecProxy;
 import com.github.detentor.codex.product.Tuple2;
 
 /**
@@ -37,6 +51,12 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 
 	private final Object[] data;
 
+	// Índice probabilístico opcional, que permite rejeitar elementos sem percorrer a lista
+	private final BloomFilter<T> bloomFilter;
+
+	// Vetor de dados das listas derivadas (map, reverse, etc.), que calculam os seus elementos a partir de outra lista
+	private static final Object[] NO_DATA = new Object[0];
+
 	// Singleton, pois como é imutável não faz sentido criar várias
 	private static final ListSharp<Object> EMPTY_LIST = new ListSharp<Object>();
 
@@ -48,6 +68,7 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 		startIndex = 0;
 		theSize = 0;
 		data = new Object[0];
+		bloomFilter = null;
 	}
 
 	/**
@@ -70,6 +91,7 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 		startIndex = theStart;
 		theSize = theEnd - theStart;
 		data = theData;
+		bloomFilter = null;
 	}
 
 	/**
@@ -84,6 +106,22 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 		startIndex = prevList.startIndex + theStart;
 		theSize = theEnd - theStart;
 		data = prevList.data;
+		//Os elementos de uma sub-lista estão contidos na lista original, então o filtro continua válido
+		bloomFilter = prevList.bloomFilter;
+	}
+
+	/**
+	 * Construtor privado, que reutiliza os dados da lista passada, associando a ela o filtro de Bloom.
+	 * 
+	 * @param prevList A lista cujos dados serão compartilhados
+	 * @param theFilter O filtro de Bloom que contém todos os elementos da lista
+	 */
+	protected ListSharp(final ListSharp<T> prevList, final BloomFilter<T> theFilter)
+	{
+		startIndex = prevList.startIndex;
+		theSize = prevList.theSize;
+		data = prevList.data;
+		bloomFilter = theFilter;
 	}
 
 	/**
@@ -109,14 +147,20 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 	 */
 	public static <T> ListSharp<T> from(final Iterable<T> theIterable)
 	{
-		// por enquanto está bem porco, melhorar
-		final List<T> listaRetorno = new ArrayList<T>();
+		if (theIterable instanceof Collection<?>)
+		{
+			//O toArray já retorna uma cópia com o tamanho exato
+			return new ListSharp<T>(((Collection<T>) theIterable).toArray());
+		}
+
+		final ImArrayBuilder<T> builder = new ImArrayBuilder<T>();
 
-		for (final T ele : theIterable)
+		if (theIterable instanceof IndexedSeq<?>)
 		{
-			listaRetorno.add(ele);
+			builder.sizeHint(((IndexedSeq<T>) theIterable).size());
 		}
-		return new ListSharp<T>(listaRetorno.toArray());
+		builder.addAll(theIterable);
+		return builder.result();
 	}
 
 	/**
@@ -157,19 +201,75 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 		return new ImArrayBuilder<B>();
 	}
 
+	/**
+	 * {@inheritDoc} <br/>
+	 * A lista retornada é uma visão desta lista: ela é criada em O(1), mas a função é aplicada a cada acesso a um elemento
+	 * (inclusive quando a lista é percorrida mais de uma vez). Maps encadeados são combinados numa única visão, com a
+	 * composição das funções. <br/>
+	 * Para calcular os elementos uma única vez, veja {@link #mapStrict(Function1) mapStrict} e
+	 * {@link #mapMemoized(Function1) mapMemoized}.
+	 */
 	@Override
 	public <B> ListSharp<B> map(final Function1<? super T, B> function)
 	{
-		return new ListSharp<B>(data, startIndex, this.startIndex + this.size())
+		return new MappedList<T, B>(this, function);
+	}
+
+	/**
+	 * Aplica a função a todos os elementos desta lista imediatamente, numa única passagem, guardando os resultados num novo
+	 * vetor. <br/>
+	 * Indicado quando a lista retornada será percorrida mais de uma vez, ordenada, ou acessada aleatoriamente.
+	 * 
+	 * @param <B> O tipo de retorno da função
+	 * @param function A função a ser aplicada a cada elemento
+	 * @return Uma lista com os resultados da função, já calculados
+	 */
+	public <B> ListSharp<B> mapStrict(final Function1<? super T, B> function)
+	{
+		final Object[] novosDados = new Object[this.size()];
+
+		for (int i = 0; i < novosDados.length; i++)
 		{
-			private static final long serialVersionUID = 1L;
+			novosDados[i] = function.apply(this.apply(i));
+		}
+		return novosDados.length == 0 ? ListSharp.<B> empty() : new ListSharp<B>(novosDados);
+	}
 
-			@Override
-			public B apply(final Integer param)
-			{
-				return function.apply(ListSharp.this.apply(param));
-			}
-		};
+	/**
+	 * Equivalente ao {@link #mapStrict(Function1) mapStrict}, mas aplica a função em paralelo, no
+	 * {@link ForkJoinPool#commonPool() pool comum}, quando a lista tem pelo menos {@link #PARALLEL_THRESHOLD} elementos. <br/>
+	 * A função pode ser chamada em qualquer ordem, a partir de várias threads, e não deve depender de estado compartilhado.
+	 * 
+	 * @param <B> O tipo de retorno da função
+	 * @param function A função a ser aplicada a cada elemento
+	 * @return Uma lista com os resultados da função, já calculados
+	 */
+	public <B> ListSharp<B> parMapStrict(final Function1<? super T, B> function)
+	{
+		if (this.size() < PARALLEL_THRESHOLD)
+		{
+			return mapStrict(function);
+		}
+		final Object[] novosDados = new Object[this.size()];
+		ForkJoinPool.commonPool().invoke(new MapTask<T>(this, function, novosDados, 0, novosDados.length));
+		return new ListSharp<B>(novosDados);
+	}
+
+	/**
+	 * Retorna uma visão desta lista que aplica a função a cada elemento no primeiro acesso a ele, e guarda o resultado. <br/>
+	 * Ao contrário do {@link #mapStrict(Function1) mapStrict}, só os elementos acessados são calculados; ao contrário do
+	 * {@link #map(Function1) map}, cada elemento é calculado uma única vez. As sub-listas (take, drop, reverse, etc.) da lista
+	 * retornada compartilham os resultados já calculados. <br/>
+	 * Em acessos concorrentes, um mesmo elemento pode ser calculado mais de uma vez, portanto a função não deve ter efeitos
+	 * colaterais.
+	 * 
+	 * @param <B> O tipo de retorno da função
+	 * @param function A função a ser aplicada a cada elemento
+	 * @return Uma lista cujos elementos são calculados sob demanda, uma única vez
+	 */
+	public <B> ListSharp<B> mapMemoized(final Function1<? super T, B> function)
+	{
+		return new MemoizedList<T, B>(this, function, new AtomicReferenceArray<Object>(this.size()), 0, this.size());
 	}
 
 	@Override
@@ -190,12 +290,139 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 		return (ListSharp<Tuple2<T, Integer>>) super.zipWithIndex();
 	}
 
+	/**
+	 * Retorna uma lista com os mesmos elementos desta, com um filtro de Bloom associado. <br/>
+	 * O filtro é construído uma única vez (O(n)), e permite que {@link #contains(Object) contains},
+	 * {@link #containsAll(Iterable) containsAll}, {@link #containsAny(Iterable) containsAny} e
+	 * {@link #intersect(Iterable) intersect} rejeitem os elementos que não pertencem à lista sem percorrê-la. <br/>
+	 * As sub-listas (take, drop, tail, reverse, etc.) da lista retornada compartilham o mesmo filtro. <br/>
+	 * Indicado para listas grandes e consultadas muitas vezes, onde a maioria das consultas é negativa.
+	 * 
+	 * @param falsePositiveRate A taxa de falsos positivos do filtro (ex: 0.01 para 1%)
+	 * @return Uma lista com os mesmos elementos desta, com um filtro de Bloom associado
+	 * @throws IllegalArgumentException Se a taxa de falsos positivos não estiver entre 0 e 1 (exclusive)
+	 */
+	public ListSharp<T> withBloomFilter(final double falsePositiveRate)
+	{
+		//Listas derivadas (ex: map) não guardam os seus elementos no array de dados, e devem ser materializadas
+		final ListSharp<T> base = this.getClass() == ListSharp.class ? this : ListSharp.from(this);
+		return new ListSharp<T>(base, BloomFilter.<T> from(base, falsePositiveRate));
+	}
+
+	/**
+	 * Retorna o filtro de Bloom associado a esta lista, se existir. <br/>
+	 * O relatório de memória do filtro pode ser obtido com {@link BloomFilter#memoryReport()}.
+	 * 
+	 * @return Uma Option com o filtro de Bloom desta lista, ou Option vazia se ela não possuir filtro
+	 */
+	public Option<BloomFilter<T>> bloomFilter()
+	{
+		return Option.from(bloomFilter);
+	}
+
+	@Override
+	public boolean contains(final T element)
+	{
+		if (bloomFilter != null && !bloomFilter.mightContain(element))
+		{
+			return false;
+		}
+		return super.contains(element);
+	}
+
+	@Override
+	public boolean containsAll(final Iterable<T> col)
+	{
+		if (bloomFilter != null)
+		{
+			for (final T ele : col)
+			{
+				if (!bloomFilter.mightContain(ele))
+				{
+					return false;
+				}
+			}
+		}
+		return super.containsAll(col);
+	}
+
+	@Override
+	public boolean containsAny(final Iterable<T> col)
+	{
+		return bloomFilter == null ? super.containsAny(col) : super.containsAny(mightContain(col));
+	}
+
+	@Override
+	public ListSharp<T> intersect(final Iterable<T> withCollection)
+	{
+		if (bloomFilter == null)
+		{
+			return super.intersect(withCollection);
+		}
+
+		final List<T> candidates = mightContain(withCollection);
+		return candidates.isEmpty() ? ListSharp.<T> empty() : super.intersect(candidates);
+	}
+
+	/**
+	 * Retorna os elementos da coleção que podem estar contidos nesta lista, de acordo com o filtro de Bloom
+	 */
+	private List<T> mightContain(final Iterable<T> col)
+	{
+		final List<T> retorno = new ArrayList<T>();
+
+		for (final T ele : col)
+		{
+			if (bloomFilter.mightContain(ele))
+			{
+				retorno.add(ele);
+			}
+		}
+		return retorno;
+	}
+
+	@Override
+	protected boolean isHashCacheable()
+	{
+		return true;
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
+	/**
+	 * {@inheritDoc} <br/>
+	 * Quando os elementos estão no vetor desta lista (isto é, ela não é uma visão criada por map ou reverse), o spliterator
+	 * percorre o vetor diretamente.
+	 */
+	@Override
+	public Spliterator<T> spliterator()
+	{
+		if (this.getClass() == ListSharp.class)
+		{
+			return Spliterators.spliterator(data, startIndex, startIndex + theSize, characteristics());
+		}
+		return super.spliterator();
+	}
+
 	@Override
 	public String toString()
 	{
 		return mkString("[", ", ", "]");
 	}
 
+	/**
+	 * Grava apenas os elementos visíveis desta lista, no formato do {@link com.github.detentor.codex.io.Codec Codec}: o vetor compartilhado pelas sub-listas e
+	 * as funções das listas criadas pelo map e pelo reverse não são gravados.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
+
 	/**
 	 * {@inheritDoc}<br/>
 	 * 
@@ -203,16 +430,7 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 	@Override
 	public ListSharp<T> reverse()
 	{
-		return new ListSharp<T>(this, this.startIndex, this.startIndex + this.size())
-		{
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			public T apply(final Integer param)
-			{
-				return super.apply(this.size() - 1 - param);
-			}
-		};
+		return new ReversedList<T>(this);
 	}
 	
 	/**
@@ -241,9 +459,40 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 			return this;
 		}
 
-		final T[] novosDados = (T[]) Arrays.copyOf(data, data.length);
+		final T[] novosDados = (T[]) elements();
 		Arrays.sort(novosDados, comparator);
-		return new ListSharp<T>(novosDados, startIndex, startIndex + theSize);
+		return new ListSharp<T>(novosDados);
+	}
+
+	/**
+	 * Retorna uma versão transiente desta lista, que permite adicionar, alterar e remover elementos 'inplace', e que é
+	 * convertida de volta numa ListSharp pelo {@link Transient#persistent() persistent}, em O(1). <br/>
+	 * O transiente compartilha o vetor desta lista até a primeira alteração, quando os elementos são copiados uma única vez.
+	 * Esta lista não é afetada pelas alterações do transiente.
+	 * 
+	 * @return Um transiente com os elementos desta lista
+	 */
+	public Transient<T> toTransient()
+	{
+		return new Transient<T>(this);
+	}
+
+	/**
+	 * Retorna uma cópia dos elementos desta lista (e somente deles, não do vetor compartilhado com as outras listas).
+	 */
+	private Object[] elements()
+	{
+		if (this.getClass() == ListSharp.class)
+		{
+			return Arrays.copyOfRange(data, startIndex, startIndex + theSize);
+		}
+		final Object[] retorno = new Object[this.size()];
+
+		for (int i = 0; i < retorno.length; i++)
+		{
+			retorno[i] = this.apply(i);
+		}
+		return retorno;
 	}
 	
 	/**
@@ -258,6 +507,7 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 	 * @return Um mapa, onde a chave é o resultado da função, e os valores uma coleção 
 	 * de elementos cujo resultado da função aplicada seja o mesmo.
 	 */
+	@Override
 	public <A> MapSharp<A, ListSharp<T>> groupBy(final Function1<? super T, A> function)
 	{
 		return groupBy(function, MapSharpType.HASH_MAP);
@@ -275,32 +525,11 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 	 * @return Um mapa, onde a chave é o resultado da função, e os valores uma coleção 
 	 * de elementos cujo resultado da função aplicada seja o mesmo.
 	 */
+	@SuppressWarnings("unchecked")
 	public <A> MapSharp<A, ListSharp<T>> groupBy(final Function1<? super T, A> function, final MapSharpType mapType)
 	{
-		//ATENÇÃO: VERIFICAR SE O CÓDIGO NÃO PODE SER REESCRITO PARA SER MAIS OTIMIZADO
-		final MapSharp<A, Builder<T, SharpCollection<T>>> mapaIntermediario = MapSharp.empty(mapType);
-
-		for (final T curEle : this)
-		{
-			final A value = function.apply(curEle);
-			Builder<T, SharpCollection<T>> builder = mapaIntermediario.get(value);
-			
-			if (builder == null)
-			{
-				builder = new ImArrayBuilder<T>();
-				mapaIntermediario.add(value, builder);
-			}
-			builder.add(curEle);
-		}
-		
-		final MapSharp<A, ListSharp<T>> mapaRetorno = MapSharp.empty(mapType);
-		
-		for (final A curEle : mapaIntermediario.keySet())
-		{
-			mapaRetorno.add(curEle, (ListSharp<T>) mapaIntermediario.get(curEle).result());
-		}
-
-		return mapaRetorno;
+		//Os grupos são criados pelo builder desta classe, portanto são instâncias de ListSharp
+		return (MapSharp<A, ListSharp<T>>) (MapSharp<A, ?>) Aggregation.aggregate(this, function, this.<T> groupAggregator(), mapType);
 	}
 	
 	/**
@@ -327,22 +556,427 @@ public class ListSharp<T> extends AbstractIndexedSeq<T, ListSharp<T>> implements
 	}
 
 	/**
-	 * Essa classe é um builder para SharpCollection baseado em um ListSharp (imutável).
+	 * Lista cujos elementos são o resultado da aplicação de uma função aos elementos de outra lista. <br/>
+	 * As sub-listas e o reverse são aplicados à lista de origem, e um map sobre esta lista compõe as funções, de forma que
+	 * uma cadeia de maps é sempre uma única visão sobre a lista original.
 	 */
-	private class ImArrayBuilder<E> implements Builder<E, SharpCollection<E>>
+	private static final class MappedList<A, B> extends ListSharp<B>
 	{
-		private final List<E> list = new ArrayList<E>();
+		private static final long serialVersionUID = 1L;
+
+		private final ListSharp<A> source;
+		private final Function1<? super A, ? extends B> function;
+
+		protected MappedList(final ListSharp<A> theSource, final Function1<? super A, ? extends B> theFunction)
+		{
+			super(NO_DATA, 0, theSource.size());
+			source = theSource;
+			function = theFunction;
+		}
+
+		@Override
+		public B apply(final Integer param)
+		{
+			return function.apply(source.apply(param));
+		}
+
+		@Override
+		public ListSharp<B> subsequence(final int startIndex, final int endIndex)
+		{
+			return new MappedList<A, B>(source.subsequence(startIndex, endIndex), function);
+		}
+
+		@Override
+		public ListSharp<B> reverse()
+		{
+			return new MappedList<A, B>(source.reverse(), function);
+		}
+
+		@Override
+		public <C> ListSharp<C> map(final Function1<? super B, C> nextFunction)
+		{
+			return new MappedList<A, C>(source, new Function1<A, C>()
+			{
+				@Override
+				public C apply(final A param)
+				{
+					return nextFunction.apply(function.apply(param));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Lista que calcula os seus elementos sob demanda, guardando cada resultado no primeiro acesso. <br/>
+	 * O cache é indexado pelas posições da lista de origem, e é compartilhado pelas sub-listas (que guardam apenas o
+	 * deslocamento).
+	 */
+	private static final class MemoizedList<A, B> extends ListSharp<B>
+	{
+		private static final long serialVersionUID = 1L;
+
+		// Marca os elementos já calculados cujo resultado é null
+		private static final Object NULL_RESULT = new Object();
+
+		private final ListSharp<A> source;
+		private final Function1<? super A, ? extends B> function;
+		private final AtomicReferenceArray<Object> cache;
+		private final int offset;
+
+		protected MemoizedList(final ListSharp<A> theSource, final Function1<? super A, ? extends B> theFunction,
+				final AtomicReferenceArray<Object> theCache, final int theOffset, final int size)
+		{
+			super(NO_DATA, 0, size);
+			source = theSource;
+			function = theFunction;
+			cache = theCache;
+			offset = theOffset;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public B apply(final Integer param)
+		{
+			if (param < 0 || param >= this.size())
+			{
+				throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + this.size());
+			}
+			final int index = offset + param;
+			Object value = cache.get(index);
+
+			if (value == null)
+			{
+				value = function.apply(source.apply(index));
+				cache.lazySet(index, value == null ? NULL_RESULT : value);
+				return (B) value;
+			}
+			return value == NULL_RESULT ? null : (B) value;
+		}
+
+		@Override
+		public ListSharp<B> subsequence(final int startIndex, final int endIndex)
+		{
+			final int start = Math.min(Math.max(startIndex, 0), this.size());
+			final int end = Math.max(Math.min(endIndex, this.size()), start);
+			return new MemoizedList<A, B>(source, function, cache, offset + start, end - start);
+		}
+	}
+
+	/**
+	 * Lista com os elementos de outra lista, em ordem inversa
+	 */
+	private static final class ReversedList<T> extends ListSharp<T>
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final ListSharp<T> source;
+
+		protected ReversedList(final ListSharp<T> theSource)
+		{
+			super(NO_DATA, 0, theSource.size());
+			source = theSource;
+		}
+
+		@Override
+		public T apply(final Integer param)
+		{
+			return source.apply(this.size() - 1 - param);
+		}
+
+		@Override
+		public ListSharp<T> subsequence(final int startIndex, final int endIndex)
+		{
+			final int start = Math.min(Math.max(startIndex, 0), this.size());
+			final int end = Math.max(Math.min(endIndex, this.size()), start);
+			return source.subsequence(this.size() - end, this.size() - start).reverse();
+		}
+
+		@Override
+		public ListSharp<T> reverse()
+		{
+			return source;
+		}
+	}
+
+	/**
+	 * Tarefa que aplica a função a um intervalo da lista, guardando os resultados no vetor de destino. <br/>
+	 * Intervalos grandes são divididos em duas tarefas; intervalos pequenos são calculados na própria thread.
+	 */
+	private static final class MapTask<T> extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final ListSharp<T> list;
+		private final Function1<? super T, ?> function;
+		private final Object[] target;
+		private final int from;
+		private final int until;
+
+		protected MapTask(final ListSharp<T> theList, final Function1<? super T, ?> theFunction, final Object[] theTarget,
+				final int theFrom, final int theUntil)
+		{
+			super();
+			list = theList;
+			function = theFunction;
+			target = theTarget;
+			from = theFrom;
+			until = theUntil;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (until - from <= SEQUENTIAL_CHUNK)
+			{
+				for (int i = from; i < until; i++)
+				{
+					target[i] = function.apply(list.apply(i));
+				}
+				return;
+			}
+
+			final int middle = (from + until) >>> 1;
+			invokeAll(new MapTask<T>(list, function, target, from, middle), new MapTask<T>(list, function, target, middle, until));
+		}
+	}
+
+	/**
+	 * Essa classe é um builder para SharpCollection baseado em um ListSharp (imutável). <br/>
+	 * Os elementos são guardados diretamente num vetor: se o tamanho final for conhecido (através do
+	 * {@link #sizeHint(int) sizeHint}), o vetor é alocado uma única vez e repassado para a lista sem cópia.
+	 */
+	private static final class ImArrayBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private Object[] buffer = NO_DATA;
+		private int count;
+
+		//Indica se o buffer já foi repassado para uma lista (e portanto não pode mais ser alterado)
+		private boolean shared;
 
 		@Override
 		public void add(final E element)
 		{
-			list.add(element);
+			if (count == buffer.length || shared)
+			{
+				resize(Math.max(count + 8, count + (count >> 1)));
+			}
+			buffer[count++] = element;
+		}
+
+		@Override
+		public void addAll(final Iterable<? extends E> elements)
+		{
+			if (elements instanceof Collection<?>)
+			{
+				final Object[] toAdd = ((Collection<?>) elements).toArray();
+
+				if (count + toAdd.length > buffer.length || shared)
+				{
+					resize(Math.max(count + toAdd.length, count + (count >> 1)));
+				}
+				System.arraycopy(toAdd, 0, buffer, count, toAdd.length);
+				count += toAdd.length;
+			}
+			else
+			{
+				super.addAll(elements);
+			}
+		}
+
+		@Override
+		public void sizeHint(final int size)
+		{
+			if (size > buffer.length)
+			{
+				resize(size);
+			}
 		}
 
 		@Override
 		public ListSharp<E> result()
 		{
-			return new ListSharp<E>(list.toArray());
+			if (count == 0)
+			{
+				return ListSharp.empty();
+			}
+
+			if (count != buffer.length)
+			{
+				buffer = Arrays.copyOf(buffer, count);
+			}
+			shared = true;
+			return new ListSharp<E>(buffer);
+		}
+
+		private void resize(final int newCapacity)
+		{
+			buffer = Arrays.copyOf(buffer, newCapacity);
+			shared = false;
+		}
+	}
+
+	/**
+	 * Versão transiente (mutável) da ListSharp, criada pelo {@link ListSharp#toTransient() toTransient}. <br/>
+	 * Os elementos são guardados num vetor com capacidade extra, como num ArrayList, e o {@link #persistent() persistent}
+	 * cria a lista imutável a partir do próprio vetor, sem cópia.
+	 * 
+	 * @param <E> O tipo de dados da lista
+	 */
+	public static final class Transient<E> extends AbstractTransient<E, ListSharp<E>>
+	{
+		private Object[] buffer;
+		private int start;
+		private int count;
+
+		//Indica se o vetor pertence a este transiente (do contrário, ele é compartilhado com a lista original)
+		private boolean owned;
+
+		private Transient(final ListSharp<E> source)
+		{
+			super();
+
+			if (source.getClass() == ListSharp.class)
+			{
+				buffer = source.data;
+				start = source.startIndex;
+				count = source.theSize;
+			}
+			else
+			{
+				buffer = source.elements();
+				count = buffer.length;
+				owned = true;
+			}
+		}
+
+		/**
+		 * Retorna o número de elementos do transiente
+		 * 
+		 * @return O número de elementos do transiente
+		 */
+		public int size()
+		{
+			ensureEditable();
+			return count;
+		}
+
+		/**
+		 * Retorna o elemento na posição passada como parâmetro
+		 * 
+		 * @param index A posição do elemento
+		 * @return O elemento na posição passada como parâmetro
+		 */
+		@SuppressWarnings("unchecked")
+		public E apply(final int index)
+		{
+			ensureEditable();
+			checkIndex(index);
+			return (E) buffer[start + index];
+		}
+
+		/**
+		 * Adiciona o elemento passado como parâmetro no final da lista.
+		 */
+		@Override
+		public void add(final E element)
+		{
+			ensureEditable();
+			ensureCapacity(count + 1);
+			buffer[start + count++] = element;
+		}
+
+		@Override
+		public void addAll(final Iterable<? extends E> elements)
+		{
+			ensureEditable();
+
+			if (elements instanceof Collection<?>)
+			{
+				final Object[] toAdd = ((Collection<?>) elements).toArray();
+				ensureCapacity(count + toAdd.length);
+				System.arraycopy(toAdd, 0, buffer, start + count, toAdd.length);
+				count += toAdd.length;
+			}
+			else
+			{
+				super.addAll(elements);
+			}
+		}
+
+		@Override
+		public void sizeHint(final int size)
+		{
+			ensureEditable();
+			ensureCapacity(size);
+		}
+
+		/**
+		 * Substitui o elemento na posição passada como parâmetro.
+		 * 
+		 * @param index A posição do elemento a ser substituído
+		 * @param element O novo elemento
+		 * @return A referência a este transiente
+		 */
+		public Transient<E> set(final int index, final E element)
+		{
+			ensureEditable();
+			checkIndex(index);
+			ensureCapacity(count);
+			buffer[start + index] = element;
+			return this;
+		}
+
+		/**
+		 * Remove o último elemento da lista.
+		 * 
+		 * @return A referência a este transiente
+		 * @throws NoSuchElementException Se a lista estiver vazia
+		 */
+		public Transient<E> removeLast()
+		{
+			ensureEditable();
+
+			if (count == 0)
+			{
+				throw new NoSuchElementException("removeLast foi chamado para uma lista vazia");
+			}
+
+			if (owned)
+			{
+				buffer[start + count - 1] = null;
+			}
+			count--;
+			return this;
+		}
+
+		@Override
+		protected ListSharp<E> freeze()
+		{
+			return count == 0 ? ListSharp.<E> empty() : new ListSharp<E>(buffer, start, start + count);
+		}
+
+		private void checkIndex(final int index)
+		{
+			if (index < 0 || index >= count)
+			{
+				throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho: " + count);
+			}
+		}
+
+		/**
+		 * Assegura que o vetor pertence a este transiente, e que comporta o número de elementos passado como parâmetro
+		 */
+		private void ensureCapacity(final int capacity)
+		{
+			if (owned && start + capacity <= buffer.length)
+			{
+				return;
+			}
+			final Object[] newBuffer = new Object[Math.max(capacity, count + Math.max(count >> 1, 8))];
+			System.arraycopy(buffer, start, newBuffer, 0, count);
+			buffer = newBuffer;
+			start = 0;
+			owned = true;
 		}
 	}
 }
@@ -0,0 +1,342 @@
+package com.github.detentor.codex.collections.immutable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Spliterator;
+
+import com.github.detentor.codex.collections.AbstractIndexedSeq;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.io.FixedWidthCodec;
+
+/**
+ * Sequência imutável cujos elementos são guardados fora do heap, em memória direta ou num arquivo mapeado em memória. <br/>
+ * <br/>
+ *
+ * Cada elemento é codificado por um {@link FixedWidthCodec} num número fixo de bytes, portanto o acesso a um índice custa
+ * O(1), e somente o elemento lido é criado no heap. Isso evita que grandes volumes de dados (centenas de milhões de
+ * registros) sejam guardados como objetos pequenos, que aumentam o tempo das pausas do Garbage Collector. <br/>
+ * Os bytes são divididos em blocos de até 1GB (o limite de um ByteBuffer é 2GB), e o
+ * {@link #subsequence(int, int) subsequence} compartilha os blocos, sem cópia. <br/>
+ * <br/>
+ *
+ * Uma sequência gravada em arquivo com {@link #write(File, Iterable, FixedWidthCodec) write} pode ser reaberta com
+ * {@link #open(File, FixedWidthCodec) open}, sem recarregar os elementos: as páginas do arquivo são lidas sob demanda pelo
+ * sistema operacional. <br/>
+ * <br/>
+ *
+ * As operações que constroem novas coleções (map, filter, sorted, etc) retornam uma {@link ListSharp}. A memória é liberada
+ * quando a sequência (e todas as sub-sequências) forem coletadas pelo Garbage Collector.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo de dados da sequência
+ */
+public class OffHeapSeq<T> extends AbstractIndexedSeq<T, IndexedSeq<T>>
+{
+	//Cabeçalho do arquivo: identificador, tamanho de cada elemento e número de elementos
+	private static final int MAGIC = 0x43445853;
+	private static final int HEADER_SIZE = 16;
+
+	private static final int MAX_CHUNK_BYTES = 1 << 30;
+	private static final int WRITE_BATCH_BYTES = 1 << 16;
+
+	private final ByteBuffer[] chunks;
+	private final FixedWidthCodec<T> codec;
+	private final int width;
+	private final int shift;
+	private final int mask;
+	private final int startIndex;
+	private final int theSize;
+
+	protected OffHeapSeq(final ByteBuffer[] theChunks, final FixedWidthCodec<T> theCodec, final int theStart, final int size)
+	{
+		super();
+		this.chunks = theChunks;
+		this.codec = theCodec;
+		this.width = theCodec.width();
+		this.shift = Integer.numberOfTrailingZeros(recordsPerChunk(width));
+		this.mask = (1 << shift) - 1;
+		this.startIndex = theStart;
+		this.theSize = size;
+	}
+
+	/**
+	 * Cria uma OffHeapSeq em memória direta, com os elementos do iterable passado como parâmetro. <br/>
+	 * Se o iterable não for uma Collection ou uma sequência indexada, os elementos são copiados para uma ListSharp antes,
+	 * para que o tamanho seja conhecido.
+	 *
+	 * @param <T> O tipo de dados da sequência
+	 * @param theIterable O iterable que contém os elementos
+	 * @param codec O codec usado para gravar e ler os elementos
+	 * @return Uma OffHeapSeq com os elementos do iterable
+	 */
+	public static <T> OffHeapSeq<T> from(final Iterable<T> theIterable, final FixedWidthCodec<T> codec)
+	{
+		final int size;
+
+		if (theIterable instanceof Collection<?>)
+		{
+			size = ((Collection<T>) theIterable).size();
+		}
+		else if (theIterable instanceof IndexedSeq<?>)
+		{
+			size = ((IndexedSeq<T>) theIterable).size();
+		}
+		else
+		{
+			return from(ListSharp.from(theIterable), codec);
+		}
+
+		final int width = codec.width();
+		final int perChunk = recordsPerChunk(width);
+		final ByteBuffer[] chunks = new ByteBuffer[(int) ((size + (long) perChunk - 1) / perChunk)];
+
+		for (int i = 0; i < chunks.length; i++)
+		{
+			chunks[i] = ByteBuffer.allocateDirect(Math.min(perChunk, size - i * perChunk) * width);
+		}
+
+		int index = 0;
+
+		for (final T ele : theIterable)
+		{
+			if (index == size)
+			{
+				throw new IllegalArgumentException("O iterable possui mais elementos do que o seu tamanho");
+			}
+			codec.write(chunks[index / perChunk], (index % perChunk) * width, ele);
+			index++;
+		}
+		return new OffHeapSeq<T>(chunks, codec, 0, index);
+	}
+
+	/**
+	 * Grava os elementos do iterable passado como parâmetro no arquivo, e retorna uma OffHeapSeq mapeada nele. <br/>
+	 * Os elementos são gravados à medida em que são percorridos, portanto o iterable pode ser maior do que a memória
+	 * disponível. Se o arquivo existir, ele será sobrescrito.
+	 *
+	 * @param <T> O tipo de dados da sequência
+	 * @param file O arquivo onde os elementos serão gravados
+	 * @param theIterable O iterable que contém os elementos
+	 * @param codec O codec usado para gravar e ler os elementos
+	 * @return Uma OffHeapSeq mapeada no arquivo
+	 * @throws IllegalArgumentException Se ocorrer um erro de entrada e saída
+	 */
+	public static <T> OffHeapSeq<T> write(final File file, final Iterable<T> theIterable, final FixedWidthCodec<T> codec)
+	{
+		final int width = codec.width();
+		final ByteBuffer batch = ByteBuffer.allocate(Math.max(WRITE_BATCH_BYTES / width, 1) * width);
+		RandomAccessFile raf = null;
+
+		try
+		{
+			raf = new RandomAccessFile(file, "rw");
+			raf.setLength(0);
+
+			final FileChannel channel = raf.getChannel();
+			channel.position(HEADER_SIZE);
+			long count = 0;
+
+			for (final T ele : theIterable)
+			{
+				codec.write(batch, batch.position(), ele);
+				batch.position(batch.position() + width);
+				count++;
+
+				if (!batch.hasRemaining())
+				{
+					batch.flip();
+					flush(channel, batch);
+				}
+			}
+			batch.flip();
+			flush(channel, batch);
+
+			if (count > Integer.MAX_VALUE)
+			{
+				throw new IllegalArgumentException("O número de elementos excede o tamanho máximo de uma sequência");
+			}
+
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).putInt(width).putLong(count).flip();
+			channel.position(0);
+			flush(channel, header);
+		}
+		catch (final IOException e)
+		{
+			throw new IllegalArgumentException(e);
+		}
+		finally
+		{
+			close(raf);
+		}
+		return open(file, codec);
+	}
+
+	/**
+	 * Abre, como uma OffHeapSeq, o arquivo gravado pelo método {@link #write(File, Iterable, FixedWidthCodec) write}. <br/>
+	 * O arquivo é mapeado em memória (somente leitura), portanto os elementos não são carregados na abertura.
+	 *
+	 * @param <T> O tipo de dados da sequência
+	 * @param file O arquivo a ser aberto
+	 * @param codec O codec usado para ler os elementos, que deve ter o mesmo tamanho do codec usado na gravação
+	 * @return Uma OffHeapSeq mapeada no arquivo
+	 * @throws IllegalArgumentException Se o arquivo não for uma OffHeapSeq gravada com um codec do mesmo tamanho, ou se
+	 *             ocorrer um erro de entrada e saída
+	 */
+	public static <T> OffHeapSeq<T> open(final File file, final FixedWidthCodec<T> codec)
+	{
+		RandomAccessFile raf = null;
+
+		try
+		{
+			raf = new RandomAccessFile(file, "r");
+			final FileChannel channel = raf.getChannel();
+
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			while (header.hasRemaining() && channel.read(header) >= 0)
+			{
+				//lê o cabeçalho completo
+			}
+			header.flip();
+
+			if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC)
+			{
+				throw new IllegalArgumentException("O arquivo " + file + " não contém uma OffHeapSeq");
+			}
+
+			final int width = header.getInt();
+			final long count = header.getLong();
+
+			if (width != codec.width())
+			{
+				throw new IllegalArgumentException("O arquivo foi gravado com elementos de " + width + " bytes, mas o codec usa "
+						+ codec.width() + " bytes");
+			}
+
+			if (channel.size() < HEADER_SIZE + count * width)
+			{
+				throw new IllegalArgumentException("O arquivo " + file + " está truncado");
+			}
+
+			final int perChunk = recordsPerChunk(width);
+			final ByteBuffer[] chunks = new ByteBuffer[(int) ((count + perChunk - 1) / perChunk)];
+
+			for (int i = 0; i < chunks.length; i++)
+			{
+				final long records = Math.min(perChunk, count - (long) i * perChunk);
+				chunks[i] = channel.map(MapMode.READ_ONLY, HEADER_SIZE + (long) i * perChunk * width, records * width);
+			}
+			return new OffHeapSeq<T>(chunks, codec, 0, (int) count);
+		}
+		catch (final IOException e)
+		{
+			throw new IllegalArgumentException(e);
+		}
+		finally
+		{
+			//O mapeamento continua válido após o fechamento do arquivo
+			close(raf);
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		return theSize;
+	}
+
+	@Override
+	public T apply(final Integer param)
+	{
+		if (param < 0 || param >= theSize)
+		{
+			throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + theSize);
+		}
+		final int index = startIndex + param;
+		return codec.read(chunks[index >>> shift], (index & mask) * width);
+	}
+
+	@Override
+	public OffHeapSeq<T> subsequence(final int startIndex, final int endIndex)
+	{
+		final int start = Math.min(Math.max(startIndex, 0), theSize);
+		final int end = Math.max(Math.min(endIndex, theSize), start);
+		return new OffHeapSeq<T>(chunks, codec, this.startIndex + start, end - start);
+	}
+
+	@Override
+	public IndexedSeq<T> sorted()
+	{
+		return ListSharp.from(this).sorted();
+	}
+
+	@Override
+	public IndexedSeq<T> sorted(final Comparator<? super T> comparator)
+	{
+		return ListSharp.from(this).sorted(comparator);
+	}
+
+	/**
+	 * As operações que constroem novas coleções a partir desta sequência retornam uma ListSharp imutável
+	 */
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return ListSharp.<Object> empty().<B> builder();
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
+	/**
+	 * Retorna o número de elementos de cada bloco: a maior potência de 2 cujo tamanho (em bytes) cabe num bloco
+	 */
+	private static int recordsPerChunk(final int width)
+	{
+		if (width <= 0)
+		{
+			throw new IllegalArgumentException("O tamanho de cada elemento deve ser maior do que zero");
+		}
+		return Integer.highestOneBit(Math.max(MAX_CHUNK_BYTES / width, 1));
+	}
+
+	/**
+	 * Grava todos os bytes restantes do buffer no canal, e limpa o buffer
+	 */
+	private static void flush(final FileChannel channel, final ByteBuffer buffer) throws IOException
+	{
+		while (buffer.hasRemaining())
+		{
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	private static void close(final Closeable closeable)
+	{
+		if (closeable != null)
+		{
+			try
+			{
+				closeable.close();
+			}
+			catch (final IOException e)
+			{
+				throw new IllegalArgumentException(e);
+			}
+		}
+	}
+}
@@ -3,7 +3,9 @@ package com.github.detentor.codex.collections.immutable;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Spliterator;
 
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractIndexedSeq;
 import com.github.detentor.codex.collections.Builder;
 import com.github.detentor.codex.collections.IndexedSeq;
@@ -11,6 +13,7 @@ import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.collections.immutable.ListSharp;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.io.CodecProxy;
 import com.github.detentor.codex.product.Tuple2;
 import com.github.detentor.operations.CharOps;
 import com.github.detentor.operations.StringOps;
@@ -244,11 +247,31 @@ public class RichString extends AbstractIndexedSeq<Character, RichString> implem
 		return from(String.valueOf(reversedStr));
 	}
 	
+	@Override
+	protected boolean isHashCacheable()
+	{
+		return true;
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
 	@Override
 	public String toString()
 	{
 		return value;
 	}
+
+	/**
+	 * Grava a string no formato do {@link com.github.detentor.codex.io.Codec Codec}.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
 	
 	@Override
 	public RichString sorted(final Comparator<? super Character> comparator)
@@ -259,7 +282,7 @@ public class RichString extends AbstractIndexedSeq<Character, RichString> implem
 	/**
 	 * Builder para String
 	 */
-	private static final class RichStringBuilder implements Builder<Character, SharpCollection<Character>>
+	private static final class RichStringBuilder extends AbstractBuilder<Character, SharpCollection<Character>>
 	{
 		private final StringBuilder sBuilder = new StringBuilder();
 
@@ -269,6 +292,12 @@ public class RichString extends AbstractIndexedSeq<Character, RichString> implem
 			sBuilder.append(element);
 		}
 
+		@Override
+		public void sizeHint(final int size)
+		{
+			sBuilder.ensureCapacity(size);
+		}
+
 		@Override
 		public RichString result()
 		{
@@ -0,0 +1,863 @@
+package com.github.detentor.codex.collections.immutable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.AbstractIndexedSeq;
+import com.github.detentor.codex.collections.Aggregator;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Product;
+import com.github.detentor.codex.product.Tuple2;
+import com.github.detentor.codex.product.Tuple3;
+import com.github.detentor.codex.product.Tuple4;
+import com.github.detentor.codex.product.Tuple5;
+
+/**
+ * Sequência imutável de tuplas ({@link Tuple2} a {@link Tuple5}) guardada em colunas: cada componente das tuplas é
+ * guardado no seu próprio vetor, e as tuplas só são criadas quando pedidas, pelo {@link #apply(Integer) apply}. <br/>
+ * <br/>
+ *
+ * As colunas cujos valores são todos Integer, Long ou Double (sem nulos) são guardadas em vetores de tipos primitivos; as
+ * outras, em vetores de objetos. Uma linha de uma ListSharp&lt;Tuple3&lt;Long, Integer, String&gt;&gt; ocupa a tupla, os dois
+ * wrappers e a referência na lista; aqui, ocupa apenas 8 + 4 bytes e a referência à String. <br/>
+ * <br/>
+ *
+ * As operações por coluna ({@link #column(int) column}, {@link #filterColumn(int, Function1) filterColumn},
+ * {@link #mapColumn(int, Function1) mapColumn}, {@link #sumLong(int) sumLong}, {@link #aggregate(int, Aggregator)
+ * aggregate}, etc) percorrem somente os vetores das colunas envolvidas, sem criar as tuplas. As colunas não alteradas são
+ * compartilhadas entre as sequências, assim como no {@link #subsequence(int, int) subsequence}. <br/>
+ * <br/>
+ *
+ * As colunas são identificadas pela posição na tupla, a partir de zero. As outras operações (map, filter, sorted, etc)
+ * criam as tuplas, e retornam uma TupleSeq sempre que o resultado for formado por tuplas de mesma aridade.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo das tuplas da sequência
+ */
+public class TupleSeq<T extends Product> extends AbstractIndexedSeq<T, IndexedSeq<T>>
+{
+	private final Column[] columns;
+	private final int startIndex;
+	private final int theSize;
+
+	protected TupleSeq(final Column[] theColumns, final int theStart, final int size)
+	{
+		super();
+		this.columns = theColumns;
+		this.startIndex = theStart;
+		this.theSize = size;
+	}
+
+	/**
+	 * Retorna uma TupleSeq vazia.
+	 *
+	 * @param <T> O tipo das tuplas da sequência
+	 * @return Uma TupleSeq vazia
+	 */
+	public static <T extends Product> TupleSeq<T> empty()
+	{
+		return new TupleSeq<T>(new Column[0], 0, 0);
+	}
+
+	/**
+	 * Cria uma TupleSeq com as tuplas do iterable passado como parâmetro, na mesma ordem.
+	 *
+	 * @param <T> O tipo das tuplas da sequência
+	 * @param theIterable O iterable que contém as tuplas
+	 * @return Uma TupleSeq com as tuplas do iterable
+	 * @throws IllegalArgumentException Se os elementos não forem tuplas (Tuple2 a Tuple5) de mesma aridade
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Product> TupleSeq<T> from(final Iterable<T> theIterable)
+	{
+		final List<Object> rows = new ArrayList<Object>();
+
+		if (theIterable instanceof Collection<?>)
+		{
+			rows.addAll((Collection<T>) theIterable);
+		}
+		else
+		{
+			for (final T ele : theIterable)
+			{
+				rows.add(ele);
+			}
+		}
+		final TupleSeq<T> retorno = (TupleSeq<T>) columnize(rows);
+
+		if (retorno == null)
+		{
+			throw new IllegalArgumentException("TupleSeq só aceita tuplas (Tuple2 a Tuple5) de mesma aridade");
+		}
+		return retorno;
+	}
+
+	/**
+	 * Cria uma TupleSeq a partir das tuplas passadas como parâmetro.
+	 *
+	 * @param <T> O tipo das tuplas da sequência
+	 * @param valores As tuplas da sequência
+	 * @return Uma TupleSeq com as tuplas passadas como parâmetro
+	 * @throws IllegalArgumentException Se os elementos não forem tuplas (Tuple2 a Tuple5) de mesma aridade
+	 */
+	public static <T extends Product> TupleSeq<T> from(final T... valores)
+	{
+		return from(Arrays.asList(valores));
+	}
+
+	/**
+	 * Retorna o número de componentes das tuplas desta sequência (0, se ela for vazia).
+	 *
+	 * @return O número de colunas desta sequência
+	 */
+	public int arity()
+	{
+		return columns.length;
+	}
+
+	@Override
+	public int size()
+	{
+		return theSize;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T apply(final Integer param)
+	{
+		if (param < 0 || param >= theSize)
+		{
+			throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + theSize);
+		}
+		final int row = startIndex + param;
+
+		switch (columns.length)
+		{
+			case 2:
+				return (T) Tuple2.from(columns[0].get(row), columns[1].get(row));
+			case 3:
+				return (T) Tuple3.from(columns[0].get(row), columns[1].get(row), columns[2].get(row));
+			case 4:
+				return (T) Tuple4.from(columns[0].get(row), columns[1].get(row), columns[2].get(row), columns[3].get(row));
+			default:
+				return (T) Tuple5.from(columns[0].get(row), columns[1].get(row), columns[2].get(row), columns[3].get(row),
+						columns[4].get(row));
+		}
+	}
+
+	@Override
+	public TupleSeq<T> subsequence(final int startIndex, final int endIndex)
+	{
+		final int start = Math.min(Math.max(startIndex, 0), theSize);
+		final int end = Math.max(Math.min(endIndex, theSize), start);
+		return new TupleSeq<T>(columns, this.startIndex + start, end - start);
+	}
+
+	/**
+	 * Retorna uma visão da coluna passada como parâmetro, sem criar as tuplas. <br/>
+	 * Os valores das colunas de tipos primitivos são convertidos nos wrappers a cada acesso.
+	 *
+	 * @param <C> O tipo dos valores da coluna
+	 * @param index A posição da coluna nas tuplas, a partir de zero
+	 * @return Uma sequência indexada com os valores da coluna
+	 * @throws IndexOutOfBoundsException Se a coluna não existir
+	 */
+	public <C> IndexedSeq<C> column(final int index)
+	{
+		return new ColumnSeq<C>(getColumn(index), startIndex, theSize);
+	}
+
+	/**
+	 * Retorna as tuplas desta sequência cujo valor na coluna passada como parâmetro satisfaz o predicado. <br/>
+	 * Somente a coluna do predicado é percorrida; as outras colunas são copiadas apenas nas linhas selecionadas.
+	 *
+	 * @param <C> O tipo dos valores da coluna
+	 * @param index A posição da coluna nas tuplas, a partir de zero
+	 * @param pred O predicado a ser aplicado em cada valor da coluna
+	 * @return Uma TupleSeq com as tuplas selecionadas
+	 * @throws IndexOutOfBoundsException Se a coluna não existir
+	 */
+	@SuppressWarnings("unchecked")
+	public <C> TupleSeq<T> filterColumn(final int index, final Function1<? super C, Boolean> pred)
+	{
+		final Column column = getColumn(index);
+		final int[] rows = new int[theSize];
+		int count = 0;
+
+		for (int row = startIndex; row < startIndex + theSize; row++)
+		{
+			if (pred.apply((C) column.get(row)))
+			{
+				rows[count++] = row;
+			}
+		}
+
+		if (count == theSize)
+		{
+			return this;
+		}
+		final Column[] retorno = new Column[columns.length];
+
+		for (int i = 0; i < columns.length; i++)
+		{
+			retorno[i] = columns[i].gather(rows, count);
+		}
+		return new TupleSeq<T>(retorno, 0, count);
+	}
+
+	/**
+	 * Retorna uma TupleSeq onde os valores da coluna passada como parâmetro são substituídos pelo resultado da função. <br/>
+	 * Somente a coluna alterada é percorrida; as outras colunas são compartilhadas com esta sequência. <br/>
+	 * Como o tipo das tuplas muda, o tipo da sequência retornada é inferido pelo contexto (sem verificação).
+	 *
+	 * @param <C> O tipo dos valores da coluna
+	 * @param <P> O tipo das tuplas da sequência retornada
+	 * @param index A posição da coluna nas tuplas, a partir de zero
+	 * @param function A função a ser aplicada em cada valor da coluna
+	 * @return Uma TupleSeq com a coluna transformada
+	 * @throws IndexOutOfBoundsException Se a coluna não existir
+	 */
+	@SuppressWarnings("unchecked")
+	public <C, P extends Product> TupleSeq<P> mapColumn(final int index, final Function1<? super C, ?> function)
+	{
+		final Column column = getColumn(index);
+		final Object[] values = new Object[theSize];
+
+		for (int i = 0; i < theSize; i++)
+		{
+			values[i] = function.apply((C) column.get(startIndex + i));
+		}
+		final Column[] retorno = new Column[columns.length];
+
+		for (int i = 0; i < columns.length; i++)
+		{
+			retorno[i] = i == index ? Column.of(values) : columns[i].slice(startIndex, theSize);
+		}
+		return new TupleSeq<P>(retorno, 0, theSize);
+	}
+
+	/**
+	 * Retorna a soma dos valores da coluna passada como parâmetro, como long. <br/>
+	 * Nas colunas de tipos primitivos, o vetor é percorrido diretamente, sem a criação de nenhum objeto.
+	 *
+	 * @param index A posição da coluna nas tuplas, a partir de zero
+	 * @return A soma dos valores da coluna
+	 * @throws IndexOutOfBoundsException Se a coluna não existir
+	 * @throws ClassCastException Se os valores da coluna não forem números
+	 */
+	public long sumLong(final int index)
+	{
+		return getColumn(index).sumLong(startIndex, startIndex + theSize);
+	}
+
+	/**
+	 * Retorna a soma dos valores da coluna passada como parâmetro, como double (ver {@link #sumLong(int) sumLong}).
+	 *
+	 * @param index A posição da coluna nas tuplas, a partir de zero
+	 * @return A soma dos valores da coluna
+	 * @throws IndexOutOfBoundsException Se a coluna não existir
+	 * @throws ClassCastException Se os valores da coluna não forem números
+	 */
+	public double sumDouble(final int index)
+	{
+		return getColumn(index).sumDouble(startIndex, startIndex + theSize);
+	}
+
+	/**
+	 * Agrega os valores da coluna passada como parâmetro, sem criar as tuplas.
+	 *
+	 * @param <C> O tipo dos valores da coluna
+	 * @param <A> O tipo do acumulador
+	 * @param <R> O tipo do resultado da agregação
+	 * @param index A posição da coluna nas tuplas, a partir de zero
+	 * @param aggregator O agregador dos valores
+	 * @return O resultado da agregação
+	 * @throws IndexOutOfBoundsException Se a coluna não existir
+	 */
+	@SuppressWarnings("unchecked")
+	public <C, A, R> R aggregate(final int index, final Aggregator<C, A, R> aggregator)
+	{
+		final Column column = getColumn(index);
+		A accumulator = aggregator.create();
+
+		for (int row = startIndex; row < startIndex + theSize; row++)
+		{
+			accumulator = aggregator.accumulate(accumulator, (C) column.get(row));
+		}
+		return aggregator.result(accumulator);
+	}
+
+	/**
+	 * Retorna uma estimativa do número de bytes ocupados pelos vetores das colunas (sem contar os objetos referenciados
+	 * pelas colunas de objetos).
+	 *
+	 * @return O número de bytes ocupados pelas colunas
+	 */
+	public long sizeInBytes()
+	{
+		long retorno = 0;
+
+		for (final Column column : columns)
+		{
+			retorno += column.sizeInBytes();
+		}
+		return retorno;
+	}
+
+	@Override
+	public IndexedSeq<T> sorted()
+	{
+		return TupleSeq.from(ListSharp.from(this).sorted());
+	}
+
+	@Override
+	public IndexedSeq<T> sorted(final Comparator<? super T> comparator)
+	{
+		return TupleSeq.from(ListSharp.from(this).sorted(comparator));
+	}
+
+	/**
+	 * As operações que constroem novas coleções a partir desta sequência retornam uma TupleSeq, se os elementos forem tuplas
+	 * de mesma aridade, ou uma ListSharp imutável, caso contrário
+	 */
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return new TupleBuilder<B>();
+	}
+
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+	}
+
+	private Column getColumn(final int index)
+	{
+		if (index < 0 || index >= columns.length)
+		{
+			throw new IndexOutOfBoundsException("Coluna: " + index + ", aridade: " + columns.length);
+		}
+		return columns[index];
+	}
+
+	/**
+	 * Cria uma TupleSeq com as tuplas passadas como parâmetro, ou retorna null se elas não forem tuplas de mesma aridade
+	 */
+	private static TupleSeq<Product> columnize(final List<?> rows)
+	{
+		if (rows.isEmpty())
+		{
+			return empty();
+		}
+		final int arity = arityOf(rows.get(0));
+
+		if (arity < 0)
+		{
+			return null;
+		}
+		final Object[][] values = new Object[arity][rows.size()];
+
+		for (int i = 0; i < rows.size(); i++)
+		{
+			final Object row = rows.get(i);
+
+			if (arityOf(row) != arity)
+			{
+				return null;
+			}
+
+			for (int c = 0; c < arity; c++)
+			{
+				values[c][i] = component(row, c);
+			}
+		}
+		final Column[] columns = new Column[arity];
+
+		for (int c = 0; c < arity; c++)
+		{
+			columns[c] = Column.of(values[c]);
+			values[c] = null;
+		}
+		return new TupleSeq<Product>(columns, 0, rows.size());
+	}
+
+	/**
+	 * Retorna a aridade da tupla (as subclasses, como a ComparableTuple2, também são aceitas), ou -1 se não for uma tupla
+	 */
+	private static int arityOf(final Object tuple)
+	{
+		if (tuple instanceof Tuple2<?, ?>)
+		{
+			return 2;
+		}
+		else if (tuple instanceof Tuple3<?, ?, ?>)
+		{
+			return 3;
+		}
+		else if (tuple instanceof Tuple4<?, ?, ?, ?>)
+		{
+			return 4;
+		}
+		else if (tuple instanceof Tuple5<?, ?, ?, ?, ?>)
+		{
+			return 5;
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static Object component(final Object tuple, final int index)
+	{
+		if (tuple instanceof Tuple2)
+		{
+			return index == 0 ? ((Tuple2) tuple).getVal1() : ((Tuple2) tuple).getVal2();
+		}
+		else if (tuple instanceof Tuple3)
+		{
+			final Tuple3 t = (Tuple3) tuple;
+			return index == 0 ? t.getVal1() : index == 1 ? t.getVal2() : t.getVal3();
+		}
+		else if (tuple instanceof Tuple4)
+		{
+			final Tuple4 t = (Tuple4) tuple;
+			return index == 0 ? t.getVal1() : index == 1 ? t.getVal2() : index == 2 ? t.getVal3() : t.getVal4();
+		}
+		final Tuple5 t = (Tuple5) tuple;
+		return index == 0 ? t.getVal1() : index == 1 ? t.getVal2() : index == 2 ? t.getVal3() : index == 3 ? t.getVal4()
+				: t.getVal5();
+	}
+
+	/**
+	 * Uma coluna: os valores de um componente das tuplas, num vetor do tipo mais compacto possível
+	 */
+	private abstract static class Column
+	{
+		abstract Object get(int row);
+
+		abstract int length();
+
+		abstract long sizeInBytes();
+
+		/**
+		 * Retorna uma coluna com os valores das linhas passadas como parâmetro
+		 */
+		Column gather(final int[] rows, final int count)
+		{
+			final Object[] values = new Object[count];
+
+			for (int i = 0; i < count; i++)
+			{
+				values[i] = get(rows[i]);
+			}
+			return of(values);
+		}
+
+		/**
+		 * Retorna uma coluna com os valores do intervalo, ou esta coluna se o intervalo for a coluna inteira
+		 */
+		Column slice(final int start, final int size)
+		{
+			if (start == 0 && size == length())
+			{
+				return this;
+			}
+			final int[] rows = new int[size];
+
+			for (int i = 0; i < size; i++)
+			{
+				rows[i] = start + i;
+			}
+			return gather(rows, size);
+		}
+
+		long sumLong(final int from, final int to)
+		{
+			long retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += ((Number) get(row)).longValue();
+			}
+			return retorno;
+		}
+
+		double sumDouble(final int from, final int to)
+		{
+			double retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += ((Number) get(row)).doubleValue();
+			}
+			return retorno;
+		}
+
+		/**
+		 * Cria a coluna com o tipo mais compacto que consegue guardar todos os valores
+		 */
+		static Column of(final Object[] values)
+		{
+			Class<?> type = values.length == 0 || values[0] == null ? null : values[0].getClass();
+
+			for (int i = 1; i < values.length && type != null; i++)
+			{
+				if (values[i] == null || values[i].getClass() != type)
+				{
+					type = null;
+				}
+			}
+
+			if (type == Integer.class)
+			{
+				final int[] array = new int[values.length];
+
+				for (int i = 0; i < array.length; i++)
+				{
+					array[i] = (Integer) values[i];
+				}
+				return new IntColumn(array);
+			}
+			else if (type == Long.class)
+			{
+				final long[] array = new long[values.length];
+
+				for (int i = 0; i < array.length; i++)
+				{
+					array[i] = (Long) values[i];
+				}
+				return new LongColumn(array);
+			}
+			else if (type == Double.class)
+			{
+				final double[] array = new double[values.length];
+
+				for (int i = 0; i < array.length; i++)
+				{
+					array[i] = (Double) values[i];
+				}
+				return new DoubleColumn(array);
+			}
+			return new ObjectColumn(values);
+		}
+	}
+
+	private static final class IntColumn extends Column
+	{
+		private final int[] values;
+
+		IntColumn(final int[] theValues)
+		{
+			values = theValues;
+		}
+
+		@Override
+		Object get(final int row)
+		{
+			return values[row];
+		}
+
+		@Override
+		int length()
+		{
+			return values.length;
+		}
+
+		@Override
+		long sizeInBytes()
+		{
+			return 4L * values.length;
+		}
+
+		@Override
+		Column gather(final int[] rows, final int count)
+		{
+			final int[] retorno = new int[count];
+
+			for (int i = 0; i < count; i++)
+			{
+				retorno[i] = values[rows[i]];
+			}
+			return new IntColumn(retorno);
+		}
+
+		@Override
+		long sumLong(final int from, final int to)
+		{
+			long retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += values[row];
+			}
+			return retorno;
+		}
+
+		@Override
+		double sumDouble(final int from, final int to)
+		{
+			return sumLong(from, to);
+		}
+	}
+
+	private static final class LongColumn extends Column
+	{
+		private final long[] values;
+
+		LongColumn(final long[] theValues)
+		{
+			values = theValues;
+		}
+
+		@Override
+		Object get(final int row)
+		{
+			return values[row];
+		}
+
+		@Override
+		int length()
+		{
+			return values.length;
+		}
+
+		@Override
+		long sizeInBytes()
+		{
+			return 8L * values.length;
+		}
+
+		@Override
+		Column gather(final int[] rows, final int count)
+		{
+			final long[] retorno = new long[count];
+
+			for (int i = 0; i < count; i++)
+			{
+				retorno[i] = values[rows[i]];
+			}
+			return new LongColumn(retorno);
+		}
+
+		@Override
+		long sumLong(final int from, final int to)
+		{
+			long retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += values[row];
+			}
+			return retorno;
+		}
+
+		@Override
+		double sumDouble(final int from, final int to)
+		{
+			double retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += values[row];
+			}
+			return retorno;
+		}
+	}
+
+	private static final class DoubleColumn extends Column
+	{
+		private final double[] values;
+
+		DoubleColumn(final double[] theValues)
+		{
+			values = theValues;
+		}
+
+		@Override
+		Object get(final int row)
+		{
+			return values[row];
+		}
+
+		@Override
+		int length()
+		{
+			return values.length;
+		}
+
+		@Override
+		long sizeInBytes()
+		{
+			return 8L * values.length;
+		}
+
+		@Override
+		Column gather(final int[] rows, final int count)
+		{
+			final double[] retorno = new double[count];
+
+			for (int i = 0; i < count; i++)
+			{
+				retorno[i] = values[rows[i]];
+			}
+			return new DoubleColumn(retorno);
+		}
+
+		@Override
+		long sumLong(final int from, final int to)
+		{
+			long retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += (long) values[row];
+			}
+			return retorno;
+		}
+
+		@Override
+		double sumDouble(final int from, final int to)
+		{
+			double retorno = 0;
+
+			for (int row = from; row < to; row++)
+			{
+				retorno += values[row];
+			}
+			return retorno;
+		}
+	}
+
+	private static final class ObjectColumn extends Column
+	{
+		private final Object[] values;
+
+		ObjectColumn(final Object[] theValues)
+		{
+			values = theValues;
+		}
+
+		@Override
+		Object get(final int row)
+		{
+			return values[row];
+		}
+
+		@Override
+		int length()
+		{
+			return values.length;
+		}
+
+		@Override
+		long sizeInBytes()
+		{
+			//Referências comprimidas, como na configuração padrão da JVM de 64 bits
+			return 4L * values.length;
+		}
+	}
+
+	/**
+	 * Visão de uma coluna como uma sequência indexada
+	 */
+	private static final class ColumnSeq<C> extends AbstractIndexedSeq<C, IndexedSeq<C>>
+	{
+		private final Column column;
+		private final int start;
+		private final int theSize;
+
+		protected ColumnSeq(final Column theColumn, final int theStart, final int size)
+		{
+			super();
+			column = theColumn;
+			start = theStart;
+			theSize = size;
+		}
+
+		@Override
+		public int size()
+		{
+			return theSize;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public C apply(final Integer param)
+		{
+			if (param < 0 || param >= theSize)
+			{
+				throw new IndexOutOfBoundsException("Índice: " + param + ", tamanho: " + theSize);
+			}
+			return (C) column.get(start + param);
+		}
+
+		@Override
+		public IndexedSeq<C> subsequence(final int startIndex, final int endIndex)
+		{
+			final int from = Math.min(Math.max(startIndex, 0), theSize);
+			final int to = Math.max(Math.min(endIndex, theSize), from);
+			return new ColumnSeq<C>(column, start + from, to - from);
+		}
+
+		@Override
+		public IndexedSeq<C> sorted()
+		{
+			return ListSharp.from(this).sorted();
+		}
+
+		@Override
+		public IndexedSeq<C> sorted(final Comparator<? super C> comparator)
+		{
+			return ListSharp.from(this).sorted(comparator);
+		}
+
+		@Override
+		public <B> Builder<B, SharpCollection<B>> builder()
+		{
+			return ListSharp.<Object> empty().<B> builder();
+		}
+
+		@Override
+		protected int characteristics()
+		{
+			return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+		}
+	}
+
+	/**
+	 * Builder que guarda as tuplas em colunas, ou cria uma ListSharp se os elementos não forem tuplas de mesma aridade
+	 */
+	private static final class TupleBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private final ArrayList<Object> rows = new ArrayList<Object>();
+
+		@Override
+		public void add(final E element)
+		{
+			rows.add(element);
+		}
+
+		@Override
+		public void sizeHint(final int size)
+		{
+			rows.ensureCapacity(size);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public SharpCollection<E> result()
+		{
+			final TupleSeq<Product> retorno = columnize(rows);
+			return retorno == null ? (SharpCollection<E>) ListSharp.from(rows) : (SharpCollection<E>) (SharpCollection<?>) retorno;
+		}
+	}
+}
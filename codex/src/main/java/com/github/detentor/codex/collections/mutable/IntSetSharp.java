@@ -0,0 +1,448 @@
+package com.github.detentor.codex.collections.mutable;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.AbstractMutableGenericCollection;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.IntBitmap;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.function.PartialFunction1;
+
+/**
+ * Conjunto (Set) mutável de inteiros, cujos elementos são armazenados num bitmap comprimido ({@link IntBitmap}). <br/>
+ * <br/>
+ *
+ * É indicado para conjuntos de ids: ocupa de 2 bytes por elemento (ids esparsos) a menos de 1 bit por elemento (ids
+ * densos), o contains não cria objetos, e a união, a interseção e a diferença com outro IntSetSharp são calculadas
+ * diretamente sobre os bitmaps, sem percorrer os elementos. Os elementos são percorridos em ordem crescente. <br/>
+ * <br/>
+ *
+ * Os métodos que mantêm o tipo dos elementos (filter, take, drop, etc) retornam um IntSetSharp. Como esta classe não é
+ * genérica, o map, o flatMap e o collect retornam um IntSetSharp somente se todos os elementos gerados forem inteiros;
+ * caso contrário, retornam um {@link SetSharp} do tipo LINKED_HASH_SET. <br/>
+ * <br/>
+ *
+ * Assim como o {@link SetSharp}, esta classe é uma função definida para os valores que ela contém. O elemento null não é
+ * aceito.
+ *
+ * @author Vinícius Seufitele Pinto
+ */
+public class IntSetSharp extends AbstractMutableGenericCollection<Integer, IntSetSharp> implements PartialFunction1<Integer, Boolean>
+{
+	private IntBitmap bitmap;
+
+	/**
+	 * Construtor privado. Instâncias devem ser criadas com o 'from'
+	 */
+	protected IntSetSharp(final IntBitmap theBitmap)
+	{
+		super();
+		bitmap = theBitmap;
+	}
+
+	/**
+	 * Constrói uma instância de IntSetSharp vazia.
+	 *
+	 * @return Uma instância de IntSetSharp vazia
+	 */
+	public static IntSetSharp empty()
+	{
+		return new IntSetSharp(new IntBitmap());
+	}
+
+	/**
+	 * Cria um novo IntSetSharp, a partir dos valores passados como parâmetro.
+	 *
+	 * @param valores Os valores que irão compor o IntSetSharp
+	 * @return Um novo IntSetSharp, cujos elementos são os valores passados como parâmetro
+	 */
+	public static IntSetSharp from(final int... valores)
+	{
+		return new IntSetSharp(IntBitmap.from(valores));
+	}
+
+	/**
+	 * Cria uma instância de IntSetSharp a partir dos elementos existentes no iterable passado como parâmetro.
+	 *
+	 * @param theIterable O iterable que contém os elementos
+	 * @return Um IntSetSharp criado a partir da adição de todos os elementos do iterable
+	 * @throws IllegalArgumentException Se o iterable contiver o elemento null
+	 */
+	public static IntSetSharp from(final Iterable<Integer> theIterable)
+	{
+		return new IntSetSharp(toBitmap(theIterable));
+	}
+
+	/**
+	 * Cria uma instância de IntSetSharp com uma cópia do bitmap passado como parâmetro.
+	 *
+	 * @param theBitmap O bitmap que contém os elementos
+	 * @return Um IntSetSharp com os valores do bitmap
+	 */
+	public static IntSetSharp from(final IntBitmap theBitmap)
+	{
+		return new IntSetSharp(theBitmap.copy());
+	}
+
+	@Override
+	public int size()
+	{
+		return bitmap.cardinality();
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return bitmap.cardinality() == 0;
+	}
+
+	@Override
+	public boolean contains(final Integer element)
+	{
+		return element != null && bitmap.contains(element);
+	}
+
+	/**
+	 * Verifica se este conjunto possui o valor passado como parâmetro, sem boxing.
+	 *
+	 * @param value O valor a ser verificado
+	 * @return true se este conjunto contém o valor, ou false caso contrário
+	 */
+	public boolean contains(final int value)
+	{
+		return bitmap.contains(value);
+	}
+
+	@Override
+	public Iterator<Integer> iterator()
+	{
+		return bitmap.iterator();
+	}
+
+	/**
+	 * Retorna um iterator que também permite percorrer os valores sem boxing (ver {@link IntBitmap.IntIterator#nextInt()}).
+	 *
+	 * @return Um iterator sobre os valores deste conjunto, em ordem crescente
+	 */
+	public IntBitmap.IntIterator intIterator()
+	{
+		return bitmap.intIterator();
+	}
+
+	@Override
+	public IntSetSharp add(final Integer element)
+	{
+		if (element == null)
+		{
+			throw new IllegalArgumentException("O IntSetSharp não aceita o elemento null");
+		}
+		bitmap.add(element);
+		return this;
+	}
+
+	/**
+	 * Adiciona o valor passado como parâmetro, sem boxing.
+	 *
+	 * @param value O valor a ser adicionado
+	 * @return Este conjunto
+	 */
+	public IntSetSharp add(final int value)
+	{
+		bitmap.add(value);
+		return this;
+	}
+
+	@Override
+	public IntSetSharp remove(final Integer element)
+	{
+		if (element != null)
+		{
+			bitmap.remove(element);
+		}
+		return this;
+	}
+
+	/**
+	 * Remove o valor passado como parâmetro, sem boxing.
+	 *
+	 * @param value O valor a ser removido
+	 * @return Este conjunto
+	 */
+	public IntSetSharp remove(final int value)
+	{
+		bitmap.remove(value);
+		return this;
+	}
+
+	@Override
+	public IntSetSharp clear()
+	{
+		bitmap.clear();
+		return this;
+	}
+
+	/**
+	 * Se o iterable for um IntSetSharp, os valores são adicionados diretamente a partir do bitmap dele. <br/>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntSetSharp addAll(final Iterable<? extends Integer> col)
+	{
+		if (col instanceof IntSetSharp || col instanceof com.github.detentor.codex.collections.immutable.IntSetSharp)
+		{
+			bitmap = bitmap.or(bitmapOf(col));
+			return this;
+		}
+		return super.addAll(col);
+	}
+
+	/**
+	 * Se o iterable for um IntSetSharp, os valores são removidos diretamente a partir do bitmap dele. <br/>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IntSetSharp removeAll(final Iterable<Integer> col)
+	{
+		if (col instanceof IntSetSharp || col instanceof com.github.detentor.codex.collections.immutable.IntSetSharp)
+		{
+			bitmap = bitmap.andNot(bitmapOf(col));
+			return this;
+		}
+		return super.removeAll(col);
+	}
+
+	@Override
+	public IntSetSharp union(final Iterable<Integer> withCollection)
+	{
+		return new IntSetSharp(bitmap.or(bitmapOf(withCollection)));
+	}
+
+	@Override
+	public IntSetSharp intersect(final Iterable<Integer> withCollection)
+	{
+		return new IntSetSharp(bitmap.and(bitmapOf(withCollection)));
+	}
+
+	@Override
+	public IntSetSharp diff(final Iterable<Integer> withCollection)
+	{
+		return new IntSetSharp(bitmap.andNot(bitmapOf(withCollection)));
+	}
+
+	/**
+	 * Os elementos de um conjunto são distintos, e já estão ordenados
+	 */
+	@Override
+	public IntSetSharp distinct()
+	{
+		return new IntSetSharp(bitmap.copy());
+	}
+
+	/**
+	 * Os elementos deste conjunto já estão na ordem natural, portanto este método retorna uma cópia deste conjunto
+	 */
+	@Override
+	public IntSetSharp sorted()
+	{
+		return new IntSetSharp(bitmap.copy());
+	}
+
+	/**
+	 * Um bitmap só guarda os valores em ordem crescente, portanto os elementos são retornados num {@link SetSharp} do tipo
+	 * TREE_SET, ordenado pelo comparator. <br/>
+	 * {@inheritDoc}
+	 */
+	@Override
+	public SetSharp<Integer> sorted(final Comparator<? super Integer> comparator)
+	{
+		return SetSharp.<Integer> empty().sorted(comparator).addAll(this);
+	}
+
+	/**
+	 * Converte para sequências os containers de valores consecutivos, quando isso economiza memória (ver
+	 * {@link IntBitmap#runOptimize()}). Deve ser chamado depois que o conjunto estiver completo.
+	 *
+	 * @return Este conjunto
+	 */
+	public IntSetSharp runOptimize()
+	{
+		bitmap.runOptimize();
+		return this;
+	}
+
+	/**
+	 * Retorna uma estimativa do número de bytes ocupados pelos elementos deste conjunto.
+	 *
+	 * @return O número aproximado de bytes ocupados pelo bitmap
+	 */
+	public long sizeInBytes()
+	{
+		return bitmap.sizeInBytes();
+	}
+
+	/**
+	 * Retorna uma cópia do bitmap com os elementos deste conjunto.
+	 *
+	 * @return Um bitmap com os elementos deste conjunto
+	 */
+	public IntBitmap toBitmap()
+	{
+		return bitmap.copy();
+	}
+
+	/**
+	 * Retorna os elementos deste conjunto, em ordem crescente.
+	 *
+	 * @return Um vetor com os elementos deste conjunto
+	 */
+	public int[] toIntArray()
+	{
+		return bitmap.toArray();
+	}
+
+	/**
+	 * Retorna um IntSetSharp imutável com os elementos deste conjunto.
+	 *
+	 * @return Um IntSetSharp imutável com os elementos deste conjunto
+	 */
+	public com.github.detentor.codex.collections.immutable.IntSetSharp toImmutable()
+	{
+		return com.github.detentor.codex.collections.immutable.IntSetSharp.from(bitmap);
+	}
+
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return new IntSetBuilder<B>();
+	}
+
+	/**
+	 * Os elementos são distintos, não nulos, e percorridos em ordem crescente
+	 */
+	@Override
+	protected int characteristics()
+	{
+		return Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL;
+	}
+
+	/**
+	 * Verifica se este conjunto possui o elemento passado como parâmetro
+	 * @param param O elemento a ser verificado se existe no conjunto
+	 * @return True se este conjunto contém o elemento, ou false se não contém
+	 */
+	@Override
+	public Boolean apply(final Integer param)
+	{
+		return contains(param);
+	}
+
+	@Override
+	public boolean isDefinedAt(final Integer forValue)
+	{
+		return contains(forValue);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return bitmap.hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass())
+		{
+			return false;
+		}
+		return bitmap.equals(((IntSetSharp) obj).bitmap);
+	}
+
+	@Override
+	public String toString()
+	{
+		return bitmap.toString();
+	}
+
+	/**
+	 * Retorna o bitmap com os elementos do iterable: o próprio bitmap, se ele for um IntSetSharp mutável
+	 */
+	private static IntBitmap bitmapOf(final Iterable<? extends Integer> theIterable)
+	{
+		if (theIterable instanceof IntSetSharp)
+		{
+			return ((IntSetSharp) theIterable).bitmap;
+		}
+
+		if (theIterable instanceof com.github.detentor.codex.collections.immutable.IntSetSharp)
+		{
+			return ((com.github.detentor.codex.collections.immutable.IntSetSharp) theIterable).toBitmap();
+		}
+		return toBitmap(theIterable);
+	}
+
+	private static IntBitmap toBitmap(final Iterable<? extends Integer> theIterable)
+	{
+		final IntBitmap retorno = new IntBitmap();
+
+		for (final Integer ele : theIterable)
+		{
+			if (ele == null)
+			{
+				throw new IllegalArgumentException("O IntSetSharp não aceita o elemento null");
+			}
+			retorno.add(ele);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Builder que acumula os inteiros num bitmap. Ao receber um elemento que não é um inteiro (ex: no map), os elementos
+	 * passam a ser acumulados num SetSharp do tipo LINKED_HASH_SET.
+	 */
+	private static final class IntSetBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private final IntBitmap theBitmap = new IntBitmap();
+		private Builder<E, SharpCollection<E>> fallback;
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void add(final E element)
+		{
+			if (fallback == null)
+			{
+				if (element instanceof Integer)
+				{
+					theBitmap.add((Integer) element);
+					return;
+				}
+				fallback = SetSharp.<E> empty(SetSharpType.LINKED_HASH_SET).builder();
+
+				for (final Integer ele : theBitmap)
+				{
+					fallback.add((E) ele);
+				}
+			}
+			fallback.add(element);
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public SharpCollection<E> result()
+		{
+			if (fallback != null)
+			{
+				return fallback.result();
+			}
+			return (SharpCollection<E>) new IntSetSharp(theBitmap);
+		}
+	}
+}
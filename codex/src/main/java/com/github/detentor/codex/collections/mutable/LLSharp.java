@@ -2,7 +2,7 @@ package com.github.detentor.codex.collections.mutable;
 
 import java.util.Comparator;
 
-import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractMutableLinearSeq;
 import com.github.detentor.codex.collections.Builder;
 import com.github.detentor.codex.collections.SharpCollection;
@@ -158,22 +158,22 @@ public class LLSharp<T> extends AbstractMutableLinearSeq<T, LLSharp<T>>
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * A lista é percorrida de maneira iterativa, portanto não há risco de estouro de pilha em listas longas. Para remoções
+	 * frequentes, ver {@link UnrolledListSharp}.
+	 */
 	@Override
 	public LLSharp<T> remove(final T element)
 	{
-		if (this.isEmpty())
-		{
-			return this;
-		}
-
-		if (Option.from(this.head).equals(Option.from(element)))
-		{
-			this.head = this.tail.head;
-			this.tail = this.tail.tail;
-		}
-		else
+		for (LLSharp<T> curNode = this; !curNode.isEmpty(); curNode = curNode.tail)
 		{
-			this.tail = this.tail.remove(element);
+			if (element == null ? curNode.head == null : element.equals(curNode.head))
+			{
+				curNode.head = curNode.tail.head;
+				curNode.tail = curNode.tail.tail;
+				break;
+			}
 		}
 		return this;
 	}
@@ -255,7 +255,7 @@ public class LLSharp<T> extends AbstractMutableLinearSeq<T, LLSharp<T>>
 	 * Essa classe é um builder para SharpCollection baseado em um LinkedListSharp. MUTÁVEL
 	 * @param <E> O tipo de dados do ListSharp retornado
 	 */
-	private static final class LinkedListBuilder<E> implements Builder<E, SharpCollection<E>>
+	private static final class LinkedListBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
 	{
 		private LLSharp<E> list = LLSharp.empty();
 		private LLSharp<E> last;
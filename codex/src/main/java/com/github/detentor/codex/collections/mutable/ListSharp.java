@@ -2,17 +2,25 @@ package com.github.detentor.codex.collections.mutable;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractMutableIndexedSeq;
+import com.github.detentor.codex.collections.Aggregation;
 import com.github.detentor.codex.collections.Builder;
 import com.github.detentor.codex.collections.IndexedSeq;
+import com.github.detentor.codex.collections.SecondaryIndexes;
+import com.github.detentor.codex.collections.SecondaryIndexes.IndexType;
 import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.io.CodecProxy;
 import com.github.detentor.codex.product.Tuple2;
 
 /**
@@ -34,6 +42,11 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 
 	private final List<T> backingList;
 
+	/**
+	 * Os índices secundários desta lista, criados sob demanda pelo {@link #indexBy(String, Function1) indexBy}
+	 */
+	private transient SecondaryIndexes<T> indexes;
+
 	/**
 	 * Construtor privado. Instâncias devem ser criadas com o 'from'
 	 */
@@ -69,12 +82,9 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	 */
 	public static <T> ListSharp<T> from(final Iterable<T> theIterable)
 	{
-		final ListSharp<T> retorno = new ListSharp<T>();
-		for (final T ele : theIterable)
-		{
-			retorno.add(ele);
-		}
-		return retorno;
+		final ArrayBuilder<T> builder = new ArrayBuilder<T>();
+		builder.addAll(theIterable);
+		return builder.result();
 	}
 
 	/**
@@ -87,13 +97,7 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	 */
 	public static <T> ListSharp<T> from(final T... valores)
 	{
-		final ListSharp<T> retorno = new ListSharp<T>();
-
-		for (final T ele : valores)
-		{
-			retorno.add(ele);
-		}
-		return retorno;
+		return new ListSharp<T>(new ArrayList<T>(Arrays.asList(valores)));
 	}
 
 	@Override
@@ -112,13 +116,21 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	public ListSharp<T> add(final T element)
 	{
 		backingList.add(element);
+
+		if (indexes != null)
+		{
+			indexes.added(element);
+		}
 		return this;
 	}
 
 	@Override
 	public ListSharp<T> remove(final T element)
 	{
-		backingList.remove(element);
+		if (backingList.remove(element) && indexes != null)
+		{
+			indexes.removed(element);
+		}
 		return this;
 	}
 
@@ -126,9 +138,119 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	public ListSharp<T> clear()
 	{
 		backingList.clear();
+
+		if (indexes != null)
+		{
+			indexes.cleared();
+		}
+		return this;
+	}
+
+	/**
+	 * Cria um índice secundário do tipo HASH (ver {@link #indexBy(String, Function1, IndexType) indexBy}).
+	 * 
+	 * @param name O nome do índice
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return A referência a esta lista, após a criação do índice
+	 */
+	public ListSharp<T> indexBy(final String name, final Function1<? super T, ?> keyFunction)
+	{
+		return indexBy(name, keyFunction, IndexType.HASH);
+	}
+
+	/**
+	 * Cria um índice secundário, que associa a chave calculada pela função passada como parâmetro aos elementos desta lista.
+	 * <br/>
+	 * O índice é atualizado a cada add, remove, addAll, removeAll e clear. Alterações feitas diretamente na lista retornada
+	 * pelo {@link #toList() toList} não são refletidas no índice. <br/>
+	 * Além do {@link #lookup(String, Object) lookup}, o filter e o find usam o índice quando o predicado é criado pelo
+	 * {@link SecondaryIndexes#keyEquals(Function1, Object) keyEquals} com a mesma função.
+	 * 
+	 * @param name O nome do índice
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param indexType O tipo do índice
+	 * @return A referência a esta lista, após a criação do índice
+	 * @throws IllegalArgumentException Se já existir um índice com o nome passado como parâmetro
+	 */
+	public ListSharp<T> indexBy(final String name, final Function1<? super T, ?> keyFunction, final IndexType indexType)
+	{
+		indexes().create(name, keyFunction, indexType, this);
+		return this;
+	}
+
+	/**
+	 * Remove o índice secundário com o nome passado como parâmetro, se ele existir.
+	 * 
+	 * @param name O nome do índice
+	 * @return A referência a esta lista, após a remoção do índice
+	 */
+	public ListSharp<T> dropIndex(final String name)
+	{
+		if (indexes != null)
+		{
+			indexes.drop(name);
+		}
 		return this;
 	}
 
+	/**
+	 * Retorna os elementos desta lista cuja chave, no índice com o nome passado como parâmetro, é igual à chave passada como
+	 * parâmetro, na ordem desta lista. Custa O(1) mais o número de elementos retornados.
+	 * 
+	 * @param name O nome do índice
+	 * @param key A chave a ser pesquisada
+	 * @return Uma nova lista com os elementos que possuem a chave
+	 * @throws IllegalArgumentException Se não existir um índice com o nome passado como parâmetro
+	 */
+	public ListSharp<T> lookup(final String name, final Object key)
+	{
+		return new ListSharp<T>(new ArrayList<T>(indexes().lookup(name, key)));
+	}
+
+	/**
+	 * Retorna os elementos desta lista cuja chave, no índice com o nome passado como parâmetro, está entre from (inclusive) e
+	 * to (exclusive), em ordem crescente de chave.
+	 * 
+	 * @param name O nome do índice
+	 * @param from A menor chave do intervalo (inclusive)
+	 * @param to A maior chave do intervalo (exclusive)
+	 * @return Uma nova lista com os elementos que possuem chave no intervalo
+	 * @throws IllegalArgumentException Se não existir um índice com o nome passado como parâmetro
+	 * @throws UnsupportedOperationException Se o índice não for do tipo SORTED
+	 */
+	public ListSharp<T> lookupRange(final String name, final Object from, final Object to)
+	{
+		return new ListSharp<T>(indexes().lookupRange(name, from, to));
+	}
+
+	private SecondaryIndexes<T> indexes()
+	{
+		if (indexes == null)
+		{
+			indexes = new SecondaryIndexes<T>();
+		}
+		return indexes;
+	}
+
+	@Override
+	public ListSharp<T> filter(final Function1<? super T, Boolean> pred)
+	{
+		final List<T> matching = indexes == null ? null : indexes.matching(pred);
+		return matching == null ? super.filter(pred) : new ListSharp<T>(new ArrayList<T>(matching));
+	}
+
+	@Override
+	public Option<T> find(final Function1<? super T, Boolean> pred)
+	{
+		final List<T> matching = indexes == null ? null : indexes.matching(pred);
+
+		if (matching == null)
+		{
+			return super.find(pred);
+		}
+		return matching.isEmpty() ? Option.<T> empty() : Option.from(matching.get(0));
+	}
+
 	@Override
 	public <B> Builder<B, SharpCollection<B>> builder()
 	{
@@ -140,6 +262,14 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	{
 		return mkString("[", ", ", "]");
 	}
+
+	/**
+	 * Grava a lista no formato do {@link com.github.detentor.codex.io.Codec Codec}.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
 	
 	@Override
 	public <B> ListSharp<B> collect(final PartialFunction1<? super T, B> pFunction)
@@ -177,6 +307,7 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	 * @return Um mapa, onde a chave é o resultado da função, e os valores uma coleção 
 	 * de elementos cujo resultado da função aplicada seja o mesmo.
 	 */
+	@Override
 	public <A> MapSharp<A, ListSharp<T>> groupBy(final Function1<? super T, A> function)
 	{
 		return groupBy(function, MapSharpType.HASH_MAP);
@@ -194,16 +325,11 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	 * @return Um mapa, onde a chave é o resultado da função, e os valores uma coleção 
 	 * de elementos cujo resultado da função aplicada seja o mesmo.
 	 */
+	@SuppressWarnings("unchecked")
 	public <A> MapSharp<A, ListSharp<T>> groupBy(final Function1<? super T, A> function, final MapSharpType mapType)
 	{
-		final MapSharp<A, ListSharp<T>> mapaRetorno = MapSharp.empty(mapType);
-
-		for (final T curEle : this)
-		{
-			final A value = function.apply(curEle);
-			mapaRetorno.add(value, mapaRetorno.getOrElse(value, ListSharp.<T> empty()).add(curEle));
-		}
-		return mapaRetorno;
+		//Os grupos são criados pelo builder desta classe, portanto são instâncias de ListSharp
+		return (MapSharp<A, ListSharp<T>>) (MapSharp<A, ?>) Aggregation.aggregate(this, function, this.<T> groupAggregator(), mapType);
 	}
 
 	/**
@@ -251,6 +377,12 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 			return this;
 		}
 		Collections.sort(backingList, comparator);
+
+		//Os elementos de cada chave devem seguir a nova ordem da lista
+		if (indexes != null)
+		{
+			indexes.rebuild(backingList);
+		}
 		return this;
 	}
 
@@ -320,9 +452,9 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 	 * Essa classe é um builder para SharpCollection baseado em um ListSharp.
 	 * @param <E> O tipo de dados do ListSharp retornado
 	 */
-	protected final static class ArrayBuilder<E> implements Builder<E, SharpCollection<E>>
+	protected final static class ArrayBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
 	{
-		private final List<E> list = new ArrayList<E>();
+		private final ArrayList<E> list = new ArrayList<E>();
 
 		@Override
 		public void add(final E element)
@@ -330,6 +462,25 @@ public class ListSharp<T> extends AbstractMutableIndexedSeq<T, ListSharp<T>> imp
 			list.add(element);
 		}
 
+		@Override
+		public void addAll(final Iterable<? extends E> elements)
+		{
+			if (elements instanceof Collection<?>)
+			{
+				list.addAll((Collection<? extends E>) elements);
+			}
+			else
+			{
+				super.addAll(elements);
+			}
+		}
+
+		@Override
+		public void sizeHint(final int size)
+		{
+			list.ensureCapacity(size);
+		}
+
 		@Override
 		public ListSharp<E> result()
 		{
@@ -9,16 +9,22 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.Spliterator;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
 import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractMutableGenericCollection;
 import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.SetAlgebra;
 import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.collections.mutable.ListSharp.ArrayBuilder;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.io.CodecProxy;
 import com.github.detentor.codex.product.Tuple2;
 
 /**
@@ -81,7 +87,7 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 
 		for (final Entry<T, U> ele : theMap.entrySet())
 		{
-			retorno.add(Tuple2.from(ele.getKey(), ele.getValue()));
+			retorno.add(ele.getKey(), ele.getValue());
 		}
 		return retorno;
 	}
@@ -182,6 +188,203 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 		return MapSharpType.HASH_MAP;
 	}
 
+	/**
+	 * Retorna o tipo deste MapSharp.
+	 * 
+	 * @return O tipo do mapa usado para guardar os elementos
+	 */
+	public MapSharpType getType()
+	{
+		if (backingMap instanceof LinkedHashMap<?, ?>)
+		{
+			return MapSharpType.LINKED_HASH_MAP;
+		}
+		else if (backingMap instanceof SortedMap<?, ?>)
+		{
+			return MapSharpType.TREE_MAP;
+		}
+		return MapSharpType.HASH_MAP;
+	}
+
+	/**
+	 * Retorna o comparator que define a ordem das chaves deste MapSharp, se ele for do tipo TREE_MAP.
+	 * 
+	 * @return O comparator das chaves, ou null se a ordem for a natural (ou se as chaves não forem ordenadas)
+	 */
+	public Comparator<? super K> comparator()
+	{
+		return backingMap instanceof SortedMap<?, ?> ? ((SortedMap<K, V>) backingMap).comparator() : null;
+	}
+
+	/**
+	 * Retorna uma visão das entradas deste mapa cujas chaves estão entre from (inclusive) e to (exclusive), em O(log n). <br/>
+	 * A visão não copia as entradas: alterações no mapa são refletidas na visão, e vice-versa. Adicionar na visão uma chave
+	 * fora do intervalo lança {@link IllegalArgumentException}.
+	 * 
+	 * @param from A menor chave do intervalo (inclusive)
+	 * @param to A maior chave do intervalo (exclusive)
+	 * @return Um MapSharp do tipo TREE_MAP com as entradas do intervalo
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public MapSharp<K, V> range(final K from, final K to)
+	{
+		return new MapSharp<K, V>(navigableMap().subMap(from, true, to, false));
+	}
+
+	/**
+	 * Retorna uma visão das entradas deste mapa cujas chaves são menores do que to (ver {@link #range(Object, Object) range}).
+	 * 
+	 * @param to A maior chave do intervalo (exclusive)
+	 * @return Um MapSharp do tipo TREE_MAP com as entradas do intervalo
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public MapSharp<K, V> headMap(final K to)
+	{
+		return new MapSharp<K, V>(navigableMap().headMap(to, false));
+	}
+
+	/**
+	 * Retorna uma visão das entradas deste mapa cujas chaves são maiores ou iguais a from (ver
+	 * {@link #range(Object, Object) range}).
+	 * 
+	 * @param from A menor chave do intervalo (inclusive)
+	 * @return Um MapSharp do tipo TREE_MAP com as entradas do intervalo
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public MapSharp<K, V> tailMap(final K from)
+	{
+		return new MapSharp<K, V>(navigableMap().tailMap(from, true));
+	}
+
+	/**
+	 * Retorna a entrada com a maior chave menor ou igual à chave passada como parâmetro, em O(log n).
+	 * 
+	 * @param key A chave a ser pesquisada
+	 * @return A entrada encontrada, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public Option<Tuple2<K, V>> floor(final K key)
+	{
+		return toOption(navigableMap().floorEntry(key));
+	}
+
+	/**
+	 * Retorna a entrada com a menor chave maior ou igual à chave passada como parâmetro, em O(log n).
+	 * 
+	 * @param key A chave a ser pesquisada
+	 * @return A entrada encontrada, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public Option<Tuple2<K, V>> ceiling(final K key)
+	{
+		return toOption(navigableMap().ceilingEntry(key));
+	}
+
+	/**
+	 * Retorna a entrada com a maior chave estritamente menor do que a chave passada como parâmetro, em O(log n).
+	 * 
+	 * @param key A chave a ser pesquisada
+	 * @return A entrada encontrada, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public Option<Tuple2<K, V>> lower(final K key)
+	{
+		return toOption(navigableMap().lowerEntry(key));
+	}
+
+	/**
+	 * Retorna a entrada com a menor chave estritamente maior do que a chave passada como parâmetro, em O(log n).
+	 * 
+	 * @param key A chave a ser pesquisada
+	 * @return A entrada encontrada, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public Option<Tuple2<K, V>> higher(final K key)
+	{
+		return toOption(navigableMap().higherEntry(key));
+	}
+
+	/**
+	 * Retorna um iterator que percorre, em ordem, as entradas cujas chaves são maiores ou iguais à chave passada como
+	 * parâmetro. A posição inicial é encontrada em O(log n).
+	 * 
+	 * @param key A chave a partir da qual as entradas serão percorridas
+	 * @return Um iterator sobre as entradas a partir da chave
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public Iterator<Tuple2<K, V>> iteratorFrom(final K key)
+	{
+		return tailMap(key).iterator();
+	}
+
+	/**
+	 * Retorna o número de chaves deste mapa que são estritamente menores do que a chave passada como parâmetro (a posição
+	 * que a chave ocupa, ou ocuparia, na ordem do mapa). <br/>
+	 * O TreeMap não guarda o tamanho das sub-árvores, portanto o custo é proporcional à posição encontrada.
+	 * 
+	 * @param key A chave cuja posição será calculada
+	 * @return O número de chaves menores do que a chave passada como parâmetro
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public int rank(final K key)
+	{
+		return navigableMap().headMap(key, false).size();
+	}
+
+	/**
+	 * Retorna a entrada que ocupa a posição passada como parâmetro, na ordem das chaves. <br/>
+	 * A entrada é procurada a partir da extremidade mais próxima do mapa, portanto o custo é O(min(index, size - index)).
+	 * 
+	 * @param index A posição da entrada, a partir de zero
+	 * @return A entrada que ocupa a posição
+	 * @throws IndexOutOfBoundsException Se a posição não existir no mapa
+	 * @throws UnsupportedOperationException Se este mapa não for do tipo TREE_MAP
+	 */
+	public Tuple2<K, V> select(final int index)
+	{
+		final NavigableMap<K, V> navigable = navigableMap();
+
+		if (index < 0 || index >= navigable.size())
+		{
+			throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho: " + navigable.size());
+		}
+		final boolean fromStart = index < navigable.size() / 2;
+		final Iterator<Entry<K, V>> ite = (fromStart ? navigable : navigable.descendingMap()).entrySet().iterator();
+		Entry<K, V> entry = ite.next();
+
+		for (int i = fromStart ? index : navigable.size() - 1 - index; i > 0; i--)
+		{
+			entry = ite.next();
+		}
+		return Tuple2.from(entry.getKey(), entry.getValue());
+	}
+
+	/**
+	 * Retorna o mapa de apoio como um {@link NavigableMap}, se este mapa for do tipo TREE_MAP
+	 */
+	private NavigableMap<K, V> navigableMap()
+	{
+		if (!(backingMap instanceof NavigableMap<?, ?>))
+		{
+			throw new UnsupportedOperationException("Operação definida apenas para mapas do tipo TREE_MAP");
+		}
+		return (NavigableMap<K, V>) backingMap;
+	}
+
+	private static <K, V> Option<Tuple2<K, V>> toOption(final Entry<K, V> entry)
+	{
+		return entry == null ? Option.<Tuple2<K, V>> empty() : Option.from(Tuple2.from(entry.getKey(), entry.getValue()));
+	}
+
+	/**
+	 * As chaves de um mapa são distintas, e a ordem só é bem-definida nos tipos LINKED_HASH_MAP e TREE_MAP
+	 */
+	@Override
+	protected int characteristics()
+	{
+		return getType() == MapSharpType.HASH_MAP ? Spliterator.DISTINCT : Spliterator.DISTINCT | Spliterator.ORDERED;
+	}
+
 	@Override
 	public int size()
 	{
@@ -267,7 +470,7 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 		{
 			builderRetorno = new MapBuilder(new LinkedHashMap<K, V>());
 		}
-		else if (backingMap instanceof TreeMap<?, ?>)
+		else if (backingMap instanceof SortedMap<?, ?>)
 		{
 			builderRetorno = new MapBuilder(new TreeMap<K, V>());
 		}
@@ -518,6 +721,13 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 		return colOfCols.result();
 	}
 
+	@Override
+	public SharpCollection<? extends MapSharp<K, V>> sliding(final Integer size, final Integer step)
+	{
+		//Reimplementado porque a coleção de retorno não vai ser um mapa
+		return slidingInto(size, step, new ArrayBuilder<MapSharp<K, V>>());
+	}
+
 	/**
 	 * Transforma este SetSharp em um {@link Map}
 	 * 
@@ -527,12 +737,7 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 	public Map<K, V> toMap()
 	{
 		final Builder<Tuple2<K, V>, SharpCollection<Tuple2<K, V>>> builderRetorno = builder();
-		
-		for (Tuple2<K, V> ele : this)
-		{
-			builderRetorno.add(ele);
-		}
-		
+		AbstractBuilder.addAll(builderRetorno, this);
 		return ((MapSharp<K, V>) builderRetorno.result()).backingMap;
 	}
 
@@ -582,14 +787,23 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 		return backingMap.toString();
 	}
 
+	/**
+	 * Grava o mapa no formato do {@link com.github.detentor.codex.io.Codec Codec}, preservando o seu tipo. As chaves e os valores são gravados em colunas
+	 * separadas.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
+
 	/**
 	 * Essa classe é um builder genérico para mapas. <br/>
 	 * 
 	 * @param <K, V> K é o tipo de dados da chave, V é o tipo de dados do valor.
 	 */
-	private class MapBuilder<X, Y> implements Builder<Tuple2<X, Y>, SharpCollection<Tuple2<X, Y>>>
+	private class MapBuilder<X, Y> extends AbstractBuilder<Tuple2<X, Y>, SharpCollection<Tuple2<X, Y>>>
 	{
-		private final Map<X, Y> theBackingMap;
+		private Map<X, Y> theBackingMap;
 
 		protected MapBuilder(final Map<X, Y> backingMap)
 		{
@@ -603,6 +817,45 @@ public class MapSharp<K, V> extends AbstractMutableGenericCollection<Tuple2<K, V
 			theBackingMap.put(element.getVal1(), element.getVal2());
 		}
 
+		/**
+		 * Se os elementos vierem de outro MapSharp, as entradas são copiadas diretamente, sem criar uma tupla por entrada
+		 */
+		@SuppressWarnings("unchecked")
+		@Override
+		public void addAll(final Iterable<? extends Tuple2<X, Y>> elements)
+		{
+			if ((Object) elements instanceof MapSharp<?, ?>)
+			{
+				theBackingMap.putAll(((MapSharp<X, Y>) (Object) elements).backingMap);
+			}
+			else
+			{
+				super.addAll(elements);
+			}
+		}
+
+		/**
+		 * Os mapas baseados em hash não podem ser redimensionados depois de criados, portanto o mapa é recriado com a
+		 * capacidade necessária (se ainda estiver vazio)
+		 */
+		@Override
+		public void sizeHint(final int size)
+		{
+			if (size <= 0 || !theBackingMap.isEmpty())
+			{
+				return;
+			}
+
+			if (theBackingMap instanceof LinkedHashMap<?, ?>)
+			{
+				theBackingMap = new LinkedHashMap<X, Y>(SetAlgebra.hashCapacity(size));
+			}
+			else if (theBackingMap instanceof HashMap<?, ?>)
+			{
+				theBackingMap = new HashMap<X, Y>(SetAlgebra.hashCapacity(size));
+			}
+		}
+
 		@Override
 		public MapSharp<X, Y> result()
 		{
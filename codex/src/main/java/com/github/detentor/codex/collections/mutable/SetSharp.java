@@ -1,18 +1,30 @@
 package com.github.detentor.codex.collections.mutable;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.Spliterator;
 import java.util.TreeSet;
 
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.AbstractBuilder;
 import com.github.detentor.codex.collections.AbstractMutableGenericCollection;
 import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.SecondaryIndexes;
+import com.github.detentor.codex.collections.SecondaryIndexes.IndexType;
+import com.github.detentor.codex.collections.SetAlgebra;
 import com.github.detentor.codex.collections.SharpCollection;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.io.CodecProxy;
 import com.github.detentor.codex.product.Tuple2;
 
 /**
@@ -33,6 +45,11 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 
 	private final Set<T> backingSet;
 
+	/**
+	 * Os índices secundários deste conjunto, criados sob demanda pelo {@link #indexBy(String, Function1) indexBy}
+	 */
+	private transient SecondaryIndexes<T> indexes;
+
 	/**
 	 */
 	protected SetSharp()
@@ -124,6 +141,199 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 		return new SetSharp<T>(setInstance);
 	}
 	
+	/**
+	 * Retorna o tipo deste SetSharp.
+	 * 
+	 * @return O tipo do conjunto usado para guardar os elementos
+	 */
+	public SetSharpType getType()
+	{
+		if (backingSet instanceof LinkedHashSet<?>)
+		{
+			return SetSharpType.LINKED_HASH_SET;
+		}
+		else if (backingSet instanceof SortedSet<?>)
+		{
+			return SetSharpType.TREE_SET;
+		}
+		return SetSharpType.HASH_SET;
+	}
+
+	/**
+	 * Os elementos de um conjunto são distintos, e a ordem só é bem-definida nos tipos LINKED_HASH_SET e TREE_SET
+	 */
+	@Override
+	protected int characteristics()
+	{
+		return getType() == SetSharpType.HASH_SET ? Spliterator.DISTINCT : Spliterator.DISTINCT | Spliterator.ORDERED;
+	}
+
+	/**
+	 * Retorna o comparator que define a ordem dos elementos deste SetSharp, se ele for do tipo TREE_SET.
+	 * 
+	 * @return O comparator dos elementos, ou null se a ordem for a natural (ou se os elementos não forem ordenados)
+	 */
+	public Comparator<? super T> comparator()
+	{
+		return backingSet instanceof SortedSet<?> ? ((SortedSet<T>) backingSet).comparator() : null;
+	}
+
+	/**
+	 * Retorna uma visão dos elementos deste conjunto que estão entre from (inclusive) e to (exclusive), em O(log n). <br/>
+	 * A visão não copia os elementos: alterações no conjunto são refletidas na visão, e vice-versa. Adicionar na visão um
+	 * elemento fora do intervalo lança {@link IllegalArgumentException}.
+	 * 
+	 * @param from O menor elemento do intervalo (inclusive)
+	 * @param to O maior elemento do intervalo (exclusive)
+	 * @return Um SetSharp do tipo TREE_SET com os elementos do intervalo
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public SetSharp<T> range(final T from, final T to)
+	{
+		return new SetSharp<T>(navigableSet().subSet(from, true, to, false));
+	}
+
+	/**
+	 * Retorna uma visão dos elementos deste conjunto que são menores do que to (ver {@link #range(Object, Object) range}).
+	 * 
+	 * @param to O maior elemento do intervalo (exclusive)
+	 * @return Um SetSharp do tipo TREE_SET com os elementos do intervalo
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public SetSharp<T> headSet(final T to)
+	{
+		return new SetSharp<T>(navigableSet().headSet(to, false));
+	}
+
+	/**
+	 * Retorna uma visão dos elementos deste conjunto que são maiores ou iguais a from (ver {@link #range(Object, Object)
+	 * range}).
+	 * 
+	 * @param from O menor elemento do intervalo (inclusive)
+	 * @return Um SetSharp do tipo TREE_SET com os elementos do intervalo
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public SetSharp<T> tailSet(final T from)
+	{
+		return new SetSharp<T>(navigableSet().tailSet(from, true));
+	}
+
+	/**
+	 * Retorna o maior elemento menor ou igual ao elemento passado como parâmetro, em O(log n).
+	 * 
+	 * @param element O elemento a ser pesquisado
+	 * @return O elemento encontrado, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public Option<T> floor(final T element)
+	{
+		return Option.from(navigableSet().floor(element));
+	}
+
+	/**
+	 * Retorna o menor elemento maior ou igual ao elemento passado como parâmetro, em O(log n).
+	 * 
+	 * @param element O elemento a ser pesquisado
+	 * @return O elemento encontrado, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public Option<T> ceiling(final T element)
+	{
+		return Option.from(navigableSet().ceiling(element));
+	}
+
+	/**
+	 * Retorna o maior elemento estritamente menor do que o elemento passado como parâmetro, em O(log n).
+	 * 
+	 * @param element O elemento a ser pesquisado
+	 * @return O elemento encontrado, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public Option<T> lower(final T element)
+	{
+		return Option.from(navigableSet().lower(element));
+	}
+
+	/**
+	 * Retorna o menor elemento estritamente maior do que o elemento passado como parâmetro, em O(log n).
+	 * 
+	 * @param element O elemento a ser pesquisado
+	 * @return O elemento encontrado, ou {@link Option#empty()} se não existir
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public Option<T> higher(final T element)
+	{
+		return Option.from(navigableSet().higher(element));
+	}
+
+	/**
+	 * Retorna um iterator que percorre, em ordem, os elementos maiores ou iguais ao elemento passado como parâmetro. A
+	 * posição inicial é encontrada em O(log n).
+	 * 
+	 * @param element O elemento a partir do qual o conjunto será percorrido
+	 * @return Um iterator sobre os elementos a partir do elemento passado como parâmetro
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public Iterator<T> iteratorFrom(final T element)
+	{
+		return navigableSet().tailSet(element, true).iterator();
+	}
+
+	/**
+	 * Retorna o número de elementos deste conjunto que são estritamente menores do que o elemento passado como parâmetro (a
+	 * posição que o elemento ocupa, ou ocuparia, na ordem do conjunto). <br/>
+	 * O TreeSet não guarda o tamanho das sub-árvores, portanto o custo é proporcional à posição encontrada.
+	 * 
+	 * @param element O elemento cuja posição será calculada
+	 * @return O número de elementos menores do que o elemento passado como parâmetro
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public int rank(final T element)
+	{
+		return navigableSet().headSet(element, false).size();
+	}
+
+	/**
+	 * Retorna o elemento que ocupa a posição passada como parâmetro, na ordem do conjunto. <br/>
+	 * O elemento é procurado a partir da extremidade mais próxima do conjunto, portanto o custo é
+	 * O(min(index, size - index)).
+	 * 
+	 * @param index A posição do elemento, a partir de zero
+	 * @return O elemento que ocupa a posição
+	 * @throws IndexOutOfBoundsException Se a posição não existir no conjunto
+	 * @throws UnsupportedOperationException Se este conjunto não for do tipo TREE_SET
+	 */
+	public T select(final int index)
+	{
+		final NavigableSet<T> navigable = navigableSet();
+
+		if (index < 0 || index >= navigable.size())
+		{
+			throw new IndexOutOfBoundsException("Índice: " + index + ", tamanho: " + navigable.size());
+		}
+		final boolean fromStart = index < navigable.size() / 2;
+		final Iterator<T> ite = fromStart ? navigable.iterator() : navigable.descendingIterator();
+		T retorno = ite.next();
+
+		for (int i = fromStart ? index : navigable.size() - 1 - index; i > 0; i--)
+		{
+			retorno = ite.next();
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna o conjunto de apoio como um {@link NavigableSet}, se este conjunto for do tipo TREE_SET
+	 */
+	private NavigableSet<T> navigableSet()
+	{
+		if (!(backingSet instanceof NavigableSet<?>))
+		{
+			throw new UnsupportedOperationException("Operação definida apenas para conjuntos do tipo TREE_SET");
+		}
+		return (NavigableSet<T>) backingSet;
+	}
+
 	@Override
 	public int size()
 	{
@@ -145,14 +355,20 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 	@Override
 	public SetSharp<T> add(final T element)
 	{
-		backingSet.add(element);
+		if (backingSet.add(element) && indexes != null)
+		{
+			indexes.added(element);
+		}
 		return this;
 	}
 
 	@Override
 	public SetSharp<T> remove(final T element)
 	{
-		backingSet.remove(element);
+		if (backingSet.remove(element) && indexes != null)
+		{
+			indexes.removed(element);
+		}
 		return this;
 	}
 
@@ -160,8 +376,131 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 	public SetSharp<T> clear()
 	{
 		backingSet.clear();
+
+		if (indexes != null)
+		{
+			indexes.cleared();
+		}
+		return this;
+	}
+
+	/**
+	 * Cria um índice secundário do tipo HASH (ver {@link #indexBy(String, Function1, IndexType) indexBy}).
+	 * 
+	 * @param name O nome do índice
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @return A referência a este conjunto, após a criação do índice
+	 */
+	public SetSharp<T> indexBy(final String name, final Function1<? super T, ?> keyFunction)
+	{
+		return indexBy(name, keyFunction, IndexType.HASH);
+	}
+
+	/**
+	 * Cria um índice secundário, que associa a chave calculada pela função passada como parâmetro aos elementos deste
+	 * conjunto. <br/>
+	 * O índice é atualizado a cada add, remove, addAll, removeAll e clear. Alterações feitas pelo iterator ou pelas visões
+	 * (como o {@link #range(Object, Object) range}) não são refletidas no índice. <br/>
+	 * Além do {@link #lookup(String, Object) lookup}, o filter e o find usam o índice quando o predicado é criado pelo
+	 * {@link SecondaryIndexes#keyEquals(Function1, Object) keyEquals} com a mesma função.
+	 * 
+	 * @param name O nome do índice
+	 * @param keyFunction A função que calcula a chave de cada elemento
+	 * @param indexType O tipo do índice
+	 * @return A referência a este conjunto, após a criação do índice
+	 * @throws IllegalArgumentException Se já existir um índice com o nome passado como parâmetro
+	 */
+	public SetSharp<T> indexBy(final String name, final Function1<? super T, ?> keyFunction, final IndexType indexType)
+	{
+		indexes().create(name, keyFunction, indexType, this);
+		return this;
+	}
+
+	/**
+	 * Remove o índice secundário com o nome passado como parâmetro, se ele existir.
+	 * 
+	 * @param name O nome do índice
+	 * @return A referência a este conjunto, após a remoção do índice
+	 */
+	public SetSharp<T> dropIndex(final String name)
+	{
+		if (indexes != null)
+		{
+			indexes.drop(name);
+		}
 		return this;
 	}
+
+	/**
+	 * Retorna os elementos deste conjunto cuja chave, no índice com o nome passado como parâmetro, é igual à chave passada
+	 * como parâmetro. Custa O(1) mais o número de elementos retornados.
+	 * 
+	 * @param name O nome do índice
+	 * @param key A chave a ser pesquisada
+	 * @return Um novo conjunto, do mesmo tipo deste, com os elementos que possuem a chave
+	 * @throws IllegalArgumentException Se não existir um índice com o nome passado como parâmetro
+	 */
+	public SetSharp<T> lookup(final String name, final Object key)
+	{
+		return fromIndex(indexes().lookup(name, key));
+	}
+
+	/**
+	 * Retorna os elementos deste conjunto cuja chave, no índice com o nome passado como parâmetro, está entre from
+	 * (inclusive) e to (exclusive).
+	 * 
+	 * @param name O nome do índice
+	 * @param from A menor chave do intervalo (inclusive)
+	 * @param to A maior chave do intervalo (exclusive)
+	 * @return Um novo conjunto, do mesmo tipo deste, com os elementos que possuem chave no intervalo
+	 * @throws IllegalArgumentException Se não existir um índice com o nome passado como parâmetro
+	 * @throws UnsupportedOperationException Se o índice não for do tipo SORTED
+	 */
+	public SetSharp<T> lookupRange(final String name, final Object from, final Object to)
+	{
+		return fromIndex(indexes().lookupRange(name, from, to));
+	}
+
+	private SecondaryIndexes<T> indexes()
+	{
+		if (indexes == null)
+		{
+			indexes = new SecondaryIndexes<T>();
+		}
+		return indexes;
+	}
+
+	private SetSharp<T> fromIndex(final List<T> elements)
+	{
+		final Builder<T, SharpCollection<T>> builderRetorno = builder();
+		AbstractBuilder.sizeHint(builderRetorno, elements.size());
+		AbstractBuilder.addAll(builderRetorno, elements);
+		return (SetSharp<T>) builderRetorno.result();
+	}
+
+	@Override
+	public SetSharp<T> filter(final Function1<? super T, Boolean> pred)
+	{
+		final List<T> matching = indexes == null ? null : indexes.matching(pred);
+		return matching == null ? super.filter(pred) : fromIndex(matching);
+	}
+
+	@Override
+	public Option<T> find(final Function1<? super T, Boolean> pred)
+	{
+		final List<T> matching = indexes == null ? null : indexes.matching(pred);
+
+		if (matching == null)
+		{
+			return super.find(pred);
+		}
+		if (matching.isEmpty())
+		{
+			return Option.empty();
+		}
+		//No TREE_SET, o primeiro elemento (na ordem do conjunto) é o menor; nos outros tipos, o primeiro adicionado
+		return Option.from(backingSet instanceof SortedSet<?> ? Collections.min(matching, comparator()) : matching.get(0));
+	}
 	
 	/**
 	 * Retorna o tipo de SetSharp apropriado para o iterable passado como parâmetro
@@ -192,7 +531,7 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 		{
 			builderRetorno = new SetBuilder<B>(new LinkedHashSet<B>());
 		}
-		else if (backingSet instanceof TreeSet<?>)
+		else if (backingSet instanceof SortedSet<?>)
 		{
 			builderRetorno = new SetBuilder<B>(new TreeSet<B>());
 		}
@@ -309,14 +648,22 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 	{
 		return backingSet.toString();
 	}
+
+	/**
+	 * Grava o conjunto no formato do {@link com.github.detentor.codex.io.Codec Codec}, preservando o seu tipo.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
 	
 	/**
 	 * Builder de Sets a partir de um backingSet apropriado
 	 * @param <E>
 	 */
-	private static final class SetBuilder<E> implements Builder<E, SharpCollection<E>>
+	private static final class SetBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
 	{
-		private final Set<E> theBackingSet;
+		private Set<E> theBackingSet;
 		
 		protected SetBuilder(final Set<E> backingSet)
 		{
@@ -330,6 +677,41 @@ public class SetSharp<T> extends AbstractMutableGenericCollection<T, SetSharp<T>
 			theBackingSet.add(element);
 		}
 
+		@Override
+		public void addAll(final Iterable<? extends E> elements)
+		{
+			if (elements instanceof Collection<?>)
+			{
+				theBackingSet.addAll((Collection<? extends E>) elements);
+			}
+			else
+			{
+				super.addAll(elements);
+			}
+		}
+
+		/**
+		 * Os conjuntos baseados em hash não podem ser redimensionados depois de criados, portanto o conjunto é recriado com a
+		 * capacidade necessária (se ainda estiver vazio)
+		 */
+		@Override
+		public void sizeHint(final int size)
+		{
+			if (size <= 0 || !theBackingSet.isEmpty())
+			{
+				return;
+			}
+
+			if (theBackingSet instanceof LinkedHashSet<?>)
+			{
+				theBackingSet = new LinkedHashSet<E>(SetAlgebra.hashCapacity(size));
+			}
+			else if (theBackingSet instanceof HashSet<?>)
+			{
+				theBackingSet = new HashSet<E>(SetAlgebra.hashCapacity(size));
+			}
+		}
+
 		@Override
 		public SetSharp<E> result()
 		{
@@ -0,0 +1,591 @@
+package com.github.detentor.codex.collections.mutable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.github.detentor.codex.collections.AbstractBuilder;
+import com.github.detentor.codex.collections.AbstractMutableGenericCollection;
+import com.github.detentor.codex.collections.Builder;
+import com.github.detentor.codex.collections.Seq;
+import com.github.detentor.codex.collections.SetAlgebra;
+import com.github.detentor.codex.collections.SharpCollection;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.PartialFunction1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Implementação mutável de uma lista encadeada 'desenrolada' (unrolled linked list): a lista é duplamente encadeada, mas
+ * cada nó guarda um vetor de até {@value #NODE_CAPACITY} elementos. <br/>
+ * <br/>
+ *
+ * Em relação à {@link LLSharp}, que cria um nó por elemento, a lista desenrolada ocupa menos memória e é percorrida de
+ * maneira sequencial (os elementos de um nó ficam contíguos), o que favorece o cache do processador. <br/>
+ * A adição no início ({@link #prepend(Object) prepend}) e no fim ({@link #append(Object) append}) custa O(1), e a remoção
+ * é iterativa, portanto não há risco de estouro de pilha em listas longas. O {@link #removeAll(Iterable) removeAll}
+ * guarda os elementos a serem removidos num conjunto e percorre esta lista uma única vez. <br/>
+ * <br/>
+ *
+ * Ao contrário da {@link LLSharp}, o {@link #add(Object) add} adiciona o elemento no final da lista (como a
+ * {@link ListSharp}).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo de dados da lista
+ */
+public class UnrolledListSharp<T> extends AbstractMutableGenericCollection<T, UnrolledListSharp<T>> implements Seq<T>
+{
+	/**
+	 * O número máximo de elementos de cada nó
+	 */
+	public static final int NODE_CAPACITY = 64;
+
+	private Node first;
+	private Node last;
+	private int theSize;
+
+	/**
+	 * Construtor privado. Instâncias devem ser criadas com o 'from'
+	 */
+	protected UnrolledListSharp()
+	{
+		super();
+	}
+
+	/**
+	 * Constrói uma instância de UnrolledListSharp vazia.
+	 *
+	 * @param <T> O tipo de dados da instância
+	 * @return Uma instância de UnrolledListSharp vazia.
+	 */
+	public static <T> UnrolledListSharp<T> empty()
+	{
+		return new UnrolledListSharp<T>();
+	}
+
+	/**
+	 * Cria uma nova UnrolledListSharp, a partir dos valores passados como parâmetro. <br/>
+	 * Esse método é uma forma mais compacta de se criar UnrolledListSharp.
+	 *
+	 * @param <T> O tipo de dados da lista
+	 * @param valores Os valores da lista, na ordem em que serão adicionados
+	 * @return Uma nova UnrolledListSharp, cujos elementos são os elementos passados como parâmetro
+	 */
+	public static <T> UnrolledListSharp<T> from(final T... valores)
+	{
+		final UnrolledListSharp<T> retorno = empty();
+
+		for (final T ele : valores)
+		{
+			retorno.append(ele);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Cria uma instância de UnrolledListSharp a partir dos elementos existentes no iterable passado como parâmetro. A ordem
+	 * da adição dos elementos será a mesma ordem do iterable.
+	 *
+	 * @param <T> O tipo de dados da lista
+	 * @param theIterable O iterable que contém os elementos
+	 * @return Uma lista criada a partir da adição de todos os elementos do iterable
+	 */
+	public static <T> UnrolledListSharp<T> from(final Iterable<T> theIterable)
+	{
+		final UnrolledListSharp<T> retorno = empty();
+		retorno.addAll(theIterable);
+		return retorno;
+	}
+
+	@Override
+	public int size()
+	{
+		return theSize;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return theSize == 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T head()
+	{
+		ensureNotEmpty("head foi chamado para uma coleção vazia");
+		return (T) first.items[0];
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T last()
+	{
+		ensureNotEmpty("last foi chamado para uma coleção vazia");
+		return (T) last.items[last.count - 1];
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * O elemento é adicionado no final da lista. Equivale a chamar o método {@link #append(Object) append}.
+	 */
+	@Override
+	public UnrolledListSharp<T> add(final T element)
+	{
+		return append(element);
+	}
+
+	/**
+	 * Adiciona o elemento passado como parâmetro no final desta lista, em tempo constante.
+	 *
+	 * @param element O elemento a ser adicionado
+	 * @return A referência a esta lista, após o elemento ser adicionado
+	 */
+	public UnrolledListSharp<T> append(final T element)
+	{
+		if (last == null || last.count == NODE_CAPACITY)
+		{
+			linkAfter(last, new Node());
+		}
+		last.items[last.count++] = element;
+		theSize++;
+		return this;
+	}
+
+	/**
+	 * Adiciona o elemento passado como parâmetro no início desta lista, em tempo constante (no máximo
+	 * {@value #NODE_CAPACITY} elementos do primeiro nó são deslocados).
+	 *
+	 * @param element O elemento a ser adicionado
+	 * @return A referência a esta lista, após o elemento ser adicionado
+	 */
+	public UnrolledListSharp<T> prepend(final T element)
+	{
+		if (first == null || first.count == NODE_CAPACITY)
+		{
+			linkAfter(null, new Node());
+		}
+		System.arraycopy(first.items, 0, first.items, 1, first.count);
+		first.items[0] = element;
+		first.count++;
+		theSize++;
+		return this;
+	}
+
+	@Override
+	public UnrolledListSharp<T> addAll(final Iterable<? extends T> col)
+	{
+		if (col instanceof Collection<?>)
+		{
+			//Copia os elementos em blocos, preenchendo o último nó antes de criar os próximos
+			final Object[] elements = ((Collection<? extends T>) col).toArray();
+			int index = 0;
+
+			while (index < elements.length)
+			{
+				if (last == null || last.count == NODE_CAPACITY)
+				{
+					linkAfter(last, new Node());
+				}
+				final int toCopy = Math.min(NODE_CAPACITY - last.count, elements.length - index);
+				System.arraycopy(elements, index, last.items, last.count, toCopy);
+				last.count += toCopy;
+				index += toCopy;
+			}
+			theSize += elements.length;
+			return this;
+		}
+
+		for (final T ele : col)
+		{
+			this.append(ele);
+		}
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * A primeira ocorrência do elemento é removida, percorrendo a lista de maneira iterativa.
+	 */
+	@Override
+	public UnrolledListSharp<T> remove(final T element)
+	{
+		for (Node node = first; node != null; node = node.next)
+		{
+			for (int i = 0; i < node.count; i++)
+			{
+				final Object curEle = node.items[i];
+
+				if (element == null ? curEle == null : element.equals(curEle))
+				{
+					removeAt(node, i);
+					return this;
+				}
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}<br/>
+	 * Os elementos da coleção passada como parâmetro são guardados num conjunto, e esta lista é percorrida (e compactada)
+	 * uma única vez, portanto a complexidade é O(n + m), em vez de O(n * m). Todas as ocorrências são removidas.
+	 */
+	@Override
+	public UnrolledListSharp<T> removeAll(final Iterable<T> col)
+	{
+		if (this.isEmpty())
+		{
+			return this;
+		}
+		final Set<Object> toRemove = new HashSet<Object>(SetAlgebra.hashCapacity(SetAlgebra.knownSize(col)));
+
+		for (final T ele : col)
+		{
+			toRemove.add(ele);
+		}
+
+		if (toRemove.isEmpty())
+		{
+			return this;
+		}
+
+		//Os elementos mantidos são copiados para a posição de escrita, que nunca ultrapassa a de leitura
+		Node writeNode = first;
+		int writeIndex = 0;
+		int newSize = 0;
+
+		for (Node readNode = first; readNode != null; readNode = readNode.next)
+		{
+			for (int i = 0; i < readNode.count; i++)
+			{
+				final Object curEle = readNode.items[i];
+
+				if (!toRemove.contains(curEle))
+				{
+					if (writeIndex == NODE_CAPACITY)
+					{
+						writeNode.count = NODE_CAPACITY;
+						writeNode = writeNode.next;
+						writeIndex = 0;
+					}
+					writeNode.items[writeIndex++] = curEle;
+					newSize++;
+				}
+			}
+		}
+		truncate(writeNode, writeIndex);
+		theSize = newSize;
+		return this;
+	}
+
+	@Override
+	public UnrolledListSharp<T> clear()
+	{
+		first = null;
+		last = null;
+		theSize = 0;
+		return this;
+	}
+
+	/**
+	 * Retorna esta lista, após a ordenação de seus elementos. <br/>
+	 * Esse método não está definido quando os elementos contidos nesta lista não são instâncias de {@link Comparable}.
+	 *
+	 * @return Esta lista com os elementos ordenados
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public UnrolledListSharp<T> sorted()
+	{
+		return sorted(new DefaultComparator());
+	}
+
+	/**
+	 * Retorna esta lista, após a ordenação de seus elementos de acordo com a função de comparação passada como parâmetro.
+	 * <br/>
+	 * Os elementos são copiados para um vetor, ordenados, e gravados de volta nos mesmos nós.
+	 *
+	 * @return Esta lista após a ordenação dos elementos
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public UnrolledListSharp<T> sorted(final Comparator<? super T> comparator)
+	{
+		final T[] elements = (T[]) new Object[theSize];
+		int index = 0;
+
+		for (Node node = first; node != null; node = node.next)
+		{
+			System.arraycopy(node.items, 0, elements, index, node.count);
+			index += node.count;
+		}
+		Arrays.sort(elements, comparator);
+		index = 0;
+
+		for (Node node = first; node != null; node = node.next)
+		{
+			System.arraycopy(elements, index, node.items, 0, node.count);
+			index += node.count;
+		}
+		return this;
+	}
+
+	@Override
+	public Iterator<T> iterator()
+	{
+		return new Iterator<T>()
+		{
+			private Node curNode = first;
+			private int curIndex;
+
+			@Override
+			public boolean hasNext()
+			{
+				return curNode != null && curIndex < curNode.count;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public T next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				final T retorno = (T) curNode.items[curIndex++];
+
+				if (curIndex == curNode.count)
+				{
+					curNode = curNode.next;
+					curIndex = 0;
+				}
+				return retorno;
+			}
+
+			@Override
+			public void remove()
+			{
+				throw new UnsupportedOperationException("Utilize o método remove da lista");
+			}
+		};
+	}
+
+	@Override
+	public <B> Builder<B, SharpCollection<B>> builder()
+	{
+		return new UnrolledBuilder<B>();
+	}
+
+	/**
+	 * Remove o elemento na posição passada como parâmetro do nó. <br/>
+	 * Se o nó ficar com menos da metade da capacidade, os elementos do próximo nó são trazidos para ele (se couberem), para
+	 * que a lista não degenere em nós quase vazios.
+	 */
+	private void removeAt(final Node node, final int index)
+	{
+		System.arraycopy(node.items, index + 1, node.items, index, node.count - index - 1);
+		node.items[--node.count] = null;
+		theSize--;
+
+		if (node.count == 0)
+		{
+			unlink(node);
+		}
+		else if (node.count < NODE_CAPACITY / 2 && node.next != null && node.count + node.next.count <= NODE_CAPACITY)
+		{
+			final Node next = node.next;
+			System.arraycopy(next.items, 0, node.items, node.count, next.count);
+			node.count += next.count;
+			unlink(next);
+		}
+	}
+
+	/**
+	 * Descarta os elementos a partir da posição passada como parâmetro do nó, e todos os nós seguintes
+	 */
+	private void truncate(final Node node, final int count)
+	{
+		for (int i = count; i < node.count; i++)
+		{
+			node.items[i] = null;
+		}
+		node.count = count;
+		node.next = null;
+		last = node;
+
+		if (count == 0)
+		{
+			unlink(node);
+		}
+	}
+
+	/**
+	 * Insere o nó depois do nó passado como parâmetro (ou no início da lista, se ele for nulo)
+	 */
+	private void linkAfter(final Node prev, final Node node)
+	{
+		final Node next = prev == null ? first : prev.next;
+		node.prev = prev;
+		node.next = next;
+
+		if (prev == null)
+		{
+			first = node;
+		}
+		else
+		{
+			prev.next = node;
+		}
+
+		if (next == null)
+		{
+			last = node;
+		}
+		else
+		{
+			next.prev = node;
+		}
+	}
+
+	private void unlink(final Node node)
+	{
+		if (node.prev == null)
+		{
+			first = node.next;
+		}
+		else
+		{
+			node.prev.next = node.next;
+		}
+
+		if (node.next == null)
+		{
+			last = node.prev;
+		}
+		else
+		{
+			node.next.prev = node.prev;
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return mkString("[", ", ", "]");
+	}
+
+	/**
+	 * O hashcode é calculado da mesma maneira que o de uma {@link java.util.List List} (e das demais sequências).
+	 */
+	@Override
+	public int hashCode()
+	{
+		int result = 1;
+
+		for (final T element : this)
+		{
+			result = 31 * result + (element == null ? 0 : element.hashCode());
+		}
+		return result;
+	}
+
+	/**
+	 * Assim como nas demais sequências, esta lista é igual a qualquer {@link Seq} com os mesmos elementos, na mesma ordem.
+	 */
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (!(obj instanceof Seq<?>))
+		{
+			return false;
+		}
+		final Iterator<T> thisIte = this.iterator();
+		final Iterator<?> otherIte = ((Seq<?>) obj).iterator();
+
+		while (thisIte.hasNext() && otherIte.hasNext())
+		{
+			final T thisEle = thisIte.next();
+			final Object otherEle = otherIte.next();
+
+			if (!(thisEle == null ? otherEle == null : thisEle.equals(otherEle)))
+			{
+				return false;
+			}
+		}
+		return thisIte.hasNext() == otherIte.hasNext();
+	}
+
+	//Overrides obrigatórios
+
+	@Override
+	public <B> UnrolledListSharp<B> map(final Function1<? super T, B> function)
+	{
+		return (UnrolledListSharp<B>) super.map(function);
+	}
+
+	@Override
+	public <B> UnrolledListSharp<B> collect(final PartialFunction1<? super T, B> pFunction)
+	{
+		return (UnrolledListSharp<B>) super.collect(pFunction);
+	}
+
+	@Override
+	public <B> UnrolledListSharp<B> flatMap(final Function1<? super T, ? extends Iterable<B>> function)
+	{
+		return (UnrolledListSharp<B>) super.flatMap(function);
+	}
+
+	@Override
+	public UnrolledListSharp<Tuple2<T, Integer>> zipWithIndex()
+	{
+		return (UnrolledListSharp<Tuple2<T, Integer>>) super.zipWithIndex();
+	}
+
+	/**
+	 * Nó da lista: os elementos ocupam as posições de 0 até count - 1 do vetor
+	 */
+	private static final class Node
+	{
+		private final Object[] items = new Object[NODE_CAPACITY];
+		private int count;
+		private Node prev;
+		private Node next;
+	}
+
+	/**
+	 * Builder de UnrolledListSharp. MUTÁVEL
+	 *
+	 * @param <E> O tipo de dados da lista retornada
+	 */
+	private static final class UnrolledBuilder<E> extends AbstractBuilder<E, SharpCollection<E>>
+	{
+		private final UnrolledListSharp<E> list = UnrolledListSharp.empty();
+
+		@Override
+		public void add(final E element)
+		{
+			list.append(element);
+		}
+
+		@Override
+		public void addAll(final Iterable<? extends E> elements)
+		{
+			list.addAll(elements);
+		}
+
+		@Override
+		public UnrolledListSharp<E> result()
+		{
+			return list;
+		}
+	}
+}
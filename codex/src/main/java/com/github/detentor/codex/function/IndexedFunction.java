@@ -0,0 +1,22 @@
+package com.github.detentor.codex.function;
+
+/**
+ * Interface de funções que recebem um elemento e a sua posição, e retornam um valor. (f : A -> int -> B). <br/>
+ * A posição é um int primitivo, para que percorrer uma coleção com o índice não exija a criação de um Integer (nem de uma
+ * tupla) por elemento.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <A> O tipo do elemento
+ * @param <B> O tipo de dado de saída da função
+ */
+public interface IndexedFunction<A, B>
+{
+	/**
+	 * Executa a função, a partir do elemento e da sua posição.
+	 * @param element O elemento a ser passado para a função
+	 * @param index A posição do elemento (a partir de zero)
+	 * @return Um valor do tipo B
+	 */
+	B apply(final A element, final int index);
+}
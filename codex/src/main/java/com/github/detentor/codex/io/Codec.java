@@ -0,0 +1,883 @@
+package com.github.detentor.codex.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.RichString;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.product.Tuple2;
+import com.github.detentor.codex.product.Tuple3;
+import com.github.detentor.codex.product.Tuple4;
+import com.github.detentor.codex.product.Tuple5;
+
+/**
+ * Formato binário compacto para as coleções e tuplas do codex. <br/>
+ * <br/>
+ *
+ * Cada valor é gravado como uma tag de um byte seguida do seu conteúdo. Inteiros e tamanhos são gravados como varints
+ * (inteiros de tamanho variável, em zigzag quando podem ser negativos), e as strings em UTF-8. <br/>
+ * Os elementos das coleções são gravados em coluna: se todos forem do mesmo tipo básico (Integer, Long, Double ou String), a
+ * tag é gravada uma única vez, e cada elemento ocupa apenas o seu conteúdo. <br/>
+ * Apenas os elementos visíveis são gravados: uma subsequence de uma ListSharp imutável não grava o vetor compartilhado, e
+ * as listas criadas pelo map ou pelo reverse são gravadas com os elementos já calculados, sem a função. <br/>
+ * <br/>
+ *
+ * Os objetos que o formato não conhece são gravados com a serialização padrão do Java. <br/>
+ * As coleções serializáveis do codex usam este formato também na serialização padrão, através do {@link CodecProxy}.
+ * Como cada coleção é gravada pelo seu valor, referências compartilhadas entre coleções não são preservadas. <br/>
+ * <br/>
+ *
+ * Para gravar e ler uma sequência de elementos sem conhecer o seu tamanho (como uma {@link LazyList}), veja
+ * {@link #writeStream(OutputStream, Iterable) writeStream} e {@link #readStream(InputStream) readStream}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class Codec
+{
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final int NULL = 0;
+	private static final int TRUE = 1;
+	private static final int FALSE = 2;
+	private static final int INT = 3;
+	private static final int LONG = 4;
+	private static final int DOUBLE = 5;
+	private static final int STRING = 6;
+	private static final int CHAR = 7;
+	private static final int FLOAT = 8;
+	private static final int SHORT = 9;
+	private static final int BYTE = 10;
+
+	// Coluna com elementos de tipos diferentes: cada elemento é gravado com a sua tag
+	private static final int MIXED = 15;
+
+	private static final int LIST = 16;
+	private static final int MUTABLE_LIST = 17;
+	private static final int SET = 18;
+	private static final int MAP = 19;
+	private static final int RICH_STRING = 20;
+	private static final int NONE = 21;
+	private static final int SOME = 22;
+	private static final int TUPLE2 = 23;
+	private static final int TUPLE3 = 24;
+	private static final int TUPLE4 = 25;
+	private static final int TUPLE5 = 26;
+	private static final int LAZY_LIST = 27;
+
+	// Objetos gravados com a serialização padrão do Java
+	private static final int JAVA = 30;
+	private static final int JAVA_BYTES = 31;
+
+	// Marcadores dos elementos de uma sequência de tamanho desconhecido
+	private static final int END = 0;
+	private static final int MORE = 1;
+
+	// Tamanho inicial dos vetores lidos, que crescem à medida que os dados são lidos
+	private static final int CHUNK_SIZE = 1 << 12;
+
+	private Codec()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Grava o valor passado como parâmetro num vetor de bytes.
+	 *
+	 * @param value O valor a ser gravado
+	 * @return Um vetor de bytes com o valor
+	 * @throws IllegalArgumentException Se o valor (ou algum dos seus elementos) não puder ser gravado
+	 */
+	public static byte[] encode(final Object value)
+	{
+		final ByteOutput bytes = new ByteOutput();
+
+		try
+		{
+			write(new DataOutputStream(bytes), value);
+		}
+		catch (final IOException ioe)
+		{
+			throw new IllegalArgumentException(ioe);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Lê um valor gravado pelo {@link #encode(Object) encode}.
+	 *
+	 * @param bytes Os bytes que contém o valor
+	 * @return O valor lido
+	 * @throws IllegalArgumentException Se os bytes não contiverem um valor válido
+	 */
+	public static Object decode(final byte[] bytes)
+	{
+		try
+		{
+			return read(new DataInputStream(new ByteInput(bytes)));
+		}
+		catch (final IOException ioe)
+		{
+			throw new IllegalArgumentException(ioe);
+		}
+	}
+
+	/**
+	 * Grava o valor passado como parâmetro. <br/>
+	 * Se a saída for um {@link ObjectOutput}, os objetos desconhecidos pelo formato serão gravados nela com o writeObject;
+	 * do contrário, cada um deles será gravado como um vetor de bytes com a sua serialização padrão.
+	 *
+	 * @param out A saída onde o valor será gravado
+	 * @param value O valor a ser gravado
+	 * @throws IOException Se ocorrer um erro ao gravar o valor, ou se ele for um MapSharp do tipo TREE_MAP com comparator próprio
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static void write(final DataOutput out, final Object value) throws IOException
+	{
+		final int basicTag = basicTag(value);
+
+		if (basicTag != MIXED)
+		{
+			out.writeByte(basicTag);
+			writeBasic(out, basicTag, value);
+		}
+		else if (value == null)
+		{
+			out.writeByte(NULL);
+		}
+		else if (value instanceof Boolean)
+		{
+			out.writeByte((Boolean) value ? TRUE : FALSE);
+		}
+		else if (value instanceof Character)
+		{
+			out.writeByte(CHAR);
+			writeVarInt(out, (Character) value);
+		}
+		else if (value instanceof Float)
+		{
+			out.writeByte(FLOAT);
+			out.writeFloat((Float) value);
+		}
+		else if (value instanceof Short)
+		{
+			out.writeByte(SHORT);
+			writeVarInt(out, zigzag((Short) value));
+		}
+		else if (value instanceof Byte)
+		{
+			out.writeByte(BYTE);
+			out.writeByte((Byte) value);
+		}
+		else if (value instanceof ListSharp)
+		{
+			// Os elementos são copiados antes, para que as listas calculadas (map, por exemplo) sejam percorridas uma vez só
+			final Object[] elements = toArray((ListSharp<?>) value);
+			out.writeByte(LIST);
+			writeVarInt(out, elements.length);
+			writeColumn(out, Arrays.asList(elements));
+		}
+		else if (value instanceof com.github.detentor.codex.collections.mutable.ListSharp)
+		{
+			final com.github.detentor.codex.collections.mutable.ListSharp<?> list = (com.github.detentor.codex.collections.mutable.ListSharp<?>) value;
+			out.writeByte(MUTABLE_LIST);
+			writeVarInt(out, list.size());
+			writeColumn(out, list);
+		}
+		else if (value instanceof SetSharp)
+		{
+			final SetSharp<?> set = (SetSharp<?>) value;
+			out.writeByte(SET);
+			out.writeByte(set.getType().ordinal());
+
+			if (set.getType() == SetSharpType.TREE_SET)
+			{
+				write(out, set.comparator());
+			}
+			writeVarInt(out, set.size());
+			writeColumn(out, set);
+		}
+		else if (value instanceof MapSharp)
+		{
+			final MapSharp<Object, Object> map = (MapSharp<Object, Object>) value;
+			final Object[] keys = new Object[map.size()];
+			final Object[] values = new Object[map.size()];
+			int index = 0;
+
+			for (final Tuple2<Object, Object> ele : map)
+			{
+				keys[index] = ele.getVal1();
+				values[index++] = ele.getVal2();
+			}
+			if (map.comparator() != null)
+			{
+				throw new IOException("MapSharp do tipo TREE_MAP com comparator próprio não é suportado");
+			}
+			out.writeByte(MAP);
+			out.writeByte(map.getType().ordinal());
+			writeVarInt(out, keys.length);
+			writeColumn(out, Arrays.asList(keys));
+			writeColumn(out, Arrays.asList(values));
+		}
+		else if (value instanceof RichString)
+		{
+			out.writeByte(RICH_STRING);
+			writeString(out, value.toString());
+		}
+		else if (value instanceof Option)
+		{
+			final Option<?> option = (Option<?>) value;
+
+			if (option.isEmpty())
+			{
+				out.writeByte(NONE);
+			}
+			else
+			{
+				out.writeByte(SOME);
+				write(out, option.get());
+			}
+		}
+		else if (value instanceof Tuple2)
+		{
+			final Tuple2<?, ?> tuple = (Tuple2<?, ?>) value;
+			out.writeByte(TUPLE2);
+			write(out, tuple.getVal1());
+			write(out, tuple.getVal2());
+		}
+		else if (value instanceof Tuple3)
+		{
+			final Tuple3<?, ?, ?> tuple = (Tuple3<?, ?, ?>) value;
+			out.writeByte(TUPLE3);
+			write(out, tuple.getVal1());
+			write(out, tuple.getVal2());
+			write(out, tuple.getVal3());
+		}
+		else if (value instanceof Tuple4)
+		{
+			final Tuple4<?, ?, ?, ?> tuple = (Tuple4<?, ?, ?, ?>) value;
+			out.writeByte(TUPLE4);
+			write(out, tuple.getVal1());
+			write(out, tuple.getVal2());
+			write(out, tuple.getVal3());
+			write(out, tuple.getVal4());
+		}
+		else if (value instanceof Tuple5)
+		{
+			final Tuple5<?, ?, ?, ?, ?> tuple = (Tuple5<?, ?, ?, ?, ?>) value;
+			out.writeByte(TUPLE5);
+			write(out, tuple.getVal1());
+			write(out, tuple.getVal2());
+			write(out, tuple.getVal3());
+			write(out, tuple.getVal4());
+			write(out, tuple.getVal5());
+		}
+		else if (value instanceof LazyList)
+		{
+			out.writeByte(LAZY_LIST);
+			writeElements(out, (LazyList) value);
+		}
+		else if (out instanceof ObjectOutput)
+		{
+			out.writeByte(JAVA);
+			((ObjectOutput) out).writeObject(value);
+		}
+		else
+		{
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			final ObjectOutputStream objOut = new ObjectOutputStream(bytes);
+			objOut.writeObject(value);
+			objOut.close();
+
+			out.writeByte(JAVA_BYTES);
+			writeVarInt(out, bytes.size());
+			out.write(bytes.toByteArray());
+		}
+	}
+
+	/**
+	 * Lê um valor gravado pelo {@link #write(DataOutput, Object) write}.
+	 *
+	 * @param in A entrada de onde o valor será lido
+	 * @return O valor lido
+	 * @throws IOException Se ocorrer um erro ao ler o valor, ou se a entrada não contiver um valor válido
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static Object read(final DataInput in) throws IOException
+	{
+		final int tag = in.readUnsignedByte();
+
+		switch (tag)
+		{
+		case NULL:
+			return null;
+		case TRUE:
+			return Boolean.TRUE;
+		case FALSE:
+			return Boolean.FALSE;
+		case INT:
+		case LONG:
+		case DOUBLE:
+		case STRING:
+			return readBasic(in, tag);
+		case CHAR:
+			return Character.valueOf((char) readVarInt(in));
+		case FLOAT:
+			return Float.valueOf(in.readFloat());
+		case SHORT:
+			return Short.valueOf((short) unzigzag(readVarInt(in)));
+		case BYTE:
+			return Byte.valueOf(in.readByte());
+		case LIST:
+		{
+			final Object[] elements = readColumn(in, readLength(in));
+			return elements.length == 0 ? ListSharp.empty() : ListSharp.from(elements);
+		}
+		case MUTABLE_LIST:
+			return com.github.detentor.codex.collections.mutable.ListSharp.from(readColumn(in, readLength(in)));
+		case SET:
+		{
+			final SetSharpType type = SetSharpType.values()[readOrdinal(in, SetSharpType.values().length)];
+			final Comparator comparator = type == SetSharpType.TREE_SET ? (Comparator) read(in) : null;
+			final SetSharp<Object> set = comparator == null ? SetSharp.empty(type) : SetSharp.empty().sorted(comparator);
+
+			for (final Object ele : readColumn(in, readLength(in)))
+			{
+				set.add(ele);
+			}
+			return set;
+		}
+		case MAP:
+		{
+			final MapSharp<Object, Object> map = MapSharp.empty(MapSharpType.values()[readOrdinal(in, MapSharpType.values().length)]);
+			final int size = readLength(in);
+			final Object[] keys = readColumn(in, size);
+			final Object[] values = readColumn(in, size);
+
+			for (int i = 0; i < size; i++)
+			{
+				map.add(keys[i], values[i]);
+			}
+			return map;
+		}
+		case RICH_STRING:
+			return RichString.from(readString(in));
+		case NONE:
+			return Option.empty();
+		case SOME:
+			return Option.from(read(in));
+		case TUPLE2:
+			return Tuple2.from(read(in), read(in));
+		case TUPLE3:
+			return Tuple3.from(read(in), read(in), read(in));
+		case TUPLE4:
+			return Tuple4.from(read(in), read(in), read(in), read(in));
+		case TUPLE5:
+			return Tuple5.from(read(in), read(in), read(in), read(in), read(in));
+		case LAZY_LIST:
+		{
+			// Os elementos precisam ser lidos agora, pois a entrada continua após a lista
+			final com.github.detentor.codex.collections.mutable.ListSharp<Object> elements = com.github.detentor.codex.collections.mutable.ListSharp
+					.empty();
+
+			while (in.readUnsignedByte() == MORE)
+			{
+				elements.add(read(in));
+			}
+			return LazyList.from(elements);
+		}
+		case JAVA:
+			if (!(in instanceof ObjectInput))
+			{
+				throw new IOException("Objeto gravado com a serialização padrão só pode ser lido de um ObjectInput");
+			}
+			return readObject((ObjectInput) in);
+		case JAVA_BYTES:
+		{
+			final byte[] bytes = readBytes(in, readLength(in));
+			final ObjectInputStream objIn = new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+			try
+			{
+				return readObject(objIn);
+			}
+			finally
+			{
+				objIn.close();
+			}
+		}
+		default:
+			throw new IOException("Tag desconhecida: " + tag);
+		}
+	}
+
+	/**
+	 * Grava os elementos do iterable, um a um, sem gravar o seu tamanho. <br/>
+	 * O iterable é percorrido uma única vez, portanto esse método pode gravar uma {@link LazyList} enquanto ela é
+	 * calculada. ATENÇÃO: Se o iterable for infinito, esse método não terminará.
+	 *
+	 * @param out A saída onde os elementos serão gravados
+	 * @param elements Os elementos a serem gravados
+	 * @throws IOException Se ocorrer um erro ao gravar os elementos
+	 */
+	public static void writeStream(final OutputStream out, final Iterable<?> elements) throws IOException
+	{
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		writeElements(dataOut, elements);
+		dataOut.flush();
+	}
+
+	/**
+	 * Lê os elementos gravados pelo {@link #writeStream(OutputStream, Iterable) writeStream}. <br/>
+	 * Os elementos são lidos sob demanda: cada um deles só é lido da entrada quando a LazyList retornada precisar dele.
+	 * Os erros de leitura são lançados durante o percurso da lista, como IllegalArgumentException.
+	 *
+	 * @param <T> O tipo dos elementos
+	 * @param in A entrada de onde os elementos serão lidos
+	 * @return Uma LazyList com os elementos lidos
+	 */
+	public static <T> LazyList<T> readStream(final InputStream in)
+	{
+		final DataInputStream dataIn = new DataInputStream(in);
+
+		return LazyList.from(new Iterable<T>()
+		{
+			@Override
+			public Iterator<T> iterator()
+			{
+				return new StreamIterator<T>(dataIn);
+			}
+		});
+	}
+
+	/**
+	 * Grava os elementos de uma sequência de tamanho desconhecido: cada elemento é precedido do marcador MORE, e a sequência
+	 * termina com o marcador END.
+	 */
+	private static void writeElements(final DataOutput out, final Iterable<?> elements) throws IOException
+	{
+		for (final Object ele : elements)
+		{
+			out.writeByte(MORE);
+			write(out, ele);
+		}
+		out.writeByte(END);
+	}
+
+	/**
+	 * Grava os elementos de uma coleção, em coluna. <br/>
+	 * Se todos os elementos forem do mesmo tipo básico, a tag do tipo é gravada uma vez só; do contrário, cada elemento é
+	 * gravado com a sua tag.
+	 */
+	private static void writeColumn(final DataOutput out, final Iterable<?> elements) throws IOException
+	{
+		int tag = -1;
+
+		for (final Object ele : elements)
+		{
+			final int curTag = basicTag(ele);
+
+			if (curTag == MIXED || (tag != -1 && curTag != tag))
+			{
+				tag = MIXED;
+				break;
+			}
+			tag = curTag;
+		}
+
+		if (tag == -1)
+		{
+			//Coluna vazia
+			return;
+		}
+		out.writeByte(tag);
+
+		for (final Object ele : elements)
+		{
+			if (tag == MIXED)
+			{
+				write(out, ele);
+			}
+			else
+			{
+				writeBasic(out, tag, ele);
+			}
+		}
+	}
+
+	/**
+	 * Lê os elementos de uma coluna gravada pelo writeColumn. <br/>
+	 * O vetor cresce à medida que os elementos são lidos, para que um tamanho corrompido termine a leitura com
+	 * {@link java.io.EOFException}, e não com a alocação de um vetor enorme.
+	 */
+	private static Object[] readColumn(final DataInput in, final int size) throws IOException
+	{
+		Object[] retorno = new Object[Math.min(size, CHUNK_SIZE)];
+
+		if (size == 0)
+		{
+			return retorno;
+		}
+		final int tag = in.readUnsignedByte();
+
+		for (int i = 0; i < size; i++)
+		{
+			if (i == retorno.length)
+			{
+				retorno = Arrays.copyOf(retorno, (int) Math.min(size, 2L * i));
+			}
+			retorno[i] = tag == MIXED ? read(in) : readBasic(in, tag);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Lê um tamanho gravado como varint, verificando se ele não é negativo
+	 */
+	private static int readLength(final DataInput in) throws IOException
+	{
+		final int retorno = readVarInt(in);
+
+		if (retorno < 0)
+		{
+			throw new StreamCorruptedException("Tamanho inválido: " + retorno);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Lê o ordinal de um enum com count valores, verificando se ele é válido
+	 */
+	private static int readOrdinal(final DataInput in, final int count) throws IOException
+	{
+		final int retorno = in.readUnsignedByte();
+
+		if (retorno >= count)
+		{
+			throw new StreamCorruptedException("Tipo de coleção inválido: " + retorno);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Lê length bytes em blocos, pelo mesmo motivo do readColumn
+	 */
+	private static byte[] readBytes(final DataInput in, final int length) throws IOException
+	{
+		byte[] retorno = new byte[Math.min(length, CHUNK_SIZE)];
+		int read = 0;
+
+		while (read < length)
+		{
+			if (read == retorno.length)
+			{
+				retorno = Arrays.copyOf(retorno, (int) Math.min(length, 2L * read));
+			}
+			in.readFully(retorno, read, retorno.length - read);
+			read = retorno.length;
+		}
+		return retorno;
+	}
+
+	private static Object[] toArray(final ListSharp<?> list)
+	{
+		final Object[] retorno = new Object[list.size()];
+		int index = 0;
+
+		for (final Object ele : list)
+		{
+			retorno[index++] = ele;
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna a tag do tipo básico do valor, ou MIXED se o valor não for de um tipo básico
+	 */
+	private static int basicTag(final Object value)
+	{
+		if (value instanceof Integer)
+		{
+			return INT;
+		}
+		else if (value instanceof Long)
+		{
+			return LONG;
+		}
+		else if (value instanceof Double)
+		{
+			return DOUBLE;
+		}
+		else if (value instanceof String)
+		{
+			return STRING;
+		}
+		return MIXED;
+	}
+
+	private static void writeBasic(final DataOutput out, final int tag, final Object value) throws IOException
+	{
+		switch (tag)
+		{
+		case INT:
+			writeVarInt(out, zigzag((Integer) value));
+			break;
+		case LONG:
+			writeVarLong(out, zigzag((Long) value));
+			break;
+		case DOUBLE:
+			out.writeDouble((Double) value);
+			break;
+		default:
+			writeString(out, (String) value);
+			break;
+		}
+	}
+
+	private static Object readBasic(final DataInput in, final int tag) throws IOException
+	{
+		switch (tag)
+		{
+		case INT:
+			return Integer.valueOf(unzigzag(readVarInt(in)));
+		case LONG:
+			return Long.valueOf(unzigzag(readVarLong(in)));
+		case DOUBLE:
+			return Double.valueOf(in.readDouble());
+		case STRING:
+			return readString(in);
+		default:
+			throw new IOException("Tag desconhecida: " + tag);
+		}
+	}
+
+	private static void writeString(final DataOutput out, final String value) throws IOException
+	{
+		final byte[] bytes = value.getBytes(UTF8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(final DataInput in) throws IOException
+	{
+		return new String(readBytes(in, readLength(in)), UTF8);
+	}
+
+	private static Object readObject(final ObjectInput in) throws IOException
+	{
+		try
+		{
+			return in.readObject();
+		}
+		catch (final ClassNotFoundException cnfe)
+		{
+			throw new IOException(cnfe);
+		}
+	}
+
+	/**
+	 * Grava o inteiro (tratado como sem sinal) em grupos de 7 bits, do menos para o mais significativo. O bit mais alto de
+	 * cada byte indica se há mais bytes.
+	 */
+	private static void writeVarInt(final DataOutput out, final int value) throws IOException
+	{
+		int remaining = value;
+
+		while ((remaining & ~0x7F) != 0)
+		{
+			out.writeByte((remaining & 0x7F) | 0x80);
+			remaining >>>= 7;
+		}
+		out.writeByte(remaining);
+	}
+
+	private static int readVarInt(final DataInput in) throws IOException
+	{
+		int retorno = 0;
+
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			final int curByte = in.readUnsignedByte();
+			retorno |= (curByte & 0x7F) << shift;
+
+			if ((curByte & 0x80) == 0)
+			{
+				return retorno;
+			}
+		}
+		throw new IOException("Varint inválido");
+	}
+
+	private static void writeVarLong(final DataOutput out, final long value) throws IOException
+	{
+		long remaining = value;
+
+		while ((remaining & ~0x7FL) != 0)
+		{
+			out.writeByte((int) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		out.writeByte((int) remaining);
+	}
+
+	private static long readVarLong(final DataInput in) throws IOException
+	{
+		long retorno = 0;
+
+		for (int shift = 0; shift < 70; shift += 7)
+		{
+			final int curByte = in.readUnsignedByte();
+			retorno |= (long) (curByte & 0x7F) << shift;
+
+			if ((curByte & 0x80) == 0)
+			{
+				return retorno;
+			}
+		}
+		throw new IOException("Varint inválido");
+	}
+
+	/**
+	 * Mapeia os inteiros com sinal para inteiros sem sinal, de forma que os números de módulo pequeno (inclusive os
+	 * negativos) ocupem poucos bytes
+	 */
+	private static int zigzag(final int value)
+	{
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static long zigzag(final long value)
+	{
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static int unzigzag(final int value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static long unzigzag(final long value)
+	{
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Saída em memória sem sincronização: o formato grava byte a byte, e os métodos sincronizados do ByteArrayOutputStream
+	 * dominariam o tempo da gravação
+	 */
+	private static final class ByteOutput extends ByteArrayOutputStream
+	{
+		protected ByteOutput()
+		{
+			super(64);
+		}
+
+		@Override
+		public void write(final int value)
+		{
+			if (count == buf.length)
+			{
+				buf = Arrays.copyOf(buf, buf.length << 1);
+			}
+			buf[count++] = (byte) value;
+		}
+	}
+
+	/**
+	 * Entrada em memória sem sincronização (veja {@link ByteOutput})
+	 */
+	private static final class ByteInput extends ByteArrayInputStream
+	{
+		protected ByteInput(final byte[] bytes)
+		{
+			super(bytes);
+		}
+
+		@Override
+		public int read()
+		{
+			return pos < count ? buf[pos++] & 0xFF : -1;
+		}
+	}
+
+	/**
+	 * Iterator que lê, sob demanda, os elementos gravados pelo writeStream
+	 */
+	private static final class StreamIterator<T> implements Iterator<T>
+	{
+		private final DataInput in;
+		private Boolean hasMore;
+
+		protected StreamIterator(final DataInput theIn)
+		{
+			super();
+			in = theIn;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (hasMore == null)
+			{
+				try
+				{
+					hasMore = in.readUnsignedByte() == MORE;
+				}
+				catch (final IOException ioe)
+				{
+					throw new IllegalArgumentException(ioe);
+				}
+			}
+			return hasMore;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException("não há mais elementos");
+			}
+
+			try
+			{
+				hasMore = null;
+				return (T) read(in);
+			}
+			catch (final IOException ioe)
+			{
+				throw new IllegalArgumentException(ioe);
+			}
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("Operação de remoção não suportada");
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.github.detentor.codex.io;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Forma serializada das coleções e tuplas do codex. <br/>
+ * As classes serializáveis retornam uma instância desta classe no writeReplace, de forma que a serialização padrão do Java
+ * grave o objeto no formato compacto do {@link Codec}. Ao ser lida, a instância é substituída pelo objeto original (no
+ * readResolve). <br/>
+ * Não deve ser usada diretamente.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class CodecProxy implements Externalizable
+{
+	private static final long serialVersionUID = 1L;
+
+	private Object value;
+
+	/**
+	 * Construtor exigido pela serialização. Não deve ser usado diretamente.
+	 */
+	public CodecProxy()
+	{
+		super();
+	}
+
+	/**
+	 * Cria a forma serializada do objeto passado como parâmetro.
+	 *
+	 * @param theValue O objeto a ser serializado
+	 */
+	public CodecProxy(final Object theValue)
+	{
+		super();
+		value = theValue;
+	}
+
+	@Override
+	public void writeExternal(final ObjectOutput out) throws IOException
+	{
+		Codec.write(out, value);
+	}
+
+	@Override
+	public void readExternal(final ObjectInput in) throws IOException
+	{
+		value = Codec.read(in);
+	}
+
+	private Object readResolve()
+	{
+		return value;
+	}
+}
@@ -0,0 +1,46 @@
+package com.github.detentor.codex.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codificação de valores num número fixo de bytes. <br/>
+ * Como todos os valores ocupam o mesmo espaço, o i-ésimo valor de uma sequência começa na posição <tt>i * width()</tt>,
+ * o que permite o acesso aleatório aos valores guardados fora do heap (ver
+ * {@link com.github.detentor.codex.collections.immutable.OffHeapSeq OffHeapSeq}). <br/>
+ * <br/>
+ *
+ * As implementações devem usar somente os métodos absolutos do ByteBuffer (que não alteram a sua posição), para que a
+ * leitura possa ser feita por várias threads ao mesmo tempo. Implementações comuns estão em {@link FixedWidthCodecs}.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <T> O tipo de dados dos valores codificados
+ */
+public interface FixedWidthCodec<T>
+{
+	/**
+	 * Retorna o número de bytes ocupado por cada valor.
+	 *
+	 * @return O número de bytes de cada valor
+	 */
+	int width();
+
+	/**
+	 * Grava o valor passado como parâmetro no buffer, a partir da posição informada.
+	 *
+	 * @param buffer O buffer onde o valor será gravado
+	 * @param position A posição do primeiro byte do valor
+	 * @param value O valor a ser gravado
+	 * @throws IllegalArgumentException Se o valor não puder ser representado em {@link #width()} bytes
+	 */
+	void write(final ByteBuffer buffer, final int position, final T value);
+
+	/**
+	 * Lê o valor gravado no buffer, a partir da posição informada.
+	 *
+	 * @param buffer O buffer de onde o valor será lido
+	 * @param position A posição do primeiro byte do valor
+	 * @return O valor lido
+	 */
+	T read(final ByteBuffer buffer, final int position);
+}
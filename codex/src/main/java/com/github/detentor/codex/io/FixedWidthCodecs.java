@@ -0,0 +1,205 @@
+package com.github.detentor.codex.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Implementações comuns de {@link FixedWidthCodec}. <br/>
+ * Os números são gravados em big-endian (a ordem padrão do ByteBuffer), portanto os arquivos podem ser lidos em qualquer
+ * plataforma.
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ */
+public final class FixedWidthCodecs
+{
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private static final FixedWidthCodec<Integer> INTS = new FixedWidthCodec<Integer>()
+	{
+		@Override
+		public int width()
+		{
+			return 4;
+		}
+
+		@Override
+		public void write(final ByteBuffer buffer, final int position, final Integer value)
+		{
+			buffer.putInt(position, value);
+		}
+
+		@Override
+		public Integer read(final ByteBuffer buffer, final int position)
+		{
+			return buffer.getInt(position);
+		}
+	};
+
+	private static final FixedWidthCodec<Long> LONGS = new FixedWidthCodec<Long>()
+	{
+		@Override
+		public int width()
+		{
+			return 8;
+		}
+
+		@Override
+		public void write(final ByteBuffer buffer, final int position, final Long value)
+		{
+			buffer.putLong(position, value);
+		}
+
+		@Override
+		public Long read(final ByteBuffer buffer, final int position)
+		{
+			return buffer.getLong(position);
+		}
+	};
+
+	private static final FixedWidthCodec<Double> DOUBLES = new FixedWidthCodec<Double>()
+	{
+		@Override
+		public int width()
+		{
+			return 8;
+		}
+
+		@Override
+		public void write(final ByteBuffer buffer, final int position, final Double value)
+		{
+			buffer.putDouble(position, value);
+		}
+
+		@Override
+		public Double read(final ByteBuffer buffer, final int position)
+		{
+			return buffer.getDouble(position);
+		}
+	};
+
+	private FixedWidthCodecs()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna um codec de inteiros (4 bytes).
+	 *
+	 * @return Um codec de inteiros
+	 */
+	public static FixedWidthCodec<Integer> ints()
+	{
+		return INTS;
+	}
+
+	/**
+	 * Retorna um codec de longs (8 bytes).
+	 *
+	 * @return Um codec de longs
+	 */
+	public static FixedWidthCodec<Long> longs()
+	{
+		return LONGS;
+	}
+
+	/**
+	 * Retorna um codec de doubles (8 bytes).
+	 *
+	 * @return Um codec de doubles
+	 */
+	public static FixedWidthCodec<Double> doubles()
+	{
+		return DOUBLES;
+	}
+
+	/**
+	 * Retorna um codec de strings com até maxBytes bytes (em UTF-8). <br/>
+	 * Cada string ocupa 2 bytes (o tamanho) mais maxBytes bytes, independente do seu tamanho real.
+	 *
+	 * @param maxBytes O número máximo de bytes de cada string, em UTF-8
+	 * @return Um codec de strings
+	 * @throws IllegalArgumentException Se maxBytes não estiver entre 0 e 65535
+	 */
+	public static FixedWidthCodec<String> strings(final int maxBytes)
+	{
+		if (maxBytes < 0 || maxBytes > 0xFFFF)
+		{
+			throw new IllegalArgumentException("O tamanho máximo das strings deve estar entre 0 e 65535 bytes");
+		}
+
+		return new FixedWidthCodec<String>()
+		{
+			@Override
+			public int width()
+			{
+				return maxBytes + 2;
+			}
+
+			@Override
+			public void write(final ByteBuffer buffer, final int position, final String value)
+			{
+				final byte[] bytes = value.getBytes(UTF8);
+
+				if (bytes.length > maxBytes)
+				{
+					throw new IllegalArgumentException("A string '" + value + "' ocupa mais do que " + maxBytes + " bytes");
+				}
+				buffer.putShort(position, (short) bytes.length);
+
+				for (int i = 0; i < bytes.length; i++)
+				{
+					buffer.put(position + 2 + i, bytes[i]);
+				}
+			}
+
+			@Override
+			public String read(final ByteBuffer buffer, final int position)
+			{
+				final byte[] bytes = new byte[buffer.getShort(position) & 0xFFFF];
+
+				for (int i = 0; i < bytes.length; i++)
+				{
+					bytes[i] = buffer.get(position + 2 + i);
+				}
+				return new String(bytes, UTF8);
+			}
+		};
+	}
+
+	/**
+	 * Retorna um codec de pares, onde cada elemento é gravado pelo codec correspondente, um após o outro.
+	 *
+	 * @param <A> O tipo de dados do primeiro elemento
+	 * @param <B> O tipo de dados do segundo elemento
+	 * @param first O codec do primeiro elemento
+	 * @param second O codec do segundo elemento
+	 * @return Um codec de pares
+	 */
+	public static <A, B> FixedWidthCodec<Tuple2<A, B>> pairs(final FixedWidthCodec<A> first, final FixedWidthCodec<B> second)
+	{
+		return new FixedWidthCodec<Tuple2<A, B>>()
+		{
+			@Override
+			public int width()
+			{
+				return first.width() + second.width();
+			}
+
+			@Override
+			public void write(final ByteBuffer buffer, final int position, final Tuple2<A, B> value)
+			{
+				first.write(buffer, position, value.getVal1());
+				second.write(buffer, position + first.width(), value.getVal2());
+			}
+
+			@Override
+			public Tuple2<A, B> read(final ByteBuffer buffer, final int position)
+			{
+				return Tuple2.from(first.read(buffer, position), second.read(buffer, position + first.width()));
+			}
+		};
+	}
+}
@@ -0,0 +1,119 @@
+package com.github.detentor.codex.product;
+
+/**
+ * Par cujo primeiro elemento é um int, guardado sem boxing. <br/>
+ * Equivale a um {@link Tuple2}&lt;Integer, B&gt;, mas sem a alocação dos wrappers. Os valores podem ser alterados, portanto
+ * a mesma instância pode ser reaproveitada a cada iteração de um laço (nesse caso, ela não deve ser guardada nem exposta).
+ *
+ * @author Vinícius Seufitele Pinto
+ *
+ * @param <B> O tipo do segundo elemento
+ */
+public class IntObjTuple<B> implements Product
+{
+	private static final long serialVersionUID = 1L;
+
+	private int val1;
+	private B val2;
+
+	protected IntObjTuple(final int valor1, final B valor2)
+	{
+		this.val1 = valor1;
+		this.val2 = valor2;
+	}
+
+	/**
+	 * Cria um par a partir dos valores passados como parâmetro.
+	 *
+	 * @param <B> O tipo de dados do segundo item
+	 * @param valor1 O valor do primeiro item
+	 * @param valor2 O valor do segundo item
+	 * @return Um par com os valores passados como parâmetro
+	 */
+	public static <B> IntObjTuple<B> from(final int valor1, final B valor2)
+	{
+		return new IntObjTuple<B>(valor1, valor2);
+	}
+
+	/**
+	 * Altera os dois valores deste par, e retorna este par. <br/>
+	 * Permite reaproveitar a mesma instância a cada iteração, sem alocações.
+	 *
+	 * @param valor1 O novo valor do primeiro item
+	 * @param valor2 O novo valor do segundo item
+	 * @return Este par, com os valores alterados
+	 */
+	public IntObjTuple<B> set(final int valor1, final B valor2)
+	{
+		this.val1 = valor1;
+		this.val2 = valor2;
+		return this;
+	}
+
+	/**
+	 * Retorna uma {@link Tuple2} com os valores deste par.
+	 *
+	 * @return Uma nova Tuple2 com os valores deste par
+	 */
+	public Tuple2<Integer, B> toTuple2()
+	{
+		return Tuple2.from((Integer) val1, val2);
+	}
+
+	@Override
+	public <K> Tuple3<Integer, B, K> add(final K value)
+	{
+		return Tuple3.from((Integer) val1, val2, value);
+	}
+
+	public int getVal1()
+	{
+		return val1;
+	}
+
+	public void setVal1(final int theVal1)
+	{
+		this.val1 = theVal1;
+	}
+
+	public B getVal2()
+	{
+		return val2;
+	}
+
+	public void setVal2(final B theVal2)
+	{
+		this.val2 = theVal2;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + val1;
+		result = prime * result + (val2 == null ? 0 : val2.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (!(obj instanceof IntObjTuple<?>))
+		{
+			return false;
+		}
+		final IntObjTuple<?> other = (IntObjTuple<?>) obj;
+		return val1 == other.val1 && (val2 == null ? other.val2 == null : val2.equals(other.val2));
+	}
+
+	@Override
+	public String toString()
+	{
+		return "Tuple(" + val1 + ", " + val2 + ")";
+	}
+}
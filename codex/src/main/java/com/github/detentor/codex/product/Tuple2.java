@@ -4,6 +4,7 @@ import com.github.detentor.codex.cat.Comonad;
 import com.github.detentor.codex.cat.functors.Bifunctor;
 import com.github.detentor.codex.function.Function1;
 import com.github.detentor.codex.function.arrow.Arrow1;
+import com.github.detentor.codex.io.CodecProxy;
 
 /**
  * Na teoria dos conjuntos, uma n-tuple (enupla) é uma sequência de n elementos, onde n é um inteiro positivo.<br/>
@@ -186,6 +187,14 @@ public class Tuple2<A, B> implements Product, Bifunctor<A, B>, Comonad<B>
 		return "Tuple(" + val1 + ", " + val2 + ")";
 	}
 
+	/**
+	 * Grava a tupla no formato do {@link com.github.detentor.codex.io.Codec Codec}.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
+
 	/**
 	 * Retorna uma seta que transforma uma tupla em seu primeiro valor.
 	 * 
@@ -2,6 +2,7 @@ package com.github.detentor.codex.product;
 
 import com.github.detentor.codex.cat.Functor;
 import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.io.CodecProxy;
 
 /**
  * Na teoria dos conjuntos, uma n-tuple (enupla) é uma sequência de n elementos, onde n é um inteiro positivo.<br/>
@@ -191,4 +192,12 @@ public final class Tuple4<A, B, C, D> implements Product, Functor<A>
 	{
 		return "Tuple(" + val1 + ", " + val2 + ", " + val3 +  ", " + val4 + ")";
 	}
+
+	/**
+	 * Grava a tupla no formato do {@link com.github.detentor.codex.io.Codec Codec}.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
 }
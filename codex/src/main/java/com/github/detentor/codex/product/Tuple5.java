@@ -2,6 +2,7 @@ package com.github.detentor.codex.product;
 
 import com.github.detentor.codex.cat.Functor;
 import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.io.CodecProxy;
 
 /**
  * Na teoria dos conjuntos, uma n-tuple (enupla) é uma sequência de n elementos, onde n é um inteiro positivo.<br/>
@@ -222,4 +223,12 @@ public final class Tuple5<A, B, C, D, E> implements Product, Functor<A>
 	{
 		return "Tuple(" + val1 + ", " + val2 + ", " + val3 + ", " + val4 + ", " + val5 + ")";
 	}
+
+	/**
+	 * Grava a tupla no formato do {@link com.github.detentor.codex.io.Codec Codec}.
+	 */
+	protected Object writeReplace()
+	{
+		return new CodecProxy(this);
+	}
 }
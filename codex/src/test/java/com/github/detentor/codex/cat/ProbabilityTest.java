@@ -0,0 +1,149 @@
+package com.github.detentor.codex.cat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.cat.monads.Probability;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Verificação da mônade de probabilidade, nos modos exato e amostrado
+ */
+public class ProbabilityTest
+{
+	private static final Function1<Integer, Integer> func1 = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param % 3;
+		}
+	};
+
+	private static final Function1<Integer, String> func2 = new Function1<Integer, String>()
+	{
+		@Override
+		public String apply(final Integer param)
+		{
+			return param.toString();
+		}
+	};
+
+	private static final Function1<Integer, Monad<Integer>> bind1 = new Function1<Integer, Monad<Integer>>()
+	{
+		@Override
+		public Monad<Integer> apply(final Integer param)
+		{
+			return Probability.uniform(param, param + 1);
+		}
+	};
+
+	private static final Function1<Integer, Monad<String>> bind2 = new Function1<Integer, Monad<String>>()
+	{
+		@Override
+		public Monad<String> apply(final Integer param)
+		{
+			return Probability.uniform(param.toString(), "x");
+		}
+	};
+
+	private static final Function1<Integer, Integer> die = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param;
+		}
+	};
+
+	@Test
+	public void testProbabilityMonad()
+	{
+		final Probability<Integer> dice = Probability.uniform(1, 2, 3, 4, 5, 6);
+
+		CatTest.testFunctor(dice, func1, func2);
+		CatTest.testMonad(dice, 3, bind1, bind2, func2);
+	}
+
+	@Test
+	public void testExact()
+	{
+		final Probability<Integer> dice = Probability.uniform(1, 2, 3, 4, 5, 6);
+
+		//Soma de dois dados: 36 combinações, mas somente 11 resultados distintos
+		final Probability<Integer> twoDice = dice.bind(new Function1<Integer, Monad<Integer>>()
+		{
+			@Override
+			public Monad<Integer> apply(final Integer first)
+			{
+				return Probability.uniform(1, 2, 3, 4, 5, 6).map(new Function1<Integer, Integer>()
+				{
+					@Override
+					public Integer apply(final Integer second)
+					{
+						return first + second;
+					}
+				});
+			}
+		});
+
+		assertTrue(twoDice.isExact());
+		assertEquals(11, twoDice.outcomes().size());
+		assertEquals(6.0 / 36, twoDice.outcomes().get(7), 1e-12);
+		assertEquals(7.0, twoDice.expectation(die), 1e-12);
+
+		final Function1<Integer, Boolean> isEven = new Function1<Integer, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Integer param)
+			{
+				return param % 2 == 0;
+			}
+		};
+
+		assertEquals(0.5, dice.probabilityOf(isEven), 1e-12);
+		assertEquals(Probability.uniform(2, 4, 6), dice.given(isEven));
+		assertEquals(Probability.bernoulli(0.5), dice.map(isEven));
+	}
+
+	@Test
+	public void testSampled()
+	{
+		final Probability<Integer> sampledDice = Probability.fromSampler(new Function1<SplittableRandom, Integer>()
+		{
+			@Override
+			public Integer apply(final SplittableRandom param)
+			{
+				return param.nextInt(6) + 1;
+			}
+		});
+
+		assertFalse(sampledDice.isExact());
+		assertFalse(Probability.certainly(1).bind(new Function1<Integer, Monad<Integer>>()
+		{
+			@Override
+			public Monad<Integer> apply(final Integer param)
+			{
+				return sampledDice;
+			}
+		}).isExact());
+
+		final int numSamples = 200000;
+		final Probability<Integer> estimated = sampledDice.estimate(numSamples, 42L);
+
+		assertTrue(estimated.isExact());
+		assertEquals(estimated, sampledDice.estimate(numSamples, 42L));
+		assertEquals(estimated, sampledDice.estimateParallel(numSamples, 42L));
+		assertEquals(3.5, estimated.expectation(die), 0.05);
+
+		for (final Integer ele : estimated.outcomes().keySet())
+		{
+			assertEquals(1.0 / 6, estimated.outcomes().get(ele), 0.01);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.alg.Monoids;
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes das agregações por chave (groupBy, aggregateBy e parAggregateBy)
+ */
+public class AggregationTest
+{
+	private static final int SIZE = 50000;
+
+	private static final Function1<Integer, Integer> mod7 = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param % 7;
+		}
+	};
+
+	private static final Function1<Integer, Integer> identity = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param;
+		}
+	};
+
+	@Test
+	public void testAggregateBy()
+	{
+		final List<Integer> elements = new ArrayList<Integer>(SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			elements.add((i * 7919) % SIZE);
+		}
+
+		final List<SharpCollection<Integer>> collections = new ArrayList<SharpCollection<Integer>>();
+		collections.add(ListSharp.from(elements));
+		collections.add(com.github.detentor.codex.collections.mutable.ListSharp.from(elements));
+		collections.add(LLSharp.from(elements));
+		collections.add(LazyList.from(elements));
+
+		for (final SharpCollection<Integer> col : collections)
+		{
+			final MapSharp<Integer, ? extends SharpCollection<Integer>> groups = col.groupBy(mod7);
+
+			assertEquals(7, groups.size());
+
+			for (final Integer key : groups.keySet())
+			{
+				final SharpCollection<Integer> group = groups.get(key);
+
+				assertEquals(col.<Integer> builder().result().getClass(), group.getClass());
+				assertEquals(col.filter(new Function1<Integer, Boolean>()
+				{
+					@Override
+					public Boolean apply(final Integer param)
+					{
+						return param % 7 == key;
+					}
+				}), group);
+
+				final Long count = Long.valueOf(group.size());
+				final Long sum = group.foldMap(new Function1<Integer, Long>()
+				{
+					@Override
+					public Long apply(final Integer param)
+					{
+						return param.longValue();
+					}
+				}, Monoids.longSum);
+
+				assertEquals(count, col.aggregateBy(mod7, Aggregators.<Integer> count()).get(key));
+				assertEquals(count, col.parAggregateBy(mod7, Aggregators.<Integer> count()).get(key));
+				assertEquals(sum, col.aggregateBy(mod7, Aggregators.sumLong(identity)).get(key));
+				assertEquals(sum, col.parAggregateBy(mod7, Aggregators.sumLong(identity)).get(key));
+				assertEquals(sum.doubleValue(), col.aggregateBy(mod7, Aggregators.sumDouble(identity)).get(key), 0);
+				assertEquals(group.min(), col.aggregateBy(mod7, Aggregators.<Integer> min()).get(key));
+				assertEquals(group.max(), col.parAggregateBy(mod7, Aggregators.<Integer> max()).get(key));
+				assertEquals(group.head(), col.parAggregateBy(mod7, Aggregators.<Integer> first()).get(key));
+				assertEquals(ListSharp.from(group).last(), col.parAggregateBy(mod7, Aggregators.<Integer> last()).get(key));
+				assertEquals(Integer.valueOf(group.fold(Monoids.intSum)), col.aggregateBy(mod7, identity, Monoids.intSum).get(key));
+			}
+		}
+	}
+
+	@Test
+	public void testOrderAndMapType()
+	{
+		final ListSharp<Integer> list = ListSharp.from(3, 10, 4, 17, 5);
+		final MapSharp<Integer, ListSharp<Integer>> linked = list.groupBy(mod7, MapSharpType.LINKED_HASH_MAP);
+
+		//As chaves aparecem na ordem da primeira ocorrência, e os grupos na ordem da lista
+		assertEquals(ListSharp.from(3, 4, 5), ListSharp.from(linked.keySet()));
+		assertEquals(ListSharp.from(3, 10, 17), linked.get(3));
+		assertTrue(list.groupBy(mod7, MapSharpType.TREE_MAP).keySet().iterator().next() == 3);
+
+		final List<Integer> big = new ArrayList<Integer>(SIZE);
+
+		for (int i = SIZE - 1; i >= 0; i--)
+		{
+			big.add(i);
+		}
+
+		final ListSharp<Integer> bigList = ListSharp.from(big);
+		assertEquals(Aggregation.aggregate(bigList, mod7, Aggregators.<Integer> first(), MapSharpType.LINKED_HASH_MAP).keySet(),
+				Aggregation.aggregateParallel(bigList, mod7, Aggregators.<Integer> first(), MapSharpType.LINKED_HASH_MAP).keySet());
+		assertEquals(Integer.valueOf(SIZE - 1), bigList.parAggregateBy(mod7, Aggregators.<Integer> first()).get((SIZE - 1) % 7));
+	}
+}
@@ -0,0 +1,86 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+
+/**
+ * Testes do filtro de Bloom e da sua associação com a ListSharp imutável
+ */
+public class BloomFilterTest
+{
+	private static final int SIZE = 100000;
+
+	@Test
+	public void testFalsePositiveRate()
+	{
+		final List<Integer> elements = new ArrayList<Integer>(SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			elements.add(i * 2);
+		}
+
+		final BloomFilter<Integer> filter = BloomFilter.from(ListSharp.from(elements), 0.01);
+		int falsePositives = 0;
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			assertTrue(filter.mightContain(i * 2)); //Não existem falsos negativos
+
+			if (filter.mightContain(i * 2 + 1))
+			{
+				falsePositives++;
+			}
+		}
+
+		assertEquals(SIZE, filter.size());
+		assertTrue(falsePositives < SIZE * 0.02);
+		assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+		assertTrue(filter.memoryInBytes() * 8 >= filter.bitSize());
+		assertTrue(filter.memoryReport().startsWith("BloomFilter("));
+	}
+
+	@Test
+	public void testListWithFilter()
+	{
+		final ListSharp<String> plain = ListSharp.from("a", "b", "c", "d");
+		final ListSharp<String> indexed = plain.withBloomFilter(0.001);
+
+		assertFalse(plain.bloomFilter().notEmpty());
+		assertTrue(indexed.bloomFilter().notEmpty());
+		assertEquals(plain, indexed);
+
+		assertTrue(indexed.contains("c"));
+		assertFalse(indexed.contains("z"));
+		assertTrue(indexed.containsAll(Arrays.asList("a", "d", "a")));
+		assertFalse(indexed.containsAll(Arrays.asList("a", "z")));
+		assertTrue(indexed.containsAny(Arrays.asList("z", "b")));
+		assertFalse(indexed.containsAny(Arrays.asList("x", "y")));
+		assertEquals(ListSharp.from("b", "d"), indexed.intersect(Arrays.asList("d", "x", "b")));
+		assertTrue(indexed.intersect(Arrays.asList("x", "y")).isEmpty());
+
+		//As sub-listas compartilham o filtro
+		assertTrue(indexed.drop(1).bloomFilter().notEmpty());
+		assertTrue(indexed.reverse().contains("a"));
+
+		//Listas derivadas são materializadas antes da criação do filtro
+		final ListSharp<String> mapped = ListSharp.from(1, 2, 3).map(com.github.detentor.operations.ObjectOps.toString).withBloomFilter(0.01);
+		assertTrue(mapped.contains("2"));
+		assertFalse(mapped.contains("4"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidRate()
+	{
+		ListSharp.from(1, 2, 3).withBloomFilter(1.0);
+	}
+}
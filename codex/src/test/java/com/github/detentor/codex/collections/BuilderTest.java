@@ -0,0 +1,112 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes dos builders com dica de tamanho ({@link AbstractBuilder#sizeHint(int)}) e adição em lote ({@link AbstractBuilder#addAll(Iterable)})
+ */
+public class BuilderTest
+{
+	@Test
+	public void testImmutableListBuilder()
+	{
+		final Builder<Integer, SharpCollection<Integer>> builder = ListSharp.<Integer> empty().builder();
+		AbstractBuilder.sizeHint(builder, 3);
+		builder.add(1);
+		AbstractBuilder.addAll(builder, ListSharp.from(2, 3));
+
+		final SharpCollection<Integer> first = builder.result();
+		assertEquals(ListSharp.from(1, 2, 3), first);
+
+		//O vetor repassado para a primeira lista não pode ser alterado pelas próximas adições
+		builder.add(4);
+		AbstractBuilder.addAll(builder, new ArrayList<Integer>(ListSharp.from(5, 6).toList()));
+		AbstractBuilder.sizeHint(builder, -1);
+
+		assertEquals(ListSharp.from(1, 2, 3), first);
+		assertEquals(ListSharp.from(1, 2, 3, 4, 5, 6), builder.result());
+		assertEquals(ListSharp.empty(), ListSharp.<Integer> empty().builder().result());
+	}
+
+	@Test
+	public void testFromIterable()
+	{
+		final List<Integer> elements = new LinkedList<Integer>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			elements.add(i);
+		}
+		final ListSharp<Integer> list = ListSharp.from(elements);
+
+		assertEquals(list, ListSharp.from(LazyList.from(elements)));
+		assertEquals(list, ListSharp.from(list));
+		assertEquals(list.drop(10), ListSharp.from(list.drop(10)));
+		assertEquals(list, com.github.detentor.codex.collections.mutable.ListSharp.from(elements));
+		assertEquals(elements, list.toList());
+		assertEquals(elements, LazyList.from(elements).toList());
+	}
+
+	@Test
+	public void testSizedOperations()
+	{
+		final ListSharp<Integer> list = ListSharp.from(1, 2, 3, 4, 5);
+
+		assertEquals(ListSharp.from(1, 2), list.take(2));
+		assertEquals(ListSharp.from(1, 2, 3, 4, 5), list.take(10));
+		assertEquals(ListSharp.empty(), list.take(-1));
+		assertEquals(ListSharp.from(4, 5), list.drop(3));
+		assertEquals(ListSharp.empty(), list.drop(10));
+		assertEquals(ListSharp.from(1, 2, 3, 4, 5), list.drop(-1));
+		assertEquals(ListSharp.from(2, 3, 4, 5), list.tail());
+		assertEquals(ListSharp.from(1, 2, 3), list.dropRight(2));
+		assertEquals(ListSharp.from(4, 5), list.takeRight(2));
+		assertEquals(Tuple2.from(ListSharp.from(1, 2), ListSharp.from(3, 4, 5)), list.splitAt(2));
+		assertEquals(ListSharp.from(ListSharp.from(1, 2), ListSharp.from(3, 4), ListSharp.from(5)), list.grouped(2));
+
+		final SetSharp<Integer> set = SetSharp.from(1, 2, 3);
+		assertEquals(SetSharp.from(2, 4, 6), set.map(twice()));
+		assertEquals(3, set.drop(0).size());
+	}
+
+	@Test
+	public void testHashBuilders()
+	{
+		final SetSharp<Integer> linkedSet = SetSharp.empty(SetSharpType.LINKED_HASH_SET);
+		linkedSet.add(3).add(1).add(2);
+		assertEquals("[3, 1, 2]", linkedSet.take(3).toString());
+		assertEquals("[6, 2, 4]", linkedSet.map(twice()).toString());
+
+		final MapSharp<String, Integer> linkedMap = MapSharp.empty(MapSharpType.LINKED_HASH_MAP);
+		linkedMap.add("c", 3).add("a", 1).add("b", 2);
+		assertEquals(linkedMap.toString(), linkedMap.take(3).toString());
+		assertEquals(2, linkedMap.drop(1).size());
+	}
+
+	private static Function1<Integer, Integer> twice()
+	{
+		return new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param * 2;
+			}
+		};
+	}
+}
@@ -0,0 +1,170 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.DictionarySeq;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes da DictionarySeq: as operações feitas sobre os códigos (filter, count, distinct, groupBy e sorted) devem
+ * reproduzir a ListSharp, e a igualdade deve valer entre sequências com dicionários diferentes
+ */
+public class DictionarySeqTest
+{
+	private static final Function1<String, Boolean> ENDS_WITH_ZERO = new Function1<String, Boolean>()
+	{
+		@Override
+		public Boolean apply(final String param)
+		{
+			return param.endsWith("0");
+		}
+	};
+
+	private static final Function1<String, Integer> LENGTH = new Function1<String, Integer>()
+	{
+		@Override
+		public Integer apply(final String param)
+		{
+			return param.length();
+		}
+	};
+
+	private enum Color
+	{
+		RED, GREEN, BLUE
+	}
+
+	@Test
+	public void testOperations()
+	{
+		final List<String> elements = TestData.randomStrings(2000, 300, 2000);
+		final ListSharp<String> list = ListSharp.from(elements);
+		final DictionarySeq<String> seq = DictionarySeq.from(elements);
+
+		assertEquals(list, seq);
+		assertEquals(seq, list);
+		assertEquals(list.hashCode(), seq.hashCode());
+		assertEquals(list.filter(ENDS_WITH_ZERO), seq.filter(ENDS_WITH_ZERO));
+		assertEquals(list.count(ENDS_WITH_ZERO), seq.count(ENDS_WITH_ZERO));
+		assertEquals(list.distinct(), seq.distinct());
+		assertEquals(list.map(LENGTH), seq.map(LENGTH));
+		assertEquals(list.sorted(), seq.sorted());
+		assertTrue(seq.contains("v7"));
+		assertFalse(seq.contains("v300"));
+		assertFalse(seq.contains(null));
+
+		final MapSharp<Integer, ListSharp<String>> expectedGroups = list.groupBy(LENGTH);
+		final MapSharp<Integer, DictionarySeq<String>> groups = seq.groupBy(LENGTH);
+		assertEquals(expectedGroups.size(), groups.size());
+
+		for (final Integer key : expectedGroups.keySet())
+		{
+			assertEquals(expectedGroups.apply(key), groups.apply(key));
+		}
+
+		final MapSharp<String, Integer> counts = seq.countByValue();
+		assertEquals(list.count(new Function1<String, Boolean>()
+		{
+			@Override
+			public Boolean apply(final String param)
+			{
+				return param.equals("v7");
+			}
+		}), counts.apply("v7"));
+
+		//Mais de 256 valores distintos: os códigos são guardados em shorts
+		assertEquals(2000 * 2 + 300 * 4, seq.sizeInBytes());
+		assertEquals(300, seq.dictionary().size());
+
+		//As subsequências compartilham o dicionário
+		final DictionarySeq<String> sub = seq.subsequence(500, 900);
+		assertEquals(list.subsequence(500, 900), sub);
+		assertEquals(list.subsequence(500, 900).distinct(), sub.distinct());
+		assertEquals(list.subsequence(500, 900).filter(ENDS_WITH_ZERO), sub.filter(ENDS_WITH_ZERO));
+		assertEquals(300, sub.dictionary().size());
+	}
+
+	@Test
+	public void testEqualsWithDifferentDictionaries()
+	{
+		final DictionarySeq<String> seq1 = DictionarySeq.from("a", "b", "a", "c");
+		final DictionarySeq<String> seq2 = DictionarySeq.from("c", "b", "a", "b", "a", "c").subsequence(2, 6);
+
+		assertEquals(seq1, seq2);
+		assertFalse(seq1.equals(DictionarySeq.from("a", "b", "a", "d")));
+		assertFalse(seq1.equals(DictionarySeq.from("a", "b", "a")));
+		assertEquals(DictionarySeq.from("x", null), ListSharp.from("x", null));
+		assertTrue(DictionarySeq.empty().isEmpty());
+	}
+
+	@Test
+	public void testSortedKeepsOrderOfEqualValues()
+	{
+		final DictionarySeq<String> seq = DictionarySeq.from("bb", "a", "cc", "d", "aa", "bb", "e");
+		final Comparator<String> byLength = new Comparator<String>()
+		{
+			@Override
+			public int compare(final String ob1, final String ob2)
+			{
+				return ob1.length() - ob2.length();
+			}
+		};
+
+		assertEquals(ListSharp.from("a", "d", "e", "bb", "cc", "aa", "bb"), seq.sorted(byLength));
+		assertEquals(ListSharp.from("a", "aa", "bb", "bb", "cc", "d", "e"), seq.sorted());
+	}
+
+	@Test
+	public void testEnums()
+	{
+		final List<Color> colors = new ArrayList<Color>();
+
+		for (int i = 0; i < 100; i++)
+		{
+			colors.add(Color.values()[i % 3]);
+		}
+		final DictionarySeq<Color> seq = DictionarySeq.from(colors);
+
+		assertEquals(ListSharp.from(colors), seq);
+		assertEquals(100, seq.sizeInBytes() - 3 * 4);
+		assertEquals(ListSharp.from(Color.RED, Color.GREEN, Color.BLUE), seq.distinct());
+		assertEquals(Integer.valueOf(33), seq.countByValue().apply(Color.GREEN));
+		assertFalse(seq.filter(new Function1<Color, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Color param)
+			{
+				return param != Color.BLUE;
+			}
+		}).contains(Color.BLUE));
+	}
+
+	@Test
+	public void testBuilderFallsBackToList()
+	{
+		final DictionarySeq<String> seq = DictionarySeq.from(TestData.randomStrings(1000, 10, 1000));
+
+		//Poucos valores distintos: o resultado continua codificado
+		final Builder<String, SharpCollection<String>> repeated = seq.<String> builder();
+		AbstractBuilder.addAll(repeated, seq);
+		assertTrue(repeated.result() instanceof DictionarySeq<?>);
+
+		//Valores quase todos diferentes: o resultado é uma ListSharp
+		final Builder<String, SharpCollection<String>> distinct = seq.<String> builder();
+		AbstractBuilder.addAll(distinct, ListSharp.from("a", "b", "c", "a"));
+		final SharpCollection<String> result = distinct.result();
+		assertTrue(result instanceof ListSharp<?>);
+		assertEquals(ListSharp.from("a", "b", "c", "a"), result);
+		assertEquals(ListSharp.from(TestData.randomStrings(1000, 10, 1000)).reverse(), seq.reverse());
+	}
+}
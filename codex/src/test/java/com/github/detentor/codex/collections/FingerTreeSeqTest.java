@@ -0,0 +1,181 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.alg.Monoids;
+import com.github.detentor.codex.collections.immutable.FingerTreeSeq;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes da FingerTreeSeq: operações nas duas pontas, divisão e concatenação, persistência das versões anteriores e os
+ * percursos feitos pela árvore (spliterator, combinação paralela e equals)
+ */
+public class FingerTreeSeqTest
+{
+	@Test
+	public void testDequeOperations()
+	{
+		final Random random = new Random(42);
+		final List<Integer> expected = new ArrayList<Integer>();
+		FingerTreeSeq<Integer> seq = FingerTreeSeq.empty();
+
+		for (int i = 0; i < 3000; i++)
+		{
+			final int operation = random.nextInt(6);
+
+			if (operation < 2)
+			{
+				seq = seq.append(i);
+				expected.add(i);
+			}
+			else if (operation < 4)
+			{
+				seq = seq.prepend(i);
+				expected.add(0, i);
+			}
+			else if (operation == 4 && !expected.isEmpty())
+			{
+				assertEquals(expected.get(0), seq.head());
+				seq = seq.tail();
+				expected.remove(0);
+			}
+			else if (!expected.isEmpty())
+			{
+				assertEquals(expected.get(expected.size() - 1), seq.last());
+				seq = seq.init();
+				expected.remove(expected.size() - 1);
+			}
+			assertEquals(expected.size(), seq.size());
+		}
+		assertEquals(ListSharp.from(expected), seq);
+		assertEquals(ListSharp.from(expected).hashCode(), seq.hashCode());
+
+		for (int i = 0; i < expected.size(); i++)
+		{
+			assertEquals(expected.get(i), seq.apply(i));
+		}
+	}
+
+	@Test
+	public void testSplitAndConcat()
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			elements.add(i);
+		}
+		final FingerTreeSeq<Integer> seq = FingerTreeSeq.from(elements);
+
+		for (int i = 0; i <= 1000; i += 37)
+		{
+			final Tuple2<FingerTreeSeq<Integer>, FingerTreeSeq<Integer>> parts = seq.splitAt(i);
+
+			assertEquals(ListSharp.from(elements.subList(0, i)), parts.getVal1());
+			assertEquals(ListSharp.from(elements.subList(i, 1000)), parts.getVal2());
+			assertEquals(seq, parts.getVal1().concat(parts.getVal2()));
+			assertEquals(ListSharp.from(elements.subList(i / 2, i)), seq.subsequence(i / 2, i));
+		}
+
+		//Concatenação de sequências de tamanhos variados, incluindo a própria sequência
+		FingerTreeSeq<Integer> concatenated = FingerTreeSeq.empty();
+		final List<Integer> expected = new ArrayList<Integer>();
+
+		for (int i = 0; i < 60; i++)
+		{
+			final FingerTreeSeq<Integer> part = seq.take(i * 7);
+			concatenated = i % 2 == 0 ? concatenated.concat(part) : part.concat(concatenated);
+			expected.addAll(i % 2 == 0 ? expected.size() : 0, elements.subList(0, i * 7));
+		}
+		assertEquals(ListSharp.from(expected), concatenated);
+		assertEquals(ListSharp.from(expected).drop(5000).take(300), concatenated.drop(5000).take(300));
+		assertEquals(expected.get(4321), concatenated.apply(4321));
+		assertEquals(ListSharp.from(expected).reverse(), concatenated.reverse());
+	}
+
+	@Test
+	public void testPersistence()
+	{
+		final FingerTreeSeq<String> base = FingerTreeSeq.from("a", "b", "c");
+		final FingerTreeSeq<String> appended = base.append("d");
+		final FingerTreeSeq<String> prepended = base.prepend("z");
+
+		assertEquals(ListSharp.from("a", "b", "c"), base);
+		assertEquals(ListSharp.from("a", "b", "c", "d"), appended);
+		assertEquals(ListSharp.from("z", "a", "b", "c"), prepended);
+		assertEquals(ListSharp.from("b", "c"), base.tail());
+		assertTrue(base.tail().tail().tail().isEmpty());
+		assertEquals(ListSharp.from("a", "b", "c"), FingerTreeSeq.from("c", "a", "b").sorted());
+
+		final FingerTreeSeq<Integer> mapped = FingerTreeSeq.from(1, 2, 3).map(new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param * 10;
+			}
+		});
+		assertEquals(ListSharp.from(10, 20, 30), mapped);
+		assertEquals(Integer.valueOf(30), mapped.last());
+	}
+
+	@Test
+	public void testTraversals()
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+		long expectedSum = 0;
+
+		for (int i = 0; i < 20000; i++)
+		{
+			elements.add(i);
+			expectedSum += i;
+		}
+		final FingerTreeSeq<Integer> seq = FingerTreeSeq.from(elements);
+
+		//O spliterator é dividido pela árvore, sem perder a ordem nem o tamanho
+		final Spliterator<Integer> suffix = seq.spliterator();
+		final Spliterator<Integer> prefix = suffix.trySplit();
+		assertEquals(10000, prefix.estimateSize());
+		assertEquals(10000, suffix.estimateSize());
+		assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+		assertEquals(elements, seq.parallelStream().collect(Collectors.toList()));
+		assertEquals(elements.subList(5, 9), seq.stream().skip(5).limit(4).collect(Collectors.toList()));
+
+		//A combinação paralela preserva a ordem dos elementos
+		assertEquals(Long.valueOf(expectedSum), seq.foldMap(new Function1<Integer, Long>()
+		{
+			@Override
+			public Long apply(final Integer param)
+			{
+				return Long.valueOf(param);
+			}
+		}, Monoids.longSum));
+		assertEquals(ListSharp.from(elements).mkString(""), seq.foldMap(new Function1<Integer, String>()
+		{
+			@Override
+			public String apply(final Integer param)
+			{
+				return String.valueOf(param);
+			}
+		}, Monoids.stringConcat));
+
+		final List<Integer> changed = new ArrayList<Integer>(elements);
+		changed.set(19999, -1);
+		assertEquals(ListSharp.from(elements), seq);
+		assertFalse(seq.equals(ListSharp.from(changed)));
+		assertFalse(seq.equals(ListSharp.from(elements.subList(0, 19999))));
+		assertFalse(seq.equals(FingerTreeSeq.from(changed)));
+	}
+}
@@ -0,0 +1,75 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.alg.Monoids;
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.operations.ObjectOps;
+
+/**
+ * Testes das combinações por monóide / semigrupo (fold, foldMap e reduce)
+ */
+public class FoldTest
+{
+	private static final int SIZE = 100000;
+
+	private static final Function1<Integer, Long> toLong = new Function1<Integer, Long>()
+	{
+		@Override
+		public Long apply(final Integer param)
+		{
+			return param.longValue();
+		}
+	};
+
+	@Test
+	public void testFold()
+	{
+		final List<Integer> elements = new ArrayList<Integer>(SIZE);
+		final StringBuilder expected = new StringBuilder();
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			elements.add(i);
+			expected.append(i);
+		}
+
+		final long expectedSum = (long) SIZE * (SIZE - 1) / 2;
+		final List<SharpCollection<Integer>> collections = new ArrayList<SharpCollection<Integer>>();
+		collections.add(ListSharp.from(elements));
+		collections.add(com.github.detentor.codex.collections.mutable.ListSharp.from(elements));
+		collections.add(LLSharp.from(elements));
+		collections.add(LazyList.from(elements));
+
+		for (final SharpCollection<Integer> ele : collections)
+		{
+			assertEquals(expectedSum, ele.foldMap(toLong, Monoids.longSum).longValue());
+
+			//A concatenação não é comutativa: verifica se a ordem é preservada
+			assertEquals(expected.toString(), ele.map(ObjectOps.toString).fold(Monoids.stringConcat));
+			assertEquals(expected.toString(), ele.map(ObjectOps.toString).reduce(Monoids.stringConcat));
+			assertEquals(Integer.valueOf(28), ele.take(8).reduce(Monoids.intSum));
+		}
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		assertEquals(Integer.valueOf(0), ListSharp.<Integer> empty().fold(Monoids.intSum));
+		assertEquals(Long.valueOf(0), LLSharp.<Integer> empty().foldMap(toLong, Monoids.longSum));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReduceEmpty()
+	{
+		LazyList.<Integer> empty().reduce(Monoids.intSum);
+	}
+}
@@ -0,0 +1,208 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.IntSetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes do conjunto de inteiros baseado em bitmap: a troca entre os tipos de container, as operações de conjunto e as
+ * funções de ordem superior, tendo um TreeSet como referência
+ */
+public class IntSetSharpTest
+{
+	@Test
+	public void testAddRemoveContains()
+	{
+		final Random random = new Random(42);
+		final IntSetSharp set = IntSetSharp.empty();
+		final TreeSet<Integer> expected = new TreeSet<Integer>();
+
+		//Valores esparsos, densos (bitmap) e negativos
+		for (int i = 0; i < 20000; i++)
+		{
+			final int value = i % 3 == 0 ? random.nextInt() : random.nextInt(10000) - 5000;
+			set.add(value);
+			expected.add(value);
+		}
+
+		for (int i = 0; i < 5000; i++)
+		{
+			final int value = random.nextInt(10000) - 5000;
+			set.remove(value);
+			expected.remove(value);
+		}
+
+		assertEquals(expected.size(), set.size());
+		assertEquals(new ArrayList<Integer>(expected), set.toList());
+		assertEquals(expected, set.toSet());
+		assertEquals(expected.hashCode(), set.hashCode());
+		assertEquals(expected.first(), set.head());
+
+		for (int i = -6000; i < 6000; i++)
+		{
+			assertEquals(expected.contains(i), set.contains(i));
+		}
+		assertFalse(set.contains((Integer) null));
+	}
+
+	@Test
+	public void testContainerConversion()
+	{
+		final IntSetSharp set = IntSetSharp.empty();
+
+		//Acima de 4096 valores no mesmo container o vetor vira um bitmap, e volta a ser um vetor abaixo disso
+		for (int i = 0; i < 10000; i++)
+		{
+			set.add(i * 2);
+		}
+		assertEquals(10000, set.size());
+		assertTrue(set.sizeInBytes() < 10000 * 2);
+
+		for (int i = 0; i < 9000; i++)
+		{
+			set.remove(i * 2);
+		}
+		assertEquals(1000, set.size());
+		assertEquals(Integer.valueOf(18000), set.head());
+		assertTrue(set.contains(19998));
+		assertFalse(set.contains(17998));
+	}
+
+	@Test
+	public void testRunOptimize()
+	{
+		final IntSetSharp set = IntSetSharp.empty();
+
+		for (int i = -100000; i < 100000; i++)
+		{
+			set.add(i);
+		}
+		final IntSetSharp copy = IntSetSharp.from(set.toBitmap());
+		final long before = set.sizeInBytes();
+		set.runOptimize();
+
+		assertTrue(set.sizeInBytes() < before / 100);
+		assertEquals(copy, set);
+		assertEquals(200000, set.size());
+		assertTrue(set.contains(-100000));
+		assertTrue(set.contains(99999));
+		assertFalse(set.contains(100000));
+
+		//Alterações num container de sequências o convertem de volta
+		set.remove(0);
+		set.add(100000);
+		assertFalse(set.contains(0));
+		assertTrue(set.contains(100000));
+		assertEquals(200000, set.size());
+	}
+
+	@Test
+	public void testSetOperations()
+	{
+		final Random random = new Random(7);
+		final TreeSet<Integer> first = new TreeSet<Integer>();
+		final TreeSet<Integer> second = new TreeSet<Integer>();
+
+		for (int i = 0; i < 30000; i++)
+		{
+			first.add(random.nextInt(200000) - 100000);
+			second.add(random.nextInt(200000) - 100000);
+		}
+		final IntSetSharp set1 = IntSetSharp.from(first);
+		final IntSetSharp set2 = IntSetSharp.from(second);
+
+		final TreeSet<Integer> union = new TreeSet<Integer>(first);
+		union.addAll(second);
+		final TreeSet<Integer> intersection = new TreeSet<Integer>(first);
+		intersection.retainAll(second);
+		final TreeSet<Integer> difference = new TreeSet<Integer>(first);
+		difference.removeAll(second);
+
+		assertEquals(IntSetSharp.from(union), set1.union(set2));
+		assertEquals(IntSetSharp.from(intersection), set1.intersect(set2));
+		assertEquals(IntSetSharp.from(difference), set1.diff(set2));
+
+		//Com coleções que não são bitmaps, e com a versão imutável
+		assertEquals(IntSetSharp.from(intersection), set1.intersect(ListSharp.from(second)));
+		assertEquals(IntSetSharp.from(union), set1.union(set2.toImmutable()));
+		assertEquals(new ArrayList<Integer>(difference), set1.toImmutable().diff(set2).toList());
+
+		set1.addAll(set2);
+		assertEquals(IntSetSharp.from(union), set1);
+		set1.removeAll(set2);
+		assertEquals(IntSetSharp.from(difference), set1);
+	}
+
+	@Test
+	public void testHighOrderFunctions()
+	{
+		final IntSetSharp set = IntSetSharp.from(5, -3, 10, 7, 0);
+
+		final IntSetSharp evens = set.filter(new Function1<Integer, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Integer param)
+			{
+				return param % 2 == 0;
+			}
+		});
+		assertEquals(IntSetSharp.from(0, 10), evens);
+
+		final SharpCollection<Integer> halves = set.map(new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param / 2;
+			}
+		});
+		assertEquals(IntSetSharp.from(-1, 0, 2, 3, 5), halves);
+
+		final SharpCollection<String> strings = set.map(new Function1<Integer, String>()
+		{
+			@Override
+			public String apply(final Integer param)
+			{
+				return String.valueOf(param);
+			}
+		});
+		assertTrue(strings instanceof SetSharp<?>);
+		assertEquals(SetSharp.from("-3", "0", "5", "7", "10"), strings);
+
+		assertEquals(IntSetSharp.from(-3, 0), set.take(2));
+		assertEquals(IntSetSharp.from(7, 10), set.drop(3));
+		assertEquals("[-3, 0, 5, 7, 10]", set.toString());
+
+		final List<Integer> descending = set.sorted(Collections.<Integer> reverseOrder()).toList();
+		assertEquals(ListSharp.from(10, 7, 5, 0, -3).toList(), descending);
+	}
+
+	@Test
+	public void testImmutable()
+	{
+		final com.github.detentor.codex.collections.immutable.IntSetSharp set = com.github.detentor.codex.collections.immutable.IntSetSharp
+				.from(3, 1, 2);
+		final com.github.detentor.codex.collections.immutable.IntSetSharp added = set.add(70000);
+
+		assertEquals(3, set.size());
+		assertEquals(4, added.size());
+		assertFalse(set.contains(70000));
+		assertTrue(added.contains(70000));
+		assertEquals(set, added.remove(70000));
+		assertEquals(set.toMutable(), IntSetSharp.from(1, 2, 3));
+		assertEquals(ListSharp.from(1, 2, 3, 70000), ListSharp.from(added));
+	}
+}
@@ -0,0 +1,282 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes das junções por hash (em memória e com partições em disco) e do mergeJoin. O resultado esperado do join vem de
+ * laços aninhados
+ */
+public class JoinsTest
+{
+	private static final Function1<Integer, Integer> MOD100 = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param % 100;
+		}
+	};
+
+	private static final Function1<String, Integer> LENGTH = new Function1<String, Integer>()
+	{
+		@Override
+		public Integer apply(final String param)
+		{
+			return param.length();
+		}
+	};
+
+	private static final Comparator<Integer> NATURAL = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer ob1, final Integer ob2)
+		{
+			return ob1.compareTo(ob2);
+		}
+	};
+
+	private static List<Tuple2<Integer, Integer>> nestedLoop(final List<Integer> left, final List<Integer> right)
+	{
+		final List<Tuple2<Integer, Integer>> retorno = new ArrayList<Tuple2<Integer, Integer>>();
+
+		for (final Integer a : left)
+		{
+			for (final Integer b : right)
+			{
+				if (MOD100.apply(a).equals(MOD100.apply(b)))
+				{
+					retorno.add(Tuple2.from(a, b));
+				}
+			}
+		}
+		return retorno;
+	}
+
+	/**
+	 * Ordena os pares, para comparar resultados cuja ordem não é definida
+	 */
+	private static List<String> sortedStrings(final Iterable<?> elements)
+	{
+		final List<String> retorno = new ArrayList<String>();
+
+		for (final Object ele : elements)
+		{
+			retorno.add(String.valueOf(ele));
+		}
+		Collections.sort(retorno);
+		return retorno;
+	}
+
+	@Test
+	public void testJoin()
+	{
+		final List<Integer> left = TestData.randomInts(300, 1000, 1);
+		final List<Integer> right = TestData.randomInts(500, 1000, 2);
+		final List<Tuple2<Integer, Integer>> expected = nestedLoop(left, right);
+
+		//A tabela é criada com o menor lado, nos dois sentidos
+		assertEquals(sortedStrings(expected), sortedStrings(ListSharp.from(left).join(right, MOD100, MOD100)));
+		assertEquals(sortedStrings(nestedLoop(right, left)), sortedStrings(ListSharp.from(right).join(left, MOD100, MOD100)));
+
+		//Com o tamanho desconhecido, a tabela é criada com a outra coleção, e a ordem desta coleção é preservada
+		assertEquals(expected, LazyList.from(left).join(right, MOD100, MOD100).toList());
+
+		assertEquals(ListSharp.from(Tuple2.from("ab", 2), Tuple2.from("c", 1)),
+				ListSharp.from(LazyList.from("ab", "c", "def").join(ListSharp.from(1, 2), LENGTH, new Function1<Integer, Integer>()
+				{
+					@Override
+					public Integer apply(final Integer param)
+					{
+						return param;
+					}
+				})));
+	}
+
+	@Test
+	public void testSpill()
+	{
+		final List<Integer> left = TestData.randomInts(2000, 100000, 3);
+		final List<Integer> right = TestData.randomInts(3000, 100000, 4);
+		final List<String> expected = sortedStrings(nestedLoop(left, right));
+		final ListSharp<Integer> leftSeq = ListSharp.from(left);
+		final int spillFiles = spillFiles();
+
+		//Apenas 50 elementos cabem na memória: os dois lados são gravados em partições
+		assertEquals(expected, sortedStrings(leftSeq.join(right, MOD100, MOD100, 50)));
+		assertEquals(sortedStrings(leftSeq.semiJoin(right, MOD100, MOD100)),
+				sortedStrings(leftSeq.semiJoin(right, MOD100, MOD100, 10)));
+		assertEquals(sortedStrings(leftSeq.leftJoin(right, MOD100, MOD100)),
+				sortedStrings(leftSeq.leftJoin(right, MOD100, MOD100, 10)));
+		assertEquals(sortedStrings(leftSeq.antiJoin(TestData.randomInts(50, 1000, 5), MOD100, MOD100)),
+				sortedStrings(leftSeq.antiJoin(TestData.randomInts(50, 1000, 5), MOD100, MOD100, 10)));
+
+		assertEquals(spillFiles, spillFiles());
+
+		//No semiJoin e no antiJoin o limite é o número de chaves distintas: todas as chaves cabem na memória, e a ordem desta
+		//coleção é preservada
+		assertEquals(leftSeq.semiJoin(right, MOD100, MOD100).toList(), leftSeq.semiJoin(right, MOD100, MOD100, 100).toList());
+		final List<Integer> halfKeys = TestData.randomInts(3000, 50, 5);
+		assertEquals(leftSeq.antiJoin(halfKeys, MOD100, MOD100).toList(), leftSeq.antiJoin(halfKeys, MOD100, MOD100, 50).toList());
+
+		//Os arquivos de cada partição são apagados assim que ela é lida
+		final Iterator<Tuple2<Integer, Integer>> partial = Joins.join(left, right, MOD100, MOD100, 50).iterator();
+		partial.next();
+		assertTrue(spillFiles() <= spillFiles + 2 * 63);
+
+		while (partial.hasNext())
+		{
+			partial.next();
+		}
+		assertEquals(spillFiles, spillFiles());
+	}
+
+	private static int spillFiles()
+	{
+		final File[] files = new File(System.getProperty("java.io.tmpdir")).listFiles(new FilenameFilter()
+		{
+			@Override
+			public boolean accept(final File dir, final String name)
+			{
+				return name.startsWith("codex-join");
+			}
+		});
+		return files == null ? 0 : files.length;
+	}
+
+	@Test
+	public void testLeftSemiAnti()
+	{
+		final ListSharp<String> words = ListSharp.from("a", "bb", "ccc", "dd", "eeeee");
+		final ListSharp<Integer> lengths = ListSharp.from(2, 3, 2, 4);
+		final Function1<Integer, Integer> identity = new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param;
+			}
+		};
+
+		final List<Tuple2<String, Option<Integer>>> expected = new ArrayList<Tuple2<String, Option<Integer>>>();
+		expected.add(Tuple2.from("a", Option.<Integer> empty()));
+		expected.add(Tuple2.from("bb", Option.from(2)));
+		expected.add(Tuple2.from("bb", Option.from(2)));
+		expected.add(Tuple2.from("ccc", Option.from(3)));
+		expected.add(Tuple2.from("dd", Option.from(2)));
+		expected.add(Tuple2.from("dd", Option.from(2)));
+		expected.add(Tuple2.from("eeeee", Option.<Integer> empty()));
+
+		assertEquals(expected, words.leftJoin(lengths, LENGTH, identity).toList());
+		assertEquals(ListSharp.from("bb", "ccc", "dd"), ListSharp.from(words.semiJoin(lengths, LENGTH, identity)));
+		assertEquals(ListSharp.from("a", "eeeee"), ListSharp.from(words.antiJoin(lengths, LENGTH, identity)));
+	}
+
+	@Test
+	public void testMergeJoin()
+	{
+		final List<Integer> left = TestData.randomInts(400, 300, 6);
+		final List<Integer> right = TestData.randomInts(600, 300, 7);
+		Collections.sort(left);
+		Collections.sort(right);
+		final Function1<Integer, Integer> identity = new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param;
+			}
+		};
+
+		final List<Tuple2<Integer, Integer>> expected = new ArrayList<Tuple2<Integer, Integer>>();
+
+		for (final Integer a : left)
+		{
+			for (final Integer b : right)
+			{
+				if (a.equals(b))
+				{
+					expected.add(Tuple2.from(a, b));
+				}
+			}
+		}
+		assertEquals(expected, ListSharp.from(left).mergeJoin(right, identity, identity, NATURAL).toList());
+		assertTrue(ListSharp.<Integer> empty().mergeJoin(right, identity, identity, NATURAL).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMergeJoinNotSorted()
+	{
+		final Function1<Integer, Integer> identity = new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param;
+			}
+		};
+		ListSharp.from(1, 2, 3).mergeJoin(ListSharp.from(3, 1, 2), identity, identity, NATURAL).toList();
+	}
+
+	@Test
+	public void testLazy()
+	{
+		final int[] calls = new int[1];
+		final Function1<Integer, Integer> counting = new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				calls[0]++;
+				return param;
+			}
+		};
+
+		final LazyList<Tuple2<Integer, Integer>> joined = ListSharp.from(1, 2, 3).join(ListSharp.from(1, 2, 3, 4), counting,
+				counting);
+		assertEquals(0, calls[0]);
+		assertEquals(Tuple2.from(1, 1), joined.head());
+
+		//Infinita, do lado da pesquisa
+		final LazyList<Integer> naturals = LazyList.unfold(new com.github.detentor.codex.function.PartialFunction0<Integer>()
+		{
+			private int next = 0;
+
+			@Override
+			public Integer apply()
+			{
+				return next++;
+			}
+
+			@Override
+			public boolean isDefined()
+			{
+				return true;
+			}
+		});
+		assertEquals(ListSharp.from(0, 2, 4), ListSharp.from(naturals.semiJoin(ListSharp.from(0, 1, 2), new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param % 2 == 0 ? param / 2 : -1;
+			}
+		}, counting).take(3)));
+	}
+}
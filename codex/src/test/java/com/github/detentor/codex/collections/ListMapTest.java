@@ -0,0 +1,171 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes das variações do map da ListSharp imutável (visão, strict, paralelo e memoizado), e das visões derivadas
+ */
+public class ListMapTest
+{
+	private static final Function1<Integer, Integer> twice = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param * 2;
+		}
+	};
+
+	@Test
+	public void testDerivedViews()
+	{
+		final ListSharp<Integer> base = ListSharp.from(5, 1, 4, 2, 3, 0);
+		final ListSharp<Integer> window = base.subsequence(1, 5);
+
+		assertEquals(ListSharp.from(3, 2, 4), window.reverse().take(3));
+		assertEquals(ListSharp.from(2, 4), window.reverse().subsequence(1, 3));
+		assertEquals(window, window.reverse().reverse());
+		assertEquals(ListSharp.from(1, 2, 3, 4), window.sorted());
+		assertEquals(ListSharp.from(5, 1, 4, 2, 3, 0), base);
+
+		final ListSharp<Integer> mapped = window.map(twice);
+		assertEquals(ListSharp.from(2, 8, 4, 6), mapped);
+		assertEquals(ListSharp.from(8, 4), mapped.subsequence(1, 3));
+		assertEquals(ListSharp.from(6, 4, 8, 2), mapped.reverse());
+		assertEquals(ListSharp.from(4, 8), mapped.reverse().subsequence(1, 3));
+		assertEquals(ListSharp.from(2, 4, 6, 8), mapped.sorted());
+		assertEquals(ListSharp.from(4, 16, 8, 12), mapped.map(twice));
+		assertEquals(ListSharp.from(16, 8), mapped.map(twice).tail().take(2));
+	}
+
+	@Test
+	public void testMapStrategies()
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 20000; i++)
+		{
+			elements.add(i);
+		}
+		final ListSharp<Integer> list = ListSharp.from(elements);
+		final CountingFunction counting = new CountingFunction();
+
+		//O map é uma visão: cada percurso aplica a função novamente
+		final ListSharp<Integer> view = list.map(counting);
+		assertEquals(0, counting.calls.get());
+		view.count(alwaysTrue);
+		view.count(alwaysTrue);
+		assertEquals(2 * list.size(), counting.calls.get());
+
+		//O mapStrict aplica a função uma única vez por elemento
+		counting.calls.set(0);
+		final ListSharp<Integer> strict = list.mapStrict(counting);
+		strict.count(alwaysTrue);
+		strict.sorted();
+		assertEquals(list.size(), counting.calls.get());
+		assertEquals(view, strict);
+
+		counting.calls.set(0);
+		assertEquals(strict, list.parMapStrict(counting));
+		assertEquals(list.size(), counting.calls.get());
+
+		//O mapMemoized só calcula os elementos acessados, uma única vez
+		counting.calls.set(0);
+		final ListSharp<Integer> memoized = list.mapMemoized(counting);
+		assertEquals(Integer.valueOf(20), memoized.apply(10));
+		assertEquals(Integer.valueOf(20), memoized.drop(5).apply(5));
+		assertEquals(Integer.valueOf(20), memoized.reverse().apply(list.size() - 11));
+		assertEquals(1, counting.calls.get());
+
+		assertEquals(strict, memoized);
+		assertEquals(strict, memoized);
+		assertEquals(list.size(), counting.calls.get());
+		assertEquals(ListSharp.from(20, 22), memoized.subsequence(10, 12));
+	}
+
+	@Test
+	public void testMemoizedNull()
+	{
+		final CountingFunction counting = new CountingFunction();
+		final ListSharp<Integer> memoized = ListSharp.from(1, null, 3).mapMemoized(new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param == null ? null : counting.apply(param);
+			}
+		});
+
+		assertNull(memoized.apply(1));
+		assertNull(memoized.apply(1));
+		assertEquals(ListSharp.from(2, null, 6), memoized);
+		assertEquals(2, counting.calls.get());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testMemoizedBounds()
+	{
+		ListSharp.from(1, 2, 3).mapMemoized(twice).drop(1).apply(2);
+	}
+
+	@Test
+	public void testMapFusion()
+	{
+		ListSharp<Integer> chained = ListSharp.from(1, 2, 3);
+
+		for (int i = 0; i < 1000; i++)
+		{
+			chained = chained.map(increment);
+		}
+		assertEquals(ListSharp.from(1001, 1002, 1003), chained.mapStrict(identity));
+	}
+
+	private static final Function1<Integer, Boolean> alwaysTrue = new Function1<Integer, Boolean>()
+	{
+		@Override
+		public Boolean apply(final Integer param)
+		{
+			return true;
+		}
+	};
+
+	private static final Function1<Integer, Integer> identity = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param;
+		}
+	};
+
+	private static final Function1<Integer, Integer> increment = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param + 1;
+		}
+	};
+
+	private static final class CountingFunction implements Function1<Integer, Integer>
+	{
+		private final AtomicInteger calls = new AtomicInteger();
+
+		@Override
+		public Integer apply(final Integer param)
+		{
+			calls.incrementAndGet();
+			return param * 2;
+		}
+	}
+}
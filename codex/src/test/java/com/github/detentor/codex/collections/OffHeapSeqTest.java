@@ -0,0 +1,100 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.OffHeapSeq;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.io.FixedWidthCodec;
+import com.github.detentor.codex.io.FixedWidthCodecs;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes da {@link OffHeapSeq} e dos codecs de tamanho fixo
+ */
+public class OffHeapSeqTest
+{
+	@Test
+	public void testDirectMemory()
+	{
+		final ListSharp<Integer> list = ListSharp.from(5, -1, 4, 2, 3, 0);
+		final OffHeapSeq<Integer> seq = OffHeapSeq.from(list, FixedWidthCodecs.ints());
+
+		assertEquals(list, seq);
+		assertEquals(Integer.valueOf(-1), seq.apply(1));
+		assertEquals(ListSharp.from(-1, 4, 2), seq.subsequence(1, 4));
+		assertEquals(Integer.valueOf(2), seq.subsequence(1, 4).subsequence(2, 10).apply(0));
+		assertEquals(ListSharp.from(10, -2, 8, 4, 6, 0), seq.map(twice));
+		assertEquals(ListSharp.from(-1, 0, 2, 3, 4, 5), seq.sorted());
+		assertEquals(ListSharp.from(0, 3, 2, 4, -1, 5), seq.reverse());
+		assertEquals(ListSharp.from(-1, 4, 2), seq.drop(1).take(3));
+
+		assertEquals(list, OffHeapSeq.from(LazyList.from(list), FixedWidthCodecs.ints()));
+		assertEquals(0, OffHeapSeq.from(ListSharp.<Integer> empty(), FixedWidthCodecs.ints()).size());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testBounds()
+	{
+		OffHeapSeq.from(ListSharp.from(1L, 2L, 3L), FixedWidthCodecs.longs()).subsequence(1, 2).apply(1);
+	}
+
+	@Test
+	public void testMappedFile() throws IOException
+	{
+		final File file = File.createTempFile("offheap", ".seq");
+		file.deleteOnExit();
+
+		final List<Tuple2<Long, String>> records = new ArrayList<Tuple2<Long, String>>();
+
+		for (long i = 0; i < 5000; i++)
+		{
+			records.add(Tuple2.from(i * 1000, "registro " + i));
+		}
+		final FixedWidthCodec<Tuple2<Long, String>> codec = FixedWidthCodecs.pairs(FixedWidthCodecs.longs(),
+				FixedWidthCodecs.strings(16));
+
+		final OffHeapSeq<Tuple2<Long, String>> written = OffHeapSeq.write(file, LazyList.from(records), codec);
+		assertEquals(ListSharp.from(records), written);
+		assertEquals(16 + 5000L * codec.width(), file.length());
+
+		//Reabrir o arquivo não recarrega os elementos
+		final OffHeapSeq<Tuple2<Long, String>> reopened = OffHeapSeq.open(file, codec);
+		assertEquals(5000, reopened.size());
+		assertEquals(Tuple2.from(4999000L, "registro 4999"), reopened.last());
+		assertEquals(written, reopened);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrongCodec() throws IOException
+	{
+		final File file = File.createTempFile("offheap", ".seq");
+		file.deleteOnExit();
+
+		OffHeapSeq.write(file, ListSharp.from(1, 2, 3), FixedWidthCodecs.ints());
+		OffHeapSeq.open(file, FixedWidthCodecs.doubles());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testStringTooLong()
+	{
+		OffHeapSeq.from(ListSharp.from("curta", "muito mais longa"), FixedWidthCodecs.strings(8));
+	}
+
+	private static final Function1<Integer, Integer> twice = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param * 2;
+		}
+	};
+}
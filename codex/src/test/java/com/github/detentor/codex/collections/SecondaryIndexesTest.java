@@ -0,0 +1,142 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.SecondaryIndexes.IndexType;
+import com.github.detentor.codex.collections.mutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes dos índices secundários das coleções mutáveis: as pesquisas por chave e por intervalo devem acompanhar as
+ * alterações da coleção, e retornar o mesmo que um filter
+ */
+public class SecondaryIndexesTest
+{
+	private static final Function1<Integer, Integer> MOD10 = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param % 10;
+		}
+	};
+
+	private static final Function1<String, Integer> LENGTH = new Function1<String, Integer>()
+	{
+		@Override
+		public Integer apply(final String param)
+		{
+			return param.length();
+		}
+	};
+
+	@Test
+	public void testListIndex()
+	{
+		final Random random = new Random(3);
+		final ListSharp<Integer> list = ListSharp.empty();
+		final ListSharp<Integer> plain = ListSharp.empty();
+
+		for (int i = 0; i < 500; i++)
+		{
+			list.add(random.nextInt(1000));
+		}
+		list.indexBy("mod10", MOD10);
+		plain.addAll(list);
+
+		//O índice acompanha as alterações feitas depois da sua criação
+		for (int i = 0; i < 500; i++)
+		{
+			final int value = random.nextInt(1000);
+
+			if (i % 3 == 0)
+			{
+				list.remove(value);
+				plain.remove(value);
+			}
+			else
+			{
+				list.add(value);
+				plain.add(value);
+			}
+		}
+
+		for (int key = 0; key < 10; key++)
+		{
+			final Function1<Integer, Boolean> pred = SecondaryIndexes.keyEquals(MOD10, key);
+			assertEquals(plain.filter(pred), list.lookup("mod10", key));
+			assertEquals(plain.filter(pred), list.filter(pred));
+			assertEquals(plain.find(pred), list.find(pred));
+		}
+
+		//Depois de ordenar, os elementos de cada chave seguem a nova ordem da lista
+		list.sorted();
+		plain.sorted();
+		assertEquals(plain.filter(SecondaryIndexes.keyEquals(MOD10, 7)), list.lookup("mod10", 7));
+
+		list.clear();
+		assertTrue(list.lookup("mod10", 7).isEmpty());
+		list.add(17);
+		assertEquals(ListSharp.from(17), list.lookup("mod10", 7));
+		assertEquals(Option.<Integer> empty(), list.find(SecondaryIndexes.keyEquals(MOD10, 3)));
+	}
+
+	@Test
+	public void testSortedIndex()
+	{
+		final ListSharp<String> list = ListSharp.from("a", "bb", "cc", "ddd", "eeee", "f");
+		list.indexBy("length", LENGTH, IndexType.SORTED);
+
+		assertEquals(ListSharp.from("a", "f", "bb", "cc"), list.lookupRange("length", 1, 3));
+		assertEquals(ListSharp.from("ddd", "eeee"), list.lookupRange("length", 3, 10));
+		assertEquals(ListSharp.from("bb", "cc"), list.lookup("length", 2));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testRangeOnHashIndex()
+	{
+		ListSharp.from("a", "bb").indexBy("length", LENGTH).lookupRange("length", 1, 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnknownIndex()
+	{
+		ListSharp.from(1, 2, 3).indexBy("mod10", MOD10).dropIndex("mod10").lookup("mod10", 1);
+	}
+
+	@Test
+	public void testSetIndex()
+	{
+		final SetSharp<String> set = SetSharp.empty(SetSharpType.TREE_SET);
+		set.indexBy("length", LENGTH);
+		set.addAll(ListSharp.from("dd", "ccc", "aa", "b", "aa"));
+
+		assertEquals(SetSharp.from("aa", "dd"), set.lookup("length", 2));
+		assertEquals(SetSharpType.TREE_SET, set.lookup("length", 2).getType());
+		assertEquals(Option.from("aa"), set.find(SecondaryIndexes.keyEquals(LENGTH, 2)));
+
+		set.removeAll(ListSharp.from("aa", "zz"));
+		assertEquals(SetSharp.from("dd"), set.filter(SecondaryIndexes.keyEquals(LENGTH, 2)));
+		assertFalse(set.lookup("length", 3).isEmpty());
+
+		//Predicados com uma função sem índice são aplicados normalmente
+		final Function1<String, Integer> otherLength = new Function1<String, Integer>()
+		{
+			@Override
+			public Integer apply(final String param)
+			{
+				return param.length();
+			}
+		};
+		assertEquals(SetSharp.from("ccc"), set.filter(SecondaryIndexes.keyEquals(otherLength, 3)));
+	}
+}
@@ -0,0 +1,129 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.LLSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes dos algoritmos de seleção (topK, nthElement, minMax, maxBy), que devem escolher os mesmos elementos que a
+ * ordenação completa
+ */
+public class SelectionTest
+{
+	private static final Comparator<Integer> NATURAL = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer ob1, final Integer ob2)
+		{
+			return ob1.compareTo(ob2);
+		}
+	};
+
+	@Test
+	public void testTopK()
+	{
+		final List<Integer> elements = TestData.randomInts(5000, 1000, 5000);
+		final ListSharp<Integer> list = ListSharp.from(elements);
+		final List<Integer> sorted = new ArrayList<Integer>(elements);
+		Collections.sort(sorted);
+
+		for (final int k : new int[] { 0, 1, 10, 100, 5000, 10000 })
+		{
+			final List<Integer> bottom = sorted.subList(0, Math.min(k, sorted.size()));
+			final List<Integer> top = new ArrayList<Integer>(sorted.subList(sorted.size() - bottom.size(), sorted.size()));
+			Collections.reverse(top);
+
+			assertEquals(ListSharp.from(top), list.topK(k));
+			assertEquals(ListSharp.from(bottom), list.bottomK(k));
+			assertEquals(ListSharp.from(top), LLSharp.from(elements).topK(k));
+			assertEquals(ListSharp.from(top), list.parTopK(k, NATURAL));
+		}
+		assertEquals(ListSharp.from(1, 2), ListSharp.from(3, 1, 2).topK(2, Collections.<Integer> reverseOrder()));
+	}
+
+	@Test
+	public void testParTopK()
+	{
+		final List<Integer> elements = TestData.randomInts(100000, Integer.MAX_VALUE, 100000);
+		final List<Integer> sorted = new ArrayList<Integer>(elements);
+		Collections.sort(sorted, Collections.<Integer> reverseOrder());
+
+		assertEquals(ListSharp.from(sorted.subList(0, 50)), ListSharp.from(elements).parTopK(50, NATURAL));
+		assertEquals(ListSharp.from(sorted.subList(0, 50)), ListSharp.from(elements).topK(50, NATURAL));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTopKNegative()
+	{
+		ListSharp.from(1, 2, 3).topK(-1);
+	}
+
+	@Test
+	public void testNthElement()
+	{
+		for (final int size : new int[] { 1, 2, 7, 1000 })
+		{
+			//Poucos valores distintos, para exercitar a partição dos elementos repetidos
+			final List<Integer> elements = TestData.randomInts(size, size / 3 + 1, size);
+			final ListSharp<Integer> list = ListSharp.from(elements);
+			final List<Integer> sorted = new ArrayList<Integer>(elements);
+			Collections.sort(sorted);
+
+			for (int n = 0; n < size; n++)
+			{
+				assertEquals(sorted.get(n), list.nthElement(n));
+			}
+			assertEquals(sorted.get((size - 1) / 2), list.median());
+			assertEquals(elements, list.toList());
+		}
+		assertEquals("c", ListSharp.from("b", "c", "a").nthElement(0, Collections.<String> reverseOrder()));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testNthElementOutOfBounds()
+	{
+		ListSharp.from(1, 2, 3).nthElement(3);
+	}
+
+	@Test
+	public void testMinMax()
+	{
+		final List<Integer> elements = TestData.randomInts(1001, 100000, 1001);
+
+		assertEquals(Tuple2.from(Collections.min(elements), Collections.max(elements)), ListSharp.from(elements).minMax());
+		assertEquals(Tuple2.from(5, 5), ListSharp.from(5).minMax());
+		assertEquals(Tuple2.from(9, 1), ListSharp.from(3, 9, 1, 4).minMax(Collections.<Integer> reverseOrder()));
+	}
+
+	@Test
+	public void testMaxByCachesKeys()
+	{
+		final int[] calls = new int[1];
+		final Function1<String, Integer> length = new Function1<String, Integer>()
+		{
+			@Override
+			public Integer apply(final String param)
+			{
+				calls[0]++;
+				return param.length();
+			}
+		};
+		final ListSharp<String> list = ListSharp.from("aa", "b", "cccc", "dddd", "e");
+
+		assertEquals("cccc", list.maxBy(length));
+		assertEquals(5, calls[0]);
+		assertEquals("b", list.minBy(length));
+		assertEquals("cccc", list.maxWith(length));
+		assertEquals(15, calls[0]);
+	}
+}
@@ -0,0 +1,70 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.RichString;
+
+/**
+ * Testes do contrato de equals e hashcode das sequências
+ */
+public class SeqHashTest
+{
+	@Test
+	public void testHashConsistency()
+	{
+		final List<Integer> elements = Arrays.asList(3, 1, null, 4, 1, 5);
+		final int expected = elements.hashCode();
+
+		final Seq<Integer> indexed = ListSharp.from(elements);
+		final Seq<Integer> linear = LLSharp.from(elements);
+		final Seq<Integer> lazy = LazyList.from(elements);
+		final Seq<Integer> mutable = com.github.detentor.codex.collections.mutable.ListSharp.from(elements);
+
+		assertEquals(expected, indexed.hashCode());
+		assertEquals(expected, linear.hashCode());
+		assertEquals(expected, lazy.hashCode());
+		assertEquals(expected, mutable.hashCode());
+
+		//Chamadas subsequentes (com o hashcode já guardado) retornam o mesmo valor
+		assertEquals(expected, indexed.hashCode());
+		assertEquals(expected, linear.hashCode());
+
+		assertTrue(indexed.equals(linear) && linear.equals(indexed));
+		assertTrue(indexed.equals(lazy) && lazy.equals(mutable));
+		assertEquals(Arrays.asList('a', 'b').hashCode(), RichString.from("ab").hashCode());
+	}
+
+	@Test
+	public void testMutableHash()
+	{
+		final com.github.detentor.codex.collections.mutable.ListSharp<Integer> mutable = com.github.detentor.codex.collections.mutable.ListSharp
+				.from(1, 2);
+		final int before = mutable.hashCode();
+
+		mutable.add(3);
+		assertEquals(Arrays.asList(1, 2, 3).hashCode(), mutable.hashCode());
+		assertFalse(before == mutable.hashCode());
+	}
+
+	@Test
+	public void testCachedHashShortCircuit()
+	{
+		final ListSharp<Integer> first = ListSharp.from(1, 2, 3);
+		final ListSharp<Integer> second = ListSharp.from(1, 2, 4);
+
+		first.hashCode();
+		second.hashCode();
+		assertFalse(first.equals(second));
+		assertTrue(first.equals(ListSharp.from(1, 2, 3)));
+	}
+}
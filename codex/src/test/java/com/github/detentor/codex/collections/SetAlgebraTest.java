@@ -0,0 +1,95 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.arrow.impl.StatePartialArrow0;
+
+/**
+ * Testes das operações de conjunto (union, diff, intersect, distinct e distinctBy)
+ */
+public class SetAlgebraTest
+{
+	private static final ListSharp<Integer> expectedIntersect = ListSharp.from(2, 4, 2, 6);
+	private static final ListSharp<Integer> expectedDiff = ListSharp.from(1, 3, 5);
+	private static final ListSharp<Integer> expectedUnion = ListSharp.from(1, 2, 3, 4, 2, 5, 6, 8, 10, 8);
+
+	@Test
+	public void testSetOperations()
+	{
+		final Integer[] elements = { 1, 2, 3, 4, 2, 5, 6 };
+
+		//Coleção maior que a original (tabela construída com os elementos desta coleção)
+		final ListSharp<Integer> bigger = ListSharp.from(2, 4, 6, 8, 10, 8, 12, 14, 16);
+		//Coleção menor que a original (tabela construída com os elementos da outra coleção)
+		final ListSharp<Integer> smaller = ListSharp.from(2, 4, 6, 8, 10, 8);
+
+		final SharpCollection<Integer>[] collections = newArray(ListSharp.from(elements), LLSharp.from(elements), LazyList.from(elements),
+				com.github.detentor.codex.collections.mutable.ListSharp.from(elements));
+
+		for (final SharpCollection<Integer> ele : collections)
+		{
+			assertEquals(expectedIntersect, ele.intersect(bigger));
+			assertEquals(expectedIntersect, ele.intersect(smaller));
+			assertEquals(expectedIntersect, ele.intersect(new TreeSet<Integer>(smaller.toList())));
+			assertEquals(expectedIntersect, ele.intersect(LazyList.from(smaller)));
+
+			assertEquals(expectedDiff, ele.diff(bigger));
+			assertEquals(expectedDiff, ele.diff(smaller));
+			assertEquals(expectedDiff, ele.diff(SetSharp.from(smaller)));
+
+			assertEquals(expectedUnion, ele.union(smaller));
+			assertEquals(expectedUnion, ele.union(LLSharp.from(smaller)));
+			assertEquals(expectedUnion.take(4), ele.take(4).union(Arrays.asList(2, 4, 2)));
+
+			assertEquals(ListSharp.from(1, 2, 3, 4, 5, 6), ele.distinct());
+			assertEquals(ListSharp.from(1, 2), ele.distinctBy(new Function1<Integer, Boolean>()
+			{
+				@Override
+				public Boolean apply(final Integer param)
+				{
+					return param % 2 == 0;
+				}
+			}));
+		}
+	}
+
+	@Test
+	public void testLazy()
+	{
+		//Lista infinita: 0, 1, 2, 0, 1, 2, ...
+		final LazyList<Integer> infinite = LazyList.unfold(new StatePartialArrow0<Integer, Integer>(0)
+		{
+			@Override
+			public Integer apply()
+			{
+				return state++ % 3;
+			}
+
+			@Override
+			public boolean isDefined()
+			{
+				return true;
+			}
+		});
+
+		assertEquals(ListSharp.from(0, 1, 2), infinite.distinct().take(3));
+		assertEquals(ListSharp.from(0, 1, 0, 1), infinite.intersect(ListSharp.from(0, 1)).take(4));
+		assertEquals(ListSharp.from(2, 2), infinite.diff(ListSharp.from(0, 1)).take(2));
+		assertEquals(ListSharp.from(0, 1, 2, 0), infinite.union(ListSharp.from(5)).take(4));
+	}
+
+	private static <T> SharpCollection<T>[] newArray(final SharpCollection<T>... collections)
+	{
+		return collections;
+	}
+}
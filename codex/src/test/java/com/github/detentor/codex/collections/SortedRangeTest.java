@@ -0,0 +1,124 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes das consultas por intervalo dos mapas e conjuntos ordenados (TREE_MAP e TREE_SET)
+ */
+public class SortedRangeTest
+{
+	@Test
+	public void testSetRange()
+	{
+		final SetSharp<Integer> set = SetSharp.empty(SetSharpType.TREE_SET);
+
+		for (int i = 0; i < 100; i += 2)
+		{
+			set.add(i);
+		}
+
+		final SetSharp<Integer> range = set.range(10, 20);
+		assertEquals(SetSharp.from(10, 12, 14, 16, 18), range);
+		assertEquals(SetSharpType.TREE_SET, range.getType());
+		assertEquals(5, set.headSet(10).size());
+		assertEquals(Integer.valueOf(90), set.tailSet(89).head());
+
+		//As visões não copiam os elementos
+		set.add(11);
+		assertTrue(range.contains(11));
+		range.remove(12);
+		assertFalse(set.contains(12));
+
+		assertEquals(Option.from(10), set.floor(10));
+		assertEquals(Option.from(8), set.lower(10));
+		assertEquals(Option.from(14), set.ceiling(13));
+		assertEquals(Option.from(14), set.higher(13));
+		assertEquals(Option.<Integer> empty(), set.lower(0));
+		assertEquals(Option.<Integer> empty(), set.higher(98));
+
+		final Iterator<Integer> ite = set.iteratorFrom(95);
+		assertEquals(Integer.valueOf(96), ite.next());
+		assertEquals(Integer.valueOf(98), ite.next());
+		assertFalse(ite.hasNext());
+	}
+
+	@Test
+	public void testSetRankSelect()
+	{
+		final SetSharp<String> set = SetSharp.empty(SetSharpType.TREE_SET);
+		final List<String> expected = new ArrayList<String>();
+
+		for (char c = 'a'; c <= 'z'; c++)
+		{
+			set.add(String.valueOf(c));
+			expected.add(String.valueOf(c));
+		}
+
+		for (int i = 0; i < expected.size(); i++)
+		{
+			assertEquals(expected.get(i), set.select(i));
+			assertEquals(i, set.rank(expected.get(i)));
+		}
+		assertEquals(1, set.rank("aa"));
+		assertEquals(26, set.rank("zz"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSetNotSorted()
+	{
+		SetSharp.from(1, 2, 3).range(1, 2);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testSelectOutOfBounds()
+	{
+		SetSharp.empty(SetSharpType.TREE_SET).select(0);
+	}
+
+	@Test
+	public void testMapRange()
+	{
+		final MapSharp<Integer, String> map = MapSharp.empty(MapSharpType.TREE_MAP);
+
+		for (int i = 0; i < 50; i++)
+		{
+			map.add(i * 10, "v" + i);
+		}
+
+		final MapSharp<Integer, String> range = map.range(100, 150);
+		assertEquals(5, range.size());
+		assertEquals(MapSharpType.TREE_MAP, range.getType());
+		assertEquals(Tuple2.from(100, "v10"), range.head());
+		assertEquals(10, map.headMap(100).size());
+		assertEquals(Tuple2.from(490, "v49"), map.tailMap(481).head());
+
+		range.removeKey(100);
+		assertFalse(map.containsKey(100));
+
+		assertEquals(Option.from(Tuple2.from(90, "v9")), map.floor(99));
+		assertEquals(Option.from(Tuple2.from(110, "v11")), map.ceiling(101));
+		assertEquals(Option.from(Tuple2.from(90, "v9")), map.lower(110));
+		assertEquals(Option.from(Tuple2.from(120, "v12")), map.higher(110));
+		assertEquals(Option.<Tuple2<Integer, String>> empty(), map.higher(490));
+
+		assertEquals(Tuple2.from(0, "v0"), map.select(0));
+		assertEquals(Tuple2.from(490, "v49"), map.select(48));
+		assertEquals(10, map.rank(110));
+		assertEquals(Tuple2.from(480, "v48"), map.iteratorFrom(471).next());
+	}
+}
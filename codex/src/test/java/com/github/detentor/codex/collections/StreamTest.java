@@ -0,0 +1,186 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.PartialFunction0;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes da integração das coleções com os streams do Java ({@link SharpCollection#spliterator()} e
+ * {@link SharpCollectors})
+ */
+public class StreamTest
+{
+	@Test
+	public void testSpliteratorCharacteristics()
+	{
+		final ListSharp<Integer> list = ListSharp.from(1, 2, 3, 4, 5).drop(1);
+		final Spliterator<Integer> spliterator = list.spliterator();
+
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED
+				| Spliterator.IMMUTABLE));
+		assertEquals(4, spliterator.getExactSizeIfKnown());
+
+		final Spliterator<Integer> mapped = list.map(twice).spliterator();
+		assertTrue(mapped.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+
+		final Spliterator<Integer> prefix = mapped.trySplit();
+		assertEquals(2, prefix.getExactSizeIfKnown());
+		assertEquals(2, mapped.getExactSizeIfKnown());
+
+		final List<Integer> elements = new ArrayList<Integer>();
+		prefix.forEachRemaining(new Adder(elements));
+		mapped.forEachRemaining(new Adder(elements));
+		assertEquals(ListSharp.from(4, 6, 8, 10).toList(), elements);
+
+		assertTrue(SetSharp.from(1, 2).spliterator().hasCharacteristics(Spliterator.DISTINCT | Spliterator.SIZED));
+		assertTrue(!SetSharp.from(1, 2).spliterator().hasCharacteristics(Spliterator.ORDERED));
+		assertTrue(SetSharp.from(1, 2).sorted().spliterator().hasCharacteristics(Spliterator.ORDERED));
+		assertEquals(-1, LazyList.from(1, 2, 3).spliterator().getExactSizeIfKnown());
+	}
+
+	@Test
+	public void testStreams()
+	{
+		final List<Integer> values = new ArrayList<Integer>();
+
+		for (int i = 0; i < 100000; i++)
+		{
+			values.add(i);
+		}
+		final ListSharp<Integer> list = ListSharp.from(values);
+
+		assertEquals(values, list.stream().collect(Collectors.toList()));
+		assertEquals(values, list.parallelStream().collect(Collectors.toList()));
+
+		final SharpCollection<Integer> collection = list;
+		assertEquals(values, collection.stream().collect(Collectors.toList()));
+		assertEquals(values, collection.parallelStream().collect(Collectors.toList()));
+		assertEquals(list.map(twice), list.parallelStream().map(twiceJava).collect(SharpCollectors.<Integer> toListSharp()));
+		assertEquals(list.reverse().take(3), list.reverse().parallelStream().limit(3)
+				.collect(SharpCollectors.<Integer> toListSharp()));
+
+		final com.github.detentor.codex.collections.mutable.ListSharp<Integer> mutable =
+				com.github.detentor.codex.collections.mutable.ListSharp.from(values);
+		assertEquals(mutable, mutable.parallelStream().collect(SharpCollectors.<Integer> toMutableListSharp()));
+		assertEquals(LLSharp.from(0, 1, 2), list.stream().limit(3).collect(SharpCollectors.<Integer> toLLSharp()));
+
+		final SetSharp<Integer> evens = list.parallelStream().filter(isEven).map(mod16)
+				.collect(SharpCollectors.<Integer> toSetSharp());
+		assertEquals(SetSharp.from(0, 2, 4, 6, 8, 10, 12, 14), evens);
+		assertEquals(SetSharpType.TREE_SET, list.stream().collect(SharpCollectors.<Integer> toSetSharp(SetSharpType.TREE_SET))
+				.getType());
+
+		final MapSharp<Integer, String> map = list.take(3).stream().map(new Function<Integer, Tuple2<Integer, String>>()
+		{
+			@Override
+			public Tuple2<Integer, String> apply(final Integer param)
+			{
+				return Tuple2.from(param, "n" + param);
+			}
+		}).collect(SharpCollectors.<Integer, String> toMapSharp());
+		assertEquals(MapSharp.from(Tuple2.from(0, "n0"), Tuple2.from(1, "n1"), Tuple2.from(2, "n2")), map);
+
+		assertEquals(SetSharp.from(1, 2), SetSharp.from(1, 2).stream()
+				.collect(SharpCollectors.<Integer> toSharpCollection(SetSharp.empty())));
+	}
+
+	@Test
+	public void testLazyListFromStream()
+	{
+		final AtomicInteger generated = new AtomicInteger();
+
+		//Lista infinita: o stream só é consumido sob demanda
+		final LazyList<Integer> naturals = LazyList.unfold(new PartialFunction0<Integer>()
+		{
+			@Override
+			public Integer apply()
+			{
+				return generated.getAndIncrement();
+			}
+
+			@Override
+			public boolean isDefined()
+			{
+				return true;
+			}
+		});
+
+		final LazyList<Integer> fromStream = LazyList.from(naturals.stream().map(twiceJava));
+		assertEquals(ListSharp.from(0, 2, 4), ListSharp.from(fromStream.take(3)));
+		assertTrue(generated.get() < 10);
+
+		assertTrue(LazyList.from(ListSharp.<Integer> empty().stream()).isEmpty());
+	}
+
+	private static final Function1<Integer, Integer> twice = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param * 2;
+		}
+	};
+
+	private static final Function<Integer, Integer> twiceJava = new Function<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param * 2;
+		}
+	};
+
+	private static final Function<Integer, Integer> mod16 = new Function<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param % 16;
+		}
+	};
+
+	private static final Predicate<Integer> isEven = new Predicate<Integer>()
+	{
+		@Override
+		public boolean test(final Integer param)
+		{
+			return param % 2 == 0;
+		}
+	};
+
+	private static final class Adder implements Consumer<Integer>
+	{
+		private final List<Integer> target;
+
+		Adder(final List<Integer> theTarget)
+		{
+			this.target = theTarget;
+		}
+
+		@Override
+		public void accept(final Integer param)
+		{
+			target.add(param);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.github.detentor.codex.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.github.detentor.codex.product.Tuple3;
+
+/**
+ * Geradores de dados aleatórios para os testes. A semente é sempre informada, para que cada teste use os mesmos dados em
+ * todas as execuções.
+ */
+public final class TestData
+{
+	private TestData()
+	{
+		//previne instanciação
+	}
+
+	/**
+	 * Retorna uma lista de inteiros aleatórios entre 0 (inclusive) e bound (exclusive)
+	 */
+	public static List<Integer> randomInts(final int size, final int bound, final long seed)
+	{
+		final Random random = new Random(seed);
+		final List<Integer> retorno = new ArrayList<Integer>(size);
+
+		for (int i = 0; i < size; i++)
+		{
+			retorno.add(random.nextInt(bound));
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna uma lista de Strings aleatórias, com no máximo distinct valores diferentes ("v0", "v1", ...)
+	 */
+	public static List<String> randomStrings(final int size, final int distinct, final long seed)
+	{
+		final List<String> retorno = new ArrayList<String>(size);
+
+		for (final Integer ele : randomInts(size, distinct, seed))
+		{
+			retorno.add("v" + ele);
+		}
+		return retorno;
+	}
+
+	/**
+	 * Retorna uma lista de tuplas aleatórias: um long qualquer, um inteiro entre 0 e 999 e uma String entre "s0" e "s9"
+	 */
+	public static List<Tuple3<Long, Integer, String>> randomRows(final int size, final long seed)
+	{
+		final Random random = new Random(seed);
+		final List<Tuple3<Long, Integer, String>> retorno = new ArrayList<Tuple3<Long, Integer, String>>(size);
+
+		for (int i = 0; i < size; i++)
+		{
+			retorno.add(Tuple3.from(random.nextLong(), random.nextInt(1000), "s" + random.nextInt(10)));
+		}
+		return retorno;
+	}
+}
@@ -0,0 +1,126 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes das versões transientes das coleções imutáveis
+ */
+public class TransientTest
+{
+	@Test
+	public void testListTransient()
+	{
+		final ListSharp<Integer> original = ListSharp.from(1, 2, 3, 4, 5);
+		final ListSharp<Integer> window = original.subsequence(1, 4);
+		final ListSharp.Transient<Integer> trans = window.toTransient();
+
+		assertEquals(3, trans.size());
+		assertEquals(Integer.valueOf(2), trans.apply(0));
+
+		trans.set(0, 20).removeLast();
+		trans.add(6);
+		trans.addAll(Arrays.asList(7, 8));
+
+		for (int i = 0; i < 100; i++)
+		{
+			trans.add(i);
+		}
+		final ListSharp<Integer> result = trans.persistent();
+
+		assertEquals(105, result.size());
+		assertEquals(ListSharp.from(20, 3, 6, 7, 8, 0), result.take(6));
+		assertEquals(Integer.valueOf(99), result.last());
+
+		//As listas de origem não são alteradas
+		assertEquals(ListSharp.from(1, 2, 3, 4, 5), original);
+		assertEquals(ListSharp.from(2, 3, 4), window);
+	}
+
+	@Test
+	public void testDerivedListTransient()
+	{
+		final ListSharp<Integer> mapped = ListSharp.from(1, 2, 3).map(new Function1<Integer, Integer>()
+		{
+			@Override
+			public Integer apply(final Integer param)
+			{
+				return param * 10;
+			}
+		});
+		final ListSharp.Transient<Integer> trans = mapped.reverse().toTransient();
+		trans.set(2, 0);
+
+		assertEquals(ListSharp.from(30, 20, 0), trans.persistent());
+		assertSame(ListSharp.empty(), ListSharp.<Integer> empty().toTransient().persistent());
+	}
+
+	@Test
+	public void testLinkedListTransient()
+	{
+		final LLSharp<String> original = LLSharp.from("b", "c");
+		final LLSharp.Transient<String> trans = original.toTransient();
+
+		trans.prepend("a");
+		trans.add("d");
+		trans.add("e");
+
+		assertEquals(LLSharp.from("a", "b", "c", "d", "e"), trans.persistent());
+		assertEquals(LLSharp.from("b", "c"), original);
+
+		final LLSharp.Transient<String> fromEmpty = LLSharp.<String> empty().toTransient();
+		fromEmpty.add("y");
+		fromEmpty.prepend("x");
+		fromEmpty.add("z");
+		assertEquals(LLSharp.from("x", "y", "z"), fromEmpty.result());
+	}
+
+	@Test
+	public void testOwnership() throws InterruptedException
+	{
+		final ListSharp.Transient<Integer> trans = ListSharp.from(1).toTransient();
+		final AtomicReference<Exception> error = new AtomicReference<Exception>();
+
+		final Thread other = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					trans.add(2);
+				}
+				catch (final IllegalStateException e)
+				{
+					error.set(e);
+				}
+			}
+		});
+		other.start();
+		other.join();
+		assertTrue(error.get() instanceof IllegalStateException);
+
+		trans.persistent();
+
+		try
+		{
+			trans.add(3);
+			fail("O transiente não pode ser alterado depois do persistent");
+		}
+		catch (final IllegalStateException e)
+		{
+			//Esperado
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.TupleSeq;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple2;
+import com.github.detentor.codex.product.Tuple3;
+
+/**
+ * Testes da TupleSeq: a leitura de linhas e colunas, as operações por coluna (filterColumn, mapColumn, somas) e as
+ * tuplas de aridades diferentes
+ */
+public class TupleSeqTest
+{
+	@Test
+	public void testColumns()
+	{
+		final List<Tuple3<Long, Integer, String>> rows = TestData.randomRows(1000, 1000);
+		final TupleSeq<Tuple3<Long, Integer, String>> seq = TupleSeq.from(rows);
+
+		assertEquals(ListSharp.from(rows), seq);
+		assertEquals(3, seq.arity());
+		assertEquals(rows.get(500), seq.apply(500));
+
+		//Long e Integer em vetores primitivos, e a String num vetor de referências
+		assertEquals(1000 * (8 + 4 + 4), seq.sizeInBytes());
+
+		long sumLong = 0;
+		long sumInt = 0;
+
+		for (final Tuple3<Long, Integer, String> row : rows)
+		{
+			sumLong += row.getVal1();
+			sumInt += row.getVal2();
+		}
+		assertEquals(sumLong, seq.sumLong(0));
+		assertEquals(sumInt, seq.sumLong(1));
+		assertEquals(sumInt, seq.sumDouble(1), 0);
+		assertEquals(Long.valueOf(1000), seq.aggregate(2, Aggregators.<String> count()));
+		assertEquals(seq.<Integer> column(1).max(), seq.aggregate(1, Aggregators.<Integer> max()));
+		assertEquals(rows.get(10).getVal3(), seq.<String> column(2).apply(10));
+
+		//As operações por coluna respeitam o subsequence
+		final TupleSeq<Tuple3<Long, Integer, String>> sub = seq.subsequence(100, 200);
+		assertEquals(ListSharp.from(rows.subList(100, 200)), sub);
+		assertEquals(ListSharp.from(rows.subList(100, 200)).map(new Function1<Tuple3<Long, Integer, String>, Integer>()
+		{
+			@Override
+			public Integer apply(final Tuple3<Long, Integer, String> param)
+			{
+				return param.getVal2();
+			}
+		}), ListSharp.from(sub.<Integer> column(1)));
+	}
+
+	@Test
+	public void testFilterAndMapColumn()
+	{
+		final List<Tuple3<Long, Integer, String>> rows = TestData.randomRows(500, 500);
+		final TupleSeq<Tuple3<Long, Integer, String>> seq = TupleSeq.from(rows).subsequence(50, 450);
+		final Function1<Integer, Boolean> isSmall = new Function1<Integer, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Integer param)
+			{
+				return param < 100;
+			}
+		};
+		final Function1<Tuple3<Long, Integer, String>, Boolean> rowIsSmall = new Function1<Tuple3<Long, Integer, String>, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Tuple3<Long, Integer, String> param)
+			{
+				return param.getVal2() < 100;
+			}
+		};
+
+		final TupleSeq<Tuple3<Long, Integer, String>> filtered = seq.filterColumn(1, isSmall);
+		assertEquals(ListSharp.from(rows.subList(50, 450)).filter(rowIsSmall), filtered);
+		assertTrue(seq.filter(rowIsSmall) instanceof TupleSeq<?>);
+		assertEquals(filtered, seq.filter(rowIsSmall));
+
+		final TupleSeq<Tuple3<Long, String, String>> mapped = seq.mapColumn(1, new Function1<Integer, String>()
+		{
+			@Override
+			public String apply(final Integer param)
+			{
+				return "n" + param;
+			}
+		});
+		assertEquals(400, mapped.size());
+		assertEquals(Tuple3.from(rows.get(60).getVal1(), "n" + rows.get(60).getVal2(), rows.get(60).getVal3()), mapped.apply(10));
+	}
+
+	@Test
+	public void testMixedColumns()
+	{
+		//Valores nulos ou de tipos diferentes são guardados num vetor de objetos
+		final TupleSeq<Tuple2<Object, Integer>> seq = TupleSeq.from(Tuple2.<Object, Integer> from(1, null),
+				Tuple2.<Object, Integer> from(2L, 5), Tuple2.<Object, Integer> from("x", 6));
+
+		assertEquals(Tuple2.<Object, Integer> from(1, null), seq.apply(0));
+		assertEquals(Tuple2.<Object, Integer> from("x", 6), seq.apply(2));
+		assertEquals(3 * 4 + 3 * 4, seq.sizeInBytes());
+
+		final SharpCollection<String> strings = seq.map(new Function1<Tuple2<Object, Integer>, String>()
+		{
+			@Override
+			public String apply(final Tuple2<Object, Integer> param)
+			{
+				return String.valueOf(param.getVal1());
+			}
+		});
+		assertEquals(ListSharp.from("1", "2", "x"), strings);
+		assertTrue(TupleSeq.empty().isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDifferentArities()
+	{
+		final List<Object> rows = new ArrayList<Object>();
+		rows.add(Tuple2.from(1, 2));
+		rows.add(Tuple3.from(1, 2, 3));
+		TupleSeq.from((List) rows);
+	}
+}
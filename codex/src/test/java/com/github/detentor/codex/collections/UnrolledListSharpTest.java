@@ -0,0 +1,131 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.LLSharp;
+import com.github.detentor.codex.collections.mutable.UnrolledListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes da lista desenrolada mutável: adição nas duas pontas, remove (inclusive de null) e removeAll, que devem deixar a
+ * lista igual a um ArrayList com as mesmas alterações
+ */
+public class UnrolledListSharpTest
+{
+	@Test
+	public void testAppendPrepend()
+	{
+		final UnrolledListSharp<Integer> list = UnrolledListSharp.empty();
+		final List<Integer> expected = new ArrayList<Integer>();
+
+		for (int i = 0; i < 500; i++)
+		{
+			list.append(i);
+			list.prepend(-i);
+			expected.add(i);
+			expected.add(0, -i);
+		}
+
+		assertEquals(expected.size(), list.size());
+		assertEquals(ListSharp.from(expected), list);
+		assertEquals(ListSharp.from(expected).hashCode(), list.hashCode());
+		assertEquals(Integer.valueOf(-499), list.head());
+		assertEquals(Integer.valueOf(499), list.last());
+		assertEquals(UnrolledListSharp.from(expected), list);
+	}
+
+	@Test
+	public void testRemove()
+	{
+		final List<Integer> expected = new ArrayList<Integer>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			expected.add(i % 7 == 0 ? null : i);
+		}
+		final UnrolledListSharp<Integer> list = UnrolledListSharp.from(expected);
+
+		for (int i = 0; i < 1000; i += 3)
+		{
+			list.remove(i);
+			list.remove(null);
+			expected.remove(Integer.valueOf(i));
+			expected.remove(null);
+		}
+		assertEquals(ListSharp.from(expected), list);
+
+		list.remove(-1);
+		assertEquals(expected.size(), list.size());
+
+		for (final Integer ele : new ArrayList<Integer>(expected))
+		{
+			list.remove(ele);
+		}
+		assertTrue(list.isEmpty());
+		assertEquals(UnrolledListSharp.from(1, 2), list.append(1).append(2));
+	}
+
+	@Test
+	public void testRemoveAll()
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			elements.add(i % 10);
+		}
+		final UnrolledListSharp<Integer> list = UnrolledListSharp.from(elements);
+		list.removeAll(Arrays.asList(0, 3, 5, 5, 42));
+
+		assertEquals(700, list.size());
+		assertEquals(Integer.valueOf(9), list.last());
+		assertEquals(ListSharp.from(elements).filter(new Function1<Integer, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Integer param)
+			{
+				return param != 0 && param != 3 && param != 5;
+			}
+		}), list);
+
+		//Os nós compactados continuam aceitando elementos no fim e no início
+		list.append(100).prepend(-100);
+		assertEquals(Integer.valueOf(-100), list.head());
+		assertEquals(Integer.valueOf(100), list.last());
+		assertEquals(702, list.size());
+
+		assertEquals(Integer.valueOf(100), list.sorted().last());
+		assertEquals(Integer.valueOf(-100), list.head());
+
+		list.removeAll(list.toList());
+		assertTrue(list.isEmpty());
+		assertEquals(UnrolledListSharp.from(7), list.prepend(7));
+	}
+
+	@Test
+	public void testLongLinkedListRemove()
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 200000; i++)
+		{
+			elements.add(i);
+		}
+		final LLSharp<Integer> list = LLSharp.from(elements);
+
+		//A remoção do último elemento não pode estourar a pilha
+		list.remove(199999).remove(0).remove(-1);
+		assertEquals(199998, list.size());
+		assertEquals(Integer.valueOf(1), list.head());
+		assertTrue(list.contains(199998));
+		assertTrue(!list.contains(199999));
+	}
+}
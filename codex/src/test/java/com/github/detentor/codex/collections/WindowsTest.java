@@ -0,0 +1,166 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.alg.Monoids;
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+
+/**
+ * Testes das janelas deslizantes (sliding) e das agregações móveis
+ */
+public class WindowsTest
+{
+	private static final Function1<Integer, Integer> identity = new Function1<Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param)
+		{
+			return param;
+		}
+	};
+
+	private static final Comparator<Integer> natural = new Comparator<Integer>()
+	{
+		@Override
+		public int compare(final Integer first, final Integer second)
+		{
+			return first.compareTo(second);
+		}
+	};
+
+	@Test
+	public void testSliding()
+	{
+		final int[][] cases = { { 5, 2, 1 }, { 5, 3, 2 }, { 6, 3, 2 }, { 5, 2, 2 }, { 4, 2, 3 }, { 6, 2, 3 }, { 2, 5, 1 }, { 0, 2, 1 },
+				{ 7, 1, 1 } };
+
+		for (final int[] ele : cases)
+		{
+			final List<Integer> elements = new ArrayList<Integer>();
+
+			for (int i = 0; i < ele[0]; i++)
+			{
+				elements.add(i);
+			}
+
+			final List<SharpCollection<Integer>> collections = new ArrayList<SharpCollection<Integer>>();
+			collections.add(ListSharp.from(elements));
+			collections.add(com.github.detentor.codex.collections.mutable.ListSharp.from(elements));
+			collections.add(LLSharp.from(elements));
+			collections.add(LazyList.from(elements));
+
+			final String expected = expectedWindows(ele[0], ele[1], ele[2]);
+
+			for (final SharpCollection<Integer> col : collections)
+			{
+				assertEquals(col.getClass().getName(), expected, windowsToString(col.sliding(ele[1], ele[2])));
+			}
+		}
+
+		final ListSharp<Integer> list = ListSharp.from(1, 2, 3, 4, 5);
+		assertEquals(list.grouped(2), list.sliding(2, 2));
+		assertEquals(list.sliding(3, 1), list.sliding(3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidStep()
+	{
+		LazyList.from(1, 2, 3).sliding(2, 0);
+	}
+
+	@Test
+	public void testMovingAggregates()
+	{
+		final Random random = new Random(42);
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			elements.add(random.nextInt(200) - 100);
+		}
+
+		final ListSharp<Integer> series = ListSharp.from(elements);
+
+		for (final int size : new int[] { 1, 2, 7, 64, 1000 })
+		{
+			final ListSharp<Double> sums = Windows.movingSum(series, size, identity);
+			final ListSharp<Double> averages = Windows.movingAverage(series, size, identity);
+			final ListSharp<Integer> mins = Windows.movingMin(series, size, natural);
+			final ListSharp<Integer> maxs = Windows.movingMax(series, size, natural);
+			final ListSharp<Integer> reduced = Windows.movingReduce(series, size, Monoids.intSum);
+
+			assertEquals(series.size() - size + 1, sums.size());
+			assertEquals(sums.size(), mins.size());
+			assertEquals(sums.size(), maxs.size());
+			assertEquals(sums.size(), reduced.size());
+
+			for (int i = 0; i < sums.size(); i++)
+			{
+				final ListSharp<Integer> window = series.subsequence(i, i + size);
+				final int sum = window.fold(Monoids.intSum);
+
+				assertEquals(sum, sums.apply(i), 1e-9);
+				assertEquals((double) sum / size, averages.apply(i), 1e-9);
+				assertEquals(window.min(), mins.apply(i));
+				assertEquals(window.max(), maxs.apply(i));
+				assertEquals(Integer.valueOf(sum), reduced.apply(i));
+			}
+		}
+
+		assertEquals(0, Windows.movingSum(ListSharp.from(1, 2), 3, identity).size());
+	}
+
+	@Test
+	public void testMovingReduceOrder()
+	{
+		final ListSharp<String> series = ListSharp.from("a", "b", "c", "d", "e", "f");
+		assertEquals(ListSharp.from("abc", "bcd", "cde", "def"), Windows.movingReduce(series, 3, Monoids.stringConcat));
+	}
+
+	private static String expectedWindows(final int count, final int size, final int step)
+	{
+		final StringBuilder retorno = new StringBuilder();
+		int lastEnd = -1;
+
+		for (int start = 0; start < count; start += step)
+		{
+			final int end = Math.min(start + size, count) - 1;
+
+			if (end <= lastEnd)
+			{
+				break;
+			}
+
+			retorno.append('[');
+
+			for (int i = start; i <= end; i++)
+			{
+				retorno.append(i);
+			}
+			retorno.append(']');
+			lastEnd = end;
+		}
+		return retorno.toString();
+	}
+
+	private static String windowsToString(final SharpCollection<? extends SharpCollection<Integer>> windows)
+	{
+		final StringBuilder retorno = new StringBuilder();
+
+		for (final SharpCollection<Integer> ele : windows)
+		{
+			retorno.append(ele.mkString("[", "", "]"));
+		}
+		return retorno.toString();
+	}
+}
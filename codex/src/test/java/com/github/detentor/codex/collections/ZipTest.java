@@ -0,0 +1,190 @@
+package com.github.detentor.codex.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LLSharp;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.IndexedFunction;
+import com.github.detentor.codex.function.PartialFunction0;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes das operações de pareamento (zip, zipAll, unzip e foreachWithIndex)
+ */
+public class ZipTest
+{
+	@Test
+	public void testZip()
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 5; i++)
+		{
+			elements.add(i);
+		}
+
+		final List<SharpCollection<Integer>> collections = new ArrayList<SharpCollection<Integer>>();
+		collections.add(ListSharp.from(elements));
+		collections.add(com.github.detentor.codex.collections.mutable.ListSharp.from(elements));
+		collections.add(LLSharp.from(elements));
+		collections.add(LazyList.from(elements));
+
+		final ListSharp<String> shorter = ListSharp.from("a", "b", "c");
+		final LLSharp<String> linked = LLSharp.from("a", "b", "c");
+
+		for (final SharpCollection<Integer> col : collections)
+		{
+			final String name = col.getClass().getName();
+
+			assertEquals(name, "(0,a)(1,b)(2,c)", pairsToString(col.zip(shorter)));
+			assertEquals(name, "(0,a)(1,b)(2,c)", pairsToString(col.zip(linked)));
+			assertEquals(name, "(0,a)(1,b)(2,c)(3,z)(4,z)", pairsToString(col.zipAll(shorter, -1, "z")));
+			assertEquals(name, "(0,a)(1,b)(2,c)(3,z)(4,z)", pairsToString(col.zipAll(linked, -1, "z")));
+			assertEquals(name, "(0,0)(1,1)(2,2)(3,3)(4,4)", pairsToString(col.zip(elements)));
+			assertEquals(name, "", pairsToString(col.zip(ListSharp.<String> empty())));
+		}
+
+		assertEquals("(0,a)(1,b)(2,c)(-1,d)", pairsToString(ListSharp.from(0, 1, 2).zipAll(ListSharp.from("a", "b", "c", "d"), -1, "z")));
+	}
+
+	@Test
+	public void testIndexedView()
+	{
+		final ListSharp<Integer> first = ListSharp.from(0, 1, 2, 3, 4, 5);
+		final ListSharp<String> second = ListSharp.from("a", "b", "c", "d");
+
+		final IndexedSeq<Tuple2<Integer, String>> zipped = first.zip(second);
+		assertEquals(4, zipped.size());
+		assertEquals(Tuple2.from(2, "c"), zipped.apply(2));
+		assertEquals("(1,b)(2,c)", pairsToString(zipped.subsequence(1, 3)));
+		assertEquals("(2,c)(3,d)", pairsToString(zipped.subsequence(1, 10).subsequence(1, 5)));
+
+		final IndexedSeq<Tuple2<Integer, String>> padded = first.zipAll(second, -1, "z");
+		assertEquals(6, padded.size());
+		assertEquals(Tuple2.from(5, "z"), padded.apply(5));
+		assertEquals("(3,d)(4,z)", pairsToString(padded.subsequence(3, 5)));
+
+		//As sequências mutáveis são copiadas na criação da visão
+		final com.github.detentor.codex.collections.mutable.ListSharp<Integer> mutable = com.github.detentor.codex.collections.mutable.ListSharp
+				.from(1, 2, 3);
+		final IndexedSeq<Tuple2<Integer, String>> view = mutable.zip(second);
+		final IndexedSeq<Tuple2<Integer, String>> paddedView = mutable.zipAll(second, -1, "z");
+		mutable.add(4);
+		assertEquals("(1,a)(2,b)(3,c)", pairsToString(view));
+		assertEquals("(1,a)(2,b)(3,c)(4,d)", pairsToString(mutable.zip(second)));
+		mutable.clear();
+		assertEquals(Tuple2.from(3, "c"), view.apply(2));
+		assertEquals("(1,a)(2,b)(3,c)(-1,d)", pairsToString(paddedView));
+
+		//As operações derivadas constroem coleções comuns
+		assertEquals(ListSharp.from(0, 1, 2, 3), zipped.map(Tuple2.<Integer, String> toVal1()));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testIndexedViewBounds()
+	{
+		ListSharp.from(1, 2, 3).zip(ListSharp.from(1, 2)).apply(2);
+	}
+
+	@Test
+	public void testUnzip()
+	{
+		final ListSharp<Tuple2<Integer, String>> pairs = ListSharp.from(Tuple2.from(1, "a"), Tuple2.from(2, "b"), Tuple2.from(3, "c"));
+		final Function1<Tuple2<Integer, String>, Tuple2<Integer, String>> identity = new Function1<Tuple2<Integer, String>, Tuple2<Integer, String>>()
+		{
+			@Override
+			public Tuple2<Integer, String> apply(final Tuple2<Integer, String> param)
+			{
+				return param;
+			}
+		};
+
+		final Tuple2<? extends SharpCollection<Integer>, ? extends SharpCollection<String>> unzipped = pairs.unzip(identity);
+		assertEquals(ListSharp.from(1, 2, 3), unzipped.getVal1());
+		assertEquals(ListSharp.from("a", "b", "c"), unzipped.getVal2());
+
+		final Tuple2<LazyList<Integer>, LazyList<String>> lazyUnzipped = LazyList.from(pairs).unzip(identity);
+		assertEquals("123", lazyUnzipped.getVal1().mkString(""));
+		assertEquals("abc", lazyUnzipped.getVal2().mkString(""));
+
+		final Function1<String, Tuple2<String, Integer>> withLength = new Function1<String, Tuple2<String, Integer>>()
+		{
+			@Override
+			public Tuple2<String, Integer> apply(final String param)
+			{
+				return Tuple2.from(param, param.length());
+			}
+		};
+		assertEquals("123", LLSharp.from("a", "bb", "ccc").unzip(withLength).getVal2().mkString(""));
+	}
+
+	@Test
+	public void testForeachWithIndex()
+	{
+		final List<SharpCollection<String>> collections = new ArrayList<SharpCollection<String>>();
+		collections.add(ListSharp.from("a", "b", "c"));
+		collections.add(com.github.detentor.codex.collections.mutable.ListSharp.from("a", "b", "c"));
+		collections.add(LLSharp.from("a", "b", "c"));
+		collections.add(LazyList.from("a", "b", "c"));
+
+		for (final SharpCollection<String> col : collections)
+		{
+			final StringBuilder result = new StringBuilder();
+
+			col.foreachWithIndex(new IndexedFunction<String, Void>()
+			{
+				@Override
+				public Void apply(final String element, final int index)
+				{
+					result.append(index).append(element);
+					return null;
+				}
+			});
+			assertEquals(col.getClass().getName(), "0a1b2c", result.toString());
+		}
+	}
+
+	@Test
+	public void testLazyZip()
+	{
+		final int[] generated = new int[1];
+
+		final LazyList<Integer> naturals = LazyList.unfold(new PartialFunction0<Integer>()
+		{
+			@Override
+			public boolean isDefined()
+			{
+				return true;
+			}
+
+			@Override
+			public Integer apply()
+			{
+				return generated[0]++;
+			}
+		});
+
+		final LazyList<Tuple2<Integer, String>> zipped = naturals.zip(LazyList.from("a", "b", "c"));
+		assertEquals("(0,a)(1,b)(2,c)", pairsToString(zipped));
+		assertTrue(generated[0] <= 4);
+	}
+
+	private static String pairsToString(final Iterable<? extends Tuple2<?, ?>> pairs)
+	{
+		final StringBuilder retorno = new StringBuilder();
+
+		for (final Tuple2<?, ?> ele : pairs)
+		{
+			retorno.append('(').append(ele.getVal1()).append(',').append(ele.getVal2()).append(')');
+		}
+		return retorno.toString();
+	}
+}
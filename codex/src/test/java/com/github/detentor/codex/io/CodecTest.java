@@ -0,0 +1,234 @@
+package com.github.detentor.codex.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.cat.monads.Option;
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.immutable.RichString;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.collections.mutable.SetSharp;
+import com.github.detentor.codex.collections.mutable.SetSharp.SetSharpType;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.product.Tuple;
+import com.github.detentor.codex.product.Tuple2;
+
+/**
+ * Testes do formato binário compacto ({@link Codec}) e da serialização padrão das coleções
+ */
+public class CodecTest
+{
+	@Test
+	public void testBasicValues()
+	{
+		final Object[] values = { null, true, false, 0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 300L, Long.MIN_VALUE, 1.5d,
+				Double.NaN, 2.5f, 'ç', (short) -7, (byte) 3, "", "ação", new BigDecimal("12.34") };
+
+		for (final Object ele : values)
+		{
+			assertEquals(ele, Codec.decode(Codec.encode(ele)));
+		}
+	}
+
+	@Test
+	public void testCollections() throws Exception
+	{
+		final List<Object> values = new ArrayList<Object>();
+		values.add(ListSharp.empty());
+		values.add(ListSharp.from(1, -2, 3));
+		values.add(ListSharp.from("a", null, 2L, ListSharp.from(1.0, 2.0)));
+		values.add(com.github.detentor.codex.collections.mutable.ListSharp.from(1, 2, 3));
+		values.add(SetSharp.from("a", "b", "c"));
+		values.add(MapSharp.from(Tuple2.from(1, "um"), Tuple2.from(2, "dois")));
+		values.add(RichString.from("texto"));
+		values.add(Tuple2.from(1, "a"));
+		values.add(Tuple.from(1, "a", 2L));
+		values.add(Tuple.from(1, "a", 2L, 3.0));
+		values.add(Tuple.from(1, "a", 2L, 3.0, ListSharp.from(4)));
+
+		for (final Object ele : values)
+		{
+			assertEquals(ele, Codec.decode(Codec.encode(ele)));
+			assertEquals(ele, javaRoundTrip(ele));
+		}
+
+		assertSame(ListSharp.empty(), javaRoundTrip(ListSharp.empty()));
+		assertSame(Option.empty(), javaRoundTrip(Option.empty()));
+		assertEquals("x", ((Option<?>) javaRoundTrip(Option.from("x"))).get());
+		assertEquals("x", ((Option<?>) Codec.decode(Codec.encode(Option.from("x")))).get());
+	}
+
+	@Test
+	public void testMapAndSetTypes() throws Exception
+	{
+		final MapSharp<String, Integer> linkedMap = MapSharp.empty(MapSharpType.LINKED_HASH_MAP);
+		linkedMap.add("c", 3).add("a", 1).add("b", 2);
+
+		final MapSharp<?, ?> decodedMap = (MapSharp<?, ?>) javaRoundTrip(linkedMap);
+		assertEquals(MapSharpType.LINKED_HASH_MAP, decodedMap.getType());
+		assertEquals(linkedMap.toString(), decodedMap.toString());
+
+		final Comparator<String> reverse = new ReverseComparator();
+		final SetSharp<String> sortedSet = SetSharp.from("a", "c", "b").sorted(reverse);
+
+		final SetSharp<?> decodedSet = (SetSharp<?>) javaRoundTrip(sortedSet);
+		assertEquals(SetSharpType.TREE_SET, decodedSet.getType());
+		assertEquals("[c, b, a]", decodedSet.toString());
+
+		final SetSharp<Integer> treeSet = SetSharp.empty(SetSharpType.TREE_SET);
+		treeSet.add(3).add(1).add(2);
+		assertEquals("[1, 2, 3]", Codec.decode(Codec.encode(treeSet)).toString());
+	}
+
+	@Test
+	public void testVisibleElementsOnly() throws Exception
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 100000; i++)
+		{
+			elements.add(i);
+		}
+		final ListSharp<Integer> list = ListSharp.from(elements);
+		final ListSharp<Integer> window = list.subsequence(500, 503);
+
+		assertEquals(window, Codec.decode(Codec.encode(window)));
+		assertTrue(Codec.encode(window).length < 16);
+		assertTrue(javaBytes(window).length < 200);
+
+		//A função do map não é serializável, mas apenas os elementos calculados são gravados
+		final ListSharp<String> mapped = window.map(new Function1<Integer, String>()
+		{
+			@Override
+			public String apply(final Integer param)
+			{
+				return "n" + param;
+			}
+		});
+		assertEquals(ListSharp.from("n500", "n501", "n502"), javaRoundTrip(mapped));
+		assertEquals(ListSharp.from(502, 501, 500), javaRoundTrip(window.reverse()));
+	}
+
+	@Test
+	public void testCompactness() throws Exception
+	{
+		final List<Integer> elements = new ArrayList<Integer>();
+
+		for (int i = 0; i < 1000; i++)
+		{
+			elements.add(i - 500);
+		}
+
+		final int defaultSize = javaBytes(new ArrayList<Integer>(elements)).length;
+		assertTrue(Codec.encode(ListSharp.from(elements)).length * 3 < defaultSize);
+		assertTrue(javaBytes(ListSharp.from(elements)).length * 3 < defaultSize);
+	}
+
+	@Test
+	public void testStream() throws Exception
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Codec.writeStream(out, LazyList.from(1, "dois", 3L, null, ListSharp.from(5)));
+		Codec.writeStream(out, LazyList.from(6));
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		final LazyList<Object> first = Codec.readStream(in);
+
+		//Só os elementos percorridos são lidos da entrada
+		assertEquals(Integer.valueOf(1), first.head());
+		assertTrue(in.available() > 0);
+
+		assertEquals(ListSharp.from(1, "dois", 3L, null, ListSharp.from(5)), ListSharp.from(first));
+		assertEquals(ListSharp.from(6), ListSharp.from(Codec.<Object> readStream(in)));
+		assertEquals(0, in.available());
+
+		final LazyList<Integer> nested = LazyList.from(1, 2, 3);
+		assertEquals(ListSharp.from(1, 2, 3), ListSharp.from((LazyList<?>) Codec.decode(Codec.encode(nested))));
+	}
+
+	@Test
+	public void testCorruptInput() throws Exception
+	{
+		//Tipo de conjunto e de mapa inexistentes
+		assertCorrupt(18, 9);
+		assertCorrupt(19, 200);
+
+		//Tamanhos negativos ou maiores que os dados terminam a leitura sem alocar o vetor inteiro
+		assertCorrupt(16, 0xFF, 0xFF, 0xFF, 0xFF, 0x0F);
+		assertCorrupt(16, 0xF0, 0xFF, 0xFF, 0xFF, 0x07, 3, 2, 4);
+		assertCorrupt(6, 0xF0, 0xFF, 0xFF, 0xFF, 0x07, 'a', 'b');
+		assertCorrupt(31, 0xF0, 0xFF, 0xFF, 0xFF, 0x07, 0);
+	}
+
+	private static void assertCorrupt(final int... bytes)
+	{
+		final byte[] input = new byte[bytes.length];
+
+		for (int i = 0; i < bytes.length; i++)
+		{
+			input[i] = (byte) bytes[i];
+		}
+
+		try
+		{
+			Codec.read(new DataInputStream(new ByteArrayInputStream(input)));
+			fail("A entrada corrompida foi lida");
+		}
+		catch (final IOException ioe)
+		{
+			//esperado
+		}
+	}
+
+	private static Object javaRoundTrip(final Object value) throws IOException, ClassNotFoundException
+	{
+		final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(javaBytes(value)));
+
+		try
+		{
+			return in.readObject();
+		}
+		finally
+		{
+			in.close();
+		}
+	}
+
+	private static byte[] javaBytes(final Object value) throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(value);
+		out.close();
+		return bytes.toByteArray();
+	}
+
+	private static final class ReverseComparator implements Comparator<String>, Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public int compare(final String first, final String second)
+		{
+			return second.compareTo(first);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.github.detentor.codex.product;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.github.detentor.codex.collections.immutable.LazyList;
+import com.github.detentor.codex.collections.immutable.ListSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp;
+import com.github.detentor.codex.collections.mutable.MapSharp.MapSharpType;
+import com.github.detentor.codex.function.Function1;
+import com.github.detentor.codex.function.Function2;
+
+/**
+ * Testes dos pares especializados em primitivos, e das operações lazy cujo estado não usa mais tuplas
+ */
+public class PrimitiveTupleTest
+{
+	@Test
+	public void testPrimitiveTuples()
+	{
+		final IntObjTuple<String> pair = IntObjTuple.from(1, "um");
+
+		assertEquals(IntObjTuple.from(1, "um"), pair);
+		assertEquals(IntObjTuple.from(1, "um").hashCode(), pair.hashCode());
+		assertFalse(pair.equals(IntObjTuple.from(2, "um")));
+		assertEquals(Tuple2.from(1, "um"), pair.toTuple2());
+		assertEquals(Tuple2.from(1, "um").toString(), pair.toString());
+		assertEquals(Tuple3.from(1, "um", 1.0), pair.add(1.0));
+
+		//O mesmo par pode ser reaproveitado
+		assertSame(pair, pair.set(2, "dois"));
+		assertEquals(IntObjTuple.from(2, "dois"), pair);
+
+		assertEquals(Tuple2.from(3, 4), IntIntTuple.from(3, 4).toTuple2());
+		assertFalse(IntIntTuple.from(3, 4).equals(IntIntTuple.from(4, 3)));
+		assertEquals(Tuple2.from(1L << 40, "x"), LongObjTuple.from(1L << 40, "x").toTuple2());
+		assertEquals(LongObjTuple.from(5L, null), LongObjTuple.from(5L, null));
+	}
+
+	@Test
+	public void testLazyState()
+	{
+		final LazyList<Integer> list = LazyList.from(ListSharp.from(1, 2, 3, 4, 5, 6));
+
+		assertEquals(ListSharp.from(3, 4, 5, 6), ListSharp.from(list.drop(2)));
+		assertEquals(ListSharp.from(1, 2), ListSharp.from(list.take(2)));
+		assertEquals(ListSharp.from(3, 4), ListSharp.from(list.drop(2).take(2)));
+		assertEquals(ListSharp.from(4, 5, 6), ListSharp.from(list.dropWhile(lessThan(4))));
+		assertEquals(ListSharp.from(1, 2, 3), ListSharp.from(list.takeWhile(lessThan(4))));
+		assertEquals(ListSharp.from(1, 3, 6, 10, 15, 21), ListSharp.from(list.scanLeft(0, sum)));
+		assertEquals(ListSharp.from(Tuple2.from(1, 0), Tuple2.from(2, 1)), ListSharp.from(list.zipWithIndex().take(2)));
+		assertEquals(ListSharp.empty(), ListSharp.from(list.drop(10)));
+
+		//A mesma lista lazy pode ser percorrida várias vezes
+		final LazyList<Integer> dropped = list.drop(4);
+		assertEquals(ListSharp.from(5, 6), ListSharp.from(dropped));
+		assertEquals(ListSharp.from(5, 6), ListSharp.from(dropped));
+	}
+
+	@Test
+	public void testMapCopy()
+	{
+		final MapSharp<String, Integer> linkedMap = MapSharp.empty(MapSharpType.LINKED_HASH_MAP);
+		linkedMap.add("c", 3).add("a", 1).add("b", 2);
+
+		assertEquals("{c=3, a=1, b=2}", linkedMap.toMap().toString());
+		assertEquals(linkedMap, MapSharp.from(linkedMap.toMap()));
+	}
+
+	private static Function1<Integer, Boolean> lessThan(final int value)
+	{
+		return new Function1<Integer, Boolean>()
+		{
+			@Override
+			public Boolean apply(final Integer param)
+			{
+				return param < value;
+			}
+		};
+	}
+
+	private static final Function2<Integer, Integer, Integer> sum = new Function2<Integer, Integer, Integer>()
+	{
+		@Override
+		public Integer apply(final Integer param1, final Integer param2)
+		{
+			return param1 + param2;
+		}
+	};
+}